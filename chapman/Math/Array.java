@@ -1,7 +1,6 @@
 // Specify package for class
 package chapman.math;
 import chapman.math.*;
-import java.util.Random;
 
 /*
 
@@ -21,7 +20,11 @@ import java.util.Random;
  * <code>long</code>, <code>float</code>, <code>double</code>, and
  * <code>Complex</code>, although not all data types are supported for
  * all functions.  Consult the detailed listings below to determine which
- * data types are supported by each method.
+ * data types are supported by each method.  The basic arithmetic methods
+ * also accept <code>ComplexArray</code> arguments, which store complex
+ * data far more compactly than arrays of <code>Complex</code> objects,
+ * and <code>NDArray</code> arguments, which store multi-dimensional
+ * <code>double</code> data in a single contiguous block.
  * <p>
  * The methods in this class fall into several categories, as follows:
  * <p>
@@ -38,13 +41,22 @@ import java.util.Random;
  * <code>acos</code>, <code>acosd</code>, <code>acosh</code>,
  * <code>atan</code>, <code>atand</code>, <code>atanh</code>,
  * <code>abs</code>, <code>exp</code>, <code>log</code>, <code>log10</code>,
- * and <code>pow</code>.
+ * and <code>pow</code>.  The elementwise functions accept <code>float</code>
+ * arrays as well as <code>double</code> arrays, and return <code>float</code>
+ * results, so that single-precision data need not be copied into
+ * <code>double</code> arrays first.  The running totals
+ * <code>cumsum</code>, <code>cumprod</code>, and <code>diff</code>, and
+ * the general prefix scans <code>inclusiveScan</code> and
+ * <code>exclusiveScan</code>, can work in place.
  * <p>
  *    2.  <b>Inquiry Methods</b>
  * <p>
  * These methods extract information from an array.  Examples include
  * <code>maxAbs</code>, <code>maxAbsLoc</code>, <code>maxVal</code>,
  * <code>maxLoc</code>, <code>minVal</code>, and <code>minLoc</code>.
+ * The sorting and selection methods <code>sort</code>,
+ * <code>argsort</code>, <code>nthElement</code>, and <code>topK</code>
+ * also fall into this category.
  * <p>
  *    3.  <b>Relational Methods</b>
  * <p>
@@ -66,7 +78,9 @@ import java.util.Random;
  *    5.  <b>Random Number Methods</b>
  * <p>
  * These methods manipulate return arrays of random values.  Examples include
- * <code>random</code> and <code>randomGaussian</code>.
+ * <code>random</code> and <code>randomGaussian</code>.  The values are
+ * drawn from the default <code>RandomSource</code>, which may be replaced
+ * by a seeded source to make the results reproducible.
  *
  * @author  S. J. Chapman
  * @version 0.90, 07/15/98
@@ -74,6 +88,74 @@ import java.util.Random;
 
 public final class Array {
 
+   //*************************************************
+   // Constants
+   //*************************************************
+
+   /**
+    * Constant to specify ordinary left-to-right summation.  The rounding
+    * error can grow in proportion to the number of elements.
+    */
+   public final static int SUM_NAIVE = 0;
+
+   /**
+    * Constant to specify pairwise (cascade) summation.  The rounding
+    * error grows only with the logarithm of the number of elements,
+    * and the speed is close to that of ordinary summation.
+    */
+   public final static int SUM_PAIRWISE = 1;
+
+   /**
+    * Constant to specify Kahan-Neumaier compensated summation.  The
+    * rounding error is essentially independent of the number of elements,
+    * at the cost of a few extra operations per element.
+    */
+   public final static int SUM_KAHAN = 2;
+
+   /**
+    * Number of elements summed directly at the leaves of a pairwise sum.
+    */
+   private static final int PAIRWISE_LEAF = 128;
+
+   /**
+    * Length of the runs sorted by insertion in <tt>argsort</tt>.
+    */
+   private static final int SORT_RUN = 32;
+
+   /**
+    * Length of the ranges that <tt>nthElement</tt> finishes by insertion
+    * sort.
+    */
+   private static final int SELECT_SMALL = 16;
+
+   /*
+    * Codes for the operators of the prefix scans.
+    */
+   private static final int SCAN_SUM  = 1;
+   private static final int SCAN_PROD = 2;
+   private static final int SCAN_OP   = 3;
+
+   /*
+    * Codes for the float elementwise functions evaluated by method map.
+    */
+   private static final int F_SINH  =  1;
+   private static final int F_COSH  =  2;
+   private static final int F_TAN   =  3;
+   private static final int F_TANH  =  4;
+   private static final int F_ASIN  =  5;
+   private static final int F_ASIND =  6;
+   private static final int F_ASINH =  7;
+   private static final int F_ACOS  =  8;
+   private static final int F_ACOSD =  9;
+   private static final int F_ACOSH = 10;
+   private static final int F_ATAN  = 11;
+   private static final int F_ATAND = 12;
+   private static final int F_ATANH = 13;
+   private static final int F_EXP   = 14;
+   private static final int F_LOG   = 15;
+   private static final int F_LOG10 = 16;
+   private static final int F_SQRT  = 17;
+
    //*************************************************
    // Constructors
    //*************************************************
@@ -144,6 +226,9 @@ public final class Array {
     *          elements in <tt>a</tt>.
     */
    public static double[] abs ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).abs().eval();
+      }
       double abs[] = new double[a.length];
       for ( int i = 0; i < a.length; i++ ) {
          abs[i] = Math.abs(a[i]);
@@ -263,6 +348,51 @@ public final class Array {
    }
 
 
+   /**
+    * Returns the absolute value of the elements in a 1-D <tt>ComplexArray</tt>.
+    *
+    * @param   a   input array.
+    * @return  an array whose elements are the absolute value of the
+    *          elements in <tt>a</tt>.
+    */
+   public static double[] abs ( ComplexArray a ) {
+      return abs( a, new double[a.length()] );
+   }
+
+
+   /**
+    * Calculates the absolute value of the elements in a 1-D
+    * <tt>ComplexArray</tt>, storing the results in array <tt>out</tt>.
+    * The magnitudes are scaled to avoid overflow and underflow only when
+    * necessary, so this is much faster than calling <tt>Math.hypot</tt>
+    * for each element.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the absolute value of the
+    *          elements in <tt>a</tt>.
+    */
+   public static double[] abs ( ComplexArray a, double out[] ) {
+      ComplexArray.mapReal( ComplexArray.ABS, a, out, "abs" );
+      return out;
+   }
+
+
+   /**
+    * Calculates the absolute value of the elements in a 1-D Complex
+    * array, storing the results in array <tt>out</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the absolute value of the
+    *          elements in <tt>a</tt>.
+    */
+   public static double[] abs ( Complex a[], double out[] ) {
+      ComplexArray.mapReal( ComplexArray.ABS, a, out, "abs" );
+      return out;
+   }
+
+
    //******************************************************
    //  add element-by-element methods
    //******************************************************
@@ -351,6 +481,9 @@ public final class Array {
     *          elements in <tt>a</tt> and <tt>b</tt>.
     */
    public static double[] add ( double a[], double b[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).add( ArrayExpr.of(b) ).eval();
+      }
 
       double add[] = new double[a.length];
 
@@ -562,6 +695,50 @@ public final class Array {
    }
 
 
+   /**
+    * Returns the element-by-element sum of two <tt>ComplexArray</tt> arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray add ( ComplexArray a, ComplexArray b ) {
+
+      ComplexArray add = new ComplexArray(a.length());
+
+      if ( a.length() != b.length() ) {
+         String s = "add: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         double ar[] = a.getRe(), ai[] = a.getIm();
+         double br[] = b.getRe(), bi[] = b.getIm();
+         double cr[] = add.getRe(), ci[] = add.getIm();
+         for ( int i = 0; i < ar.length; i++ ) {
+            cr[i] = ar[i] + br[i];
+            ci[i] = ai[i] + bi[i];
+         }
+      }
+      return add;
+   }
+
+
+   /**
+    * Returns the element-by-element sum of two <tt>NDArray</tt> arrays
+    * of the same shape.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static NDArray add ( NDArray a, NDArray b ) {
+      return a.add(b);
+   }
+
+
    //******************************************************
    //  add array-to-scalar methods
    //******************************************************
@@ -631,6 +808,9 @@ public final class Array {
     *          elements in <tt>a</tt> and <tt>b</tt>.
     */
    public static double[] add ( double a[], double b ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).add(b).eval();
+      }
 
       double add[] = new double[a.length];
 
@@ -805,1406 +985,1901 @@ public final class Array {
    }
 
 
-   //******************************************************
-   //  all methods
-   //******************************************************
+   /**
+    * Returns the result of adding a 1-D <tt>ComplexArray</tt> and a <tt>double</tt> scalar.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray add ( ComplexArray a, double b ) {
+      return ((ComplexArray) a.clone()).addAssign(b);
+   }
+
 
    /**
-    * Returns <code>true</code> if all elements of an array are <code>true</code>.
+    * Returns the result of adding a 1-D <tt>ComplexArray</tt> and a <tt>Complex</tt> scalar.
     *
     * @param   a   input array.
-    * @return  the <code>boolean</code> result
+    * @param   b   scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean all ( boolean a[] ) {
-      boolean result = true;
-      for ( int i = 0; i < a.length; i++ ) {
-         if ( !a[i] ) {
-            result = false;
-            break;
-         }
-      }
-      return result;
+   public static ComplexArray add ( ComplexArray a, Complex b ) {
+      return ((ComplexArray) a.clone()).addAssign(b);
    }
 
+
    /**
-    * Returns <code>true</code> if all elements of an array are <code>true</code>.
+    * Returns the sum of an <tt>NDArray</tt> and a <tt>double</tt> scalar.
     *
     * @param   a   input array.
-    * @return  the <code>boolean</code> result
+    * @param   b   scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean all ( boolean a[][] ) {
-      boolean result = true;
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-           if ( !a[i][j] ) {
-              result = false;
-              break;
-           }
-         }
-      }
-      return result;
+   public static NDArray add ( NDArray a, double b ) {
+      return a.add(b);
    }
 
 
    //******************************************************
-   //  and methods
+   //  addInto output-buffer methods
    //******************************************************
 
    /**
-    * Returns the element-by-element logical <code>and</code> of
-    * two boolean arrays.
+    * Calculates the element-by-element sum of two 1-D int arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  the <code>boolean</code> result
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] and ( boolean a[], boolean b[] ) {
-      boolean and[] = new boolean[a.length];
+   public static int[] addInto ( int a[], int b[], int out[] ) {
 
-      if ( a.length != b.length ) {
-         String s = "and: Incompatible array lengths";
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         and[i] = a[i] && b[i];
-      }
-      return and;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] + b[i];
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element logical <code>and</code> of
-    * two boolean arrays.
+    * Calculates the element-by-element sum of two 1-D long arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  the <code>boolean</code> result
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] and ( boolean a[][], boolean b[][] ) {
-      boolean and[][] = new boolean[a.length][];
+   public static long[] addInto ( long a[], long b[], long out[] ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "and: Incompatible array lengths";
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "and: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            and[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               and[i][j] = a[i][j] && b[i][j];
-            }
-         }
-      }
-      return and;
-   }
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] + b[i];
 
+      return out;
+   }
 
-   //******************************************************
-   //  any methods
-   //******************************************************
 
    /**
-    * Returns <code>true</code> if any elements of an array are <code>true</code>.
+    * Calculates the element-by-element sum of two 1-D float arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
-    * @param   a   input array.
-    * @return  the <code>boolean</code> result
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean any ( boolean a[] ) {
-      boolean result = false;
-      for ( int i = 0; i < a.length; i++ ) {
-         if ( a[i] ) {
-            result = true;
-            break;
-         }
+   public static float[] addInto ( float a[], float b[], float out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return result;
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] + b[i];
+
+      return out;
    }
 
 
    /**
-    * Returns <code>true</code> if any elements of an array are <code>true</code>.
+    * Calculates the element-by-element sum of two 1-D double arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
-    * @param   a   input array.
-    * @return  the <code>boolean</code> result
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean any ( boolean a[][] ) {
-      boolean result = false;
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if ( a[i][j] ) {
-               result = true;
-               break;
-            }
-         }
+   public static double[] addInto ( double a[], double b[], double out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return result;
-   }
 
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).add( ArrayExpr.of(b) ).eval( out );
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] + b[i];
+
+      return out;
+   }
 
-   //******************************************************
-   //  count methods
-   //******************************************************
 
    /**
-    * Returns the number of <code>true</code> elements in an array.
+    * Calculates the element-by-element sum of two 1-D Complex arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
     *
-    * @param   a   input array.
-    * @return  the number of <code>true</code> elements
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static int count ( boolean a[] ) {
-      int count = 0;
-      for ( int i = 0; i < a.length; i++ ) {
-         if ( a[i] )
-            count++;
+   public static Complex[] addInto ( Complex a[], Complex b[], Complex out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return count;
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].add(b[i]);
+
+      return out;
    }
 
 
    /**
-    * Returns the number of <code>true</code> elements in an array.
+    * Calculates the element-by-element sum of two 2-D int arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
-    * @param   a   input array.
-    * @return  the number of <code>true</code> elements
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static int count ( boolean a[][] ) {
-      int count = 0;
+   public static int[][] addInto ( int a[][], int b[][], int out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
       for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
          for ( int j = 0; j < a[i].length; j++ ) {
-            if ( a[i][j] )
-               count++;
+            out[i][j] = a[i][j] + b[i][j];
          }
       }
-      return count;
+      return out;
    }
 
-   //******************************************************
-   //  element-by-element division methods
-   //******************************************************
 
    /**
-    * Returns the element-by-element division of two 1-D int arrays.
+    * Calculates the element-by-element sum of two 2-D long arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <tt>a[i] / b[i]</tt>
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static int[] div ( int a[], int b[] ) {
-
-      int div[] = new int[a.length];
+   public static long[][] addInto ( long a[][], long b[][], long out[][] ) {
 
-      if ( a.length != b.length ) {
-         String s = "div: Incompatible array lengths";
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            div[i] = a[i] / b[i];
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] + b[i][j];
+         }
       }
-      return div;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element division of two 1-D long arrays.
+    * Calculates the element-by-element sum of two 2-D float arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <tt>a[i] / b[i]</tt>
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static long[] div ( long a[], long b[] ) {
-
-      long div[] = new long[a.length];
+   public static float[][] addInto ( float a[][], float b[][], float out[][] ) {
 
-      if ( a.length != b.length ) {
-         String s = "div: Incompatible array lengths";
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            div[i] = a[i] / b[i];
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] + b[i][j];
+         }
       }
-      return div;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element division of two 1-D float arrays.
+    * Calculates the element-by-element sum of two 2-D double arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <tt>a[i] / b[i]</tt>
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static float[] div ( float a[], float b[] ) {
+   public static double[][] addInto ( double a[][], double b[][], double out[][] ) {
 
-      float div[] = new float[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "div: Incompatible array lengths";
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            div[i] = (float) (a[i] / b[i]);
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] + b[i][j];
+         }
       }
-      return div;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element division of two 1-D double arrays.
+    * Calculates the element-by-element sum of two 2-D Complex arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <tt>a[i] / b[i]</tt>
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static double[] div ( double a[], double b[] ) {
-
-      double div[] = new double[a.length];
+   public static Complex[][] addInto ( Complex a[][], Complex b[][], Complex out[][] ) {
 
-      if ( a.length != b.length ) {
-         String s = "div: Incompatible array lengths";
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            div[i] = a[i] / b[i];
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j].add(b[i][j]);
+         }
       }
-      return div;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element division of two 1-D Complex arrays.
+    * Calculates the element-by-element sum of two <tt>ComplexArray</tt> arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.  No objects are created.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <tt>a[i] / b[i]</tt>
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static Complex[] div ( Complex a[], Complex b[] ) {
-
-      Complex div[] = new Complex[a.length];
+   public static ComplexArray addInto ( ComplexArray a, ComplexArray b, ComplexArray out ) {
 
-      if ( a.length != b.length ) {
-         String s = "div: Incompatible array lengths";
+      if ( a.length() != b.length() || a.length() != out.length() ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            div[i] = a[i].div(b[i]);
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double br[] = b.getRe(), bi[] = b.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      for ( int i = 0; i < ar.length; i++ ) {
+         zr[i] = ar[i] + br[i];
+         zi[i] = ai[i] + bi[i];
       }
-      return div;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element division of two 2-D int arrays.
+    * Adds a scalar value to a 1-D int array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <tt>a[i][j] / b[i][j]</tt>
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static int[][] div ( int a[][], int b[][] ) {
-      int div[][] = new int[a.length][];
+   public static int[] addInto ( int a[], int b, int out[] ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "div: Incompatible array lengths";
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "div: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            div[i] = new int[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               div[i][j] = a[i][j] / b[i][j];
-            }
-         }
-      }
-      return div;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] + b;
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element division of two 2-D long arrays.
+    * Adds a scalar value to a 1-D long array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <tt>a[i][j] / b[i][j]</tt>
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static long[][] div ( long a[][], long b[][] ) {
-      long div[][] = new long[a.length][];
+   public static long[] addInto ( long a[], long b, long out[] ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "div: Incompatible array lengths";
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "div: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            div[i] = new long[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               div[i][j] = a[i][j] / b[i][j];
-            }
-         }
-      }
-      return div;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] + b;
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element division of two 2-D float arrays.
+    * Adds a scalar value to a 1-D float array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <tt>a[i][j] / b[i][j]</tt>
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static float[][] div ( float a[][], float b[][] ) {
-      float div[][] = new float[a.length][];
+   public static float[] addInto ( float a[], float b, float out[] ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "div: Incompatible array lengths";
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "div: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            div[i] = new float[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               div[i][j] = a[i][j] / b[i][j];
-            }
-         }
-      }
-      return div;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] + b;
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element division of two 2-D double arrays.
+    * Adds a scalar value to a 1-D double array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <tt>a[i][j] / b[i][j]</tt>
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static double[][] div ( double a[][], double b[][] ) {
-      double div[][] = new double[a.length][];
+   public static double[] addInto ( double a[], double b, double out[] ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "div: Incompatible array lengths";
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "div: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            div[i] = new double[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               div[i][j] = a[i][j] / b[i][j];
-            }
-         }
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).add(b).eval( out );
       }
-      return div;
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] + b;
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element division of two 2-D Complex arrays.
+    * Adds a scalar value to a 1-D Complex array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <tt>a[i][j] / b[i][j]</tt>
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static Complex[][] div ( Complex a[][], Complex b[][] ) {
-      Complex div[][] = new Complex[a.length][];
+   public static Complex[] addInto ( Complex a[], double b, Complex out[] ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "div: Incompatible array lengths";
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "div: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            div[i] = new Complex[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               div[i][j] = a[i][j].div(b[i][j]);
-            }
-         }
-      }
-      return div;
-   }
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].add(b);
 
+      return out;
+   }
 
-   //******************************************************
-   //  divide array-by-scalar methods
-   //******************************************************
 
    /**
-    * Returns the division of a 1-D int array by a scalar.
+    * Adds a scalar value to a 1-D Complex array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
     *
     * @param   a   input array.
-    * @param   b   input scalar.
-    * @return  an array whose elements are <tt>a[i] / b</tt>
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static int[] div ( int a[], int b ) {
+   public static Complex[] addInto ( Complex a[], Complex b, Complex out[] ) {
 
-      int div[] = new int[a.length];
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
 
       for ( int i = 0; i < a.length; i++ )
-         div[i] = a[i] / b;
+         out[i] = a[i].add(b);
 
-      return div;
+      return out;
    }
 
 
    /**
-    * Returns the division of a 1-D long array by a scalar.
+    * Adds a scalar value to a 2-D int array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
     * @param   a   input array.
-    * @param   b   input scalar.
-    * @return  an array whose elements are <tt>a[i] / b</tt>
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static long[] div ( long a[], long b ) {
-
-      long div[] = new long[a.length];
+   public static int[][] addInto ( int a[][], int b, int out[][] ) {
 
-      for ( int i = 0; i < a.length; i++ )
-         div[i] = a[i] / b;
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
 
-      return div;
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] + b;
+         }
+      }
+      return out;
    }
 
 
    /**
-    * Returns the division of a 1-D float array by a scalar.
+    * Adds a scalar value to a 2-D long array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
     * @param   a   input array.
-    * @param   b   input scalar.
-    * @return  an array whose elements are <tt>a[i] / b</tt>
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static float[] div ( float a[], float b ) {
-
-      float div[] = new float[a.length];
+   public static long[][] addInto ( long a[][], long b, long out[][] ) {
 
-      for ( int i = 0; i < a.length; i++ )
-         div[i] = (float) (a[i] / b);
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
 
-      return div;
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] + b;
+         }
+      }
+      return out;
    }
 
 
    /**
-    * Returns the division of a 1-D double array by a scalar.
+    * Adds a scalar value to a 2-D float array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
     * @param   a   input array.
-    * @param   b   input scalar.
-    * @return  an array whose elements are <tt>a[i] / b</tt>
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static double[] div ( double a[], double b ) {
-
-      double div[] = new double[a.length];
+   public static float[][] addInto ( float a[][], float b, float out[][] ) {
 
-      for ( int i = 0; i < a.length; i++ )
-         div[i] = a[i] / b;
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
 
-      return div;
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] + b;
+         }
+      }
+      return out;
    }
 
 
    /**
-    * Returns the division of a 1-D Complex array by a scalar.
+    * Adds a scalar value to a 2-D double array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
     * @param   a   input array.
-    * @param   b   input scalar.
-    * @return  an array whose elements are <tt>a[i] / b</tt>
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static Complex[] div ( Complex a[], double b ) {
+   public static double[][] addInto ( double a[][], double b, double out[][] ) {
 
-      Complex div[] = new Complex[a.length];
-
-      for ( int i = 0; i < a.length; i++ )
-         div[i] = a[i].div(b);
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
 
-      return div;
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] + b;
+         }
+      }
+      return out;
    }
 
 
    /**
-    * Returns the division of a 1-D Complex array by a scalar.
+    * Adds a scalar value to a 2-D Complex array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
     *
     * @param   a   input array.
-    * @param   b   input scalar.
-    * @return  an array whose elements are <tt>a[i] / b</tt>
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static Complex[] div ( Complex a[], Complex b ) {
-
-      Complex div[] = new Complex[a.length];
+   public static Complex[][] addInto ( Complex a[][], double b, Complex out[][] ) {
 
-      for ( int i = 0; i < a.length; i++ )
-         div[i] = a[i].div(b);
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
 
-      return div;
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j].add(b);
+         }
+      }
+      return out;
    }
 
 
-   //******************************************************
-   //  dotProduct methods
-   //******************************************************
-
    /**
-    * Returns the dot product of two 1-D arrays.
+    * Adds a scalar value to a 2-D Complex array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static int dotProduct ( int a[], int b[] ) {
+   public static Complex[][] addInto ( Complex a[][], Complex b, Complex out[][] ) {
 
-      int product = 0;
-      if ( a.length != b.length ) {
-         String s = "dotProduct: Incompatible array lengths";
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            product += a[i] * b[i];
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "addInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j].add(b);
+         }
       }
-      return product;
+      return out;
    }
 
 
    /**
-    * Returns the dot product of two 1-D arrays.
+    * Adds a scalar value of type <tt>double</tt> to a 1-D <tt>ComplexArray</tt>,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.  No objects are created.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static long dotProduct ( long a[], long b[] ) {
+   public static ComplexArray addInto ( ComplexArray a, double b, ComplexArray out ) {
 
-      long product = 0;
-      if ( a.length != b.length ) {
-         String s = "dotProduct: Incompatible array lengths";
+      if ( a.length() != out.length() ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            product += a[i] * b[i];
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      for ( int i = 0; i < ar.length; i++ ) {
+         zr[i] = ar[i] + b;
+         zi[i] = ai[i];
       }
-      return product;
+      return out;
    }
 
 
    /**
-    * Returns the dot product of two 1-D arrays.
+    * Adds a scalar value of type <tt>Complex</tt> to a 1-D <tt>ComplexArray</tt>,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.  No objects are created.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static float dotProduct ( float a[], float b[] ) {
+   public static ComplexArray addInto ( ComplexArray a, Complex b, ComplexArray out ) {
 
-      float product = 0;
-      if ( a.length != b.length ) {
-         String s = "dotProduct: Incompatible array lengths";
+      if ( a.length() != out.length() ) {
+         String s = "addInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            product += a[i] * b[i];
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      double br = b.re(), bi = b.im();
+      for ( int i = 0; i < ar.length; i++ ) {
+         zr[i] = ar[i] + br;
+         zi[i] = ai[i] + bi;
       }
-      return product;
+      return out;
    }
 
 
+   //******************************************************
+   //  all methods
+   //******************************************************
+
    /**
-    * Returns the dot product of two 1-D arrays.
+    * Returns <code>true</code> if all elements of an array are <code>true</code>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
+    * @param   a   input array.
+    * @return  the <code>boolean</code> result
     */
-   public static double dotProduct ( double a[], double b[] ) {
-
-      double product = 0;
-      if ( a.length != b.length ) {
-         String s = "dotProduct: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            product += a[i] * b[i];
+   public static boolean all ( boolean a[] ) {
+      boolean result = true;
+      for ( int i = 0; i < a.length; i++ ) {
+         if ( !a[i] ) {
+            result = false;
+            break;
+         }
       }
-      return product;
+      return result;
    }
 
-
    /**
-    * Returns the dot product of two 1-D arrays.
+    * Returns <code>true</code> if all elements of an array are <code>true</code>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
+    * @param   a   input array.
+    * @return  the <code>boolean</code> result
     */
-   public static Complex dotProduct ( Complex a[], Complex b[] ) {
-
-      Complex product = new Complex(0.0, 0.0);
-      if ( a.length != b.length ) {
-         String s = "dotProduct: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            product = product.add( a[i].mul(b[i]) );
+   public static boolean all ( boolean a[][] ) {
+      boolean result = true;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+           if ( !a[i][j] ) {
+              result = false;
+              break;
+           }
+         }
       }
-      return product;
+      return result;
    }
 
 
    //******************************************************
-   //  isEqual methods
+   //  and methods
    //******************************************************
 
    /**
-    * Returns the element-by-element "==" comparision of two
-    * 1-D int arrays.
+    * Returns the element-by-element logical <code>and</code> of
+    * two boolean arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    * @return  the <code>boolean</code> result
     */
-   public static boolean[] isEqual ( int a[], int b[] ) {
-
-      boolean res[] = new boolean[a.length];
+   public static boolean[] and ( boolean a[], boolean b[] ) {
+      boolean and[] = new boolean[a.length];
 
       if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
+         String s = "and: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] == b[i];
+      for ( int i = 0; i < a.length; i++ ) {
+         and[i] = a[i] && b[i];
       }
-      return res;
+      return and;
    }
 
 
    /**
-    * Returns the element-by-element "==" comparision of two
-    * 1-D long arrays.
+    * Returns the element-by-element logical <code>and</code> of
+    * two boolean arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    * @return  the <code>boolean</code> result
     */
-   public static boolean[] isEqual ( long a[], long b[] ) {
-
-      boolean res[] = new boolean[a.length];
+   public static boolean[][] and ( boolean a[][], boolean b[][] ) {
+      boolean and[][] = new boolean[a.length][];
 
+      // Check for incompatibilities in the first dimension
       if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
+         String s = "and: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
       else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] == b[i];
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "and: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            and[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               and[i][j] = a[i][j] && b[i][j];
+            }
+         }
       }
-      return res;
+      return and;
    }
 
 
+   //******************************************************
+   //  any methods
+   //******************************************************
+
    /**
-    * Returns the element-by-element "==" comparision of two
-    * 1-D float arrays.
+    * Returns <code>true</code> if any elements of an array are <code>true</code>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    * @param   a   input array.
+    * @return  the <code>boolean</code> result
     */
-   public static boolean[] isEqual ( float a[], float b[] ) {
-
-      boolean res[] = new boolean[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] == b[i];
+   public static boolean any ( boolean a[] ) {
+      boolean result = false;
+      for ( int i = 0; i < a.length; i++ ) {
+         if ( a[i] ) {
+            result = true;
+            break;
+         }
       }
-      return res;
+      return result;
    }
 
 
    /**
-    * Returns the element-by-element "==" comparision of two
-    * 1-D double arrays.
+    * Returns <code>true</code> if any elements of an array are <code>true</code>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    * @param   a   input array.
+    * @return  the <code>boolean</code> result
     */
-   public static boolean[] isEqual ( double a[], double b[] ) {
+   public static boolean any ( boolean a[][] ) {
+      boolean result = false;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if ( a[i][j] ) {
+               result = true;
+               break;
+            }
+         }
+      }
+      return result;
+   }
 
-      boolean res[] = new boolean[a.length];
 
-      if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   //******************************************************
+   //  argsort methods
+   //******************************************************
+
+   /**
+    * Returns the indices that sort a 1-D int array into ascending
+    * order, so that <tt>a[idx[0]]</tt>, <tt>a[idx[1]]</tt>, ... are in
+    * order.  The sort is stable, so equal elements keep their original
+    * order.  Large arrays are sorted in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array.
+    * @return  an array of indices into <tt>a</tt>, in ascending order of
+    *          the elements
+    */
+   public static int[] argsort ( int a[] ) {
+      long key[] = new long[a.length];
+      for ( int i = 0; i < a.length; i++ ) {
+         key[i] = a[i];
       }
+      return argsortKeys( key );
+   }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] == b[i];
+
+   /**
+    * Returns the indices that sort a 1-D float array into ascending
+    * order, so that <tt>a[idx[0]]</tt>, <tt>a[idx[1]]</tt>, ... are in
+    * order.  The sort is stable, so equal elements keep their original
+    * order.  The elements are ordered as by
+    * <code>java.util.Arrays.sort</code>, with -0.0 before 0.0 and NaN
+    * values last.  Large arrays are sorted in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array.
+    * @return  an array of indices into <tt>a</tt>, in ascending order of
+    *          the elements
+    */
+   public static int[] argsort ( float a[] ) {
+      long key[] = new long[a.length];
+      for ( int i = 0; i < a.length; i++ ) {
+         key[i] = sortKey( a[i] );
       }
-      return res;
+      return argsortKeys( key );
    }
 
 
    /**
-    * Returns the element-by-element "==" comparision of two
-    * 1-D <code>Complex</code> arrays.
+    * Returns the indices that sort a 1-D double array into ascending
+    * order, so that <tt>a[idx[0]]</tt>, <tt>a[idx[1]]</tt>, ... are in
+    * order.  The sort is stable, so equal elements keep their original
+    * order.  The elements are ordered as by
+    * <code>java.util.Arrays.sort</code>, with -0.0 before 0.0 and NaN
+    * values last.  Large arrays are sorted in parallel (see class
+    * <code>Parallel</code>).
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    * @param   a   input array.
+    * @return  an array of indices into <tt>a</tt>, in ascending order of
+    *          the elements
     */
-   public static boolean[] isEqual ( Complex a[], Complex b[] ) {
+   public static int[] argsort ( double a[] ) {
+      long key[] = new long[a.length];
+      for ( int i = 0; i < a.length; i++ ) {
+         key[i] = sortKey( a[i] );
+      }
+      return argsortKeys( key );
+   }
 
-      boolean res[] = new boolean[a.length];
 
-      if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
+   //******************************************************
+   //  compress methods
+   //******************************************************
+
+   /**
+    * Returns the elements of an array that correspond to
+    * <tt>true</tt> elements of a mask, in their original
+    * order.  For large arrays, the selected elements of each
+    * block are counted and copied in parallel.
+    *
+    * @param   a      input array.
+    * @param   mask   masking array.
+    * @return  a new array holding the elements <tt>a[i]</tt>
+    *          for which <tt>mask[i]</tt> is <tt>true</tt>
+    */
+   public static int[] compress ( final int a[], final boolean mask[] ) {
+      if ( a.length != mask.length ) {
+         String s = "compress: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
-
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i].equals(b[i]);
+      if ( Parallel.isParallel(a.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final int c[] = new int[ pos[pos.length-1] ];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int i = from; i < to; i++ ) {
+                  if ( mask[i] )
+                     c[j++] = a[i];
+               }
+            }
+         } );
+         return c;
       }
-      return res;
+      int c[] = new int[ count(mask) ];
+      int j = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         if ( mask[i] )
+            c[j++] = a[i];
+      }
+      return c;
    }
 
 
    /**
-    * Returns the element-by-element "==" comparision of two
-    * 2-D int arrays.
+    * Returns the elements of an array that correspond to
+    * <tt>true</tt> elements of a mask, in their original
+    * order.  For large arrays, the selected elements of each
+    * block are counted and copied in parallel.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> == <tt>b[i][j]</tt>.
+    * @param   a      input array.
+    * @param   mask   masking array.
+    * @return  a new array holding the elements <tt>a[i]</tt>
+    *          for which <tt>mask[i]</tt> is <tt>true</tt>
     */
-   public static boolean[][] isEqual ( int a[][], int b[][] ) {
-      boolean res[][] = new boolean[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
+   public static long[] compress ( final long a[], final boolean mask[] ) {
+      if ( a.length != mask.length ) {
+         String s = "compress: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
-
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] == b[i][j];
+      if ( Parallel.isParallel(a.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final long c[] = new long[ pos[pos.length-1] ];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int i = from; i < to; i++ ) {
+                  if ( mask[i] )
+                     c[j++] = a[i];
+               }
             }
-         }
+         } );
+         return c;
       }
-      return res;
+      long c[] = new long[ count(mask) ];
+      int j = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         if ( mask[i] )
+            c[j++] = a[i];
+      }
+      return c;
    }
 
 
    /**
-    * Returns the element-by-element "==" comparision of two
-    * 2-D long arrays.
+    * Returns the elements of an array that correspond to
+    * <tt>true</tt> elements of a mask, in their original
+    * order.  For large arrays, the selected elements of each
+    * block are counted and copied in parallel.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> == <tt>b[i][j]</tt>.
+    * @param   a      input array.
+    * @param   mask   masking array.
+    * @return  a new array holding the elements <tt>a[i]</tt>
+    *          for which <tt>mask[i]</tt> is <tt>true</tt>
     */
-   public static boolean[][] isEqual ( long a[][], long b[][] ) {
-      boolean res[][] = new boolean[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
+   public static float[] compress ( final float a[], final boolean mask[] ) {
+      if ( a.length != mask.length ) {
+         String s = "compress: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
-
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] == b[i][j];
+      if ( Parallel.isParallel(a.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final float c[] = new float[ pos[pos.length-1] ];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int i = from; i < to; i++ ) {
+                  if ( mask[i] )
+                     c[j++] = a[i];
+               }
             }
-         }
+         } );
+         return c;
       }
-      return res;
+      float c[] = new float[ count(mask) ];
+      int j = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         if ( mask[i] )
+            c[j++] = a[i];
+      }
+      return c;
    }
 
 
    /**
-    * Returns the element-by-element "==" comparision of two
-    * 2-D float arrays.
+    * Returns the elements of an array that correspond to
+    * <tt>true</tt> elements of a mask, in their original
+    * order.  For large arrays, the selected elements of each
+    * block are counted and copied in parallel.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> == <tt>b[i][j]</tt>.
+    * @param   a      input array.
+    * @param   mask   masking array.
+    * @return  a new array holding the elements <tt>a[i]</tt>
+    *          for which <tt>mask[i]</tt> is <tt>true</tt>
     */
-   public static boolean[][] isEqual ( float a[][], float b[][] ) {
-      boolean res[][] = new boolean[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
+   public static double[] compress ( final double a[], final boolean mask[] ) {
+      if ( a.length != mask.length ) {
+         String s = "compress: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
-
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] == b[i][j];
+      if ( Parallel.isParallel(a.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final double c[] = new double[ pos[pos.length-1] ];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int i = from; i < to; i++ ) {
+                  if ( mask[i] )
+                     c[j++] = a[i];
+               }
             }
-         }
+         } );
+         return c;
       }
-      return res;
+      double c[] = new double[ count(mask) ];
+      int j = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         if ( mask[i] )
+            c[j++] = a[i];
+      }
+      return c;
    }
 
 
    /**
-    * Returns the element-by-element "==" comparision of two
-    * 2-D double arrays.
+    * Returns the elements of an array that correspond to
+    * <tt>true</tt> elements of a mask, in their original
+    * order.  For large arrays, the selected elements of each
+    * block are counted and copied in parallel.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> == <tt>b[i][j]</tt>.
+    * @param   a      input array.
+    * @param   mask   masking array.
+    * @return  a new array holding the elements <tt>a[i]</tt>
+    *          for which <tt>mask[i]</tt> is <tt>true</tt>
     */
-   public static boolean[][] isEqual ( double a[][], double b[][] ) {
-      boolean res[][] = new boolean[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
+   public static Complex[] compress ( final Complex a[], final boolean mask[] ) {
+      if ( a.length != mask.length ) {
+         String s = "compress: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
-
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] == b[i][j];
+      if ( Parallel.isParallel(a.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final Complex c[] = new Complex[ pos[pos.length-1] ];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int i = from; i < to; i++ ) {
+                  if ( mask[i] )
+                     c[j++] = a[i];
+               }
             }
-         }
+         } );
+         return c;
       }
-      return res;
+      Complex c[] = new Complex[ count(mask) ];
+      int j = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         if ( mask[i] )
+            c[j++] = a[i];
+      }
+      return c;
    }
 
 
    /**
-    * Returns the element-by-element "==" comparision of two
-    * 2-D <code>Complex</code> arrays.
+    * Returns the elements of an array that correspond to
+    * <tt>true</tt> elements of a bitset mask, in their
+    * original order.  Words of the mask that are all
+    * <tt>false</tt> are skipped.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> == <tt>b[i][j]</tt>.
+    * @param   a      input array.
+    * @param   mask   masking bitset.
+    * @return  a new array holding the elements <tt>a[i]</tt>
+    *          for which <tt>mask.get(i)</tt> is <tt>true</tt>
     */
-   public static boolean[][] isEqual ( Complex a[][], Complex b[][] ) {
-      boolean res[][] = new boolean[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
+   public static int[] compress ( final int a[], BitMask mask ) {
+      if ( a.length != mask.length() ) {
+         String s = "compress: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
-
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j].equals(b[i][j]);
+      final long w[] = mask.words();
+      if ( Parallel.isParallel(a.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final int c[] = new int[ pos[pos.length-1] ];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int k = from >>> 6; k < (to + 63) >>> 6; k++ ) {
+                  for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+                     c[j++] = a[(k << 6) + Long.numberOfTrailingZeros(bits)];
+               }
             }
-         }
+         } );
+         return c;
       }
-      return res;
+      int c[] = new int[ mask.count() ];
+      int j = 0;
+      for ( int k = 0; k < w.length; k++ ) {
+         for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+            c[j++] = a[(k << 6) + Long.numberOfTrailingZeros(bits)];
+      }
+      return c;
    }
 
 
-   //******************************************************
-   //  isGreaterThan methods
-   //******************************************************
-
    /**
-    * Returns the element-by-element ">" comparision of two
-    * 1-D int arrays.
+    * Returns the elements of an array that correspond to
+    * <tt>true</tt> elements of a bitset mask, in their
+    * original order.  Words of the mask that are all
+    * <tt>false</tt> are skipped.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> > <tt>b[i]</tt>.
+    * @param   a      input array.
+    * @param   mask   masking bitset.
+    * @return  a new array holding the elements <tt>a[i]</tt>
+    *          for which <tt>mask.get(i)</tt> is <tt>true</tt>
     */
-   public static boolean[] isGreaterThan ( int a[], int b[] ) {
-
-      boolean res[] = new boolean[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "isGreaterThan: Incompatible array lengths";
+   public static long[] compress ( final long a[], BitMask mask ) {
+      if ( a.length != mask.length() ) {
+         String s = "compress: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
-
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] > b[i];
+      final long w[] = mask.words();
+      if ( Parallel.isParallel(a.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final long c[] = new long[ pos[pos.length-1] ];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int k = from >>> 6; k < (to + 63) >>> 6; k++ ) {
+                  for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+                     c[j++] = a[(k << 6) + Long.numberOfTrailingZeros(bits)];
+               }
+            }
+         } );
+         return c;
       }
-      return res;
+      long c[] = new long[ mask.count() ];
+      int j = 0;
+      for ( int k = 0; k < w.length; k++ ) {
+         for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+            c[j++] = a[(k << 6) + Long.numberOfTrailingZeros(bits)];
+      }
+      return c;
    }
 
 
    /**
-    * Returns the element-by-element ">" comparision of two
-    * 1-D long arrays.
+    * Returns the elements of an array that correspond to
+    * <tt>true</tt> elements of a bitset mask, in their
+    * original order.  Words of the mask that are all
+    * <tt>false</tt> are skipped.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> > <tt>b[i]</tt>.
+    * @param   a      input array.
+    * @param   mask   masking bitset.
+    * @return  a new array holding the elements <tt>a[i]</tt>
+    *          for which <tt>mask.get(i)</tt> is <tt>true</tt>
     */
-   public static boolean[] isGreaterThan ( long a[], long b[] ) {
+   public static float[] compress ( final float a[], BitMask mask ) {
+      if ( a.length != mask.length() ) {
+         String s = "compress: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final long w[] = mask.words();
+      if ( Parallel.isParallel(a.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final float c[] = new float[ pos[pos.length-1] ];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int k = from >>> 6; k < (to + 63) >>> 6; k++ ) {
+                  for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+                     c[j++] = a[(k << 6) + Long.numberOfTrailingZeros(bits)];
+               }
+            }
+         } );
+         return c;
+      }
+      float c[] = new float[ mask.count() ];
+      int j = 0;
+      for ( int k = 0; k < w.length; k++ ) {
+         for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+            c[j++] = a[(k << 6) + Long.numberOfTrailingZeros(bits)];
+      }
+      return c;
+   }
 
-      boolean res[] = new boolean[a.length];
 
-      if ( a.length != b.length ) {
-         String s = "isGreaterThan: Incompatible array lengths";
+   /**
+    * Returns the elements of an array that correspond to
+    * <tt>true</tt> elements of a bitset mask, in their
+    * original order.  Words of the mask that are all
+    * <tt>false</tt> are skipped.
+    *
+    * @param   a      input array.
+    * @param   mask   masking bitset.
+    * @return  a new array holding the elements <tt>a[i]</tt>
+    *          for which <tt>mask.get(i)</tt> is <tt>true</tt>
+    */
+   public static double[] compress ( final double a[], BitMask mask ) {
+      if ( a.length != mask.length() ) {
+         String s = "compress: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
-
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] > b[i];
+      final long w[] = mask.words();
+      if ( Parallel.isParallel(a.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final double c[] = new double[ pos[pos.length-1] ];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int k = from >>> 6; k < (to + 63) >>> 6; k++ ) {
+                  for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+                     c[j++] = a[(k << 6) + Long.numberOfTrailingZeros(bits)];
+               }
+            }
+         } );
+         return c;
       }
-      return res;
+      double c[] = new double[ mask.count() ];
+      int j = 0;
+      for ( int k = 0; k < w.length; k++ ) {
+         for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+            c[j++] = a[(k << 6) + Long.numberOfTrailingZeros(bits)];
+      }
+      return c;
    }
 
 
    /**
-    * Returns the element-by-element ">" comparision of two
-    * 1-D float arrays.
+    * Returns the elements of an array that correspond to
+    * <tt>true</tt> elements of a bitset mask, in their
+    * original order.  Words of the mask that are all
+    * <tt>false</tt> are skipped.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> > <tt>b[i]</tt>.
+    * @param   a      input array.
+    * @param   mask   masking bitset.
+    * @return  a new array holding the elements <tt>a[i]</tt>
+    *          for which <tt>mask.get(i)</tt> is <tt>true</tt>
     */
-   public static boolean[] isGreaterThan ( float a[], float b[] ) {
+   public static Complex[] compress ( final Complex a[], BitMask mask ) {
+      if ( a.length != mask.length() ) {
+         String s = "compress: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final long w[] = mask.words();
+      if ( Parallel.isParallel(a.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final Complex c[] = new Complex[ pos[pos.length-1] ];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int k = from >>> 6; k < (to + 63) >>> 6; k++ ) {
+                  for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+                     c[j++] = a[(k << 6) + Long.numberOfTrailingZeros(bits)];
+               }
+            }
+         } );
+         return c;
+      }
+      Complex c[] = new Complex[ mask.count() ];
+      int j = 0;
+      for ( int k = 0; k < w.length; k++ ) {
+         for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+            c[j++] = a[(k << 6) + Long.numberOfTrailingZeros(bits)];
+      }
+      return c;
+   }
 
-      boolean res[] = new boolean[a.length];
 
-      if ( a.length != b.length ) {
-         String s = "isGreaterThan: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   //******************************************************
+   //  count methods
+   //******************************************************
+
+   /**
+    * Returns the number of <code>true</code> elements in an array.
+    *
+    * @param   a   input array.
+    * @return  the number of <code>true</code> elements
+    */
+   public static int count ( boolean a[] ) {
+      int count = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         if ( a[i] )
+            count++;
       }
+      return count;
+   }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] > b[i];
+
+   /**
+    * Returns the number of <code>true</code> elements in an array.
+    *
+    * @param   a   input array.
+    * @return  the number of <code>true</code> elements
+    */
+   public static int count ( boolean a[][] ) {
+      int count = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if ( a[i][j] )
+               count++;
+         }
       }
-      return res;
+      return count;
    }
 
 
    /**
-    * Returns the element-by-element ">" comparision of two
-    * 1-D double arrays.
+    * Returns the number of <tt>true</tt> elements in a
+    * bitset mask.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> > <tt>b[i]</tt>.
+    * @param   a   input mask.
+    * @return  the number of <tt>true</tt> elements
     */
-   public static boolean[] isGreaterThan ( double a[], double b[] ) {
+   public static int count ( BitMask a ) {
+      return a.count();
+   }
 
-      boolean res[] = new boolean[a.length];
 
-      if ( a.length != b.length ) {
-         String s = "isGreaterThan: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   //******************************************************
+   //  cumprod methods
+   //******************************************************
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] > b[i];
-      }
-      return res;
+   /**
+    * Returns the cumulative product of the elements in a 1-D long array,
+    * whose element <tt>i</tt> is the product of <tt>a[0]</tt> through
+    * <tt>a[i]</tt>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the cumulative product of <tt>a</tt>
+    */
+   public static long[] cumprod ( long a[] ) {
+      return cumprod( a, new long[a.length] );
    }
 
 
    /**
-    * Returns the the result of comparing a double array to a
-    * specified constant.
+    * Calculates the cumulative product of the elements in a 1-D long
+    * array, storing the results in array <code>out</code>.
+    * <code>out</code> may be the same array as <code>a</code>, in which
+    * case the array is replaced by its cumulative product.  Large arrays
+    * are processed in parallel (see class <code>Parallel</code>) by a
+    * two-pass scan over fixed blocks.
     *
     * @param   a   input array.
-    * @param   b   input value.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> > <tt>b</tt>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the cumulative product
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static boolean[] isGreaterThan ( double a[], double b ) {
+   public static long[] cumprod ( long a[], long out[] ) {
+      scan( SCAN_PROD, null, a, out, true, 1, "cumprod" );
+      return out;
+   }
 
-      boolean res[] = new boolean[a.length];
 
-      for ( int i = 0; i < a.length; i++ )
-         res[i] = a[i] > b;
-      return res;
+   /**
+    * Returns the cumulative product of the elements in a 1-D double array,
+    * whose element <tt>i</tt> is the product of <tt>a[0]</tt> through
+    * <tt>a[i]</tt>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the cumulative product of <tt>a</tt>
+    */
+   public static double[] cumprod ( double a[] ) {
+      return cumprod( a, new double[a.length] );
    }
 
 
    /**
-    * Returns the element-by-element ">" comparision of two
-    * 2-D int arrays.
+    * Calculates the cumulative product of the elements in a 1-D double
+    * array, storing the results in array <code>out</code>.
+    * <code>out</code> may be the same array as <code>a</code>, in which
+    * case the array is replaced by its cumulative product.  Large arrays
+    * are processed in parallel (see class <code>Parallel</code>) by a
+    * two-pass scan over fixed blocks, so that the rounding of the
+    * result depends only on the data and the parallel threshold.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> > <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the cumulative product
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static boolean[][] isGreaterThan ( int a[][], int b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static double[] cumprod ( double a[], double out[] ) {
+      scan( SCAN_PROD, null, a, out, true, 1, "cumprod" );
+      return out;
+   }
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isGreaterThan: Incompatible array lengths";
+
+   //******************************************************
+   //  cumsum methods
+   //******************************************************
+
+   /**
+    * Returns the cumulative sum of the elements in a 1-D long array,
+    * whose element <tt>i</tt> is the sum of <tt>a[0]</tt> through
+    * <tt>a[i]</tt>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the cumulative sum of <tt>a</tt>
+    */
+   public static long[] cumsum ( long a[] ) {
+      return cumsum( a, new long[a.length] );
+   }
+
+
+   /**
+    * Calculates the cumulative sum of the elements in a 1-D long
+    * array, storing the results in array <code>out</code>.
+    * <code>out</code> may be the same array as <code>a</code>, in which
+    * case the array is replaced by its cumulative sum.  Large arrays
+    * are processed in parallel (see class <code>Parallel</code>) by a
+    * two-pass scan over fixed blocks.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the cumulative sum
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static long[] cumsum ( long a[], long out[] ) {
+      scan( SCAN_SUM, null, a, out, true, 0, "cumsum" );
+      return out;
+   }
+
+
+   /**
+    * Returns the cumulative sum of the elements in a 1-D double array,
+    * whose element <tt>i</tt> is the sum of <tt>a[0]</tt> through
+    * <tt>a[i]</tt>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the cumulative sum of <tt>a</tt>
+    */
+   public static double[] cumsum ( double a[] ) {
+      return cumsum( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the cumulative sum of the elements in a 1-D double
+    * array, storing the results in array <code>out</code>.
+    * <code>out</code> may be the same array as <code>a</code>, in which
+    * case the array is replaced by its cumulative sum.  Large arrays
+    * are processed in parallel (see class <code>Parallel</code>) by a
+    * two-pass scan over fixed blocks, so that the rounding of the
+    * result depends only on the data and the parallel threshold.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the cumulative sum
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static double[] cumsum ( double a[], double out[] ) {
+      scan( SCAN_SUM, null, a, out, true, 0, "cumsum" );
+      return out;
+   }
+
+
+   //******************************************************
+   //  diff methods
+   //******************************************************
+
+   /**
+    * Returns the differences between successive elements of a 1-D long
+    * array, whose element <tt>i</tt> is <tt>a[i+1] - a[i]</tt>.
+    *
+    * @param   a   input array.
+    * @return  a new array, one element shorter than <tt>a</tt>, holding
+    *          the differences (an empty array if <tt>a</tt> has fewer
+    *          than two elements)
+    */
+   public static long[] diff ( long a[] ) {
+      return diff( a, new long[Math.max( a.length - 1, 0 )] );
+   }
+
+
+   /**
+    * Calculates the differences between successive elements of a 1-D
+    * long array, storing the results in array <code>out</code>.
+    * <code>out</code> may be the same array as <code>a</code>, in which
+    * case the differences replace the first <tt>a.length-1</tt> elements
+    * and the last element is left unchanged; otherwise it must be one
+    * element shorter than <code>a</code>.  Large arrays are processed in
+    * parallel (see class <code>Parallel</code>).
+    *
+    * @param   a   input array.
+    * @param   out output array.
+    * @return  <code>out</code>, containing the differences
+    * @exception InvalidArraySizeException  if <code>out</code> is neither
+    *              <code>a</code> nor one element shorter than it
+    */
+   public static long[] diff ( final long a[], final long out[] ) {
+      final int n = Math.max( a.length - 1, 0 );
+      if ( out != a && out.length != n ) {
+         String s = "diff: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
+      if ( out == a || !Parallel.isParallel(n) ) {
 
+         // In place, each difference must be formed before the element
+         // it overwrites is needed, so work from the front serially
+         for ( int i = 0; i < n; i++ ) {
+            out[i] = a[i+1] - a[i];
+         }
+      }
       else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isGreaterThan: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] > b[i][j];
+         Parallel.forRange( n, new Parallel.Loop() {
+            void run( int from, int to ) {
+               for ( int i = from; i < to; i++ ) {
+                  out[i] = a[i+1] - a[i];
+               }
             }
-         }
+         } );
       }
-      return res;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element ">" comparision of two
-    * 2-D long arrays.
+    * Returns the differences between successive elements of a 1-D double
+    * array, whose element <tt>i</tt> is <tt>a[i+1] - a[i]</tt>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> > <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @return  a new array, one element shorter than <tt>a</tt>, holding
+    *          the differences (an empty array if <tt>a</tt> has fewer
+    *          than two elements)
     */
-   public static boolean[][] isGreaterThan ( long a[][], long b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static double[] diff ( double a[] ) {
+      return diff( a, new double[Math.max( a.length - 1, 0 )] );
+   }
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isGreaterThan: Incompatible array lengths";
+
+   /**
+    * Calculates the differences between successive elements of a 1-D
+    * double array, storing the results in array <code>out</code>.
+    * <code>out</code> may be the same array as <code>a</code>, in which
+    * case the differences replace the first <tt>a.length-1</tt> elements
+    * and the last element is left unchanged; otherwise it must be one
+    * element shorter than <code>a</code>.  Large arrays are processed in
+    * parallel (see class <code>Parallel</code>).
+    *
+    * @param   a   input array.
+    * @param   out output array.
+    * @return  <code>out</code>, containing the differences
+    * @exception InvalidArraySizeException  if <code>out</code> is neither
+    *              <code>a</code> nor one element shorter than it
+    */
+   public static double[] diff ( final double a[], final double out[] ) {
+      final int n = Math.max( a.length - 1, 0 );
+      if ( out != a && out.length != n ) {
+         String s = "diff: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
+      if ( out == a || !Parallel.isParallel(n) ) {
 
+         // In place, each difference must be formed before the element
+         // it overwrites is needed, so work from the front serially
+         for ( int i = 0; i < n; i++ ) {
+            out[i] = a[i+1] - a[i];
+         }
+      }
       else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isGreaterThan: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] > b[i][j];
+         Parallel.forRange( n, new Parallel.Loop() {
+            void run( int from, int to ) {
+               for ( int i = from; i < to; i++ ) {
+                  out[i] = a[i+1] - a[i];
+               }
             }
-         }
+         } );
       }
-      return res;
+      return out;
    }
 
 
+   //******************************************************
+   //  element-by-element division methods
+   //******************************************************
+
    /**
-    * Returns the element-by-element ">" comparision of two
-    * 2-D float arrays.
+    * Returns the element-by-element division of two 1-D int arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> > <tt>b[i][j]</tt>.
+    * @return  an array whose elements are <tt>a[i] / b[i]</tt>
     */
-   public static boolean[][] isGreaterThan ( float a[][], float b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static int[] div ( int a[], int b[] ) {
+
+      int div[] = new int[a.length];
 
-      // Check for incompatibilities in the first dimension
       if ( a.length != b.length ) {
-         String s = "isGreaterThan: Incompatible array lengths";
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
       else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isGreaterThan: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] > b[i][j];
-            }
-         }
+         for ( int i = 0; i < a.length; i++ )
+            div[i] = a[i] / b[i];
       }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element ">" comparision of two
-    * 2-D double arrays.
+    * Returns the element-by-element division of two 1-D long arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> > <tt>b[i][j]</tt>.
+    * @return  an array whose elements are <tt>a[i] / b[i]</tt>
     */
-   public static boolean[][] isGreaterThan ( double a[][], double b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static long[] div ( long a[], long b[] ) {
+
+      long div[] = new long[a.length];
 
-      // Check for incompatibilities in the first dimension
       if ( a.length != b.length ) {
-         String s = "isGreaterThan: Incompatible array lengths";
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
       else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isGreaterThan: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] > b[i][j];
-            }
-         }
+         for ( int i = 0; i < a.length; i++ )
+            div[i] = a[i] / b[i];
       }
-      return res;
+      return div;
    }
 
 
-   //******************************************************
-   //  isGreaterThanOrEqual methods
-   //******************************************************
-
    /**
-    * Returns the element-by-element ">=" comparision of two
-    * 1-D int arrays.
+    * Returns the element-by-element division of two 1-D float arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> >= <tt>b[i]</tt>.
+    * @return  an array whose elements are <tt>a[i] / b[i]</tt>
     */
-   public static boolean[] isGreaterThanOrEqual ( int a[], int b[] ) {
+   public static float[] div ( float a[], float b[] ) {
 
-      boolean res[] = new boolean[a.length];
+      float div[] = new float[a.length];
 
       if ( a.length != b.length ) {
-         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
       else {
          for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] >= b[i];
+            div[i] = (float) (a[i] / b[i]);
       }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element ">=" comparision of two
-    * 1-D long arrays.
+    * Returns the element-by-element division of two 1-D double arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> >= <tt>b[i]</tt>.
+    * @return  an array whose elements are <tt>a[i] / b[i]</tt>
     */
-   public static boolean[] isGreaterThanOrEqual ( long a[], long b[] ) {
+   public static double[] div ( double a[], double b[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).div( ArrayExpr.of(b) ).eval();
+      }
 
-      boolean res[] = new boolean[a.length];
+      double div[] = new double[a.length];
 
       if ( a.length != b.length ) {
-         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
       else {
          for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] >= b[i];
+            div[i] = a[i] / b[i];
       }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element ">=" comparision of two
-    * 1-D float arrays.
+    * Returns the element-by-element division of two 1-D Complex arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> >= <tt>b[i]</tt>.
+    * @return  an array whose elements are <tt>a[i] / b[i]</tt>
     */
-   public static boolean[] isGreaterThanOrEqual ( float a[], float b[] ) {
+   public static Complex[] div ( Complex a[], Complex b[] ) {
 
-      boolean res[] = new boolean[a.length];
+      Complex div[] = new Complex[a.length];
 
       if ( a.length != b.length ) {
-         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
       else {
          for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] >= b[i];
+            div[i] = a[i].div(b[i]);
       }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element ">=" comparision of two
-    * 1-D double arrays.
+    * Returns the element-by-element division of two 2-D int arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> >= <tt>b[i]</tt>.
+    * @return  an array whose elements are <tt>a[i][j] / b[i][j]</tt>
     */
-   public static boolean[] isGreaterThanOrEqual ( double a[], double b[] ) {
-
-      boolean res[] = new boolean[a.length];
+   public static int[][] div ( int a[][], int b[][] ) {
+      int div[][] = new int[a.length][];
 
+      // Check for incompatibilities in the first dimension
       if ( a.length != b.length ) {
-         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
       else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] >= b[i];
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "div: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            div[i] = new int[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               div[i][j] = a[i][j] / b[i][j];
+            }
+         }
       }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element ">=" comparision of two
-    * 2-D int arrays.
+    * Returns the element-by-element division of two 2-D long arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> >= <tt>b[i][j]</tt>.
+    * @return  an array whose elements are <tt>a[i][j] / b[i][j]</tt>
     */
-   public static boolean[][] isGreaterThanOrEqual ( int a[][], int b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static long[][] div ( long a[][], long b[][] ) {
+      long div[][] = new long[a.length][];
 
       // Check for incompatibilities in the first dimension
       if ( a.length != b.length ) {
-         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
@@ -2212,34 +2887,32 @@ public final class Array {
          for ( int i = 0; i < a.length; i++ ) {
             // Check for incompatibilities in the second dimension
             if ( a[i].length != b[i].length ) {
-               String s = "isGreaterThanOrEqual: Incompatible array lengths";
+               String s = "div: Incompatible array lengths";
                throw new InvalidArraySizeException(s);
             }
-            res[i] = new boolean[a[i].length];
+            div[i] = new long[a[i].length];
             for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] >= b[i][j];
+               div[i][j] = a[i][j] / b[i][j];
             }
          }
       }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element ">=" comparision of two
-    * 2-D long arrays.
+    * Returns the element-by-element division of two 2-D float arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> >= <tt>b[i][j]</tt>.
+    * @return  an array whose elements are <tt>a[i][j] / b[i][j]</tt>
     */
-   public static boolean[][] isGreaterThanOrEqual ( long a[][], long b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static float[][] div ( float a[][], float b[][] ) {
+      float div[][] = new float[a.length][];
 
       // Check for incompatibilities in the first dimension
       if ( a.length != b.length ) {
-         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
@@ -2247,34 +2920,32 @@ public final class Array {
          for ( int i = 0; i < a.length; i++ ) {
             // Check for incompatibilities in the second dimension
             if ( a[i].length != b[i].length ) {
-               String s = "isGreaterThanOrEqual: Incompatible array lengths";
+               String s = "div: Incompatible array lengths";
                throw new InvalidArraySizeException(s);
             }
-            res[i] = new boolean[a[i].length];
+            div[i] = new float[a[i].length];
             for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] >= b[i][j];
+               div[i][j] = a[i][j] / b[i][j];
             }
          }
       }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element ">=" comparision of two
-    * 2-D float arrays.
+    * Returns the element-by-element division of two 2-D double arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> >= <tt>b[i][j]</tt>.
+    * @return  an array whose elements are <tt>a[i][j] / b[i][j]</tt>
     */
-   public static boolean[][] isGreaterThanOrEqual ( float a[][], float b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static double[][] div ( double a[][], double b[][] ) {
+      double div[][] = new double[a.length][];
 
       // Check for incompatibilities in the first dimension
       if ( a.length != b.length ) {
-         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
@@ -2282,34 +2953,32 @@ public final class Array {
          for ( int i = 0; i < a.length; i++ ) {
             // Check for incompatibilities in the second dimension
             if ( a[i].length != b[i].length ) {
-               String s = "isGreaterThanOrEqual: Incompatible array lengths";
+               String s = "div: Incompatible array lengths";
                throw new InvalidArraySizeException(s);
             }
-            res[i] = new boolean[a[i].length];
+            div[i] = new double[a[i].length];
             for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] >= b[i][j];
+               div[i][j] = a[i][j] / b[i][j];
             }
          }
       }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element ">=" comparision of two
-    * 2-D double arrays.
+    * Returns the element-by-element division of two 2-D Complex arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> >= <tt>b[i][j]</tt>.
+    * @return  an array whose elements are <tt>a[i][j] / b[i][j]</tt>
     */
-   public static boolean[][] isGreaterThanOrEqual ( double a[][], double b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static Complex[][] div ( Complex a[][], Complex b[][] ) {
+      Complex div[][] = new Complex[a.length][];
 
       // Check for incompatibilities in the first dimension
       if ( a.length != b.length ) {
-         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
@@ -2317,4157 +2986,12553 @@ public final class Array {
          for ( int i = 0; i < a.length; i++ ) {
             // Check for incompatibilities in the second dimension
             if ( a[i].length != b[i].length ) {
-               String s = "isGreaterThanOrEqual: Incompatible array lengths";
+               String s = "div: Incompatible array lengths";
                throw new InvalidArraySizeException(s);
             }
-            res[i] = new boolean[a[i].length];
+            div[i] = new Complex[a[i].length];
             for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] >= b[i][j];
+               div[i][j] = a[i][j].div(b[i][j]);
             }
          }
       }
-      return res;
+      return div;
    }
 
 
-   //******************************************************
-   //  isLessThan methods
-   //******************************************************
-
    /**
-    * Returns the element-by-element "<" comparision of two
-    * 1-D int arrays.
+    * Returns the element-by-element quotient of two <tt>ComplexArray</tt> arrays.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> < <tt>b[i]</tt>.
+    * @return  an array whose elements are the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isLessThan ( int a[], int b[] ) {
+   public static ComplexArray div ( ComplexArray a, ComplexArray b ) {
 
-      boolean res[] = new boolean[a.length];
+      ComplexArray div = new ComplexArray(a.length());
 
-      if ( a.length != b.length ) {
-         String s = "isLessThan: Incompatible array lengths";
+      if ( a.length() != b.length() ) {
+         String s = "div: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
       else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] < b[i];
+         ComplexArray.div( a.getRe(), a.getIm(), b.getRe(), b.getIm(),
+                           div.getRe(), div.getIm(), 0, a.length() );
       }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element "<" comparision of two
-    * 1-D long arrays.
+    * Returns the element-by-element quotient of two <tt>NDArray</tt> arrays
+    * of the same shape.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> < <tt>b[i]</tt>.
+    * @return  an array whose elements are the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isLessThan ( long a[], long b[] ) {
-
-      boolean res[] = new boolean[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "isLessThan: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] < b[i];
-      }
-      return res;
+   public static NDArray div ( NDArray a, NDArray b ) {
+      return a.div(b);
    }
 
 
+   //******************************************************
+   //  divide array-by-scalar methods
+   //******************************************************
+
    /**
-    * Returns the element-by-element "<" comparision of two
-    * 1-D float arrays.
+    * Returns the division of a 1-D int array by a scalar.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> < <tt>b[i]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar.
+    * @return  an array whose elements are <tt>a[i] / b</tt>
     */
-   public static boolean[] isLessThan ( float a[], float b[] ) {
+   public static int[] div ( int a[], int b ) {
 
-      boolean res[] = new boolean[a.length];
+      int div[] = new int[a.length];
 
-      if ( a.length != b.length ) {
-         String s = "isLessThan: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+      for ( int i = 0; i < a.length; i++ )
+         div[i] = a[i] / b;
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] < b[i];
-      }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element "<" comparision of two
-    * 1-D double arrays.
+    * Returns the division of a 1-D long array by a scalar.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> < <tt>b[i]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar.
+    * @return  an array whose elements are <tt>a[i] / b</tt>
     */
-   public static boolean[] isLessThan ( double a[], double b[] ) {
+   public static long[] div ( long a[], long b ) {
 
-      boolean res[] = new boolean[a.length];
+      long div[] = new long[a.length];
 
-      if ( a.length != b.length ) {
-         String s = "isLessThan: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+      for ( int i = 0; i < a.length; i++ )
+         div[i] = a[i] / b;
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] < b[i];
-      }
-      return res;
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element "<" comparision of two
-    * 2-D int arrays.
+    * Returns the division of a 1-D float array by a scalar.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> < <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar.
+    * @return  an array whose elements are <tt>a[i] / b</tt>
     */
-   public static boolean[][] isLessThan ( int a[][], int b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static float[] div ( float a[], float b ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isLessThan: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+      float div[] = new float[a.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isLessThan: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] < b[i][j];
-            }
-         }
+      for ( int i = 0; i < a.length; i++ )
+         div[i] = (float) (a[i] / b);
+
+      return div;
+   }
+
+
+   /**
+    * Returns the division of a 1-D double array by a scalar.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar.
+    * @return  an array whose elements are <tt>a[i] / b</tt>
+    */
+   public static double[] div ( double a[], double b ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).div(b).eval();
       }
-      return res;
+
+      double div[] = new double[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         div[i] = a[i] / b;
+
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element "<" comparision of two
-    * 2-D long arrays.
+    * Returns the division of a 1-D Complex array by a scalar.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> < <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar.
+    * @return  an array whose elements are <tt>a[i] / b</tt>
     */
-   public static boolean[][] isLessThan ( long a[][], long b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static Complex[] div ( Complex a[], double b ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isLessThan: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+      Complex div[] = new Complex[a.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isLessThan: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] < b[i][j];
-            }
-         }
-      }
-      return res;
+      for ( int i = 0; i < a.length; i++ )
+         div[i] = a[i].div(b);
+
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element "<" comparision of two
-    * 2-D float arrays.
+    * Returns the division of a 1-D Complex array by a scalar.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> < <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar.
+    * @return  an array whose elements are <tt>a[i] / b</tt>
     */
-   public static boolean[][] isLessThan ( float a[][], float b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static Complex[] div ( Complex a[], Complex b ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isLessThan: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+      Complex div[] = new Complex[a.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isLessThan: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] < b[i][j];
-            }
-         }
-      }
-      return res;
+      for ( int i = 0; i < a.length; i++ )
+         div[i] = a[i].div(b);
+
+      return div;
    }
 
 
    /**
-    * Returns the element-by-element "<" comparision of two
-    * 2-D double arrays.
+    * Returns the quotient of a 1-D <tt>ComplexArray</tt> and a <tt>double</tt> scalar.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> < <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  an array whose elements are the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] isLessThan ( double a[][], double b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static ComplexArray div ( ComplexArray a, double b ) {
+      return ((ComplexArray) a.clone()).divAssign(b);
+   }
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isLessThan: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isLessThan: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] < b[i][j];
-            }
-         }
-      }
-      return res;
+   /**
+    * Returns the quotient of a 1-D <tt>ComplexArray</tt> and a <tt>Complex</tt> scalar.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  an array whose elements are the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray div ( ComplexArray a, Complex b ) {
+      return ((ComplexArray) a.clone()).divAssign(b);
+   }
+
+
+   /**
+    * Returns the quotient of an <tt>NDArray</tt> and a <tt>double</tt> scalar.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  an array whose elements are the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static NDArray div ( NDArray a, double b ) {
+      return a.div(b);
    }
 
 
    //******************************************************
-   //  isLessThanOrEqual methods
+   //  divInto output-buffer methods
    //******************************************************
 
    /**
-    * Returns the element-by-element "<=" comparision of two
-    * 1-D int arrays.
+    * Calculates the element-by-element quotient of two 1-D int arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> <= <tt>b[i]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isLessThanOrEqual ( int a[], int b[] ) {
+   public static int[] divInto ( int a[], int b[], int out[] ) {
 
-      boolean res[] = new boolean[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "isLessThanOrEqual: Incompatible array lengths";
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] <= b[i];
-      }
-      return res;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] / b[i];
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "<=" comparision of two
-    * 1-D long arrays.
+    * Calculates the element-by-element quotient of two 1-D long arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> <= <tt>b[i]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isLessThanOrEqual ( long a[], long b[] ) {
-
-      boolean res[] = new boolean[a.length];
+   public static long[] divInto ( long a[], long b[], long out[] ) {
 
-      if ( a.length != b.length ) {
-         String s = "isLessThanOrEqual: Incompatible array lengths";
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] <= b[i];
-      }
-      return res;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] / b[i];
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "<=" comparision of two
-    * 1-D float arrays.
+    * Calculates the element-by-element quotient of two 1-D float arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> <= <tt>b[i]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isLessThanOrEqual ( float a[], float b[] ) {
-
-      boolean res[] = new boolean[a.length];
+   public static float[] divInto ( float a[], float b[], float out[] ) {
 
-      if ( a.length != b.length ) {
-         String s = "isLessThanOrEqual: Incompatible array lengths";
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] <= b[i];
-      }
-      return res;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] / b[i];
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "<=" comparision of two
-    * 1-D double arrays.
+    * Calculates the element-by-element quotient of two 1-D double arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> <= <tt>b[i]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isLessThanOrEqual ( double a[], double b[] ) {
-
-      boolean res[] = new boolean[a.length];
+   public static double[] divInto ( double a[], double b[], double out[] ) {
 
-      if ( a.length != b.length ) {
-         String s = "isLessThanOrEqual: Incompatible array lengths";
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] <= b[i];
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).div( ArrayExpr.of(b) ).eval( out );
       }
-      return res;
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] / b[i];
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "<=" comparision of two
-    * 2-D int arrays.
+    * Calculates the element-by-element quotient of two 1-D Complex arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> <= <tt>b[i][j]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] isLessThanOrEqual ( int a[][], int b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static Complex[] divInto ( Complex a[], Complex b[], Complex out[] ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isLessThanOrEqual: Incompatible array lengths";
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isLessThanOrEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] <= b[i][j];
-            }
-         }
-      }
-      return res;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].div(b[i]);
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "<=" comparision of two
-    * 2-D long arrays.
+    * Calculates the element-by-element quotient of two 2-D int arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> <= <tt>b[i][j]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] isLessThanOrEqual ( long a[][], long b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static int[][] divInto ( int a[][], int b[][], int out[][] ) {
 
       // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isLessThanOrEqual: Incompatible array lengths";
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isLessThanOrEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] <= b[i][j];
-            }
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "divInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] / b[i][j];
          }
       }
-      return res;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "<=" comparision of two
-    * 2-D float arrays.
+    * Calculates the element-by-element quotient of two 2-D long arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> <= <tt>b[i][j]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] isLessThanOrEqual ( float a[][], float b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static long[][] divInto ( long a[][], long b[][], long out[][] ) {
 
       // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isLessThanOrEqual: Incompatible array lengths";
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isLessThanOrEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] <= b[i][j];
-            }
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "divInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] / b[i][j];
          }
       }
-      return res;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "<=" comparision of two
-    * 2-D double arrays.
+    * Calculates the element-by-element quotient of two 2-D float arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> <= <tt>b[i][j]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] isLessThanOrEqual ( double a[][], double b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static float[][] divInto ( float a[][], float b[][], float out[][] ) {
 
       // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isLessThanOrEqual: Incompatible array lengths";
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isLessThanOrEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] <= b[i][j];
-            }
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "divInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] / b[i][j];
          }
       }
-      return res;
+      return out;
    }
 
 
-   //******************************************************
-   //  isNotEqual methods
-   //******************************************************
-
    /**
-    * Returns the element-by-element "!=" comparision of two
-    * 1-D int arrays.
+    * Calculates the element-by-element quotient of two 2-D double arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> != <tt>b[i]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isNotEqual ( int a[], int b[] ) {
-
-      boolean res[] = new boolean[a.length];
+   public static double[][] divInto ( double a[][], double b[][], double out[][] ) {
 
-      if ( a.length != b.length ) {
-         String s = "isNotEqual: Incompatible array lengths";
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] != b[i];
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "divInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] / b[i][j];
+         }
       }
-      return res;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "!=" comparision of two
-    * 1-D long arrays.
+    * Calculates the element-by-element quotient of two 2-D Complex arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> != <tt>b[i]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isNotEqual ( long a[], long b[] ) {
-
-      boolean res[] = new boolean[a.length];
+   public static Complex[][] divInto ( Complex a[][], Complex b[][], Complex out[][] ) {
 
-      if ( a.length != b.length ) {
-         String s = "isNotEqual: Incompatible array lengths";
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] != b[i];
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "divInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j].div(b[i][j]);
+         }
       }
-      return res;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "!=" comparision of two
-    * 1-D float arrays.
+    * Calculates the element-by-element quotient of two <tt>ComplexArray</tt> arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.  No objects are created.
     *
     * @param   a   input array 1.
     * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> != <tt>b[i]</tt>.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isNotEqual ( float a[], float b[] ) {
+   public static ComplexArray divInto ( ComplexArray a, ComplexArray b, ComplexArray out ) {
 
-      boolean res[] = new boolean[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "isNotEqual: Incompatible array lengths";
+      if ( a.length() != b.length() || a.length() != out.length() ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] != b[i];
-      }
-      return res;
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double br[] = b.getRe(), bi[] = b.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      ComplexArray.div( ar, ai, br, bi, zr, zi, 0, ar.length );
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "!=" comparision of two
-    * 1-D double arrays.
+    * Divides a 1-D int array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> != <tt>b[i]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isNotEqual ( double a[], double b[] ) {
-
-      boolean res[] = new boolean[a.length];
+   public static int[] divInto ( int a[], int b, int out[] ) {
 
-      if ( a.length != b.length ) {
-         String s = "isNotEqual: Incompatible array lengths";
+      if ( a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = a[i] != b[i];
-      }
-      return res;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] / b;
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "!=" comparision of two
-    * 1-D <code>Complex</code> arrays.
+    * Divides a 1-D long array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[] isNotEqual ( Complex a[], Complex b[] ) {
+   public static long[] divInto ( long a[], long b, long out[] ) {
 
-      boolean res[] = new boolean[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "isEqual: Incompatible array lengths";
+      if ( a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            res[i] = ! a[i].equals(b[i]);
-      }
-      return res;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] / b;
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "!=" comparision of two
-    * 2-D int arrays.
+    * Divides a 1-D float array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> != <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] isNotEqual ( int a[][], int b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static float[] divInto ( float a[], float b, float out[] ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isNotEqual: Incompatible array lengths";
+      if ( a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isNotEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] != b[i][j];
-            }
-         }
-      }
-      return res;
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] / b;
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "!=" comparision of two
-    * 2-D long arrays.
+    * Divides a 1-D double array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> != <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] isNotEqual ( long a[][], long b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static double[] divInto ( double a[], double b, double out[] ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isNotEqual: Incompatible array lengths";
+      if ( a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isNotEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] != b[i][j];
-            }
-         }
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).div(b).eval( out );
       }
-      return res;
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] / b;
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "!=" comparision of two
-    * 2-D float arrays.
+    * Divides a 1-D Complex array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> != <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] isNotEqual ( float a[][], float b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static Complex[] divInto ( Complex a[], double b, Complex out[] ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isNotEqual: Incompatible array lengths";
+      if ( a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isNotEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] != b[i][j];
-            }
-         }
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].div(b);
+
+      return out;
+   }
+
+
+   /**
+    * Divides a 1-D Complex array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] divInto ( Complex a[], Complex b, Complex out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "divInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return res;
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].div(b);
+
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "!=" comparision of two
-    * 2-D double arrays.
+    * Divides a 1-D <tt>ComplexArray</tt> by a scalar value of type <tt>double</tt>,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.  No objects are created.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> != <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] isNotEqual ( double a[][], double b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static ComplexArray divInto ( ComplexArray a, double b, ComplexArray out ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isNotEqual: Incompatible array lengths";
+      if ( a.length() != out.length() ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isNotEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = a[i][j] != b[i][j];
-            }
-         }
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      for ( int i = 0; i < ar.length; i++ ) {
+         zr[i] = ar[i] / b;
+         zi[i] = ai[i] / b;
       }
-      return res;
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element "!=" comparision of two
-    * 2-D <code>Complex</code> arrays.
+    * Divides a 1-D <tt>ComplexArray</tt> by a scalar value of type <tt>Complex</tt>,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.  No objects are created.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are <code>true</code>
-    *          if <tt>a[i][j]</tt> != <tt>b[i][j]</tt>.
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the quotient of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
     */
-   public static boolean[][] isNotEqual ( Complex a[][], Complex b[][] ) {
-      boolean res[][] = new boolean[a.length][];
+   public static ComplexArray divInto ( ComplexArray a, Complex b, ComplexArray out ) {
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "isNotEqual: Incompatible array lengths";
+      if ( a.length() != out.length() ) {
+         String s = "divInto: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "isNotEqual: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            res[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               res[i][j] = ! a[i][j].equals(b[i][j]);
-            }
-         }
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      // Multiply by the reciprocal, which is calculated only once
+      Complex c = b.inv();
+      double br = c.re(), bi = c.im();
+      double xr, xi;
+      for ( int i = 0; i < ar.length; i++ ) {
+         xr = ar[i];
+         xi = ai[i];
+         zr[i] = (xr*br) - (xi*bi);
+         zi[i] = (xr*bi) + (xi*br);
       }
-      return res;
+      return out;
    }
 
 
    //******************************************************
-   //  maxAbs methods
+   //  dotProduct methods
    //******************************************************
 
-
    /**
-    * Returns the maximum absolute value of any element in an array.
+    * Returns the dot product of two 1-D arrays.
     *
-    * @param   a   input array.
-    * @return  the maximum absolute value of <tt>a[i]</tt>
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
     */
-   public static int maxAbs ( int a[] ) {
-      int iloc = 0;
-      int maxAbs = Math.abs(a[0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         if (Math.abs(a[i]) > maxAbs) {
-            iloc = i;
-            maxAbs = Math.abs(a[i]);
-         }
+   public static int dotProduct ( int a[], int b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelDotProduct( a, b );
       }
-      return maxAbs;
+
+      int product = 0;
+      if ( a.length != b.length ) {
+         String s = "dotProduct: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            product += a[i] * b[i];
+      }
+      return product;
    }
 
 
    /**
-    * Returns the maximum absolute value of any element in an array.
+    * Returns the dot product of two 1-D arrays.
     *
-    * @param   a   input array.
-    * @return  the maximum absolute value of <tt>a[i]</tt>
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
     */
-   public static long maxAbs ( long a[] ) {
-      int iloc = 0;
-      long maxAbs = Math.abs(a[0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         if (Math.abs(a[i]) > maxAbs) {
-            iloc = i;
-            maxAbs = Math.abs(a[i]);
-         }
+   public static long dotProduct ( long a[], long b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelDotProduct( a, b );
       }
-      return maxAbs;
+
+      long product = 0;
+      if ( a.length != b.length ) {
+         String s = "dotProduct: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            product += a[i] * b[i];
+      }
+      return product;
    }
 
 
    /**
-    * Returns the maximum absolute value of any element in an array.
+    * Returns the dot product of two 1-D arrays.
     *
-    * @param   a   input array.
-    * @return  the maximum absolute value of <tt>a[i]</tt>
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
     */
-   public static float maxAbs ( float a[] ) {
-      int iloc = 0;
-      float maxAbs = Math.abs(a[0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         if (Math.abs(a[i]) > maxAbs) {
-            iloc = i;
-            maxAbs = Math.abs(a[i]);
-         }
+   public static float dotProduct ( float a[], float b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelDotProduct( a, b );
       }
-      return maxAbs;
+
+      float product = 0;
+      if ( a.length != b.length ) {
+         String s = "dotProduct: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            product += a[i] * b[i];
+      }
+      return product;
    }
 
 
    /**
-    * Returns the maximum absolute value of any element in an array.
+    * Returns the dot product of two 1-D arrays.
     *
-    * @param   a   input array.
-    * @return  the maximum absolute value of <tt>a[i]</tt>
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
     */
-   public static double maxAbs ( double a[] ) {
-      int iloc = 0;
-      double maxAbs = Math.abs(a[0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         if (Math.abs(a[i]) > maxAbs) {
-            iloc = i;
-            maxAbs = Math.abs(a[i]);
-         }
+   public static double dotProduct ( double a[], double b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelDotProduct( a, b );
       }
-      return maxAbs;
+
+      double product = 0;
+      if ( a.length != b.length ) {
+         String s = "dotProduct: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            product += a[i] * b[i];
+      }
+      return product;
    }
 
 
    /**
-    * Returns the maximum absolute value of any element in an array.
+    * Returns the dot product of two 1-D arrays.
     *
-    * @param   a   input array.
-    * @return  the maximum absolute value of <tt>a[i]</tt>
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
     */
-   public static double maxAbs ( Complex a[] ) {
-      int iloc = 0;
-     double test;
-      double maxAbs = Complex.abs(a[0]);
-      for ( int i = 0; i < a.length; i++ ) {
-        test = Complex.abs(a[i]);
-         if (test > maxAbs) {
-            iloc = i;
-            maxAbs = test;
-         }
+   public static Complex dotProduct ( Complex a[], Complex b[] ) {
+
+      MutableComplex product = new MutableComplex(0.0, 0.0);
+      if ( a.length != b.length ) {
+         String s = "dotProduct: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return maxAbs;
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            product.addProduct( a[i], b[i] );
+      }
+      return product.toComplex();
    }
 
 
    /**
-    * Returns the maximum absolute value of any element in an array.
+    * Returns the dot product of two 1-D <tt>ComplexArray</tt> arrays.
     *
-    * @param   a   input array.
-    * @return  the maximum absolute value of <tt>a[i][j]</tt>
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
     */
-   public static int maxAbs ( int a[][] ) {
-      int iloc = 0;
-      int maxAbs = Math.abs(a[0][0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (Math.abs(a[i][j]) > maxAbs) {
-               iloc = i;
-               maxAbs = Math.abs(a[i][j]);
-            }
+   public static Complex dotProduct ( ComplexArray a, ComplexArray b ) {
+
+      double productRe = 0, productIm = 0;
+      if ( a.length() != b.length() ) {
+         String s = "dotProduct: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         double ar[] = a.getRe(), ai[] = a.getIm();
+         double br[] = b.getRe(), bi[] = b.getIm();
+         for ( int i = 0; i < ar.length; i++ ) {
+            productRe += (ar[i]*br[i]) - (ai[i]*bi[i]);
+            productIm += (ar[i]*bi[i]) + (ai[i]*br[i]);
          }
       }
-      return maxAbs;
+      return Complex.complex( productRe, productIm );
    }
 
 
+   //******************************************************
+   //  dotProduct (summation mode) methods
+   //******************************************************
+
    /**
-    * Returns the maximum absolute value of any element in an array.
+    * Returns the dot product of two 1-D arrays, accumulated with the
+    * specified summation method.  With <tt>SUM_KAHAN</tt>, the rounding
+    * errors of the additions are compensated, but not those of the
+    * individual products.
     *
-    * @param   a   input array.
-    * @return  the maximum absolute value of <tt>a[i][j]</tt>
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   mode   summation method: <tt>SUM_NAIVE</tt>,
+    *                 <tt>SUM_PAIRWISE</tt>, or <tt>SUM_KAHAN</tt>.
+    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
+    * @exception <code>IllegalArgumentException</code> if <code>mode</code>
+    *            is not a valid summation method
     */
-   public static long maxAbs ( long a[][] ) {
-      int iloc = 0;
-      long maxAbs = Math.abs(a[0][0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (Math.abs(a[i][j]) > maxAbs) {
-               iloc = i;
-               maxAbs = Math.abs(a[i][j]);
-            }
-         }
+   public static float dotProduct ( float a[], float b[], int mode ) {
+
+      if ( a.length != b.length ) {
+         String s = "dotProduct: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return maxAbs;
+      return modeSum( a, b, null, mode, "dotProduct" );
    }
 
 
    /**
-    * Returns the maximum absolute value of any element in an array.
+    * Returns the dot product of two 1-D arrays, accumulated with the
+    * specified summation method.  With <tt>SUM_KAHAN</tt>, the rounding
+    * errors of the additions are compensated, but not those of the
+    * individual products.
     *
-    * @param   a   input array.
-    * @return  the maximum absolute value of <tt>a[i][j]</tt>
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   mode   summation method: <tt>SUM_NAIVE</tt>,
+    *                 <tt>SUM_PAIRWISE</tt>, or <tt>SUM_KAHAN</tt>.
+    * @return  the dot product of <tt>a</tt> and <tt>b</tt>
+    * @exception <code>IllegalArgumentException</code> if <code>mode</code>
+    *            is not a valid summation method
     */
-   public static float maxAbs ( float a[][] ) {
-      int iloc = 0;
-      float maxAbs = Math.abs(a[0][0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (Math.abs(a[i][j]) > maxAbs) {
-               iloc = i;
-               maxAbs = Math.abs(a[i][j]);
-            }
-         }
+   public static double dotProduct ( double a[], double b[], int mode ) {
+
+      if ( a.length != b.length ) {
+         String s = "dotProduct: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return maxAbs;
+      return modeSum( a, b, null, mode, "dotProduct" );
    }
 
 
+   //******************************************************
+   //  find methods
+   //******************************************************
+
    /**
-    * Returns the maximum absolute value of any element in an array.
-    *
-    * @param   a   input array.
-    * @return  the maximum absolute value of <tt>a[i][j]</tt>
-    */
-   public static double maxAbs ( double a[][] ) {
-      int iloc = 0;
-      double maxAbs = Math.abs(a[0][0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (Math.abs(a[i][j]) > maxAbs) {
-               iloc = i;
-               maxAbs = Math.abs(a[i][j]);
+    * Returns the indices of the <tt>true</tt> elements of a
+    * mask, in increasing order.  For large masks, the indices
+    * of each block are found in parallel.
+    *
+    * @param   mask   input mask.
+    * @return  a new array holding each <tt>i</tt> for which
+    *          <tt>mask[i]</tt> is <tt>true</tt>
+    */
+   public static int[] find ( final boolean mask[] ) {
+      if ( Parallel.isParallel(mask.length) ) {
+         final int pos[] = maskOffsets( mask );
+         final int c[] = new int[ pos[pos.length-1] ];
+         Parallel.forBlocks( mask.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int i = from; i < to; i++ ) {
+                  if ( mask[i] )
+                     c[j++] = i;
+               }
             }
-         }
+         } );
+         return c;
       }
-      return maxAbs;
+      int c[] = new int[ count(mask) ];
+      int j = 0;
+      for ( int i = 0; i < mask.length; i++ ) {
+         if ( mask[i] )
+            c[j++] = i;
+      }
+      return c;
    }
 
 
    /**
-    * Returns the maximum absolute value of any element in an array.
+    * Returns the indices of the <tt>true</tt> elements of a
+    * bitset mask, in increasing order.
     *
-    * @param   a   input array.
-    * @return  the maximum absolute value of <tt>a[i][j]</tt>
+    * @param   mask   input mask.
+    * @return  a new array holding each <tt>i</tt> for which
+    *          <tt>mask.get(i)</tt> is <tt>true</tt>
     */
-   public static double maxAbs ( Complex a[][] ) {
-      int iloc = 0;
-      double maxAbs = Complex.abs(a[0][0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (Complex.abs(a[i][j]) > maxAbs) {
-               iloc = i;
-               maxAbs = Complex.abs(a[i][j]);
+   public static int[] find ( BitMask mask ) {
+      final long w[] = mask.words();
+      if ( Parallel.isParallel(mask.length()) ) {
+         final int pos[] = maskOffsets( mask );
+         final int c[] = new int[ pos[pos.length-1] ];
+         Parallel.forBlocks( mask.length(), new Parallel.Loop() {
+            void run( int from, int to ) {
+               int j = pos[from / Parallel.BLOCK];
+               for ( int k = from >>> 6; k < (to + 63) >>> 6; k++ ) {
+                  for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+                     c[j++] = (k << 6) + Long.numberOfTrailingZeros(bits);
+               }
             }
-         }
+         } );
+         return c;
       }
-      return maxAbs;
+      int c[] = new int[ mask.count() ];
+      int j = 0;
+      for ( int k = 0; k < w.length; k++ ) {
+         for ( long bits = w[k]; bits != 0L; bits &= bits - 1 )
+            c[j++] = (k << 6) + Long.numberOfTrailingZeros(bits);
+      }
+      return c;
    }
 
 
    //******************************************************
-   //  maxAbsLoc methods
+   //  gather methods
    //******************************************************
 
    /**
-    * Returns the index of the element having the maximum
-    * absolute value of any element in an array.
+    * Returns the elements of an array at a list of indices,
+    * so that <tt>c[i] = a[index[i]]</tt>.  Indices may be
+    * repeated and may appear in any order.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          absolute value of all <tt>a[i]</tt>
+    * @param   a       input array.
+    * @param   index   indices of the elements to select.
+    * @return  a new array holding the selected elements
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the array.
     */
-   public static int maxAbsLoc ( int a[] ) {
-      int iloc = 0;
-      int maxVal = Math.abs(a[0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         if (Math.abs(a[i]) > maxVal) {
-            iloc = i;
-            maxVal = Math.abs(a[i]);
-         }
-      }
-      return iloc;
+   public static int[] gather ( int a[], int index[] ) {
+      return gather( a, index, new int[index.length] );
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * absolute value of any element in an array.
+    * Stores the elements of an array at a list of indices
+    * into an output array, so that <tt>c[i] = a[index[i]]</tt>.
+    * For large index arrays, the copy runs in parallel.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          absolute value of all <tt>a[i]</tt>
+    * @param   a       input array.
+    * @param   index   indices of the elements to select.
+    * @param   c       output array, of the same length as
+    *                  <tt>index</tt>.
+    * @return  the output array <tt>c</tt>
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the array.
     */
-   public static int maxAbsLoc ( long a[] ) {
-      int iloc = 0;
-      long maxVal = Math.abs(a[0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         if (Math.abs(a[i]) > maxVal) {
-            iloc = i;
-            maxVal = Math.abs(a[i]);
-         }
+   public static int[] gather ( final int a[], final int index[], final int c[] ) {
+      if ( index.length != c.length ) {
+         String s = "gather: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return iloc;
+      Parallel.forRange( index.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = a[index[i]];
+         }
+      } );
+      return c;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * absolute value of any element in an array.
+    * Returns the elements of an array at a list of indices,
+    * so that <tt>c[i] = a[index[i]]</tt>.  Indices may be
+    * repeated and may appear in any order.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          absolute value of all <tt>a[i]</tt>
+    * @param   a       input array.
+    * @param   index   indices of the elements to select.
+    * @return  a new array holding the selected elements
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the array.
     */
-   public static int maxAbsLoc ( float a[] ) {
-      int iloc = 0;
-      float maxVal = Math.abs(a[0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         if (Math.abs(a[i]) > maxVal) {
-            iloc = i;
-            maxVal = Math.abs(a[i]);
-         }
-      }
-      return iloc;
+   public static long[] gather ( long a[], int index[] ) {
+      return gather( a, index, new long[index.length] );
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * absolute value of any element in an array.
+    * Stores the elements of an array at a list of indices
+    * into an output array, so that <tt>c[i] = a[index[i]]</tt>.
+    * For large index arrays, the copy runs in parallel.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          absolute value of all <tt>a[i]</tt>
+    * @param   a       input array.
+    * @param   index   indices of the elements to select.
+    * @param   c       output array, of the same length as
+    *                  <tt>index</tt>.
+    * @return  the output array <tt>c</tt>
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the array.
     */
-   public static int maxAbsLoc ( double a[] ) {
-      int iloc = 0;
-      double maxVal = Math.abs(a[0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         if (Math.abs(a[i]) > maxVal) {
-            iloc = i;
-            maxVal = Math.abs(a[i]);
-         }
+   public static long[] gather ( final long a[], final int index[], final long c[] ) {
+      if ( index.length != c.length ) {
+         String s = "gather: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return iloc;
+      Parallel.forRange( index.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = a[index[i]];
+         }
+      } );
+      return c;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * absolute value of any element in an array.
+    * Returns the elements of an array at a list of indices,
+    * so that <tt>c[i] = a[index[i]]</tt>.  Indices may be
+    * repeated and may appear in any order.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          absolute value of all <tt>a[i]</tt>
+    * @param   a       input array.
+    * @param   index   indices of the elements to select.
+    * @return  a new array holding the selected elements
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the array.
     */
-   public static int maxAbsLoc ( Complex a[] ) {
-      int iloc = 0;
-      double maxVal = Complex.abs(a[0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         if (Complex.abs(a[i]) > maxVal) {
-            iloc = i;
-            maxVal = Complex.abs(a[i]);
-         }
-      }
-      return iloc;
+   public static float[] gather ( float a[], int index[] ) {
+      return gather( a, index, new float[index.length] );
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * absolute value of any element in an array.
+    * Stores the elements of an array at a list of indices
+    * into an output array, so that <tt>c[i] = a[index[i]]</tt>.
+    * For large index arrays, the copy runs in parallel.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          absolute value of all <tt>a[i][j]</tt>
+    * @param   a       input array.
+    * @param   index   indices of the elements to select.
+    * @param   c       output array, of the same length as
+    *                  <tt>index</tt>.
+    * @return  the output array <tt>c</tt>
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the array.
     */
-   public static int[] maxAbsLoc ( int a[][] ) {
-      int iloc[] = {0, 0};
-      int maxVal = Math.abs(a[0][0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (Math.abs(a[i][j]) > maxVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               maxVal = Math.abs(a[i][j]);
-            }
-         }
+   public static float[] gather ( final float a[], final int index[], final float c[] ) {
+      if ( index.length != c.length ) {
+         String s = "gather: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return iloc;
+      Parallel.forRange( index.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = a[index[i]];
+         }
+      } );
+      return c;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * absolute value of any element in an array.
+    * Returns the elements of an array at a list of indices,
+    * so that <tt>c[i] = a[index[i]]</tt>.  Indices may be
+    * repeated and may appear in any order.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          absolute value of all <tt>a[i][j]</tt>
+    * @param   a       input array.
+    * @param   index   indices of the elements to select.
+    * @return  a new array holding the selected elements
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the array.
     */
-   public static int[] maxAbsLoc ( long a[][] ) {
-      int iloc[] = {0, 0};
-      long maxVal = Math.abs(a[0][0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (Math.abs(a[i][j]) > maxVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               maxVal = Math.abs(a[i][j]);
-            }
-         }
-      }
-      return iloc;
+   public static double[] gather ( double a[], int index[] ) {
+      return gather( a, index, new double[index.length] );
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * absolute value of any element in an array.
+    * Stores the elements of an array at a list of indices
+    * into an output array, so that <tt>c[i] = a[index[i]]</tt>.
+    * For large index arrays, the copy runs in parallel.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          absolute value of all <tt>a[i][j]</tt>
+    * @param   a       input array.
+    * @param   index   indices of the elements to select.
+    * @param   c       output array, of the same length as
+    *                  <tt>index</tt>.
+    * @return  the output array <tt>c</tt>
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the array.
     */
-   public static int[] maxAbsLoc ( float a[][] ) {
-      int iloc[] = {0, 0};
-      float maxVal = Math.abs(a[0][0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (Math.abs(a[i][j]) > maxVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               maxVal = Math.abs(a[i][j]);
-            }
-         }
+   public static double[] gather ( final double a[], final int index[], final double c[] ) {
+      if ( index.length != c.length ) {
+         String s = "gather: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return iloc;
+      Parallel.forRange( index.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = a[index[i]];
+         }
+      } );
+      return c;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * absolute value of any element in an array.
+    * Returns the elements of an array at a list of indices,
+    * so that <tt>c[i] = a[index[i]]</tt>.  Indices may be
+    * repeated and may appear in any order.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          absolute value of all <tt>a[i][j]</tt>
+    * @param   a       input array.
+    * @param   index   indices of the elements to select.
+    * @return  a new array holding the selected elements
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the array.
     */
-   public static int[] maxAbsLoc ( double a[][] ) {
-      int iloc[] = {0, 0};
-      double maxVal = Math.abs(a[0][0]);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (Math.abs(a[i][j]) > maxVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               maxVal = Math.abs(a[i][j]);
-            }
-         }
-      }
-      return iloc;
+   public static Complex[] gather ( Complex a[], int index[] ) {
+      return gather( a, index, new Complex[index.length] );
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * absolute value of any element in an array.
+    * Stores the elements of an array at a list of indices
+    * into an output array, so that <tt>c[i] = a[index[i]]</tt>.
+    * For large index arrays, the copy runs in parallel.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          absolute value of all <tt>a[i][j]</tt>
+    * @param   a       input array.
+    * @param   index   indices of the elements to select.
+    * @param   c       output array, of the same length as
+    *                  <tt>index</tt>.
+    * @return  the output array <tt>c</tt>
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the array.
     */
-   public static int[] maxAbsLoc ( Complex a[][] ) {
-      int iloc[] = {0, 0};
-      double maxVal = Complex.abs(a[0][0]);
+   public static Complex[] gather ( final Complex a[], final int index[], final Complex c[] ) {
+      if ( index.length != c.length ) {
+         String s = "gather: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( index.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = a[index[i]];
+         }
+      } );
+      return c;
+   }
+
+
+   //******************************************************
+   //  isEqual methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element "==" comparision of two
+    * 1-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    */
+   public static boolean[] isEqual ( int a[], int b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] == b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "==" comparision of two
+    * 1-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    */
+   public static boolean[] isEqual ( long a[], long b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] == b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "==" comparision of two
+    * 1-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    */
+   public static boolean[] isEqual ( float a[], float b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] == b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "==" comparision of two
+    * 1-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    */
+   public static boolean[] isEqual ( double a[], double b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] == b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "==" comparision of two
+    * 1-D <code>Complex</code> arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    */
+   public static boolean[] isEqual ( Complex a[], Complex b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i].equals(b[i]);
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "==" comparision of two
+    * 2-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> == <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isEqual ( int a[][], int b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] == b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "==" comparision of two
+    * 2-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> == <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isEqual ( long a[][], long b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] == b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "==" comparision of two
+    * 2-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> == <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isEqual ( float a[][], float b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] == b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "==" comparision of two
+    * 2-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> == <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isEqual ( double a[][], double b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] == b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "==" comparision of two
+    * 2-D <code>Complex</code> arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> == <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isEqual ( Complex a[][], Complex b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j].equals(b[i][j]);
+            }
+         }
+      }
+      return res;
+   }
+
+
+   //******************************************************
+   //  isGreaterThan methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element ">" comparision of two
+    * 1-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> > <tt>b[i]</tt>.
+    */
+   public static boolean[] isGreaterThan ( int a[], int b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] > b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">" comparision of two
+    * 1-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> > <tt>b[i]</tt>.
+    */
+   public static boolean[] isGreaterThan ( long a[], long b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] > b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">" comparision of two
+    * 1-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> > <tt>b[i]</tt>.
+    */
+   public static boolean[] isGreaterThan ( float a[], float b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] > b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">" comparision of two
+    * 1-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> > <tt>b[i]</tt>.
+    */
+   public static boolean[] isGreaterThan ( double a[], double b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] > b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the the result of comparing a double array to a
+    * specified constant.
+    *
+    * @param   a   input array.
+    * @param   b   input value.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> > <tt>b</tt>.
+    */
+   public static boolean[] isGreaterThan ( double a[], double b ) {
+
+      boolean res[] = new boolean[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         res[i] = a[i] > b;
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">" comparision of two
+    * 2-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> > <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isGreaterThan ( int a[][], int b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isGreaterThan: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] > b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">" comparision of two
+    * 2-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> > <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isGreaterThan ( long a[][], long b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isGreaterThan: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] > b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">" comparision of two
+    * 2-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> > <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isGreaterThan ( float a[][], float b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isGreaterThan: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] > b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">" comparision of two
+    * 2-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> > <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isGreaterThan ( double a[][], double b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isGreaterThan: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] > b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   //******************************************************
+   //  isGreaterThanOrEqual methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element ">=" comparision of two
+    * 1-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> >= <tt>b[i]</tt>.
+    */
+   public static boolean[] isGreaterThanOrEqual ( int a[], int b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] >= b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">=" comparision of two
+    * 1-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> >= <tt>b[i]</tt>.
+    */
+   public static boolean[] isGreaterThanOrEqual ( long a[], long b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] >= b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">=" comparision of two
+    * 1-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> >= <tt>b[i]</tt>.
+    */
+   public static boolean[] isGreaterThanOrEqual ( float a[], float b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] >= b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">=" comparision of two
+    * 1-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> >= <tt>b[i]</tt>.
+    */
+   public static boolean[] isGreaterThanOrEqual ( double a[], double b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] >= b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">=" comparision of two
+    * 2-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> >= <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isGreaterThanOrEqual ( int a[][], int b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isGreaterThanOrEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] >= b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">=" comparision of two
+    * 2-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> >= <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isGreaterThanOrEqual ( long a[][], long b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isGreaterThanOrEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] >= b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">=" comparision of two
+    * 2-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> >= <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isGreaterThanOrEqual ( float a[][], float b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isGreaterThanOrEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] >= b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element ">=" comparision of two
+    * 2-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> >= <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isGreaterThanOrEqual ( double a[][], double b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isGreaterThanOrEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] >= b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   //******************************************************
+   //  isLessThan methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element "<" comparision of two
+    * 1-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> < <tt>b[i]</tt>.
+    */
+   public static boolean[] isLessThan ( int a[], int b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] < b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<" comparision of two
+    * 1-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> < <tt>b[i]</tt>.
+    */
+   public static boolean[] isLessThan ( long a[], long b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] < b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<" comparision of two
+    * 1-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> < <tt>b[i]</tt>.
+    */
+   public static boolean[] isLessThan ( float a[], float b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] < b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<" comparision of two
+    * 1-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> < <tt>b[i]</tt>.
+    */
+   public static boolean[] isLessThan ( double a[], double b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] < b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<" comparision of two
+    * 2-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> < <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isLessThan ( int a[][], int b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isLessThan: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] < b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<" comparision of two
+    * 2-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> < <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isLessThan ( long a[][], long b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isLessThan: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] < b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<" comparision of two
+    * 2-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> < <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isLessThan ( float a[][], float b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isLessThan: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] < b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<" comparision of two
+    * 2-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> < <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isLessThan ( double a[][], double b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isLessThan: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] < b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   //******************************************************
+   //  isLessThanOrEqual methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element "<=" comparision of two
+    * 1-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> <= <tt>b[i]</tt>.
+    */
+   public static boolean[] isLessThanOrEqual ( int a[], int b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] <= b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<=" comparision of two
+    * 1-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> <= <tt>b[i]</tt>.
+    */
+   public static boolean[] isLessThanOrEqual ( long a[], long b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] <= b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<=" comparision of two
+    * 1-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> <= <tt>b[i]</tt>.
+    */
+   public static boolean[] isLessThanOrEqual ( float a[], float b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] <= b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<=" comparision of two
+    * 1-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> <= <tt>b[i]</tt>.
+    */
+   public static boolean[] isLessThanOrEqual ( double a[], double b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] <= b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<=" comparision of two
+    * 2-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> <= <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isLessThanOrEqual ( int a[][], int b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isLessThanOrEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] <= b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<=" comparision of two
+    * 2-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> <= <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isLessThanOrEqual ( long a[][], long b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isLessThanOrEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] <= b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<=" comparision of two
+    * 2-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> <= <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isLessThanOrEqual ( float a[][], float b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isLessThanOrEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] <= b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "<=" comparision of two
+    * 2-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> <= <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isLessThanOrEqual ( double a[][], double b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isLessThanOrEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] <= b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   //******************************************************
+   //  isNotEqual methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element "!=" comparision of two
+    * 1-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> != <tt>b[i]</tt>.
+    */
+   public static boolean[] isNotEqual ( int a[], int b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] != b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "!=" comparision of two
+    * 1-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> != <tt>b[i]</tt>.
+    */
+   public static boolean[] isNotEqual ( long a[], long b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] != b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "!=" comparision of two
+    * 1-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> != <tt>b[i]</tt>.
+    */
+   public static boolean[] isNotEqual ( float a[], float b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] != b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "!=" comparision of two
+    * 1-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> != <tt>b[i]</tt>.
+    */
+   public static boolean[] isNotEqual ( double a[], double b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = a[i] != b[i];
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "!=" comparision of two
+    * 1-D <code>Complex</code> arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i]</tt> == <tt>b[i]</tt>.
+    */
+   public static boolean[] isNotEqual ( Complex a[], Complex b[] ) {
+
+      boolean res[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            res[i] = ! a[i].equals(b[i]);
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "!=" comparision of two
+    * 2-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> != <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isNotEqual ( int a[][], int b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isNotEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] != b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "!=" comparision of two
+    * 2-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> != <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isNotEqual ( long a[][], long b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isNotEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] != b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "!=" comparision of two
+    * 2-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> != <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isNotEqual ( float a[][], float b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isNotEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] != b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "!=" comparision of two
+    * 2-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> != <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isNotEqual ( double a[][], double b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isNotEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = a[i][j] != b[i][j];
+            }
+         }
+      }
+      return res;
+   }
+
+
+   /**
+    * Returns the element-by-element "!=" comparision of two
+    * 2-D <code>Complex</code> arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are <code>true</code>
+    *          if <tt>a[i][j]</tt> != <tt>b[i][j]</tt>.
+    */
+   public static boolean[][] isNotEqual ( Complex a[][], Complex b[][] ) {
+      boolean res[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "isNotEqual: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            res[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               res[i][j] = ! a[i][j].equals(b[i][j]);
+            }
+         }
+      }
+      return res;
+   }
+
+
+   //******************************************************
+   //  matmul methods
+   //******************************************************
+
+   /**
+    * Returns the matrix product of two 2-D arrays.  The
+    * product is calculated with a cache-blocked algorithm,
+    * and the row blocks of the result are calculated in
+    * parallel for large matrices.
+    *
+    * @param   a   first matrix, with m rows and k columns.
+    * @param   b   second matrix, with k rows and n columns.
+    * @return  the m x n matrix <tt>a * b</tt>
+    * @exception InvalidArraySizeException if either array is
+    *          not rectangular, or if the number of columns of
+    *          <tt>a</tt> differs from the number of rows of
+    *          <tt>b</tt>.
+    */
+   public static double[][] matmul ( double a[][], double b[][] ) {
+      int m = a.length;
+      int k = matrixCols( a, "matmul" );
+      int n = matrixCols( b, "matmul" );
+      checkProduct( m, k, b.length, n );
+      double af[] = new double[m * k];
+      double bf[] = new double[k * n];
+      double cf[] = new double[m * n];
+      for ( int i = 0; i < m; i++ )
+         System.arraycopy( a[i], 0, af, i * k, k );
+      for ( int i = 0; i < k; i++ )
+         System.arraycopy( b[i], 0, bf, i * n, n );
+      MatrixKernel.gemm( m, n, k, 1.0, af, 0, k, bf, 0, n, cf, 0, n );
+      double c[][] = new double[m][n];
+      for ( int i = 0; i < m; i++ )
+         System.arraycopy( cf, i * n, c[i], 0, n );
+      return c;
+   }
+
+
+   /**
+    * Returns the matrix product of two 2-D arrays.  The
+    * product is calculated with a cache-blocked algorithm,
+    * and the row blocks of the result are calculated in
+    * parallel for large matrices.
+    *
+    * @param   a   first matrix, with m rows and k columns.
+    * @param   b   second matrix, with k rows and n columns.
+    * @return  the m x n matrix <tt>a * b</tt>
+    * @exception InvalidArraySizeException if either array is
+    *          not rectangular, or if the number of columns of
+    *          <tt>a</tt> differs from the number of rows of
+    *          <tt>b</tt>.
+    */
+   public static float[][] matmul ( float a[][], float b[][] ) {
+      int m = a.length;
+      int k = matrixCols( a, "matmul" );
+      int n = matrixCols( b, "matmul" );
+      checkProduct( m, k, b.length, n );
+      float af[] = new float[m * k];
+      float bf[] = new float[k * n];
+      float cf[] = new float[m * n];
+      for ( int i = 0; i < m; i++ )
+         System.arraycopy( a[i], 0, af, i * k, k );
+      for ( int i = 0; i < k; i++ )
+         System.arraycopy( b[i], 0, bf, i * n, n );
+      MatrixKernel.gemm( m, n, k, af, 0, k, bf, 0, n, cf, 0, n );
+      float c[][] = new float[m][n];
+      for ( int i = 0; i < m; i++ )
+         System.arraycopy( cf, i * n, c[i], 0, n );
+      return c;
+   }
+
+
+   /**
+    * Returns the matrix product of two 2-D complex arrays.
+    * The matrices are split into real and imaginary parts
+    * before the multiplication, so that no temporary objects
+    * are created in the inner loop.
+    *
+    * @param   a   first matrix, with m rows and k columns.
+    * @param   b   second matrix, with k rows and n columns.
+    * @return  the m x n matrix <tt>a * b</tt>
+    * @exception InvalidArraySizeException if either array is
+    *          not rectangular, or if the number of columns of
+    *          <tt>a</tt> differs from the number of rows of
+    *          <tt>b</tt>.
+    */
+   public static Complex[][] matmul ( Complex a[][], Complex b[][] ) {
+      int m = a.length;
+      int k = matrixCols( a, "matmul" );
+      int n = matrixCols( b, "matmul" );
+      checkProduct( m, k, b.length, n );
+      double ar[] = new double[m * k], ai[] = new double[m * k];
+      double br[] = new double[k * n], bi[] = new double[k * n];
+      double cr[] = new double[m * n], ci[] = new double[m * n];
+      splitComplex( a, k, ar, ai );
+      splitComplex( b, n, br, bi );
+      MatrixKernel.gemm( m, n, k, ar, ai, 0, k, br, bi, 0, n, cr, ci, 0, n );
+      Complex c[][] = new Complex[m][n];
+      for ( int i = 0; i < m; i++ )
+         for ( int j = 0; j < n; j++ )
+            c[i][j] = Complex.complex( cr[i*n + j], ci[i*n + j] );
+      return c;
+   }
+
+
+   /**
+    * Returns the matrix product of two 2-D <tt>NDArray</tt>s.
+    * Arrays (or views) whose rows are contiguous are used in
+    * place; other views are copied first.
+    *
+    * @param   a   first matrix, with shape [m, k].
+    * @param   b   second matrix, with shape [k, n].
+    * @return  a new [m, n] array holding <tt>a * b</tt>
+    * @exception InvalidArraySizeException if either array is
+    *          not 2-D, or if the number of columns of
+    *          <tt>a</tt> differs from the number of rows of
+    *          <tt>b</tt>.
+    */
+   public static NDArray matmul ( NDArray a, NDArray b ) {
+      if ( a.ndim() != 2 || b.ndim() != 2 ) {
+         String s = "matmul: Arrays must be 2-D";
+         throw new InvalidArraySizeException(s);
+      }
+      int m = a.shape(0), k = a.shape(1), n = b.shape(1);
+      checkProduct( m, k, b.shape(0), n );
+      NDArray c = new NDArray( m, n );
+      if ( m == 0 || n == 0 || k == 0 )
+         return c;
+      double ad[], bd[];
+      int aOff = 0, bOff = 0, lda = k, ldb = n;
+      if ( a.stride(1) == 1 ) {
+         ad = a.getData(); aOff = a.offset(); lda = a.stride(0);
+      } else {
+         ad = a.toArray();
+      }
+      if ( b.stride(1) == 1 ) {
+         bd = b.getData(); bOff = b.offset(); ldb = b.stride(0);
+      } else {
+         bd = b.toArray();
+      }
+      MatrixKernel.gemm( m, n, k, 1.0, ad, aOff, lda, bd, bOff, ldb,
+                         c.getData(), 0, n );
+      return c;
+   }
+
+
+   //******************************************************
+   //  maxAbs methods
+   //******************************************************
+
+
+   /**
+    * Returns the maximum absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum absolute value of <tt>a[i]</tt>
+    */
+   public static int maxAbs ( int a[] ) {
+      int iloc = 0;
+      int maxAbs = Math.abs(a[0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         if (Math.abs(a[i]) > maxAbs) {
+            iloc = i;
+            maxAbs = Math.abs(a[i]);
+         }
+      }
+      return maxAbs;
+   }
+
+
+   /**
+    * Returns the maximum absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum absolute value of <tt>a[i]</tt>
+    */
+   public static long maxAbs ( long a[] ) {
+      int iloc = 0;
+      long maxAbs = Math.abs(a[0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         if (Math.abs(a[i]) > maxAbs) {
+            iloc = i;
+            maxAbs = Math.abs(a[i]);
+         }
+      }
+      return maxAbs;
+   }
+
+
+   /**
+    * Returns the maximum absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum absolute value of <tt>a[i]</tt>
+    */
+   public static float maxAbs ( float a[] ) {
+      int iloc = 0;
+      float maxAbs = Math.abs(a[0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         if (Math.abs(a[i]) > maxAbs) {
+            iloc = i;
+            maxAbs = Math.abs(a[i]);
+         }
+      }
+      return maxAbs;
+   }
+
+
+   /**
+    * Returns the maximum absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum absolute value of <tt>a[i]</tt>
+    */
+   public static double maxAbs ( double a[] ) {
+      int iloc = 0;
+      double maxAbs = Math.abs(a[0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         if (Math.abs(a[i]) > maxAbs) {
+            iloc = i;
+            maxAbs = Math.abs(a[i]);
+         }
+      }
+      return maxAbs;
+   }
+
+
+   /**
+    * Returns the maximum absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum absolute value of <tt>a[i]</tt>
+    */
+   public static double maxAbs ( Complex a[] ) {
+      int iloc = 0;
+     double test;
+      double maxAbs = Complex.abs(a[0]);
+      for ( int i = 0; i < a.length; i++ ) {
+        test = Complex.abs(a[i]);
+         if (test > maxAbs) {
+            iloc = i;
+            maxAbs = test;
+         }
+      }
+      return maxAbs;
+   }
+
+
+   /**
+    * Returns the maximum absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum absolute value of <tt>a[i][j]</tt>
+    */
+   public static int maxAbs ( int a[][] ) {
+      int iloc = 0;
+      int maxAbs = Math.abs(a[0][0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (Math.abs(a[i][j]) > maxAbs) {
+               iloc = i;
+               maxAbs = Math.abs(a[i][j]);
+            }
+         }
+      }
+      return maxAbs;
+   }
+
+
+   /**
+    * Returns the maximum absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum absolute value of <tt>a[i][j]</tt>
+    */
+   public static long maxAbs ( long a[][] ) {
+      int iloc = 0;
+      long maxAbs = Math.abs(a[0][0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (Math.abs(a[i][j]) > maxAbs) {
+               iloc = i;
+               maxAbs = Math.abs(a[i][j]);
+            }
+         }
+      }
+      return maxAbs;
+   }
+
+
+   /**
+    * Returns the maximum absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum absolute value of <tt>a[i][j]</tt>
+    */
+   public static float maxAbs ( float a[][] ) {
+      int iloc = 0;
+      float maxAbs = Math.abs(a[0][0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (Math.abs(a[i][j]) > maxAbs) {
+               iloc = i;
+               maxAbs = Math.abs(a[i][j]);
+            }
+         }
+      }
+      return maxAbs;
+   }
+
+
+   /**
+    * Returns the maximum absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum absolute value of <tt>a[i][j]</tt>
+    */
+   public static double maxAbs ( double a[][] ) {
+      int iloc = 0;
+      double maxAbs = Math.abs(a[0][0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (Math.abs(a[i][j]) > maxAbs) {
+               iloc = i;
+               maxAbs = Math.abs(a[i][j]);
+            }
+         }
+      }
+      return maxAbs;
+   }
+
+
+   /**
+    * Returns the maximum absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum absolute value of <tt>a[i][j]</tt>
+    */
+   public static double maxAbs ( Complex a[][] ) {
+      int iloc = 0;
+      double maxAbs = Complex.abs(a[0][0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (Complex.abs(a[i][j]) > maxAbs) {
+               iloc = i;
+               maxAbs = Complex.abs(a[i][j]);
+            }
+         }
+      }
+      return maxAbs;
+   }
+
+
+   //******************************************************
+   //  maxAbsLoc methods
+   //******************************************************
+
+   /**
+    * Returns the index of the element having the maximum
+    * absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          absolute value of all <tt>a[i]</tt>
+    */
+   public static int maxAbsLoc ( int a[] ) {
+      int iloc = 0;
+      int maxVal = Math.abs(a[0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         if (Math.abs(a[i]) > maxVal) {
+            iloc = i;
+            maxVal = Math.abs(a[i]);
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          absolute value of all <tt>a[i]</tt>
+    */
+   public static int maxAbsLoc ( long a[] ) {
+      int iloc = 0;
+      long maxVal = Math.abs(a[0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         if (Math.abs(a[i]) > maxVal) {
+            iloc = i;
+            maxVal = Math.abs(a[i]);
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          absolute value of all <tt>a[i]</tt>
+    */
+   public static int maxAbsLoc ( float a[] ) {
+      int iloc = 0;
+      float maxVal = Math.abs(a[0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         if (Math.abs(a[i]) > maxVal) {
+            iloc = i;
+            maxVal = Math.abs(a[i]);
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          absolute value of all <tt>a[i]</tt>
+    */
+   public static int maxAbsLoc ( double a[] ) {
+      int iloc = 0;
+      double maxVal = Math.abs(a[0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         if (Math.abs(a[i]) > maxVal) {
+            iloc = i;
+            maxVal = Math.abs(a[i]);
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          absolute value of all <tt>a[i]</tt>
+    */
+   public static int maxAbsLoc ( Complex a[] ) {
+      int iloc = 0;
+      double maxVal = Complex.abs(a[0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         if (Complex.abs(a[i]) > maxVal) {
+            iloc = i;
+            maxVal = Complex.abs(a[i]);
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          absolute value of all <tt>a[i][j]</tt>
+    */
+   public static int[] maxAbsLoc ( int a[][] ) {
+      int iloc[] = {0, 0};
+      int maxVal = Math.abs(a[0][0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (Math.abs(a[i][j]) > maxVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               maxVal = Math.abs(a[i][j]);
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          absolute value of all <tt>a[i][j]</tt>
+    */
+   public static int[] maxAbsLoc ( long a[][] ) {
+      int iloc[] = {0, 0};
+      long maxVal = Math.abs(a[0][0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (Math.abs(a[i][j]) > maxVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               maxVal = Math.abs(a[i][j]);
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          absolute value of all <tt>a[i][j]</tt>
+    */
+   public static int[] maxAbsLoc ( float a[][] ) {
+      int iloc[] = {0, 0};
+      float maxVal = Math.abs(a[0][0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (Math.abs(a[i][j]) > maxVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               maxVal = Math.abs(a[i][j]);
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          absolute value of all <tt>a[i][j]</tt>
+    */
+   public static int[] maxAbsLoc ( double a[][] ) {
+      int iloc[] = {0, 0};
+      double maxVal = Math.abs(a[0][0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (Math.abs(a[i][j]) > maxVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               maxVal = Math.abs(a[i][j]);
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * absolute value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          absolute value of all <tt>a[i][j]</tt>
+    */
+   public static int[] maxAbsLoc ( Complex a[][] ) {
+      int iloc[] = {0, 0};
+      double maxVal = Complex.abs(a[0][0]);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (Complex.abs(a[i][j]) > maxVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               maxVal = Complex.abs(a[i][j]);
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   //******************************************************
+   //  maxLoc methods
+   //******************************************************
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i]</tt>
+    */
+   public static int maxLoc ( int a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelLoc( a, true );
+      }
+      int iloc = 0;
+      int maxVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] > maxVal) {
+            iloc = i;
+            maxVal = a[i];
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i]</tt>
+    */
+   public static int maxLoc ( long a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelLoc( a, true );
+      }
+      int iloc = 0;
+      long maxVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] > maxVal) {
+            iloc = i;
+            maxVal = a[i];
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i]</tt>
+    */
+   public static int maxLoc ( float a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelLoc( a, true );
+      }
+      int iloc = 0;
+      float maxVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] > maxVal) {
+            iloc = i;
+            maxVal = a[i];
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i]</tt>
+    */
+   public static int maxLoc ( double a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelLoc( a, true );
+      }
+      int iloc = 0;
+      double maxVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] > maxVal) {
+            iloc = i;
+            maxVal = a[i];
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i][j]</tt>
+    */
+   public static int[] maxLoc ( int a[][] ) {
+      int iloc[] = {0, 0};
+      int maxVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] > maxVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               maxVal = a[i][j];
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i][j]</tt>
+    */
+   public static int[] maxLoc ( long a[][] ) {
+      int iloc[] = {0, 0};
+      long maxVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] > maxVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               maxVal = a[i][j];
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i][j]</tt>
+    */
+   public static int[] maxLoc ( float a[][] ) {
+      int iloc[] = {0, 0};
+      float maxVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] > maxVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               maxVal = a[i][j];
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i][j]</tt>
+    */
+   public static int[] maxLoc ( double a[][] ) {
+      int iloc[] = {0, 0};
+      double maxVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] > maxVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               maxVal = a[i][j];
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   //******************************************************
+   //  maxVal methods
+   //******************************************************
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i]</tt>
+    */
+   public static int maxVal ( int a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return a[ parallelLoc( a, true ) ];
+      }
+      int maxVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] > maxVal) {
+            maxVal = a[i];
+         }
+      }
+      return maxVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i]</tt>
+    */
+   public static long maxVal ( long a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return a[ parallelLoc( a, true ) ];
+      }
+      long maxVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] > maxVal) {
+            maxVal = a[i];
+         }
+      }
+      return maxVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i]</tt>
+    */
+   public static float maxVal ( float a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return a[ parallelLoc( a, true ) ];
+      }
+      float maxVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] > maxVal) {
+            maxVal = a[i];
+         }
+      }
+      return maxVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i]</tt>
+    */
+   public static double maxVal ( double a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return a[ parallelLoc( a, true ) ];
+      }
+      double maxVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] > maxVal) {
+            maxVal = a[i];
+         }
+      }
+      return maxVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i][j]</tt>
+    */
+   public static int maxVal ( int a[][] ) {
+      int maxVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] > maxVal) {
+               maxVal = a[i][j];
+            }
+         }
+      }
+      return maxVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i][j]</tt>
+    */
+   public static long maxVal ( long a[][] ) {
+      long maxVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] > maxVal) {
+               maxVal = a[i][j];
+            }
+         }
+      }
+      return maxVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i][j]</tt>
+    */
+   public static float maxVal ( float a[][] ) {
+      float maxVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] > maxVal) {
+               maxVal = a[i][j];
+            }
+         }
+      }
+      return maxVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i][j]</tt>
+    */
+   public static double maxVal ( double a[][] ) {
+      double maxVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] > maxVal) {
+               maxVal = a[i][j];
+            }
+         }
+      }
+      return maxVal;
+   }
+
+
+   //******************************************************
+   //  minLoc methods
+   //******************************************************
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i]</tt>
+    */
+   public static int minLoc ( int a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelLoc( a, false );
+      }
+      int iloc = 0;
+      int minVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] < minVal) {
+            iloc = i;
+            minVal = a[i];
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i]</tt>
+    */
+   public static int minLoc ( long a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelLoc( a, false );
+      }
+      int iloc = 0;
+      long minVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] < minVal) {
+            iloc = i;
+            minVal = a[i];
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i]</tt>
+    */
+   public static int minLoc ( float a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelLoc( a, false );
+      }
+      int iloc = 0;
+      float minVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] < minVal) {
+            iloc = i;
+            minVal = a[i];
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i]</tt>
+    */
+   public static int minLoc ( double a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelLoc( a, false );
+      }
+      int iloc = 0;
+      double minVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] < minVal) {
+            iloc = i;
+            minVal = a[i];
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i][j]</tt>
+    */
+   public static int[] minLoc ( int a[][] ) {
+      int iloc[] = {0, 0};
+      int minVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] < minVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               minVal = a[i][j];
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i][j]</tt>
+    */
+   public static int[] minLoc ( long a[][] ) {
+      int iloc[] = {0, 0};
+      long minVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] < minVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               minVal = a[i][j];
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i][j]</tt>
+    */
+   public static int[] minLoc ( float a[][] ) {
+      int iloc[] = {0, 0};
+      float minVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] < minVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               minVal = a[i][j];
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   /**
+    * Returns the index of the element having the maximum
+    * value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the index of the element having the maximum
+    *          value of all <tt>a[i][j]</tt>
+    */
+   public static int[] minLoc ( double a[][] ) {
+      int iloc[] = {0, 0};
+      double minVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] < minVal) {
+               iloc[0] = i;
+               iloc[1] = j;
+               minVal = a[i][j];
+            }
+         }
+      }
+      return iloc;
+   }
+
+
+   //******************************************************
+   //  minVal methods
+   //******************************************************
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i]</tt>
+    */
+   public static int minVal ( int a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return a[ parallelLoc( a, false ) ];
+      }
+      int minVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] < minVal) {
+            minVal = a[i];
+         }
+      }
+      return minVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i]</tt>
+    */
+   public static long minVal ( long a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return a[ parallelLoc( a, false ) ];
+      }
+      long minVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] < minVal) {
+            minVal = a[i];
+         }
+      }
+      return minVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i]</tt>
+    */
+   public static float minVal ( float a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return a[ parallelLoc( a, false ) ];
+      }
+      float minVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] < minVal) {
+            minVal = a[i];
+         }
+      }
+      return minVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i]</tt>
+    */
+   public static double minVal ( double a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return a[ parallelLoc( a, false ) ];
+      }
+      double minVal = a[0];
+      for ( int i = 0; i < a.length; i++ ) {
+         if (a[i] < minVal) {
+            minVal = a[i];
+         }
+      }
+      return minVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i][j]</tt>
+    */
+   public static int minVal ( int a[][] ) {
+      int minVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] < minVal) {
+               minVal = a[i][j];
+            }
+         }
+      }
+      return minVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i][j]</tt>
+    */
+   public static long minVal ( long a[][] ) {
+      long minVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] < minVal) {
+               minVal = a[i][j];
+            }
+         }
+      }
+      return minVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i][j]</tt>
+    */
+   public static float minVal ( float a[][] ) {
+      float minVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] < minVal) {
+               minVal = a[i][j];
+            }
+         }
+      }
+      return minVal;
+   }
+
+
+   /**
+    * Returns the maximum value of any element in an array.
+    *
+    * @param   a   input array.
+    * @return  the maximum value of <tt>a[i][j]</tt>
+    */
+   public static double minVal ( double a[][] ) {
+      double minVal = a[0][0];
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            if (a[i][j] < minVal) {
+               minVal = a[i][j];
+            }
+         }
+      }
+      return minVal;
+   }
+
+
+   //******************************************************
+   //  multiply element-by-element methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element product of two 1-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[] mul ( int a[], int b[] ) {
+
+      int mul[] = new int[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            mul[i] = a[i] * b[i];
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two 1-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[] mul ( long a[], long b[] ) {
+
+      long mul[] = new long[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            mul[i] = a[i] * b[i];
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two 1-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[] mul ( float a[], float b[] ) {
+
+      float mul[] = new float[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            mul[i] = (float) (a[i] * b[i]);
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two 1-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[] mul ( double a[], double b[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).mul( ArrayExpr.of(b) ).eval();
+      }
+
+      double mul[] = new double[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            mul[i] = a[i] * b[i];
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two 1-D Complex arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] mul ( Complex a[], Complex b[] ) {
+
+      Complex mul[] = new Complex[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            mul[i] = a[i].mul(b[i]);
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two 2-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[][] mul ( int a[][], int b[][] ) {
+      int mul[][] = new int[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "mul: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            mul[i] = new int[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               mul[i][j] = a[i][j] * b[i][j];
+            }
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two 2-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[][] mul ( long a[][], long b[][] ) {
+      long mul[][] = new long[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "mul: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            mul[i] = new long[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               mul[i][j] = a[i][j] *+ b[i][j];
+            }
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two 2-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[][] mul ( float a[][], float b[][] ) {
+      float mul[][] = new float[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "mul: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            mul[i] = new float[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               mul[i][j] = a[i][j] * b[i][j];
+            }
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two 2-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[][] mul ( double a[][], double b[][] ) {
+      double mul[][] = new double[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "mul: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            mul[i] = new double[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               mul[i][j] = a[i][j] * b[i][j];
+            }
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two 2-D Complex arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] mul ( Complex a[][], Complex b[][] ) {
+      Complex mul[][] = new Complex[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "mul: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            mul[i] = new Complex[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               mul[i][j] = a[i][j].mul(b[i][j]);
+            }
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two <tt>ComplexArray</tt> arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray mul ( ComplexArray a, ComplexArray b ) {
+
+      ComplexArray mul = new ComplexArray(a.length());
+
+      if ( a.length() != b.length() ) {
+         String s = "mul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         double ar[] = a.getRe(), ai[] = a.getIm();
+         double br[] = b.getRe(), bi[] = b.getIm();
+         double cr[] = mul.getRe(), ci[] = mul.getIm();
+         for ( int i = 0; i < ar.length; i++ ) {
+            cr[i] = (ar[i]*br[i]) - (ai[i]*bi[i]);
+            ci[i] = (ar[i]*bi[i]) + (ai[i]*br[i]);
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the element-by-element product of two <tt>NDArray</tt> arrays
+    * of the same shape.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static NDArray mul ( NDArray a, NDArray b ) {
+      return a.mul(b);
+   }
+
+
+   //******************************************************
+   //  multiply array-by-scalar methods
+   //******************************************************
+
+   /**
+    * Multiplies a scalar value by a 1-D int array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[] mul ( int a[], int b ) {
+      int mul[] = new int[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         mul[i] = a[i] * b;
+
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 1-D long array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[] mul ( long a[], long b ) {
+
+      long mul[] = new long[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         mul[i] = (long) (a[i] * b);
+
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 1-D float array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[] mul ( float a[], float b ) {
+
+      float mul[] = new float[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         mul[i] = (float) (a[i] * b);
+
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 1-D double array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[] mul ( double a[], double b ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).mul(b).eval();
+      }
+
+      double mul[] = new double[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         mul[i] = a[i] * b;
+
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 1-D Complex array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] mul ( Complex a[], double b ) {
+
+      Complex mul[] = new Complex[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         mul[i] = a[i].mul(b);
+
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 1-D Complex array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] mul ( Complex a[], Complex b ) {
+
+      Complex mul[] = new Complex[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         mul[i] = a[i].mul(b);
+
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 2-D int array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[][] mul ( int a[][], int b ) {
+      int mul[][] = new int[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         mul[i] = new int[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            mul[i][j] = a[i][j] * b;
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 2-D long array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[][] mul ( long a[][], long b ) {
+      long mul[][] = new long[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         mul[i] = new long[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            mul[i][j] = a[i][j] * b;
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 2-D float array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[][] mul ( float a[][], float b ) {
+      float mul[][] = new float[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         mul[i] = new float[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            mul[i][j] = a[i][j] * b;
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 2-D double array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[][] mul ( double a[][], double b ) {
+      double mul[][] = new double[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         mul[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            mul[i][j] = a[i][j] * b;
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 2-D Complex array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] mul ( Complex a[][], double b ) {
+      Complex mul[][] = new Complex[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         mul[i] = new Complex[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            mul[i][j] = a[i][j].mul(b);
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Multiplies a scalar value by a 2-D Complex array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] mul ( Complex a[][], Complex b ) {
+      Complex mul[][] = new Complex[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         mul[i] = new Complex[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            mul[i][j] = a[i][j].mul(b);
+         }
+      }
+      return mul;
+   }
+
+
+   /**
+    * Returns the product of a 1-D <tt>ComplexArray</tt> and a <tt>double</tt> scalar.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray mul ( ComplexArray a, double b ) {
+      return ((ComplexArray) a.clone()).mulAssign(b);
+   }
+
+
+   /**
+    * Returns the product of a 1-D <tt>ComplexArray</tt> and a <tt>Complex</tt> scalar.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray mul ( ComplexArray a, Complex b ) {
+      return ((ComplexArray) a.clone()).mulAssign(b);
+   }
+
+
+   /**
+    * Returns the product of an <tt>NDArray</tt> and a <tt>double</tt> scalar.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  an array whose elements are the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static NDArray mul ( NDArray a, double b ) {
+      return a.mul(b);
+   }
+
+
+   //******************************************************
+   //  mulInto output-buffer methods
+   //******************************************************
+
+   /**
+    * Calculates the element-by-element product of two 1-D int arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[] mulInto ( int a[], int b[], int out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] * b[i];
+
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element product of two 1-D long arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[] mulInto ( long a[], long b[], long out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] * b[i];
+
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element product of two 1-D float arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[] mulInto ( float a[], float b[], float out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] * b[i];
+
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element product of two 1-D double arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[] mulInto ( double a[], double b[], double out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).mul( ArrayExpr.of(b) ).eval( out );
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] * b[i];
+
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element product of two 1-D Complex arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] mulInto ( Complex a[], Complex b[], Complex out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].mul(b[i]);
+
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element product of two 2-D int arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[][] mulInto ( int a[][], int b[][], int out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] * b[i][j];
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element product of two 2-D long arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[][] mulInto ( long a[][], long b[][], long out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] * b[i][j];
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element product of two 2-D float arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[][] mulInto ( float a[][], float b[][], float out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] * b[i][j];
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element product of two 2-D double arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[][] mulInto ( double a[][], double b[][], double out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] * b[i][j];
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element product of two 2-D Complex arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] mulInto ( Complex a[][], Complex b[][], Complex out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j].mul(b[i][j]);
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element product of two <tt>ComplexArray</tt> arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.  No objects are created.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray mulInto ( ComplexArray a, ComplexArray b, ComplexArray out ) {
+
+      if ( a.length() != b.length() || a.length() != out.length() ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double br[] = b.getRe(), bi[] = b.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      double xr, xi, yr, yi;
+      for ( int i = 0; i < ar.length; i++ ) {
+         xr = ar[i];
+         xi = ai[i];
+         yr = br[i];
+         yi = bi[i];
+         zr[i] = (xr*yr) - (xi*yi);
+         zi[i] = (xr*yi) + (xi*yr);
+      }
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 1-D int array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[] mulInto ( int a[], int b, int out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] * b;
+
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 1-D long array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[] mulInto ( long a[], long b, long out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] * b;
+
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 1-D float array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[] mulInto ( float a[], float b, float out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] * b;
+
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 1-D double array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[] mulInto ( double a[], double b, double out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).mul(b).eval( out );
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] * b;
+
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 1-D Complex array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] mulInto ( Complex a[], double b, Complex out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].mul(b);
+
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 1-D Complex array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] mulInto ( Complex a[], Complex b, Complex out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].mul(b);
+
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 2-D int array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[][] mulInto ( int a[][], int b, int out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] * b;
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 2-D long array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[][] mulInto ( long a[][], long b, long out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] * b;
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 2-D float array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[][] mulInto ( float a[][], float b, float out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] * b;
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 2-D double array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[][] mulInto ( double a[][], double b, double out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] * b;
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 2-D Complex array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] mulInto ( Complex a[][], double b, Complex out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j].mul(b);
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 2-D Complex array by a scalar value,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] mulInto ( Complex a[][], Complex b, Complex out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "mulInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j].mul(b);
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 1-D <tt>ComplexArray</tt> by a scalar value of type <tt>double</tt>,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.  No objects are created.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray mulInto ( ComplexArray a, double b, ComplexArray out ) {
+
+      if ( a.length() != out.length() ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      for ( int i = 0; i < ar.length; i++ ) {
+         zr[i] = ar[i] * b;
+         zi[i] = ai[i] * b;
+      }
+      return out;
+   }
+
+
+   /**
+    * Multiplies a 1-D <tt>ComplexArray</tt> by a scalar value of type <tt>Complex</tt>,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.  No objects are created.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the product of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray mulInto ( ComplexArray a, Complex b, ComplexArray out ) {
+
+      if ( a.length() != out.length() ) {
+         String s = "mulInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      double br = b.re(), bi = b.im();
+      double xr, xi;
+      for ( int i = 0; i < ar.length; i++ ) {
+         xr = ar[i];
+         xi = ai[i];
+         zr[i] = (xr*br) - (xi*bi);
+         zi[i] = (xr*bi) + (xi*br);
+      }
+      return out;
+   }
+
+
+   //******************************************************
+   //  not methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element logical <code>not</code> of
+    * a boolean array.
+    *
+    * @param   a   input array.
+    * @return  the <code>boolean</code> result
+    */
+   public static boolean[] not ( boolean a[] ) {
+      boolean not[] = new boolean[a.length];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         not[i] = ! a[i];
+      }
+      return not;
+   }
+
+
+   /**
+    * Returns the element-by-element logical <code>not</code> of
+    * a boolean array.
+    *
+    * @param   a   input array.
+    * @return  the <code>boolean</code> result
+    */
+   public static boolean[][] not ( boolean a[][] ) {
+      boolean not[][] = new boolean[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         not[i] = new boolean[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+             not[i][j] = ! a[i][j];
+         }
+      }
+      return not;
+   }
+
+
+   //******************************************************
+   //  nthElement methods
+   //******************************************************
+
+   /**
+    * Rearranges a 1-D int array in place so that element <tt>k</tt>
+    * holds the value it would hold if the array were sorted into
+    * ascending order, with no larger elements before it and no smaller
+    * elements after it, and returns that value.  The selection takes
+    * time proportional to the length of the array, rather than n log n
+    * for a full sort.
+    *
+    * @param   a   input array, which is reordered.
+    * @param   k   the index of the element to select, from 0 to
+    *              <tt>a.length-1</tt>.
+    * @return  the element of rank <tt>k</tt> in <tt>a</tt>, counting
+    *          from 0
+    * @exception ArrayIndexOutOfBoundsException if <tt>k</tt> is out of
+    *          range
+    */
+   public static int nthElement ( int a[], int k ) {
+      if ( k < 0 || k >= a.length ) {
+         throw new ArrayIndexOutOfBoundsException( "nthElement: Invalid index " + k );
+      }
+      select( a, 0, a.length - 1, k );
+      return a[k];
+   }
+
+
+   /**
+    * Rearranges a 1-D float array in place so that element <tt>k</tt>
+    * holds the value it would hold if the array were sorted into
+    * ascending order, with no larger elements before it and no smaller
+    * elements after it, and returns that value.  The selection takes
+    * time proportional to the length of the array, rather than n log n
+    * for a full sort.  NaN values are placed last, as by
+    * <code>java.util.Arrays.sort</code>.
+    *
+    * @param   a   input array, which is reordered.
+    * @param   k   the index of the element to select, from 0 to
+    *              <tt>a.length-1</tt>.
+    * @return  the element of rank <tt>k</tt> in <tt>a</tt>, counting
+    *          from 0
+    * @exception ArrayIndexOutOfBoundsException if <tt>k</tt> is out of
+    *          range
+    */
+   public static float nthElement ( float a[], int k ) {
+      if ( k < 0 || k >= a.length ) {
+         throw new ArrayIndexOutOfBoundsException( "nthElement: Invalid index " + k );
+      }
+      int n = moveNaNsLast( a );
+      if ( k < n ) {
+         select( a, 0, n - 1, k );
+      }
+      return a[k];
+   }
+
+
+   /**
+    * Rearranges a 1-D double array in place so that element <tt>k</tt>
+    * holds the value it would hold if the array were sorted into
+    * ascending order, with no larger elements before it and no smaller
+    * elements after it, and returns that value.  The selection takes
+    * time proportional to the length of the array, rather than n log n
+    * for a full sort.  NaN values are placed last, as by
+    * <code>java.util.Arrays.sort</code>.
+    *
+    * @param   a   input array, which is reordered.
+    * @param   k   the index of the element to select, from 0 to
+    *              <tt>a.length-1</tt>.
+    * @return  the element of rank <tt>k</tt> in <tt>a</tt>, counting
+    *          from 0
+    * @exception ArrayIndexOutOfBoundsException if <tt>k</tt> is out of
+    *          range
+    */
+   public static double nthElement ( double a[], int k ) {
+      if ( k < 0 || k >= a.length ) {
+         throw new ArrayIndexOutOfBoundsException( "nthElement: Invalid index " + k );
+      }
+      int n = moveNaNsLast( a );
+      if ( k < n ) {
+         select( a, 0, n - 1, k );
+      }
+      return a[k];
+   }
+
+
+   //******************************************************
+   //  or methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element logical <code>or</code> of
+    * two boolean arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  the <code>boolean</code> result
+    */
+   public static boolean[] or ( boolean a[], boolean b[] ) {
+      boolean or[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "or: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         or[i] = a[i] || b[i];
+      }
+      return or;
+   }
+
+
+   /**
+    * Returns the element-by-element logical <code>or</code> of
+    * two boolean arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  the <code>boolean</code> result
+    */
+   public static boolean[][] or ( boolean a[][], boolean b[][] ) {
+      boolean or[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "or: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "or: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            or[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               or[i][j] = a[i][j] || b[i][j];
+            }
+         }
+      }
+      return or;
+   }
+
+
+   //******************************************************
+   //  product methods
+   //******************************************************
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static int product ( int a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelProduct( a, null );
+      }
+      int product = 1;
+      for ( int i = 0; i < a.length; i++ ) {
+         product *= a[i];
+      }
+      return product;
+   }
+
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static long product ( long a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelProduct( a, null );
+      }
+      long product = 1;
+      for ( int i = 0; i < a.length; i++ ) {
+         product *= a[i];
+      }
+      return product;
+   }
+
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static float product ( float a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelProduct( a, null );
+      }
+      float product = 1;
+      for ( int i = 0; i < a.length; i++ ) {
+         product *= a[i];
+      }
+      return product;
+   }
+
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static double product ( double a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelProduct( a, null );
+      }
+      double product = 1;
+      for ( int i = 0; i < a.length; i++ ) {
+         product *= a[i];
+      }
+      return product;
+   }
+
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static Complex product ( Complex a[] ) {
+      MutableComplex product = new MutableComplex(1.0,0.0);
+      for ( int i = 0; i < a.length; i++ ) {
+         product.mulAssign(a[i]);
+      }
+      return product.toComplex();
+   }
+
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static int product ( int a[][] ) {
+      int product = 1;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            product *= a[i][j];
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static long product ( long a[][] ) {
+      long product = 1;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            product *= a[i][j];
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static float product ( float a[][] ) {
+      float product = 1;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            product *= a[i][j];
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static double product ( double a[][] ) {
+      double product = 1;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            product *= a[i][j];
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static Complex product ( Complex a[][] ) {
+      MutableComplex product = new MutableComplex(1.0,0.0);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            product.mulAssign(a[i][j]);
+         }
+      }
+      return product.toComplex();
+   }
+
+
+   /**
+    * Returns the product of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the product of the elements in <tt>a</tt>.
+    */
+   public static Complex product ( ComplexArray a ) {
+      MutableComplex product = new MutableComplex(1.0,0.0);
+      double re[] = a.getRe(), im[] = a.getIm();
+      for ( int i = 0; i < re.length; i++ ) {
+         product.mulAssign(re[i], im[i]);
+      }
+      return product.toComplex();
+   }
+
+
+   //******************************************************
+   //  product (mask) methods
+   //******************************************************
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static int product ( int a[], boolean b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelProduct( a, b );
+      }
+      int product = 1;
+
+      if ( a.length != b.length ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            if ( b[i] ) {
+               product *= a[i];
+            }
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static long product ( long a[], boolean b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelProduct( a, b );
+      }
+      long product = 1;
+
+      if ( a.length != b.length ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            if ( b[i] ) {
+               product *= a[i];
+            }
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static float product ( float a[], boolean b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelProduct( a, b );
+      }
+      float product = 1;
+
+      if ( a.length != b.length ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            if ( b[i] ) {
+               product *= a[i];
+            }
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static double product ( double a[], boolean b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelProduct( a, b );
+      }
+      double product = 1;
+
+      if ( a.length != b.length ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            if ( b[i] ) {
+               product *= a[i];
+            }
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static Complex product ( Complex a[], boolean b[] ) {
+      MutableComplex product = new MutableComplex(1.0,0.0);
+
+      if ( a.length != b.length ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            if ( b[i] ) {
+               product.mulAssign(a[i]);
+            }
+         }
+      }
+      return product.toComplex();
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static int product ( int a[][], boolean b[][] ) {
+      int product = 1;
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "product: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            for ( int j = 0; j < a[i].length; j++ ) {
+               if ( b[i][j] ) {
+                  product *= a[i][j];
+               }
+            }
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static long product ( long a[][], boolean b[][] ) {
+      long product = 1;
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "product: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            for ( int j = 0; j < a[i].length; j++ ) {
+               if ( b[i][j] ) {
+                  product *= a[i][j];
+               }
+            }
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static float product ( float a[][], boolean b[][] ) {
+      float product = 1;
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "product: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            for ( int j = 0; j < a[i].length; j++ ) {
+               if ( b[i][j] ) {
+                  product *= a[i][j];
+               }
+            }
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static double product ( double a[][], boolean b[][] ) {
+      double product = 1;
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "product: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            for ( int j = 0; j < a[i].length; j++ ) {
+               if ( b[i][j] ) {
+                  product *= a[i][j];
+               }
+            }
+         }
+      }
+      return product;
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static Complex product ( Complex a[][], boolean b[][] ) {
+      MutableComplex product = new MutableComplex(1.0,0.0);
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "product: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            for ( int j = 0; j < a[i].length; j++ ) {
+               if ( b[i][j] ) {
+                  product.mulAssign(a[i][j]);
+               }
+            }
+         }
+      }
+      return product.toComplex();
+   }
+
+
+   //******************************************************
+   //  product (bit mask) methods
+   //******************************************************
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in mask <tt>b</tt>.  Words of the mask that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking bitset.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in
+    *          <tt>b</tt>
+    */
+   public static int product ( int a[], BitMask b ) {
+      if ( a.length != b.length() ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelMaskedProduct( a, b );
+      }
+      return maskedProduct( a, b.words(), 0, a.length );
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in mask <tt>b</tt>.  Words of the mask that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking bitset.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in
+    *          <tt>b</tt>
+    */
+   public static long product ( long a[], BitMask b ) {
+      if ( a.length != b.length() ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelMaskedProduct( a, b );
+      }
+      return maskedProduct( a, b.words(), 0, a.length );
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in mask <tt>b</tt>.  Words of the mask that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking bitset.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in
+    *          <tt>b</tt>
+    */
+   public static float product ( float a[], BitMask b ) {
+      if ( a.length != b.length() ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelMaskedProduct( a, b );
+      }
+      return maskedProduct( a, b.words(), 0, a.length );
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in mask <tt>b</tt>.  Words of the mask that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking bitset.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in
+    *          <tt>b</tt>
+    */
+   public static double product ( double a[], BitMask b ) {
+      if ( a.length != b.length() ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelMaskedProduct( a, b );
+      }
+      return maskedProduct( a, b.words(), 0, a.length );
+   }
+
+
+   /**
+    * Masked product--returns the product of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in mask <tt>b</tt>.  Words of the mask that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking bitset.
+    * @return  the product of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in
+    *          <tt>b</tt>
+    */
+   public static Complex product ( Complex a[], BitMask b ) {
+      if ( a.length != b.length() ) {
+         String s = "product: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      MutableComplex product = new MutableComplex(1.0,0.0);
+      long w[] = b.words();
+      for ( int k = 0; k < w.length; k++ ) {
+         long bits = w[k];
+         if ( bits == 0L ) {
+            continue;
+         }
+         int base = k << 6;
+         if ( bits == -1L ) {
+            for ( int i = base; i < base + 64; i++ ) {
+               product.mulAssign(a[i]);
+            }
+         }
+         else {
+            while ( bits != 0L ) {
+               product.mulAssign(a[base + Long.numberOfTrailingZeros(bits)]);
+               bits &= bits - 1;
+            }
+         }
+      }
+      return product.toComplex();
+   }
+
+
+   //******************************************************
+   //  scan methods
+   //******************************************************
+
+   /**
+    * Returns the exclusive prefix scan of a 1-D long array under the
+    * operator <tt>op</tt>.  Element <tt>i</tt> of the result is
+    * <tt>identity</tt> combined with <tt>a[0]</tt> through
+    * <tt>a[i-1]</tt>, in order, so element 0 is <tt>identity</tt>.
+    *
+    * @param   a        input array.
+    * @param   identity the identity value of <tt>op</tt>, such as 0 for
+    *                   addition.
+    * @param   op       an associative operator.
+    * @return  a new array holding the exclusive scan of <tt>a</tt>
+    */
+   public static long[] exclusiveScan ( long a[], long identity,
+                                       java.util.function.LongBinaryOperator op ) {
+      return exclusiveScan( a, identity, op, new long[a.length] );
+   }
+
+
+   /**
+    * Calculates the exclusive prefix scan of a 1-D long array under the
+    * operator <tt>op</tt>, storing the results in array
+    * <code>out</code>.  <code>out</code> may be the same array as
+    * <code>a</code>.  Large arrays are processed in parallel (see class
+    * <code>Parallel</code>) by a two-pass scan over fixed blocks, which
+    * is only correct if <tt>op</tt> is associative.
+    *
+    * @param   a        input array.
+    * @param   identity the identity value of <tt>op</tt>, such as 0 for
+    *                   addition.
+    * @param   op       an associative operator.
+    * @param   out      output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the exclusive scan
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static long[] exclusiveScan ( long a[], long identity,
+                                       java.util.function.LongBinaryOperator op,
+                                       long out[] ) {
+      scan( SCAN_OP, op, a, out, false, identity, "exclusiveScan" );
+      return out;
+   }
+
+
+   /**
+    * Returns the inclusive prefix scan of a 1-D long array under the
+    * operator <tt>op</tt>.  Element <tt>i</tt> of the result is
+    * <tt>a[0]</tt> through <tt>a[i]</tt> combined in order, so that with
+    * addition the result is the cumulative sum.
+    *
+    * @param   a   input array.
+    * @param   op  an associative operator.
+    * @return  a new array holding the inclusive scan of <tt>a</tt>
+    */
+   public static long[] inclusiveScan ( long a[], java.util.function.LongBinaryOperator op ) {
+      return inclusiveScan( a, op, new long[a.length] );
+   }
+
+
+   /**
+    * Calculates the inclusive prefix scan of a 1-D long array under the
+    * operator <tt>op</tt>, storing the results in array
+    * <code>out</code>.  <code>out</code> may be the same array as
+    * <code>a</code>.  Large arrays are processed in parallel (see class
+    * <code>Parallel</code>) by a two-pass scan over fixed blocks, which
+    * is only correct if <tt>op</tt> is associative.
+    *
+    * @param   a   input array.
+    * @param   op  an associative operator.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the inclusive scan
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static long[] inclusiveScan ( long a[], java.util.function.LongBinaryOperator op,
+                                       long out[] ) {
+      scan( SCAN_OP, op, a, out, true, 0, "inclusiveScan" );
+      return out;
+   }
+
+
+   /**
+    * Returns the exclusive prefix scan of a 1-D double array under the
+    * operator <tt>op</tt>.  Element <tt>i</tt> of the result is
+    * <tt>identity</tt> combined with <tt>a[0]</tt> through
+    * <tt>a[i-1]</tt>, in order, so element 0 is <tt>identity</tt>.
+    *
+    * @param   a        input array.
+    * @param   identity the identity value of <tt>op</tt>, such as 0 for
+    *                   addition.
+    * @param   op       an associative operator.
+    * @return  a new array holding the exclusive scan of <tt>a</tt>
+    */
+   public static double[] exclusiveScan ( double a[], double identity,
+                                       java.util.function.DoubleBinaryOperator op ) {
+      return exclusiveScan( a, identity, op, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the exclusive prefix scan of a 1-D double array under the
+    * operator <tt>op</tt>, storing the results in array
+    * <code>out</code>.  <code>out</code> may be the same array as
+    * <code>a</code>.  Large arrays are processed in parallel (see class
+    * <code>Parallel</code>) by a two-pass scan over fixed blocks, which
+    * is only correct if <tt>op</tt> is associative.
+    *
+    * @param   a        input array.
+    * @param   identity the identity value of <tt>op</tt>, such as 0 for
+    *                   addition.
+    * @param   op       an associative operator.
+    * @param   out      output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the exclusive scan
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static double[] exclusiveScan ( double a[], double identity,
+                                       java.util.function.DoubleBinaryOperator op,
+                                       double out[] ) {
+      scan( SCAN_OP, op, a, out, false, identity, "exclusiveScan" );
+      return out;
+   }
+
+
+   /**
+    * Returns the inclusive prefix scan of a 1-D double array under the
+    * operator <tt>op</tt>.  Element <tt>i</tt> of the result is
+    * <tt>a[0]</tt> through <tt>a[i]</tt> combined in order, so that with
+    * addition the result is the cumulative sum.
+    *
+    * @param   a   input array.
+    * @param   op  an associative operator.
+    * @return  a new array holding the inclusive scan of <tt>a</tt>
+    */
+   public static double[] inclusiveScan ( double a[], java.util.function.DoubleBinaryOperator op ) {
+      return inclusiveScan( a, op, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the inclusive prefix scan of a 1-D double array under the
+    * operator <tt>op</tt>, storing the results in array
+    * <code>out</code>.  <code>out</code> may be the same array as
+    * <code>a</code>.  Large arrays are processed in parallel (see class
+    * <code>Parallel</code>) by a two-pass scan over fixed blocks, which
+    * is only correct if <tt>op</tt> is associative.
+    *
+    * @param   a   input array.
+    * @param   op  an associative operator.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the inclusive scan
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static double[] inclusiveScan ( double a[], java.util.function.DoubleBinaryOperator op,
+                                       double out[] ) {
+      scan( SCAN_OP, op, a, out, true, 0, "inclusiveScan" );
+      return out;
+   }
+
+
+   //******************************************************
+   //  scatter methods
+   //******************************************************
+
+   /**
+    * Stores the elements of an array into another array at a
+    * list of indices, so that <tt>c[index[i]] = a[i]</tt>.
+    * Elements of <tt>c</tt> that are not indexed are left
+    * unchanged.  If an index is repeated, the last element
+    * stored to it wins, so this method always runs serially.
+    *
+    * @param   a       input array.
+    * @param   index   indices at which to store the elements.
+    * @param   c       output array.
+    * @return  the output array <tt>c</tt>
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the output array.
+    */
+   public static int[] scatter ( int a[], int index[], int c[] ) {
+      if ( a.length != index.length ) {
+         String s = "scatter: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      for ( int i = 0; i < a.length; i++ )
+         c[index[i]] = a[i];
+      return c;
+   }
+
+
+   /**
+    * Stores the elements of an array into another array at a
+    * list of indices, so that <tt>c[index[i]] = a[i]</tt>.
+    * Elements of <tt>c</tt> that are not indexed are left
+    * unchanged.  If an index is repeated, the last element
+    * stored to it wins, so this method always runs serially.
+    *
+    * @param   a       input array.
+    * @param   index   indices at which to store the elements.
+    * @param   c       output array.
+    * @return  the output array <tt>c</tt>
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the output array.
+    */
+   public static long[] scatter ( long a[], int index[], long c[] ) {
+      if ( a.length != index.length ) {
+         String s = "scatter: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      for ( int i = 0; i < a.length; i++ )
+         c[index[i]] = a[i];
+      return c;
+   }
+
+
+   /**
+    * Stores the elements of an array into another array at a
+    * list of indices, so that <tt>c[index[i]] = a[i]</tt>.
+    * Elements of <tt>c</tt> that are not indexed are left
+    * unchanged.  If an index is repeated, the last element
+    * stored to it wins, so this method always runs serially.
+    *
+    * @param   a       input array.
+    * @param   index   indices at which to store the elements.
+    * @param   c       output array.
+    * @return  the output array <tt>c</tt>
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the output array.
+    */
+   public static float[] scatter ( float a[], int index[], float c[] ) {
+      if ( a.length != index.length ) {
+         String s = "scatter: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      for ( int i = 0; i < a.length; i++ )
+         c[index[i]] = a[i];
+      return c;
+   }
+
+
+   /**
+    * Stores the elements of an array into another array at a
+    * list of indices, so that <tt>c[index[i]] = a[i]</tt>.
+    * Elements of <tt>c</tt> that are not indexed are left
+    * unchanged.  If an index is repeated, the last element
+    * stored to it wins, so this method always runs serially.
+    *
+    * @param   a       input array.
+    * @param   index   indices at which to store the elements.
+    * @param   c       output array.
+    * @return  the output array <tt>c</tt>
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the output array.
+    */
+   public static double[] scatter ( double a[], int index[], double c[] ) {
+      if ( a.length != index.length ) {
+         String s = "scatter: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      for ( int i = 0; i < a.length; i++ )
+         c[index[i]] = a[i];
+      return c;
+   }
+
+
+   /**
+    * Stores the elements of an array into another array at a
+    * list of indices, so that <tt>c[index[i]] = a[i]</tt>.
+    * Elements of <tt>c</tt> that are not indexed are left
+    * unchanged.  If an index is repeated, the last element
+    * stored to it wins, so this method always runs serially.
+    *
+    * @param   a       input array.
+    * @param   index   indices at which to store the elements.
+    * @param   c       output array.
+    * @return  the output array <tt>c</tt>
+    * @exception ArrayIndexOutOfBoundsException if any index is
+    *          outside the output array.
+    */
+   public static Complex[] scatter ( Complex a[], int index[], Complex c[] ) {
+      if ( a.length != index.length ) {
+         String s = "scatter: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      for ( int i = 0; i < a.length; i++ )
+         c[index[i]] = a[i];
+      return c;
+   }
+
+
+   //******************************************************
+   //  sort methods
+   //******************************************************
+
+   /**
+    * Returns a copy of a 1-D int array sorted into ascending order.
+    * Large arrays are sorted in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array.
+    * @return  a new array holding the elements of <tt>a</tt> in
+    *          ascending order
+    */
+   public static int[] sort ( int a[] ) {
+      return sort( a, new int[a.length] );
+   }
+
+
+   /**
+    * Sorts the elements of a 1-D int array into ascending order,
+    * storing the results in array <code>out</code>.  <code>out</code>
+    * may be the same array as <code>a</code>, in which case the array is
+    * sorted in place.  Large arrays are sorted in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the sorted elements
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static int[] sort ( int a[], int out[] ) {
+      if ( a.length != out.length ) {
+         String s = "sort: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( out != a ) {
+         System.arraycopy( a, 0, out, 0, a.length );
+      }
+      if ( Parallel.isParallel(out.length) ) {
+         java.util.Arrays.parallelSort( out );
+      }
+      else {
+         java.util.Arrays.sort( out );
+      }
+      return out;
+   }
+
+
+   /**
+    * Returns a copy of a 1-D float array sorted into ascending order, with -0.0 before 0.0 and NaN values
+    * last.
+    * Large arrays are sorted in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array.
+    * @return  a new array holding the elements of <tt>a</tt> in
+    *          ascending order
+    */
+   public static float[] sort ( float a[] ) {
+      return sort( a, new float[a.length] );
+   }
+
+
+   /**
+    * Sorts the elements of a 1-D float array into ascending order,
+    * storing the results in array <code>out</code>.  <code>out</code>
+    * may be the same array as <code>a</code>, in which case the array is
+    * sorted in place.  Large arrays are sorted in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the sorted elements
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] sort ( float a[], float out[] ) {
+      if ( a.length != out.length ) {
+         String s = "sort: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( out != a ) {
+         System.arraycopy( a, 0, out, 0, a.length );
+      }
+      if ( Parallel.isParallel(out.length) ) {
+         java.util.Arrays.parallelSort( out );
+      }
+      else {
+         java.util.Arrays.sort( out );
+      }
+      return out;
+   }
+
+
+   /**
+    * Returns a copy of a 1-D double array sorted into ascending order, with -0.0 before 0.0 and NaN values
+    * last.
+    * Large arrays are sorted in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array.
+    * @return  a new array holding the elements of <tt>a</tt> in
+    *          ascending order
+    */
+   public static double[] sort ( double a[] ) {
+      return sort( a, new double[a.length] );
+   }
+
+
+   /**
+    * Sorts the elements of a 1-D double array into ascending order,
+    * storing the results in array <code>out</code>.  <code>out</code>
+    * may be the same array as <code>a</code>, in which case the array is
+    * sorted in place.  Large arrays are sorted in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing the sorted elements
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static double[] sort ( double a[], double out[] ) {
+      if ( a.length != out.length ) {
+         String s = "sort: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( out != a ) {
+         System.arraycopy( a, 0, out, 0, a.length );
+      }
+      if ( Parallel.isParallel(out.length) ) {
+         java.util.Arrays.parallelSort( out );
+      }
+      else {
+         java.util.Arrays.sort( out );
+      }
+      return out;
+   }
+
+
+   //******************************************************
+   //  subtract element-by-element methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element difference of two 1-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[] sub ( int a[], int b[] ) {
+
+      int sub[] = new int[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            sub[i] = a[i] - b[i];
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two 1-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[] sub ( long a[], long b[] ) {
+
+      long sub[] = new long[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            sub[i] = a[i] - b[i];
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two 1-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[] sub ( float a[], float b[] ) {
+
+      float sub[] = new float[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            sub[i] = a[i] - b[i];
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two 1-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[] sub ( double a[], double b[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).sub( ArrayExpr.of(b) ).eval();
+      }
+
+      double sub[] = new double[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            sub[i] = a[i] - b[i];
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two 1-D Complex arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] sub ( Complex a[], Complex b[] ) {
+
+      Complex sub[] = new Complex[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ )
+            sub[i] = a[i].sub(b[i]);
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two 2-D int arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[][] sub ( int a[][], int b[][] ) {
+      int sub[][] = new int[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "sub: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            sub[i] = new int[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               sub[i][j] = a[i][j] - b[i][j];
+            }
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two 2-D long arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[][] sub ( long a[][], long b[][] ) {
+      long sub[][] = new long[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "sub: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            sub[i] = new long[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               sub[i][j] = a[i][j] - b[i][j];
+            }
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two 2-D float arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[][] sub ( float a[][], float b[][] ) {
+      float sub[][] = new float[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "sub: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            sub[i] = new float[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               sub[i][j] = a[i][j] - b[i][j];
+            }
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two 2-D double arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[][] sub ( double a[][], double b[][] ) {
+      double sub[][] = new double[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "sub: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            sub[i] = new double[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               sub[i][j] = a[i][j] - b[i][j];
+            }
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two 2-D Complex arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] sub ( Complex a[][], Complex b[][] ) {
+      Complex sub[][] = new Complex[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "sub: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            sub[i] = new Complex[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               sub[i][j] = a[i][j].sub(b[i][j]);
+            }
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two <tt>ComplexArray</tt> arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray sub ( ComplexArray a, ComplexArray b ) {
+
+      ComplexArray sub = new ComplexArray(a.length());
+
+      if ( a.length() != b.length() ) {
+         String s = "sub: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         double ar[] = a.getRe(), ai[] = a.getIm();
+         double br[] = b.getRe(), bi[] = b.getIm();
+         double cr[] = sub.getRe(), ci[] = sub.getIm();
+         for ( int i = 0; i < ar.length; i++ ) {
+            cr[i] = ar[i] - br[i];
+            ci[i] = ai[i] - bi[i];
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the element-by-element difference of two <tt>NDArray</tt> arrays
+    * of the same shape.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static NDArray sub ( NDArray a, NDArray b ) {
+      return a.sub(b);
+   }
+
+
+   //******************************************************
+   //  substract scalar-from-array methods
+   //******************************************************
+
+   /**
+    * Subtracts a scalar value from a 1-D int array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[] sub ( int a[], int b ) {
+      int sub[] = new int[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         sub[i] = a[i] - b;
+
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D long array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[] sub ( long a[], long b ) {
+
+      long sub[] = new long[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         sub[i] = a[i] - b;
+
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D float array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[] sub ( float a[], float b ) {
+
+      float sub[] = new float[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         sub[i] = a[i] - b;
+
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D double array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[] sub ( double a[], double b ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).sub(b).eval();
+      }
+
+      double sub[] = new double[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         sub[i] = a[i] - b;
+
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D Complex array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] sub ( Complex a[], double b ) {
+
+      Complex sub[] = new Complex[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         sub[i] = a[i].sub(b);
+
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D Complex array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] sub ( Complex a[], Complex b ) {
+
+      Complex sub[] = new Complex[a.length];
+
+      for ( int i = 0; i < a.length; i++ )
+         sub[i] = a[i].sub(b);
+
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D int array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[][] sub ( int a[][], int b ) {
+      int sub[][] = new int[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         sub[i] = new int[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sub[i][j] = a[i][j] - b;
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D long array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[][] sub ( long a[][], long b ) {
+      long sub[][] = new long[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         sub[i] = new long[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sub[i][j] = a[i][j] - b;
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D float array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[][] sub ( float a[][], float b ) {
+      float sub[][] = new float[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         sub[i] = new float[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sub[i][j] = a[i][j] - b;
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D double array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[][] sub ( double a[][], double b ) {
+      double sub[][] = new double[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         sub[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sub[i][j] = a[i][j] - b;
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D Complex array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] sub ( Complex a[][], double b ) {
+      Complex sub[][] = new Complex[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         sub[i] = new Complex[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sub[i][j] = a[i][j].sub(b);
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D Complex array.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @return  an array whose elements are the sum of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] sub ( Complex a[][], Complex b ) {
+      Complex sub[][] = new Complex[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         sub[i] = new Complex[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sub[i][j] = a[i][j].sub(b);
+         }
+      }
+      return sub;
+   }
+
+
+   /**
+    * Returns the result of subtracting a 1-D <tt>ComplexArray</tt> and a <tt>double</tt> scalar.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray sub ( ComplexArray a, double b ) {
+      return ((ComplexArray) a.clone()).subAssign(b);
+   }
+
+
+   /**
+    * Returns the result of subtracting a 1-D <tt>ComplexArray</tt> and a <tt>Complex</tt> scalar.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray sub ( ComplexArray a, Complex b ) {
+      return ((ComplexArray) a.clone()).subAssign(b);
+   }
+
+
+   /**
+    * Returns the difference of an <tt>NDArray</tt> and a <tt>double</tt> scalar.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  an array whose elements are the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static NDArray sub ( NDArray a, double b ) {
+      return a.sub(b);
+   }
+
+
+   //******************************************************
+   //  subInto output-buffer methods
+   //******************************************************
+
+   /**
+    * Calculates the element-by-element difference of two 1-D int arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[] subInto ( int a[], int b[], int out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] - b[i];
+
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element difference of two 1-D long arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[] subInto ( long a[], long b[], long out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] - b[i];
+
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element difference of two 1-D float arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[] subInto ( float a[], float b[], float out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] - b[i];
+
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element difference of two 1-D double arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[] subInto ( double a[], double b[], double out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).sub( ArrayExpr.of(b) ).eval( out );
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] - b[i];
+
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element difference of two 1-D Complex arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] subInto ( Complex a[], Complex b[], Complex out[] ) {
+
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].sub(b[i]);
+
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element difference of two 2-D int arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[][] subInto ( int a[][], int b[][], int out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] - b[i][j];
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element difference of two 2-D long arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[][] subInto ( long a[][], long b[][], long out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] - b[i][j];
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element difference of two 2-D float arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[][] subInto ( float a[][], float b[][], float out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] - b[i][j];
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element difference of two 2-D double arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[][] subInto ( double a[][], double b[][], double out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] - b[i][j];
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element difference of two 2-D Complex arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] subInto ( Complex a[][], Complex b[][], Complex out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != b[i].length || a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j].sub(b[i][j]);
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Calculates the element-by-element difference of two <tt>ComplexArray</tt> arrays,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt> or <tt>b</tt>.  No objects are created.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray subInto ( ComplexArray a, ComplexArray b, ComplexArray out ) {
+
+      if ( a.length() != b.length() || a.length() != out.length() ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double br[] = b.getRe(), bi[] = b.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      for ( int i = 0; i < ar.length; i++ ) {
+         zr[i] = ar[i] - br[i];
+         zi[i] = ai[i] - bi[i];
+      }
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D int array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[] subInto ( int a[], int b, int out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] - b;
+
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D long array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[] subInto ( long a[], long b, long out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] - b;
+
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D float array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[] subInto ( float a[], float b, float out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] - b;
+
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D double array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[] subInto ( double a[], double b, double out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).sub(b).eval( out );
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i] - b;
+
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D Complex array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] subInto ( Complex a[], double b, Complex out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].sub(b);
+
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 1-D Complex array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[] subInto ( Complex a[], Complex b, Complex out[] ) {
+
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ )
+         out[i] = a[i].sub(b);
+
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D int array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static int[][] subInto ( int a[][], int b, int out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] - b;
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D long array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static long[][] subInto ( long a[][], long b, long out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] - b;
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D float array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static float[][] subInto ( float a[][], float b, float out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] - b;
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D double array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static double[][] subInto ( double a[][], double b, double out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j] - b;
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D Complex array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] subInto ( Complex a[][], double b, Complex out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j].sub(b);
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value from a 2-D Complex array,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.
+    * The elements of <tt>out</tt> are replaced by new <tt>Complex</tt>
+    * objects; use the <tt>ComplexArray</tt> version to avoid these
+    * allocations as well.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static Complex[][] subInto ( Complex a[][], Complex b, Complex out[][] ) {
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != out.length ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      for ( int i = 0; i < a.length; i++ ) {
+         // Check for incompatibilities in the second dimension
+         if ( a[i].length != out[i].length ) {
+            String s = "subInto: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         for ( int j = 0; j < a[i].length; j++ ) {
+            out[i][j] = a[i][j].sub(b);
+         }
+      }
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value of type <tt>double</tt> from a 1-D <tt>ComplexArray</tt>,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.  No objects are created.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray subInto ( ComplexArray a, double b, ComplexArray out ) {
+
+      if ( a.length() != out.length() ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      for ( int i = 0; i < ar.length; i++ ) {
+         zr[i] = ar[i] - b;
+         zi[i] = ai[i];
+      }
+      return out;
+   }
+
+
+   /**
+    * Subtracts a scalar value of type <tt>Complex</tt> from a 1-D <tt>ComplexArray</tt>,
+    * storing the result in array <tt>out</tt>.  <tt>out</tt> may be the
+    * same array as <tt>a</tt>.  No objects are created.
+    *
+    * @param   a   input array.
+    * @param   b   input scalar value.
+    * @param   out output array, the same size as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the difference of the
+    *          elements in <tt>a</tt> and <tt>b</tt>.
+    */
+   public static ComplexArray subInto ( ComplexArray a, Complex b, ComplexArray out ) {
+
+      if ( a.length() != out.length() ) {
+         String s = "subInto: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      double ar[] = a.getRe(), ai[] = a.getIm();
+      double zr[] = out.getRe(), zi[] = out.getIm();
+      double br = b.re(), bi = b.im();
+      for ( int i = 0; i < ar.length; i++ ) {
+         zr[i] = ar[i] - br;
+         zi[i] = ai[i] - bi;
+      }
+      return out;
+   }
+
+
+   //******************************************************
+   //  sum methods
+   //******************************************************
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static int sum ( int a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelSum( a, null );
+      }
+      int sum = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         sum += a[i];
+      }
+      return sum;
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static long sum ( long a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelSum( a, null );
+      }
+      long sum = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         sum += a[i];
+      }
+      return sum;
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static float sum ( float a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelSum( a, null );
+      }
+      float sum = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         sum += a[i];
+      }
+      return sum;
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static double sum ( double a[] ) {
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelSum( a, null );
+      }
+      double sum = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         sum += a[i];
+      }
+      return sum;
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static Complex sum ( Complex a[] ) {
+      MutableComplex sum = new MutableComplex(0.0,0.0);
+      for ( int i = 0; i < a.length; i++ ) {
+         sum.addAssign(a[i]);
+      }
+      return sum.toComplex();
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static int sum ( int a[][] ) {
+      int sum = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sum += a[i][j];
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static long sum ( long a[][] ) {
+      long sum = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sum += a[i][j];
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static float sum ( float a[][] ) {
+      float sum = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sum += a[i][j];
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static double sum ( double a[][] ) {
+      double sum = 0;
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sum += a[i][j];
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static Complex sum ( Complex a[][] ) {
+      MutableComplex sum = new MutableComplex(0.0,0.0);
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sum.addAssign(a[i][j]);
+         }
+      }
+      return sum.toComplex();
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a.
+    *
+    * @param   a   input array.
+    * @return  the sum of the elements in <tt>a</tt>.
+    */
+   public static Complex sum ( ComplexArray a ) {
+      double sumRe = 0, sumIm = 0;
+      double re[] = a.getRe(), im[] = a.getIm();
+      for ( int i = 0; i < re.length; i++ ) {
+         sumRe += re[i];
+         sumIm += im[i];
+      }
+      return Complex.complex( sumRe, sumIm );
+   }
+
+
+   //******************************************************
+   //  sum (mask) methods
+   //******************************************************
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static int sum ( int a[], boolean b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelSum( a, b );
+      }
+      int sum = 0;
+
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            if ( b[i] ) {
+               sum += a[i];
+            }
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static long sum ( long a[], boolean b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelSum( a, b );
+      }
+      long sum = 0;
+
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            if ( b[i] ) {
+               sum += a[i];
+            }
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static float sum ( float a[], boolean b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelSum( a, b );
+      }
+      float sum = 0;
+
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            if ( b[i] ) {
+               sum += a[i];
+            }
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static double sum ( double a[], boolean b[] ) {
+      if ( Parallel.isLarge(a.length) && a.length == b.length ) {
+         return parallelSum( a, b );
+      }
+      double sum = 0;
+
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            if ( b[i] ) {
+               sum += a[i];
+            }
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static Complex sum ( Complex a[], boolean b[] ) {
+      MutableComplex sum = new MutableComplex(0.0,0.0);
+
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            if ( b[i] ) {
+               sum.addAssign(a[i]);
+            }
+         }
+      }
+      return sum.toComplex();
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static int sum ( int a[][], boolean b[][] ) {
+      int sum = 0;
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "sum: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            for ( int j = 0; j < a[i].length; j++ ) {
+               if ( b[i][j] ) {
+                  sum += a[i][j];
+               }
+            }
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static long sum ( long a[][], boolean b[][] ) {
+      long sum = 0;
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "sum: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            for ( int j = 0; j < a[i].length; j++ ) {
+               if ( b[i][j] ) {
+                  sum += a[i][j];
+               }
+            }
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static float sum ( float a[][], boolean b[][] ) {
+      float sum = 0;
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "sum: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            for ( int j = 0; j < a[i].length; j++ ) {
+               if ( b[i][j] ) {
+                  sum += a[i][j];
+               }
+            }
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static double sum ( double a[][], boolean b[][] ) {
+      double sum = 0;
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "sum: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            for ( int j = 0; j < a[i].length; j++ ) {
+               if ( b[i][j] ) {
+                  sum += a[i][j];
+               }
+            }
+         }
+      }
+      return sum;
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    */
+   public static Complex sum ( Complex a[][], boolean b[][] ) {
+      MutableComplex sum = new MutableComplex(0.0,0.0);
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "sum: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            for ( int j = 0; j < a[i].length; j++ ) {
+               if ( b[i][j] ) {
+                  sum.addAssign(a[i][j]);
+               }
+            }
+         }
+      }
+      return sum.toComplex();
+   }
+
+
+   //******************************************************
+   //  sum (bit mask) methods
+   //******************************************************
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in mask <tt>b</tt>.  Words of the mask that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking bitset.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in
+    *          <tt>b</tt>
+    */
+   public static int sum ( int a[], BitMask b ) {
+      if ( a.length != b.length() ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelMaskedSum( a, b );
+      }
+      return maskedSum( a, b.words(), 0, a.length );
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in mask <tt>b</tt>.  Words of the mask that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking bitset.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in
+    *          <tt>b</tt>
+    */
+   public static long sum ( long a[], BitMask b ) {
+      if ( a.length != b.length() ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelMaskedSum( a, b );
+      }
+      return maskedSum( a, b.words(), 0, a.length );
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in mask <tt>b</tt>.  Words of the mask that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking bitset.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in
+    *          <tt>b</tt>
+    */
+   public static float sum ( float a[], BitMask b ) {
+      if ( a.length != b.length() ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelMaskedSum( a, b );
+      }
+      return maskedSum( a, b.words(), 0, a.length );
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in mask <tt>b</tt>.  Words of the mask that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking bitset.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in
+    *          <tt>b</tt>
+    */
+   public static double sum ( double a[], BitMask b ) {
+      if ( a.length != b.length() ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( Parallel.isLarge(a.length) ) {
+         return parallelMaskedSum( a, b );
+      }
+      return maskedSum( a, b.words(), 0, a.length );
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in mask <tt>b</tt>.  Words of the mask that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   masking bitset.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in
+    *          <tt>b</tt>
+    */
+   public static Complex sum ( Complex a[], BitMask b ) {
+      if ( a.length != b.length() ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      MutableComplex sum = new MutableComplex(0.0,0.0);
+      long w[] = b.words();
+      for ( int k = 0; k < w.length; k++ ) {
+         long bits = w[k];
+         if ( bits == 0L ) {
+            continue;
+         }
+         int base = k << 6;
+         if ( bits == -1L ) {
+            for ( int i = base; i < base + 64; i++ ) {
+               sum.addAssign(a[i]);
+            }
+         }
+         else {
+            while ( bits != 0L ) {
+               sum.addAssign(a[base + Long.numberOfTrailingZeros(bits)]);
+               bits &= bits - 1;
+            }
+         }
+      }
+      return sum.toComplex();
+   }
+
+
+   //******************************************************
+   //  sum (summation mode) methods
+   //******************************************************
+
+   /**
+    * Returns the sum of the elements in array a, accumulated with the
+    * specified summation method.
+    *
+    * @param   a   input array.
+    * @param   mode   summation method: <tt>SUM_NAIVE</tt>,
+    *                 <tt>SUM_PAIRWISE</tt>, or <tt>SUM_KAHAN</tt>.
+    * @return  the sum of the elements in <tt>a</tt>.
+    * @exception <code>IllegalArgumentException</code> if <code>mode</code>
+    *            is not a valid summation method
+    */
+   public static float sum ( float a[], int mode ) {
+      return modeSum( a, null, null, mode, "sum" );
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>, accumulated with the specified summation method.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @param   mode   summation method: <tt>SUM_NAIVE</tt>,
+    *                 <tt>SUM_PAIRWISE</tt>, or <tt>SUM_KAHAN</tt>.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    * @exception <code>IllegalArgumentException</code> if <code>mode</code>
+    *            is not a valid summation method
+    */
+   public static float sum ( float a[], boolean b[], int mode ) {
+
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      return modeSum( a, null, b, mode, "sum" );
+   }
+
+
+   /**
+    * Returns the sum of the elements in array a, accumulated with the
+    * specified summation method.
+    *
+    * @param   a   input array.
+    * @param   mode   summation method: <tt>SUM_NAIVE</tt>,
+    *                 <tt>SUM_PAIRWISE</tt>, or <tt>SUM_KAHAN</tt>.
+    * @return  the sum of the elements in <tt>a</tt>.
+    * @exception <code>IllegalArgumentException</code> if <code>mode</code>
+    *            is not a valid summation method
+    */
+   public static double sum ( double a[], int mode ) {
+      return modeSum( a, null, null, mode, "sum" );
+   }
+
+
+   /**
+    * Masked sum--returns the sum of the elements
+    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
+    * in array <tt>b</tt>, accumulated with the specified summation method.
+    *
+    * @param   a   input array.
+    * @param   b   masking array.
+    * @param   mode   summation method: <tt>SUM_NAIVE</tt>,
+    *                 <tt>SUM_PAIRWISE</tt>, or <tt>SUM_KAHAN</tt>.
+    * @return  the sum of the elements in <tt>a</tt>
+    *          that correspond to <tt>true</tt> elements in array
+    *          <tt>b</tt>
+    * @exception <code>IllegalArgumentException</code> if <code>mode</code>
+    *            is not a valid summation method
+    */
+   public static double sum ( double a[], boolean b[], int mode ) {
+
+      if ( a.length != b.length ) {
+         String s = "sum: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      return modeSum( a, null, b, mode, "sum" );
+   }
+
+
+   //******************************************************
+   //  summary methods
+   //******************************************************
+
+   /**
+    * Returns the minimum and maximum values of an array, their
+    * locations, the sum of the elements, and the number of NaN
+    * elements, all calculated in a single pass over the data.
+    * NaN elements are ignored when finding the minimum and
+    * maximum.  Large arrays are processed block by block in
+    * parallel, with the same blocks as <tt>sum</tt>, so the sum
+    * is identical to the value returned by <tt>sum(a)</tt>.
+    *
+    * @param   a   input array.
+    * @return  an <tt>ArraySummary</tt> holding the results
+    */
+   public static ArraySummary summary ( final float a[] ) {
+      int blocks = Parallel.isLarge(a.length) ? Parallel.blocks(a.length) : 1;
+      final double part[] = new double[3 * blocks];
+      final int loc[] = new int[3 * blocks];
+      if ( blocks > 1 ) {
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               summarize( a, from, to, from / Parallel.BLOCK, part, loc );
+            }
+         } );
+      }
+      else {
+         summarize( a, 0, a.length, 0, part, loc );
+      }
+      float sum = 0;
+      for ( int k = 0; k < blocks; k++ )
+         sum += (float) part[3*k + 2];
+      return mergeSummary( a.length, part, loc, sum );
+   }
+
+
+   /**
+    * Returns the minimum and maximum values of an array, their
+    * locations, the sum of the elements, and the number of NaN
+    * elements, all calculated in a single pass over the data.
+    * NaN elements are ignored when finding the minimum and
+    * maximum.  Large arrays are processed block by block in
+    * parallel, with the same blocks as <tt>sum</tt>, so the sum
+    * is identical to the value returned by <tt>sum(a)</tt>.
+    *
+    * @param   a   input array.
+    * @return  an <tt>ArraySummary</tt> holding the results
+    */
+   public static ArraySummary summary ( final double a[] ) {
+      int blocks = Parallel.isLarge(a.length) ? Parallel.blocks(a.length) : 1;
+      final double part[] = new double[3 * blocks];
+      final int loc[] = new int[3 * blocks];
+      if ( blocks > 1 ) {
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               summarize( a, from, to, from / Parallel.BLOCK, part, loc );
+            }
+         } );
+      }
+      else {
+         summarize( a, 0, a.length, 0, part, loc );
+      }
+      double sum = 0;
+      for ( int k = 0; k < blocks; k++ )
+         sum += part[3*k + 2];
+      return mergeSummary( a.length, part, loc, sum );
+   }
+
+
+   //******************************************************
+   //  topK methods
+   //******************************************************
+
+   /**
+    * Returns the indices of the <tt>k</tt> largest elements of a 1-D
+    * int array, largest first, such as the <tt>k</tt> highest peaks of
+    * a spectrum.  Equal elements are taken in order of their indices.
+    * A heap of <tt>k</tt> indices is kept, so the time taken grows as
+    * n log k rather than as n log n for a full sort.  Large arrays are
+    * processed in parallel (see class <code>Parallel</code>), with the
+    * same result.
+    *
+    * @param   a   input array.
+    * @param   k   the number of elements to find.  If it is larger
+    *              than <tt>a.length</tt>, all of the elements are
+    *              returned.
+    * @return  an array of <tt>min(k,a.length)</tt> indices into
+    *          <tt>a</tt>, in descending order of the elements
+    * @exception IllegalArgumentException  if <tt>k</tt> is negative
+    */
+   public static int[] topK ( final int a[], int k ) {
+      if ( k < 0 ) {
+         throw new IllegalArgumentException( "topK: Invalid count " + k );
+      }
+      final int m = Math.min( k, a.length );
+      int heap[] = new int[m];
+      int size = 0;
+      if ( Parallel.isParallel(a.length) && m <= Parallel.BLOCK / 8 ) {
+
+         // Find the largest elements of each block, and then the
+         // largest of those
+         final int part[][] = new int[Parallel.blocks(a.length)][];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int h[] = new int[Math.min( m, to - from )];
+               int n = 0;
+               for ( int i = from; i < to; i++ ) {
+                  n = heapPush( a, h, n, i );
+               }
+               part[from / Parallel.BLOCK] = h;
+            }
+         } );
+         for ( int b = 0; b < part.length; b++ ) {
+            for ( int j = 0; j < part[b].length; j++ ) {
+               size = heapPush( a, heap, size, part[b][j] );
+            }
+         }
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            size = heapPush( a, heap, size, i );
+         }
+      }
+
+      // Remove the smallest remaining element until the heap is empty
+      int top[] = new int[size];
+      for ( int j = size - 1; j >= 0; j-- ) {
+         top[j] = heap[0];
+         heap[0] = heap[j];
+         siftDown( a, heap, j, 0 );
+      }
+      return top;
+   }
+
+
+   /**
+    * Returns the indices of the <tt>k</tt> largest elements of a 1-D
+    * float array, largest first, such as the <tt>k</tt> highest peaks of
+    * a spectrum.  Equal elements are taken in order of their indices,
+    * and NaN values rank below all numbers.
+    * A heap of <tt>k</tt> indices is kept, so the time taken grows as
+    * n log k rather than as n log n for a full sort.  Large arrays are
+    * processed in parallel (see class <code>Parallel</code>), with the
+    * same result.
+    *
+    * @param   a   input array.
+    * @param   k   the number of elements to find.  If it is larger
+    *              than <tt>a.length</tt>, all of the elements are
+    *              returned.
+    * @return  an array of <tt>min(k,a.length)</tt> indices into
+    *          <tt>a</tt>, in descending order of the elements
+    * @exception IllegalArgumentException  if <tt>k</tt> is negative
+    */
+   public static int[] topK ( final float a[], int k ) {
+      if ( k < 0 ) {
+         throw new IllegalArgumentException( "topK: Invalid count " + k );
+      }
+      final int m = Math.min( k, a.length );
+      int heap[] = new int[m];
+      int size = 0;
+      if ( Parallel.isParallel(a.length) && m <= Parallel.BLOCK / 8 ) {
+
+         // Find the largest elements of each block, and then the
+         // largest of those
+         final int part[][] = new int[Parallel.blocks(a.length)][];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int h[] = new int[Math.min( m, to - from )];
+               int n = 0;
+               for ( int i = from; i < to; i++ ) {
+                  n = heapPush( a, h, n, i );
+               }
+               part[from / Parallel.BLOCK] = h;
+            }
+         } );
+         for ( int b = 0; b < part.length; b++ ) {
+            for ( int j = 0; j < part[b].length; j++ ) {
+               size = heapPush( a, heap, size, part[b][j] );
+            }
+         }
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            size = heapPush( a, heap, size, i );
+         }
+      }
+
+      // Remove the smallest remaining element until the heap is empty
+      int top[] = new int[size];
+      for ( int j = size - 1; j >= 0; j-- ) {
+         top[j] = heap[0];
+         heap[0] = heap[j];
+         siftDown( a, heap, j, 0 );
+      }
+      return top;
+   }
+
+
+   /**
+    * Returns the indices of the <tt>k</tt> largest elements of a 1-D
+    * double array, largest first, such as the <tt>k</tt> highest peaks of
+    * a spectrum.  Equal elements are taken in order of their indices,
+    * and NaN values rank below all numbers.
+    * A heap of <tt>k</tt> indices is kept, so the time taken grows as
+    * n log k rather than as n log n for a full sort.  Large arrays are
+    * processed in parallel (see class <code>Parallel</code>), with the
+    * same result.
+    *
+    * @param   a   input array.
+    * @param   k   the number of elements to find.  If it is larger
+    *              than <tt>a.length</tt>, all of the elements are
+    *              returned.
+    * @return  an array of <tt>min(k,a.length)</tt> indices into
+    *          <tt>a</tt>, in descending order of the elements
+    * @exception IllegalArgumentException  if <tt>k</tt> is negative
+    */
+   public static int[] topK ( final double a[], int k ) {
+      if ( k < 0 ) {
+         throw new IllegalArgumentException( "topK: Invalid count " + k );
+      }
+      final int m = Math.min( k, a.length );
+      int heap[] = new int[m];
+      int size = 0;
+      if ( Parallel.isParallel(a.length) && m <= Parallel.BLOCK / 8 ) {
+
+         // Find the largest elements of each block, and then the
+         // largest of those
+         final int part[][] = new int[Parallel.blocks(a.length)][];
+         Parallel.forBlocks( a.length, new Parallel.Loop() {
+            void run( int from, int to ) {
+               int h[] = new int[Math.min( m, to - from )];
+               int n = 0;
+               for ( int i = from; i < to; i++ ) {
+                  n = heapPush( a, h, n, i );
+               }
+               part[from / Parallel.BLOCK] = h;
+            }
+         } );
+         for ( int b = 0; b < part.length; b++ ) {
+            for ( int j = 0; j < part[b].length; j++ ) {
+               size = heapPush( a, heap, size, part[b][j] );
+            }
+         }
+      }
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            size = heapPush( a, heap, size, i );
+         }
+      }
+
+      // Remove the smallest remaining element until the heap is empty
+      int top[] = new int[size];
+      for ( int j = size - 1; j >= 0; j-- ) {
+         top[j] = heap[0];
+         heap[0] = heap[j];
+         siftDown( a, heap, j, 0 );
+      }
+      return top;
+   }
+
+
+   //******************************************************
+   //  transpose methods
+   //******************************************************
+
+   /**
+    * Returns the transpose of a 2-D array.  The copy is
+    * made in square tiles, so that both the input and the
+    * output are accessed in cache-sized pieces, and the
+    * tiles are processed in parallel for large matrices.
+    *
+    * @param   a   input matrix, with m rows and n columns.
+    * @return  the n x m matrix whose element <tt>[j][i]</tt>
+    *          is <tt>a[i][j]</tt>
+    * @exception InvalidArraySizeException if the array is not
+    *          rectangular.
+    */
+   public static double[][] transpose ( final double a[][] ) {
+      final int m = a.length;
+      int n = matrixCols( a, "transpose" );
+      final double c[][] = new double[n][m];
+      final int T = MatrixKernel.TILE;
+      Parallel.forRange( n, T, Parallel.isParallel(m * n), new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int ii = 0; ii < m; ii += T ) {
+               int iEnd = Math.min( ii + T, m );
+               for ( int j = from; j < to; j++ ) {
+                  double cj[] = c[j];
+                  for ( int i = ii; i < iEnd; i++ )
+                     cj[i] = a[i][j];
+               }
+            }
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns the transpose of a 2-D array.  The copy is
+    * made in square tiles, so that both the input and the
+    * output are accessed in cache-sized pieces, and the
+    * tiles are processed in parallel for large matrices.
+    *
+    * @param   a   input matrix, with m rows and n columns.
+    * @return  the n x m matrix whose element <tt>[j][i]</tt>
+    *          is <tt>a[i][j]</tt>
+    * @exception InvalidArraySizeException if the array is not
+    *          rectangular.
+    */
+   public static float[][] transpose ( final float a[][] ) {
+      final int m = a.length;
+      int n = matrixCols( a, "transpose" );
+      final float c[][] = new float[n][m];
+      final int T = MatrixKernel.TILE;
+      Parallel.forRange( n, T, Parallel.isParallel(m * n), new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int ii = 0; ii < m; ii += T ) {
+               int iEnd = Math.min( ii + T, m );
+               for ( int j = from; j < to; j++ ) {
+                  float cj[] = c[j];
+                  for ( int i = ii; i < iEnd; i++ )
+                     cj[i] = a[i][j];
+               }
+            }
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns the transpose of a 2-D complex array.  The
+    * elements of the result are the same <tt>Complex</tt>
+    * objects as the elements of the input; they are not
+    * copied or conjugated.
+    *
+    * @param   a   input matrix, with m rows and n columns.
+    * @return  the n x m matrix whose element <tt>[j][i]</tt>
+    *          is <tt>a[i][j]</tt>
+    * @exception InvalidArraySizeException if the array is not
+    *          rectangular.
+    */
+   public static Complex[][] transpose ( final Complex a[][] ) {
+      final int m = a.length;
+      int n = matrixCols( a, "transpose" );
+      final Complex c[][] = new Complex[n][m];
+      final int T = MatrixKernel.TILE;
+      Parallel.forRange( n, T, Parallel.isParallel(m * n), new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int ii = 0; ii < m; ii += T ) {
+               int iEnd = Math.min( ii + T, m );
+               for ( int j = from; j < to; j++ ) {
+                  Complex cj[] = c[j];
+                  for ( int i = ii; i < iEnd; i++ )
+                     cj[i] = a[i][j];
+               }
+            }
+         }
+      } );
+      return c;
+   }
+
+
+   //******************************************************
+   //  where methods
+   //******************************************************
+
+   /**
+    * Returns an array that takes each element from <tt>a</tt>
+    * where the mask is <tt>true</tt> and from <tt>b</tt>
+    * where it is <tt>false</tt>.  For large arrays, the
+    * selection runs in parallel.
+    *
+    * @param   mask   selecting mask.
+    * @param   a      values used where <tt>mask</tt> is <tt>true</tt>.
+    * @param   b      values used where <tt>mask</tt> is <tt>false</tt>.
+    * @return  a new array holding <tt>mask[i] ? a[i] : b[i]</tt>
+    */
+   public static int[] where ( final boolean mask[], final int a[], final int b[] ) {
+      if ( a.length != b.length || a.length != mask.length ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final int c[] = new int[a.length];
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = ( mask[i] ) ? a[i] : b[i];
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns an array that takes each element from <tt>a</tt>
+    * where the mask is <tt>true</tt> and from <tt>b</tt>
+    * where it is <tt>false</tt>.  For large arrays, the
+    * selection runs in parallel.
+    *
+    * @param   mask   selecting mask.
+    * @param   a      values used where <tt>mask</tt> is <tt>true</tt>.
+    * @param   b      values used where <tt>mask</tt> is <tt>false</tt>.
+    * @return  a new array holding <tt>mask[i] ? a[i] : b[i]</tt>
+    */
+   public static long[] where ( final boolean mask[], final long a[], final long b[] ) {
+      if ( a.length != b.length || a.length != mask.length ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final long c[] = new long[a.length];
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = ( mask[i] ) ? a[i] : b[i];
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns an array that takes each element from <tt>a</tt>
+    * where the mask is <tt>true</tt> and from <tt>b</tt>
+    * where it is <tt>false</tt>.  For large arrays, the
+    * selection runs in parallel.
+    *
+    * @param   mask   selecting mask.
+    * @param   a      values used where <tt>mask</tt> is <tt>true</tt>.
+    * @param   b      values used where <tt>mask</tt> is <tt>false</tt>.
+    * @return  a new array holding <tt>mask[i] ? a[i] : b[i]</tt>
+    */
+   public static float[] where ( final boolean mask[], final float a[], final float b[] ) {
+      if ( a.length != b.length || a.length != mask.length ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final float c[] = new float[a.length];
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = ( mask[i] ) ? a[i] : b[i];
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns an array that takes each element from <tt>a</tt>
+    * where the mask is <tt>true</tt> and from <tt>b</tt>
+    * where it is <tt>false</tt>.  For large arrays, the
+    * selection runs in parallel.
+    *
+    * @param   mask   selecting mask.
+    * @param   a      values used where <tt>mask</tt> is <tt>true</tt>.
+    * @param   b      values used where <tt>mask</tt> is <tt>false</tt>.
+    * @return  a new array holding <tt>mask[i] ? a[i] : b[i]</tt>
+    */
+   public static double[] where ( final boolean mask[], final double a[], final double b[] ) {
+      if ( a.length != b.length || a.length != mask.length ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final double c[] = new double[a.length];
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = ( mask[i] ) ? a[i] : b[i];
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns an array that takes each element from <tt>a</tt>
+    * where the mask is <tt>true</tt> and from <tt>b</tt>
+    * where it is <tt>false</tt>.  For large arrays, the
+    * selection runs in parallel.
+    *
+    * @param   mask   selecting mask.
+    * @param   a      values used where <tt>mask</tt> is <tt>true</tt>.
+    * @param   b      values used where <tt>mask</tt> is <tt>false</tt>.
+    * @return  a new array holding <tt>mask[i] ? a[i] : b[i]</tt>
+    */
+   public static Complex[] where ( final boolean mask[], final Complex a[], final Complex b[] ) {
+      if ( a.length != b.length || a.length != mask.length ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final Complex c[] = new Complex[a.length];
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = ( mask[i] ) ? a[i] : b[i];
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns an array that takes each element from <tt>a</tt>
+    * where the bitset mask is <tt>true</tt> and from <tt>b</tt>
+    * where it is <tt>false</tt>.  For large arrays, the
+    * selection runs in parallel.
+    *
+    * @param   mask   selecting bitset mask.
+    * @param   a      values used where <tt>mask</tt> is <tt>true</tt>.
+    * @param   b      values used where <tt>mask</tt> is <tt>false</tt>.
+    * @return  a new array holding <tt>mask[i] ? a[i] : b[i]</tt>
+    */
+   public static int[] where ( final BitMask mask, final int a[], final int b[] ) {
+      if ( a.length != b.length || a.length != mask.length() ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final long w[] = mask.words();
+      final int c[] = new int[a.length];
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = ( (w[i >>> 6] & (1L << i)) != 0 ) ? a[i] : b[i];
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns an array that takes each element from <tt>a</tt>
+    * where the bitset mask is <tt>true</tt> and from <tt>b</tt>
+    * where it is <tt>false</tt>.  For large arrays, the
+    * selection runs in parallel.
+    *
+    * @param   mask   selecting bitset mask.
+    * @param   a      values used where <tt>mask</tt> is <tt>true</tt>.
+    * @param   b      values used where <tt>mask</tt> is <tt>false</tt>.
+    * @return  a new array holding <tt>mask[i] ? a[i] : b[i]</tt>
+    */
+   public static long[] where ( final BitMask mask, final long a[], final long b[] ) {
+      if ( a.length != b.length || a.length != mask.length() ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final long w[] = mask.words();
+      final long c[] = new long[a.length];
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = ( (w[i >>> 6] & (1L << i)) != 0 ) ? a[i] : b[i];
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns an array that takes each element from <tt>a</tt>
+    * where the bitset mask is <tt>true</tt> and from <tt>b</tt>
+    * where it is <tt>false</tt>.  For large arrays, the
+    * selection runs in parallel.
+    *
+    * @param   mask   selecting bitset mask.
+    * @param   a      values used where <tt>mask</tt> is <tt>true</tt>.
+    * @param   b      values used where <tt>mask</tt> is <tt>false</tt>.
+    * @return  a new array holding <tt>mask[i] ? a[i] : b[i]</tt>
+    */
+   public static float[] where ( final BitMask mask, final float a[], final float b[] ) {
+      if ( a.length != b.length || a.length != mask.length() ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final long w[] = mask.words();
+      final float c[] = new float[a.length];
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = ( (w[i >>> 6] & (1L << i)) != 0 ) ? a[i] : b[i];
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns an array that takes each element from <tt>a</tt>
+    * where the bitset mask is <tt>true</tt> and from <tt>b</tt>
+    * where it is <tt>false</tt>.  For large arrays, the
+    * selection runs in parallel.
+    *
+    * @param   mask   selecting bitset mask.
+    * @param   a      values used where <tt>mask</tt> is <tt>true</tt>.
+    * @param   b      values used where <tt>mask</tt> is <tt>false</tt>.
+    * @return  a new array holding <tt>mask[i] ? a[i] : b[i]</tt>
+    */
+   public static double[] where ( final BitMask mask, final double a[], final double b[] ) {
+      if ( a.length != b.length || a.length != mask.length() ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final long w[] = mask.words();
+      final double c[] = new double[a.length];
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = ( (w[i >>> 6] & (1L << i)) != 0 ) ? a[i] : b[i];
+         }
+      } );
+      return c;
+   }
+
+
+   /**
+    * Returns an array that takes each element from <tt>a</tt>
+    * where the bitset mask is <tt>true</tt> and from <tt>b</tt>
+    * where it is <tt>false</tt>.  For large arrays, the
+    * selection runs in parallel.
+    *
+    * @param   mask   selecting bitset mask.
+    * @param   a      values used where <tt>mask</tt> is <tt>true</tt>.
+    * @param   b      values used where <tt>mask</tt> is <tt>false</tt>.
+    * @return  a new array holding <tt>mask[i] ? a[i] : b[i]</tt>
+    */
+   public static Complex[] where ( final BitMask mask, final Complex a[], final Complex b[] ) {
+      if ( a.length != b.length || a.length != mask.length() ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      final long w[] = mask.words();
+      final Complex c[] = new Complex[a.length];
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               c[i] = ( (w[i >>> 6] & (1L << i)) != 0 ) ? a[i] : b[i];
+         }
+      } );
+      return c;
+   }
+
+
+   //******************************************************
+   //  xor methods
+   //******************************************************
+
+   /**
+    * Returns the element-by-element logical <code>xor</code> of
+    * two boolean arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  the <code>boolean</code> result
+    */
+   public static boolean[] xor ( boolean a[], boolean b[] ) {
+      boolean xor[] = new boolean[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "xor: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
       for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (Complex.abs(a[i][j]) > maxVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               maxVal = Complex.abs(a[i][j]);
+         xor[i] = a[i] ^ b[i];
+      }
+      return xor;
+   }
+
+
+   /**
+    * Returns the element-by-element logical <code>xor</code> of
+    * two boolean arrays.
+    *
+    * @param   a   input array 1.
+    * @param   b   input array 2.
+    * @return  the <code>boolean</code> result
+    */
+   public static boolean[][] xor ( boolean a[][], boolean b[][] ) {
+      boolean xor[][] = new boolean[a.length][];
+
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "xor: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "xor: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            xor[i] = new boolean[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               xor[i][j] = a[i][j] ^ b[i][j];
             }
          }
       }
-      return iloc;
+      return xor;
    }
 
 
    //******************************************************
-   //  maxLoc methods
+   //  trig and special functions
    //******************************************************
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the sine of the elements in an array
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  sin(a)
     */
-   public static int maxLoc ( int a[] ) {
-      int iloc = 0;
-      int maxVal = a[0];
+   public static double[] sin ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).sin().eval();
+      }
+      double sin[] = new double[a.length];
+
       for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] > maxVal) {
-            iloc = i;
-            maxVal = a[i];
-         }
+         sin[i] = Math.sin(a[i]);
       }
-      return iloc;
+      return sin;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the sine of the elements in an array
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  sin(a)
     */
-   public static int maxLoc ( long a[] ) {
-      int iloc = 0;
-      long maxVal = a[0];
+   public static double[][] sin ( double a[][] ) {
+      double sin[][] = new double[a.length][];
+
       for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] > maxVal) {
-            iloc = i;
-            maxVal = a[i];
+         sin[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sin[i][j] = Math.sin(a[i][j]);
          }
       }
-      return iloc;
+      return sin;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the sine of the elements in a float array
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  sin(a)
     */
-   public static int maxLoc ( float a[] ) {
-      int iloc = 0;
-      float maxVal = a[0];
-      for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] > maxVal) {
-            iloc = i;
-            maxVal = a[i];
+   public static float[] sin ( float a[] ) {
+      return sin( a, new float[a.length] );
+   }
+
+
+   /**
+    * Calculates the sine of the elements in a float array, storing the
+    * results in array <code>out</code>.  The calculation is done in
+    * float arithmetic (see class <code>FastMath</code>), without
+    * converting the array to double.  <code>out</code> may be the same
+    * array as <code>a</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
+    *
+    * @param   a   input array, in <i>radians</i>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing sin(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] sin ( float a[], float out[] ) {
+      return FastMath.sin( a, out );
+   }
+
+
+   /**
+    * Returns the sine of the elements in a <code>Complex</code> array
+    *
+    * @param   z   input array
+    * @return  sin(z)
+    */
+   public static Complex[] sin ( Complex z[] ) {
+      Complex sin[] = new Complex[z.length];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         sin[i] = Complex.sin(z[i]);
+      }
+      return sin;
+   }
+
+
+   /**
+    * Returns the sine of the elements in a <code>Complex</code> array
+    *
+    * @param   z   input array
+    * @return  sin(z)
+    */
+   public static Complex[][] sin ( Complex z[][] ) {
+      Complex sin[][] = new Complex[z.length][];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         sin[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            sin[i][j] = Complex.sin(z[i][j]);
          }
       }
-      return iloc;
+      return sin;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the sine of the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i]</tt>
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  sin(z)
     */
-   public static int maxLoc ( double a[] ) {
-      int iloc = 0;
-      double maxVal = a[0];
+   public static ComplexArray sin ( ComplexArray z ) {
+      return sin( z, new ComplexArray(z.length()) );
+   }
+
+
+   /**
+    * Calculates the sine of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
+    *
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing sin(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
+    */
+   public static ComplexArray sin ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.SIN, z, null, 0, 0, out, "sin" );
+      return out;
+   }
+
+
+   /**
+    * Returns the sine of the elements in an array, where the
+    * input arguments are in <i>degrees</i>.
+    *
+    * @param   a   input array, in <i>degrees</i>.
+    * @return  sind(a)
+    */
+   public static double[] sind ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).sind().eval();
+      }
+      double sind[] = new double[a.length];
+
       for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] > maxVal) {
-            iloc = i;
-            maxVal = a[i];
-         }
+         sind[i] = Math1.sind(a[i]);
       }
-      return iloc;
+      return sind;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the sine of the elements in an array, where the
+    * input arguments are in <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>degrees</i>.
+    * @return  sind(a)
     */
-   public static int[] maxLoc ( int a[][] ) {
-      int iloc[] = {0, 0};
-      int maxVal = a[0][0];
+   public static double[][] sind ( double a[][] ) {
+      double sind[][] = new double[a.length][];
+
       for ( int i = 0; i < a.length; i++ ) {
+         sind[i] = new double[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] > maxVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               maxVal = a[i][j];
-            }
+            sind[i][j] = Math1.sind(a[i][j]);
          }
       }
-      return iloc;
+      return sind;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the sine of the elements in a float array, where the
+    * input arguments are in <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>degrees</i>.
+    * @return  sind(a)
     */
-   public static int[] maxLoc ( long a[][] ) {
-      int iloc[] = {0, 0};
-      long maxVal = a[0][0];
+   public static float[] sind ( float a[] ) {
+      return sind( a, new float[a.length] );
+   }
+
+
+   /**
+    * Calculates the sine of the elements in a float array, where the
+    * input arguments are in <i>degrees</i>, storing the results in
+    * array <code>out</code>.  The calculation is done in float
+    * arithmetic (see class <code>FastMath</code>), without converting
+    * the array to double.  <code>out</code> may be the same array as
+    * <code>a</code>.  Large arrays are processed in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array, in <i>degrees</i>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing sind(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] sind ( float a[], float out[] ) {
+      return FastMath.sind( a, out );
+   }
+
+
+   /**
+    * Returns the hyperbolic sine of the elements in an array
+    *
+    * @param   a   input array, in <i>radians</i>.
+    * @return  sinh(a)
+    */
+   public static double[] sinh ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).sinh().eval();
+      }
+      double sinh[] = new double[a.length];
+
       for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] > maxVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               maxVal = a[i][j];
-            }
+         sinh[i] = Math1.sinh(a[i]);
+      }
+      return sinh;
+   }
+
+
+   /**
+    * Returns the hyperbolic sine of the elements in an array
+    *
+    * @param   a   input array, in <i>radians</i>.
+    * @return  sinh(a)
+    */
+   public static double[][] sinh ( double a[][] ) {
+      double sinh[][] = new double[a.length][];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         sinh[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sinh[i][j] = Math1.sinh(a[i][j]);
          }
       }
-      return iloc;
+      return sinh;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the hyperbolic sine of the elements in a float array
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  sinh(a)
     */
-   public static int[] maxLoc ( float a[][] ) {
-      int iloc[] = {0, 0};
-      float maxVal = a[0][0];
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] > maxVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               maxVal = a[i][j];
-            }
-         }
-      }
-      return iloc;
+   public static float[] sinh ( float a[] ) {
+      return sinh( a, new float[a.length] );
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Calculates the hyperbolic sine of the elements in a float array,
+    * storing the results in array <code>out</code>.  Each element is
+    * evaluated without creating a double copy of the array.
+    * <code>out</code> may be the same array as <code>a</code>.  Large
+    * arrays are processed in parallel (see class
+    * <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing sinh(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static int[] maxLoc ( double a[][] ) {
-      int iloc[] = {0, 0};
-      double maxVal = a[0][0];
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] > maxVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               maxVal = a[i][j];
-            }
-         }
-      }
-      return iloc;
+   public static float[] sinh ( float a[], float out[] ) {
+      map( F_SINH, a, out, "sinh" );
+      return out;
    }
 
 
-   //******************************************************
-   //  maxVal methods
-   //******************************************************
-
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the hyperbolic sine of the elements in a
+    * <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i]</tt>
+    * @param   z   input array
+    * @return  sinh(z)
     */
-   public static int maxVal ( int a[] ) {
-      int maxVal = a[0];
-      for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] > maxVal) {
-            maxVal = a[i];
-         }
+   public static Complex[] sinh ( Complex z[] ) {
+      Complex sinh[] = new Complex[z.length];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         sinh[i] = Complex.sinh(z[i]);
       }
-      return maxVal;
+      return sinh;
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the hyperbolic sine of the elements in a
+    * <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i]</tt>
+    * @param   z   input array
+    * @return  sinh(z)
     */
-   public static long maxVal ( long a[] ) {
-      long maxVal = a[0];
-      for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] > maxVal) {
-            maxVal = a[i];
+   public static Complex[][] sinh ( Complex z[][] ) {
+      Complex sinh[][] = new Complex[z.length][];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         sinh[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            sinh[i][j] = Complex.sinh(z[i][j]);
          }
       }
-      return maxVal;
+      return sinh;
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the hyperbolic sine of the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i]</tt>
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  sinh(z)
     */
-   public static float maxVal ( float a[] ) {
-      float maxVal = a[0];
-      for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] > maxVal) {
-            maxVal = a[i];
-         }
-      }
-      return maxVal;
+   public static ComplexArray sinh ( ComplexArray z ) {
+      return sinh( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Calculates the hyperbolic sine of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i]</tt>
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing sinh(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static double maxVal ( double a[] ) {
-      double maxVal = a[0];
-      for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] > maxVal) {
-            maxVal = a[i];
-         }
-      }
-      return maxVal;
+   public static ComplexArray sinh ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.SINH, z, null, 0, 0, out, "sinh" );
+      return out;
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the sinc function of the elements in an array, where
+    * sinc <i>a</i> is defined as sin <i>a</i> / <i>a</i>.
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  sinc(a)
     */
-   public static int maxVal ( int a[][] ) {
-      int maxVal = a[0][0];
+   public static double[] sinc ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).sinc().eval();
+      }
+      double sinc[] = new double[a.length];
+
       for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] > maxVal) {
-               maxVal = a[i][j];
-            }
-         }
+         sinc[i] = Math1.sinc(a[i]);
       }
-      return maxVal;
+      return sinc;
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the sinc function of the elements in an array, where
+    * sinc <i>a</i> is defined as sin <i>a</i> / <i>a</i>.
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  sinc(a)
     */
-   public static long maxVal ( long a[][] ) {
-      long maxVal = a[0][0];
+   public static double[][] sinc ( double a[][] ) {
+      double sinc[][] = new double[a.length][];
+
       for ( int i = 0; i < a.length; i++ ) {
+         sinc[i] = new double[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] > maxVal) {
-               maxVal = a[i][j];
-            }
+            sinc[i][j] = Math1.sinc(a[i][j]);
          }
       }
-      return maxVal;
+      return sinc;
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the sinc function of the elements in a float array, where
+    * sinc <i>a</i> is defined as sin <i>a</i> / <i>a</i>.
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  sinc(a)
     */
-   public static float maxVal ( float a[][] ) {
-      float maxVal = a[0][0];
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] > maxVal) {
-               maxVal = a[i][j];
-            }
-         }
-      }
-      return maxVal;
+   public static float[] sinc ( float a[] ) {
+      return sinc( a, new float[a.length] );
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Calculates the sinc function of the elements in a float array,
+    * where sinc <i>a</i> is defined as sin <i>a</i> / <i>a</i>, storing
+    * the results in array <code>out</code>.  The calculation is done in
+    * float arithmetic (see class <code>FastMath</code>), without
+    * converting the array to double.  <code>out</code> may be the same
+    * array as <code>a</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing sinc(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static double maxVal ( double a[][] ) {
-      double maxVal = a[0][0];
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] > maxVal) {
-               maxVal = a[i][j];
-            }
-         }
-      }
-      return maxVal;
+   public static float[] sinc ( float a[], float out[] ) {
+      return FastMath.sinc( a, out );
    }
 
 
-   //******************************************************
-   //  minLoc methods
-   //******************************************************
-
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the cosine of the elements in an array
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  cos(a)
     */
-   public static int minLoc ( int a[] ) {
-      int iloc = 0;
-      int minVal = a[0];
+   public static double[] cos ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).cos().eval();
+      }
+      double cos[] = new double[a.length];
+
       for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] < minVal) {
-            iloc = i;
-            minVal = a[i];
-         }
+         cos[i] = Math.cos(a[i]);
       }
-      return iloc;
+      return cos;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the cosine of the elements in an array
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  cos(a)
     */
-   public static int minLoc ( long a[] ) {
-      int iloc = 0;
-      long minVal = a[0];
+   public static double[][] cos ( double a[][] ) {
+      double cos[][] = new double[a.length][];
+
       for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] < minVal) {
-            iloc = i;
-            minVal = a[i];
+         cos[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            cos[i][j] = Math.cos(a[i][j]);
          }
       }
-      return iloc;
+      return cos;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the cosine of the elements in a float array
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  cos(a)
     */
-   public static int minLoc ( float a[] ) {
-      int iloc = 0;
-      float minVal = a[0];
-      for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] < minVal) {
-            iloc = i;
-            minVal = a[i];
-         }
+   public static float[] cos ( float a[] ) {
+      return cos( a, new float[a.length] );
+   }
+
+
+   /**
+    * Calculates the cosine of the elements in a float array, storing
+    * the results in array <code>out</code>.  The calculation is done in
+    * float arithmetic (see class <code>FastMath</code>), without
+    * converting the array to double.  <code>out</code> may be the same
+    * array as <code>a</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
+    *
+    * @param   a   input array, in <i>radians</i>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing cos(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] cos ( float a[], float out[] ) {
+      return FastMath.cos( a, out );
+   }
+
+
+   /**
+    * Returns the cosine of the elements in a <code>Complex</code> array
+    *
+    * @param   z   input array
+    * @return  cos(z)
+    */
+   public static Complex[] cos ( Complex z[] ) {
+      Complex cos[] = new Complex[z.length];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         cos[i] = Complex.cos(z[i]);
       }
-      return iloc;
+      return cos;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the cosine of the elements in a <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i]</tt>
+    * @param   z   input array
+    * @return  sin(z)
     */
-   public static int minLoc ( double a[] ) {
-      int iloc = 0;
-      double minVal = a[0];
-      for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] < minVal) {
-            iloc = i;
-            minVal = a[i];
+   public static Complex[][] cos ( Complex z[][] ) {
+      Complex cos[][] = new Complex[z.length][];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         cos[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            cos[i][j] = Complex.cos(z[i][j]);
          }
       }
-      return iloc;
+      return cos;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the cosine of the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i][j]</tt>
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  cos(z)
     */
-   public static int[] minLoc ( int a[][] ) {
-      int iloc[] = {0, 0};
-      int minVal = a[0][0];
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] < minVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               minVal = a[i][j];
-            }
-         }
-      }
-      return iloc;
+   public static ComplexArray cos ( ComplexArray z ) {
+      return cos( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Calculates the cosine of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i][j]</tt>
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing cos(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static int[] minLoc ( long a[][] ) {
-      int iloc[] = {0, 0};
-      long minVal = a[0][0];
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] < minVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               minVal = a[i][j];
-            }
-         }
-      }
-      return iloc;
+   public static ComplexArray cos ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.COS, z, null, 0, 0, out, "cos" );
+      return out;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the cosine of the elements in an array, where the
+    * input arguments are in <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>degrees</i>.
+    * @return  cosd(a)
     */
-   public static int[] minLoc ( float a[][] ) {
-      int iloc[] = {0, 0};
-      float minVal = a[0][0];
+   public static double[] cosd ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).cosd().eval();
+      }
+      double cosd[] = new double[a.length];
+
       for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] < minVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               minVal = a[i][j];
-            }
-         }
+         cosd[i] = Math1.cosd(a[i]);
       }
-      return iloc;
+      return cosd;
    }
 
 
    /**
-    * Returns the index of the element having the maximum
-    * value of any element in an array.
+    * Returns the cosine of the elements in an array, where the
+    * input arguments are in <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @return  the index of the element having the maximum
-    *          value of all <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>degrees</i>.
+    * @return  cosd(a)
     */
-   public static int[] minLoc ( double a[][] ) {
-      int iloc[] = {0, 0};
-      double minVal = a[0][0];
+   public static double[][] cosd ( double a[][] ) {
+      double cosd[][] = new double[a.length][];
+
       for ( int i = 0; i < a.length; i++ ) {
+         cosd[i] = new double[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] < minVal) {
-               iloc[0] = i;
-               iloc[1] = j;
-               minVal = a[i][j];
-            }
+            cosd[i][j] = Math1.cosd(a[i][j]);
          }
       }
-      return iloc;
+      return cosd;
    }
 
 
-   //******************************************************
-   //  minVal methods
-   //******************************************************
-
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the cosine of the elements in a float array, where the
+    * input arguments are in <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i]</tt>
+    * @param   a   input array, in <i>degrees</i>.
+    * @return  cosd(a)
     */
-   public static int minVal ( int a[] ) {
-      int minVal = a[0];
-      for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] < minVal) {
-            minVal = a[i];
-         }
-      }
-      return minVal;
+   public static float[] cosd ( float a[] ) {
+      return cosd( a, new float[a.length] );
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Calculates the cosine of the elements in a float array, where the
+    * input arguments are in <i>degrees</i>, storing the results in
+    * array <code>out</code>.  The calculation is done in float
+    * arithmetic (see class <code>FastMath</code>), without converting
+    * the array to double.  <code>out</code> may be the same array as
+    * <code>a</code>.  Large arrays are processed in parallel (see class
+    * <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i]</tt>
+    * @param   a   input array, in <i>degrees</i>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing cosd(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static long minVal ( long a[] ) {
-      long minVal = a[0];
-      for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] < minVal) {
-            minVal = a[i];
-         }
-      }
-      return minVal;
+   public static float[] cosd ( float a[], float out[] ) {
+      return FastMath.cosd( a, out );
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the hyperbolic cosine of the elements in an array
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  cosh(a)
     */
-   public static float minVal ( float a[] ) {
-      float minVal = a[0];
+   public static double[] cosh ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).cosh().eval();
+      }
+      double cosh[] = new double[a.length];
+
       for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] < minVal) {
-            minVal = a[i];
-         }
+         cosh[i] = Math1.cosh(a[i]);
       }
-      return minVal;
+      return cosh;
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the hyperbolic cosine of the elements in an array
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  cosh(a)
     */
-   public static double minVal ( double a[] ) {
-      double minVal = a[0];
+   public static double[][] cosh ( double a[][] ) {
+      double cosh[][] = new double[a.length][];
+
       for ( int i = 0; i < a.length; i++ ) {
-         if (a[i] < minVal) {
-            minVal = a[i];
+         cosh[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            cosh[i][j] = Math1.cosh(a[i][j]);
          }
       }
-      return minVal;
+      return cosh;
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the hyperbolic cosine of the elements in a float array
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @return  cosh(a)
     */
-   public static int minVal ( int a[][] ) {
-      int minVal = a[0][0];
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] < minVal) {
-               minVal = a[i][j];
-            }
-         }
-      }
-      return minVal;
+   public static float[] cosh ( float a[] ) {
+      return cosh( a, new float[a.length] );
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Calculates the hyperbolic cosine of the elements in a float array,
+    * storing the results in array <code>out</code>.  Each element is
+    * evaluated without creating a double copy of the array.
+    * <code>out</code> may be the same array as <code>a</code>.  Large
+    * arrays are processed in parallel (see class
+    * <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i][j]</tt>
+    * @param   a   input array, in <i>radians</i>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing cosh(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static long minVal ( long a[][] ) {
-      long minVal = a[0][0];
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] < minVal) {
-               minVal = a[i][j];
-            }
-         }
-      }
-      return minVal;
+   public static float[] cosh ( float a[], float out[] ) {
+      map( F_COSH, a, out, "cosh" );
+      return out;
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the hyperbolic cosine of the elements in a
+    * <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i][j]</tt>
+    * @param   z   input array
+    * @return  cosh(z)
     */
-   public static float minVal ( float a[][] ) {
-      float minVal = a[0][0];
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] < minVal) {
-               minVal = a[i][j];
-            }
-         }
+   public static Complex[] cosh ( Complex z[] ) {
+      Complex cosh[] = new Complex[z.length];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         cosh[i] = Complex.cosh(z[i]);
       }
-      return minVal;
+      return cosh;
    }
 
 
    /**
-    * Returns the maximum value of any element in an array.
+    * Returns the hyperbolic cosine of the elements in a
+    * <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @return  the maximum value of <tt>a[i][j]</tt>
+    * @param   z   input array
+    * @return  cosh(z)
     */
-   public static double minVal ( double a[][] ) {
-      double minVal = a[0][0];
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            if (a[i][j] < minVal) {
-               minVal = a[i][j];
-            }
+   public static Complex[][] cosh ( Complex z[][] ) {
+      Complex cosh[][] = new Complex[z.length][];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         cosh[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            cosh[i][j] = Complex.cosh(z[i][j]);
          }
       }
-      return minVal;
+      return cosh;
    }
 
 
-   //******************************************************
-   //  multiply element-by-element methods
-   //******************************************************
-
    /**
-    * Returns the element-by-element product of two 1-D int arrays.
+    * Returns the hyperbolic cosine of the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the product of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  cosh(z)
     */
-   public static int[] mul ( int a[], int b[] ) {
-
-      int mul[] = new int[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "mul: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            mul[i] = a[i] * b[i];
-      }
-      return mul;
+   public static ComplexArray cosh ( ComplexArray z ) {
+      return cosh( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Returns the element-by-element product of two 1-D long arrays.
+    * Calculates the hyperbolic cosine of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the product of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing cosh(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static long[] mul ( long a[], long b[] ) {
-
-      long mul[] = new long[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "mul: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            mul[i] = a[i] * b[i];
-      }
-      return mul;
+   public static ComplexArray cosh ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.COSH, z, null, 0, 0, out, "cosh" );
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element product of two 1-D float arrays.
+    * Returns the tangent of the elements in an array
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the product of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, in <i>radians</i>.
+    * @return  tan(a)
     */
-   public static float[] mul ( float a[], float b[] ) {
-
-      float mul[] = new float[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "mul: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   public static double[] tan ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).tan().eval();
       }
+      double tan[] = new double[a.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            mul[i] = (float) (a[i] * b[i]);
+      for ( int i = 0; i < a.length; i++ ) {
+         tan[i] = Math.tan(a[i]);
       }
-      return mul;
+      return tan;
    }
 
 
    /**
-    * Returns the element-by-element product of two 1-D double arrays.
+    * Returns the tangent of the elements in an array
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the product of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, in <i>radians</i>.
+    * @return  tan(a)
     */
-   public static double[] mul ( double a[], double b[] ) {
-
-      double mul[] = new double[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "mul: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   public static double[][] tan ( double a[][] ) {
+      double tan[][] = new double[a.length][];
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            mul[i] = a[i] * b[i];
+      for ( int i = 0; i < a.length; i++ ) {
+         tan[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            tan[i][j] = Math.tan(a[i][j]);
+         }
       }
-      return mul;
+      return tan;
    }
 
 
    /**
-    * Returns the element-by-element product of two 1-D Complex arrays.
+    * Returns the tangent of the elements in a float array
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the product of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, in <i>radians</i>.
+    * @return  tan(a)
     */
-   public static Complex[] mul ( Complex a[], Complex b[] ) {
-
-      Complex mul[] = new Complex[a.length];
+   public static float[] tan ( float a[] ) {
+      return tan( a, new float[a.length] );
+   }
 
-      if ( a.length != b.length ) {
-         String s = "mul: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            mul[i] = a[i].mul(b[i]);
-      }
-      return mul;
+   /**
+    * Calculates the tangent of the elements in a float array, storing
+    * the results in array <code>out</code>.  Each element is evaluated
+    * without creating a double copy of the array.  <code>out</code> may
+    * be the same array as <code>a</code>.  Large arrays are processed
+    * in parallel (see class <code>Parallel</code>).
+    *
+    * @param   a   input array, in <i>radians</i>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing tan(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] tan ( float a[], float out[] ) {
+      map( F_TAN, a, out, "tan" );
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element product of two 2-D int arrays.
+    * Returns the tangent of the elements in a <code>Complex</code> array
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the product of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   input array
+    * @return  tan(z)
     */
-   public static int[][] mul ( int a[][], int b[][] ) {
-      int mul[][] = new int[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "mul: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   public static Complex[] tan ( Complex z[] ) {
+      Complex tan[] = new Complex[z.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "mul: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            mul[i] = new int[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               mul[i][j] = a[i][j] * b[i][j];
-            }
-         }
+      for ( int i = 0; i < z.length; i++ ) {
+         tan[i] = Complex.tan(z[i]);
       }
-      return mul;
+      return tan;
    }
 
 
    /**
-    * Returns the element-by-element product of two 2-D long arrays.
+    * Returns the tangent of the elements in a <code>Complex</code> array
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the product of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   input array
+    * @return  sin(z)
     */
-   public static long[][] mul ( long a[][], long b[][] ) {
-      long mul[][] = new long[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "mul: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   public static Complex[][] tan ( Complex z[][] ) {
+      Complex tan[][] = new Complex[z.length][];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "mul: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            mul[i] = new long[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               mul[i][j] = a[i][j] *+ b[i][j];
-            }
+      for ( int i = 0; i < z.length; i++ ) {
+         tan[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            tan[i][j] = Complex.tan(z[i][j]);
          }
       }
-      return mul;
+      return tan;
    }
 
 
    /**
-    * Returns the element-by-element product of two 2-D float arrays.
+    * Returns the tangent of the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the product of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  tan(z)
     */
-   public static float[][] mul ( float a[][], float b[][] ) {
-      float mul[][] = new float[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "mul: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "mul: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            mul[i] = new float[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               mul[i][j] = a[i][j] * b[i][j];
-            }
-         }
-      }
-      return mul;
+   public static ComplexArray tan ( ComplexArray z ) {
+      return tan( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Returns the element-by-element product of two 2-D double arrays.
+    * Calculates the tangent of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the product of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing tan(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static double[][] mul ( double a[][], double b[][] ) {
-      double mul[][] = new double[a.length][];
+   public static ComplexArray tan ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.TAN, z, null, 0, 0, out, "tan" );
+      return out;
+   }
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "mul: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "mul: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            mul[i] = new double[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               mul[i][j] = a[i][j] * b[i][j];
-            }
-         }
+   /**
+    * Returns the tangent of the elements in an array, where the
+    * input arguments are in <i>degrees</i>.
+    *
+    * @param   a   input array, in <i>degrees</i>.
+    * @return  tand(a)
+    */
+   public static double[] tand ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).tand().eval();
       }
-      return mul;
+      double tand[] = new double[a.length];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         tand[i] = Math1.tand(a[i]);
+      }
+      return tand;
    }
 
 
    /**
-    * Returns the element-by-element product of two 2-D Complex arrays.
+    * Returns the tangent of the elements in an array, where the
+    * input arguments are in <i>degrees</i>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the product of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, in <i>degrees</i>.
+    * @return  tand(a)
     */
-   public static Complex[][] mul ( Complex a[][], Complex b[][] ) {
-      Complex mul[][] = new Complex[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "mul: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   public static double[][] tand ( double a[][] ) {
+      double tand[][] = new double[a.length][];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "mul: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            mul[i] = new Complex[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               mul[i][j] = a[i][j].mul(b[i][j]);
-            }
+      for ( int i = 0; i < a.length; i++ ) {
+         tand[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            tand[i][j] = Math1.tand(a[i][j]);
          }
       }
-      return mul;
+      return tand;
    }
 
 
-   //******************************************************
-   //  multiply array-by-scalar methods
-   //******************************************************
-
    /**
-    * Multiplies a scalar value by a 1-D int array.
+    * Returns the tangent of the elements in a float array, where the
+    * input arguments are in <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, in <i>degrees</i>.
+    * @return  tand(a)
     */
-   public static int[] mul ( int a[], int b ) {
-      int mul[] = new int[a.length];
-
-      for ( int i = 0; i < a.length; i++ )
-         mul[i] = a[i] * b;
-
-      return mul;
+   public static float[] tand ( float a[] ) {
+      return tand( a, new float[a.length] );
    }
 
 
    /**
-    * Multiplies a scalar value by a 1-D long array.
+    * Calculates the tangent of the elements in a float array, where the
+    * input arguments are in <i>degrees</i>, storing the results in
+    * array <code>out</code>.  The calculation is done in float
+    * arithmetic (see class <code>FastMath</code>), without converting
+    * the array to double.  <code>out</code> may be the same array as
+    * <code>a</code>.  Large arrays are processed in parallel (see class
+    * <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, in <i>degrees</i>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing tand(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static long[] mul ( long a[], long b ) {
+   public static float[] tand ( float a[], float out[] ) {
+      return FastMath.tand( a, out );
+   }
 
-      long mul[] = new long[a.length];
 
-      for ( int i = 0; i < a.length; i++ )
-         mul[i] = (long) (a[i] * b);
+   /**
+    * Returns the hyperbolic tangent of the elements in an array
+    *
+    * @param   a   input array, in <i>radians</i>.
+    * @return  tanh(a)
+    */
+   public static double[] tanh ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).tanh().eval();
+      }
+      double tanh[] = new double[a.length];
 
-      return mul;
+      for ( int i = 0; i < a.length; i++ ) {
+         tanh[i] = Math1.tanh(a[i]);
+      }
+      return tanh;
    }
 
 
    /**
-    * Multiplies a scalar value by a 1-D float array.
+    * Returns the hyperbolic tangent of the elements in an array
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, in <i>radians</i>.
+    * @return  tanh(a)
     */
-   public static float[] mul ( float a[], float b ) {
+   public static double[][] tanh ( double a[][] ) {
+      double tanh[][] = new double[a.length][];
 
-      float mul[] = new float[a.length];
+      for ( int i = 0; i < a.length; i++ ) {
+         tanh[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            tanh[i][j] = Math1.tanh(a[i][j]);
+         }
+      }
+      return tanh;
+   }
 
-      for ( int i = 0; i < a.length; i++ )
-         mul[i] = (float) (a[i] * b);
 
-      return mul;
+   /**
+    * Returns the hyperbolic tangent of the elements in a float array
+    *
+    * @param   a   input array, in <i>radians</i>.
+    * @return  tanh(a)
+    */
+   public static float[] tanh ( float a[] ) {
+      return tanh( a, new float[a.length] );
    }
 
 
    /**
-    * Multiplies a scalar value by a 1-D double array.
+    * Calculates the hyperbolic tangent of the elements in a float
+    * array, storing the results in array <code>out</code>.  Each
+    * element is evaluated without creating a double copy of the array.
+    * <code>out</code> may be the same array as <code>a</code>.  Large
+    * arrays are processed in parallel (see class
+    * <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, in <i>radians</i>.
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing tanh(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static double[] mul ( double a[], double b ) {
+   public static float[] tanh ( float a[], float out[] ) {
+      map( F_TANH, a, out, "tanh" );
+      return out;
+   }
 
-      double mul[] = new double[a.length];
 
-      for ( int i = 0; i < a.length; i++ )
-         mul[i] = a[i] * b;
+   /**
+    * Returns the hyperbolic tangent of the elements in a
+    * <code>Complex</code> array
+    *
+    * @param   z   input array
+    * @return  tanh(z)
+    */
+   public static Complex[] tanh ( Complex z[] ) {
+      Complex tanh[] = new Complex[z.length];
 
-      return mul;
+      for ( int i = 0; i < z.length; i++ ) {
+         tanh[i] = Complex.tanh(z[i]);
+      }
+      return tanh;
    }
 
 
    /**
-    * Multiplies a scalar value by a 1-D Complex array.
+    * Returns the hyperbolic tangent of the elements in a
+    * <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   input array
+    * @return  tanh(z)
     */
-   public static Complex[] mul ( Complex a[], double b ) {
+   public static Complex[][] tanh ( Complex z[][] ) {
+      Complex tanh[][] = new Complex[z.length][];
 
-      Complex mul[] = new Complex[a.length];
+      for ( int i = 0; i < z.length; i++ ) {
+         tanh[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            tanh[i][j] = Complex.tanh(z[i][j]);
+         }
+      }
+      return tanh;
+   }
 
-      for ( int i = 0; i < a.length; i++ )
-         mul[i] = a[i].mul(b);
 
-      return mul;
+   /**
+    * Returns the hyperbolic tangent of the elements in a <code>ComplexArray</code>
+    *
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  tanh(z)
+    */
+   public static ComplexArray tanh ( ComplexArray z ) {
+      return tanh( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Multiplies a scalar value by a 1-D Complex array.
+    * Calculates the hyperbolic tangent of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing tanh(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static Complex[] mul ( Complex a[], Complex b ) {
+   public static ComplexArray tanh ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.TANH, z, null, 0, 0, out, "tanh" );
+      return out;
+   }
 
-      Complex mul[] = new Complex[a.length];
 
-      for ( int i = 0; i < a.length; i++ )
-         mul[i] = a[i].mul(b);
+   /**
+    * Returns the inverse sine of the elements in an array,
+    * in the range of -<i>pi</i>/2 through <i>pi</i>/2.
+    *
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  asin(a)
+    */
+   public static double[] asin ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).asin().eval();
+      }
+      double asin[] = new double[a.length];
 
-      return mul;
+      for ( int i = 0; i < a.length; i++ ) {
+         asin[i] = Math.asin(a[i]);
+      }
+      return asin;
    }
 
 
    /**
-    * Multiplies a scalar value by a 2-D int array.
+    * Returns the inverse sine of the elements in an array,
+    * in the range of -<i>pi</i>/2 through <i>pi</i>/2.
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  asin(a)
     */
-   public static int[][] mul ( int a[][], int b ) {
-      int mul[][] = new int[a.length][];
+   public static double[][] asin ( double a[][] ) {
+      double asin[][] = new double[a.length][];
 
       for ( int i = 0; i < a.length; i++ ) {
-         mul[i] = new int[a[i].length];
+         asin[i] = new double[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-            mul[i][j] = a[i][j] * b;
+            asin[i][j] = Math.asin(a[i][j]);
          }
       }
-      return mul;
+      return asin;
    }
 
 
    /**
-    * Multiplies a scalar value by a 2-D long array.
+    * Returns the inverse sine of the elements in a float array,
+    * in the range of -<i>pi</i>/2 through <i>pi</i>/2.
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  asin(a)
     */
-   public static long[][] mul ( long a[][], long b ) {
-      long mul[][] = new long[a.length][];
+   public static float[] asin ( float a[] ) {
+      return asin( a, new float[a.length] );
+   }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         mul[i] = new long[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            mul[i][j] = a[i][j] * b;
-         }
-      }
-      return mul;
+
+   /**
+    * Calculates the inverse sine of the elements in a float array, in
+    * the range of -<i>pi</i>/2 through <i>pi</i>/2, storing the results
+    * in array <code>out</code>.  Each element is evaluated without
+    * creating a double copy of the array.  <code>out</code> may be the
+    * same array as <code>a</code>.  Large arrays are processed in
+    * parallel (see class <code>Parallel</code>).
+    *
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing asin(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] asin ( float a[], float out[] ) {
+      map( F_ASIN, a, out, "asin" );
+      return out;
    }
 
 
    /**
-    * Multiplies a scalar value by a 2-D float array.
+    * Returns the inverse sine of the elements in a <code>Complex</code> array.
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   input array
+    * @return  asin(z)
     */
-   public static float[][] mul ( float a[][], float b ) {
-      float mul[][] = new float[a.length][];
+   public static Complex[] asin ( Complex z[] ) {
+      Complex asin[] = new Complex[z.length];
 
-      for ( int i = 0; i < a.length; i++ ) {
-         mul[i] = new float[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            mul[i][j] = a[i][j] * b;
-         }
+      for ( int i = 0; i < z.length; i++ ) {
+         asin[i] = Complex.asin(z[i]);
       }
-      return mul;
+      return asin;
    }
 
 
    /**
-    * Multiplies a scalar value by a 2-D double array.
+    * Returns the inverse sine of the elements in a <code>Complex</code> array.
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   input array
+    * @return  asin(z)
     */
-   public static double[][] mul ( double a[][], double b ) {
-      double mul[][] = new double[a.length][];
+   public static Complex[][] asin ( Complex z[][] ) {
+      Complex asin[][] = new Complex[z.length][];
 
-      for ( int i = 0; i < a.length; i++ ) {
-         mul[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            mul[i][j] = a[i][j] * b;
+      for ( int i = 0; i < z.length; i++ ) {
+         asin[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            asin[i][j] = Complex.asin(z[i][j]);
          }
       }
-      return mul;
+      return asin;
    }
 
 
    /**
-    * Multiplies a scalar value by a 2-D Complex array.
+    * Returns the inverse sine of the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  asin(z)
     */
-   public static Complex[][] mul ( Complex a[][], double b ) {
-      Complex mul[][] = new Complex[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         mul[i] = new Complex[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            mul[i][j] = a[i][j].mul(b);
-         }
-      }
-      return mul;
+   public static ComplexArray asin ( ComplexArray z ) {
+      return asin( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Multiplies a scalar value by a 2-D Complex array.
+    * Calculates the inverse sine of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing asin(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static Complex[][] mul ( Complex a[][], Complex b ) {
-      Complex mul[][] = new Complex[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         mul[i] = new Complex[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            mul[i][j] = a[i][j].mul(b);
-         }
-      }
-      return mul;
+   public static ComplexArray asin ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.ASIN, z, null, 0, 0, out, "asin" );
+      return out;
    }
 
 
-   //******************************************************
-   //  not methods
-   //******************************************************
-
    /**
-    * Returns the element-by-element logical <code>not</code> of
-    * a boolean array.
+    * Returns the inverse sine of the elements in an array,
+    * in the range of -90 through 90 <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @return  the <code>boolean</code> result
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  asind(a)
     */
-   public static boolean[] not ( boolean a[] ) {
-      boolean not[] = new boolean[a.length];
+   public static double[] asind ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).asind().eval();
+      }
+      double asind[] = new double[a.length];
 
       for ( int i = 0; i < a.length; i++ ) {
-         not[i] = ! a[i];
+         asind[i] = Math1.asind(a[i]);
       }
-      return not;
+      return asind;
    }
 
 
    /**
-    * Returns the element-by-element logical <code>not</code> of
-    * a boolean array.
+    * Returns the inverse sine of the elements in an array,
+    * in the range of -90 through 90 <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @return  the <code>boolean</code> result
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  asind(a)
     */
-   public static boolean[][] not ( boolean a[][] ) {
-      boolean not[][] = new boolean[a.length][];
+   public static double[][] asind ( double a[][] ) {
+      double asind[][] = new double[a.length][];
 
       for ( int i = 0; i < a.length; i++ ) {
-         not[i] = new boolean[a[i].length];
+         asind[i] = new double[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-             not[i][j] = ! a[i][j];
+            asind[i][j] = Math1.asind(a[i][j]);
          }
       }
-      return not;
+      return asind;
    }
 
 
-   //******************************************************
-   //  or methods
-   //******************************************************
-
    /**
-    * Returns the element-by-element logical <code>or</code> of
-    * two boolean arrays.
+    * Returns the inverse sine of the elements in a float array,
+    * in the range of -90 through 90 <i>degrees</i>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  the <code>boolean</code> result
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  asind(a)
     */
-   public static boolean[] or ( boolean a[], boolean b[] ) {
-      boolean or[] = new boolean[a.length];
+   public static float[] asind ( float a[] ) {
+      return asind( a, new float[a.length] );
+   }
 
-      if ( a.length != b.length ) {
-         String s = "or: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         or[i] = a[i] || b[i];
-      }
-      return or;
+   /**
+    * Calculates the inverse sine of the elements in a float array, in
+    * the range of -90 through 90 <i>degrees</i>, storing the results in
+    * array <code>out</code>.  Each element is evaluated without
+    * creating a double copy of the array.  <code>out</code> may be the
+    * same array as <code>a</code>.  Large arrays are processed in
+    * parallel (see class <code>Parallel</code>).
+    *
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing asind(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] asind ( float a[], float out[] ) {
+      map( F_ASIND, a, out, "asind" );
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element logical <code>or</code> of
-    * two boolean arrays.
+    * Returns the inverse hyperbolic sine of the elements in an array
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  the <code>boolean</code> result
+    * @param   a   input array
+    * @return  asinh(a)
     */
-   public static boolean[][] or ( boolean a[][], boolean b[][] ) {
-      boolean or[][] = new boolean[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "or: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   public static double[] asinh ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).asinh().eval();
       }
+      double asinh[] = new double[a.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "or: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            or[i] = new boolean[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               or[i][j] = a[i][j] || b[i][j];
-            }
-         }
+      for ( int i = 0; i < a.length; i++ ) {
+         asinh[i] = Math1.asinh(a[i]);
       }
-      return or;
+      return asinh;
    }
 
 
-   //******************************************************
-   //  product methods
-   //******************************************************
-
    /**
-    * Returns the product of the elements in array a.
+    * Returns the inverse hyperbolic sine of the elements in an array
     *
-    * @param   a   input array.
-    * @return  the product of the elements in <tt>a</tt>.
+    * @param   a   input array
+    * @return  asinh(a)
     */
-   public static int product ( int a[] ) {
-      int product = 1;
+   public static double[][] asinh ( double a[][] ) {
+      double asinh[][] = new double[a.length][];
+
       for ( int i = 0; i < a.length; i++ ) {
-         product *= a[i];
+         asinh[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            asinh[i][j] = Math1.asinh(a[i][j]);
+         }
       }
-      return product;
+      return asinh;
    }
 
 
    /**
-    * Returns the product of the elements in array a.
+    * Returns the inverse hyperbolic sine of the elements in a float array
     *
-    * @param   a   input array.
-    * @return  the product of the elements in <tt>a</tt>.
+    * @param   a   input array
+    * @return  asinh(a)
     */
-   public static long product ( long a[] ) {
-      long product = 1;
-      for ( int i = 0; i < a.length; i++ ) {
-         product *= a[i];
-      }
-      return product;
+   public static float[] asinh ( float a[] ) {
+      return asinh( a, new float[a.length] );
    }
 
 
    /**
-    * Returns the product of the elements in array a.
+    * Calculates the inverse hyperbolic sine of the elements in a float
+    * array, storing the results in array <code>out</code>.  Each
+    * element is evaluated without creating a double copy of the array.
+    * <code>out</code> may be the same array as <code>a</code>.  Large
+    * arrays are processed in parallel (see class
+    * <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the product of the elements in <tt>a</tt>.
+    * @param   a   input array
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing asinh(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static float product ( float a[] ) {
-      float product = 1;
-      for ( int i = 0; i < a.length; i++ ) {
-         product *= a[i];
-      }
-      return product;
+   public static float[] asinh ( float a[], float out[] ) {
+      map( F_ASINH, a, out, "asinh" );
+      return out;
    }
 
 
    /**
-    * Returns the product of the elements in array a.
+    * Returns the inverse hyperbolic sine of the elements in a
+    * <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @return  the product of the elements in <tt>a</tt>.
+    * @param   z   input array
+    * @return  asinh(z)
     */
-   public static double product ( double a[] ) {
-      double product = 1;
-      for ( int i = 0; i < a.length; i++ ) {
-         product *= a[i];
+   public static Complex[] asinh ( Complex z[] ) {
+      Complex asinh[] = new Complex[z.length];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         asinh[i] = Complex.asinh(z[i]);
       }
-      return product;
+      return asinh;
    }
 
 
    /**
-    * Returns the product of the elements in array a.
+    * Returns the inverse hyperbolic cosine of the elements in a
+    * <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @return  the product of the elements in <tt>a</tt>.
+    * @param   z   input array
+    * @return  asinh(z)
     */
-   public static Complex product ( Complex a[] ) {
-      Complex product = new Complex(1.0,0.0);
-      for ( int i = 0; i < a.length; i++ ) {
-         product = product.mul(a[i]);
+   public static Complex[][] asinh ( Complex z[][] ) {
+      Complex asinh[][] = new Complex[z.length][];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         asinh[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            asinh[i][j] = Complex.asinh(z[i][j]);
+         }
       }
-      return product;
+      return asinh;
    }
 
 
    /**
-    * Returns the product of the elements in array a.
+    * Returns the inverse hyperbolic sine of the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array.
-    * @return  the product of the elements in <tt>a</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  asinh(z)
     */
-   public static int product ( int a[][] ) {
-      int product = 1;
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            product *= a[i][j];
-         }
-      }
-      return product;
+   public static ComplexArray asinh ( ComplexArray z ) {
+      return asinh( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Returns the product of the elements in array a.
+    * Calculates the inverse hyperbolic sine of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the product of the elements in <tt>a</tt>.
-    */
-   public static long product ( long a[][] ) {
-      long product = 1;
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            product *= a[i][j];
-         }
-      }
-      return product;
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing asinh(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
+    */
+   public static ComplexArray asinh ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.ASINH, z, null, 0, 0, out, "asinh" );
+      return out;
    }
 
 
    /**
-    * Returns the product of the elements in array a.
+    * Returns the inverse cosine of the elements in an array,
+    * in the range of 0 through <i>pi</i>.
     *
-    * @param   a   input array.
-    * @return  the product of the elements in <tt>a</tt>.
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  acos(a)
     */
-   public static float product ( float a[][] ) {
-      float product = 1;
+   public static double[] acos ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).acos().eval();
+      }
+      double acos[] = new double[a.length];
+
       for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            product *= a[i][j];
-         }
+         acos[i] = Math.acos(a[i]);
       }
-      return product;
+      return acos;
    }
 
 
    /**
-    * Returns the product of the elements in array a.
+    * Returns the inverse cosine of the elements in an array,
+    * in the range of 0 through <i>pi</i>.
     *
-    * @param   a   input array.
-    * @return  the product of the elements in <tt>a</tt>.
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  acos(a)
     */
-   public static double product ( double a[][] ) {
-      double product = 1;
+   public static double[][] acos ( double a[][] ) {
+      double acos[][] = new double[a.length][];
+
       for ( int i = 0; i < a.length; i++ ) {
+         acos[i] = new double[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-            product *= a[i][j];
+            acos[i][j] = Math.acos(a[i][j]);
          }
       }
-      return product;
+      return acos;
    }
 
 
    /**
-    * Returns the product of the elements in array a.
+    * Returns the inverse cosine of the elements in a float array,
+    * in the range of 0 through <i>pi</i>.
     *
-    * @param   a   input array.
-    * @return  the product of the elements in <tt>a</tt>.
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  acos(a)
     */
-   public static Complex product ( Complex a[][] ) {
-      Complex product = new Complex(1.0,0.0);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            product = product.mul(a[i][j]);
-         }
-      }
-      return product;
+   public static float[] acos ( float a[] ) {
+      return acos( a, new float[a.length] );
    }
 
 
-   //******************************************************
-   //  product (mask) methods
-   //******************************************************
-
    /**
-    * Masked product--returns the product of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Calculates the inverse cosine of the elements in a float array, in
+    * the range of 0 through <i>pi</i>, storing the results in array
+    * <code>out</code>.  Each element is evaluated without creating a
+    * double copy of the array.  <code>out</code> may be the same array
+    * as <code>a</code>.  Large arrays are processed in parallel (see
+    * class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the product of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing acos(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static int product ( int a[], boolean b[] ) {
-      int product = 1;
-
-      if ( a.length != b.length ) {
-         String s = "product: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            if ( b[i] ) {
-               product *= a[i];
-            }
-         }
-      }
-      return product;
+   public static float[] acos ( float a[], float out[] ) {
+      map( F_ACOS, a, out, "acos" );
+      return out;
    }
 
 
    /**
-    * Masked product--returns the product of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the inverse cosine of the elements in a <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the product of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   z   input array
+    * @return  acos(z)
     */
-   public static long product ( long a[], boolean b[] ) {
-      long product = 1;
+   public static Complex[] acos ( Complex z[] ) {
+      Complex acos[] = new Complex[z.length];
 
-      if ( a.length != b.length ) {
-         String s = "product: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            if ( b[i] ) {
-               product *= a[i];
-            }
-         }
+      for ( int i = 0; i < z.length; i++ ) {
+         acos[i] = Complex.acos(z[i]);
       }
-      return product;
+      return acos;
    }
 
 
    /**
-    * Masked product--returns the product of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the inverse cosine of the elements in a <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the product of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   z   input array
+    * @return  acos(z)
     */
-   public static float product ( float a[], boolean b[] ) {
-      float product = 1;
+   public static Complex[][] acos ( Complex z[][] ) {
+      Complex acos[][] = new Complex[z.length][];
 
-      if ( a.length != b.length ) {
-         String s = "product: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            if ( b[i] ) {
-               product *= a[i];
-            }
+      for ( int i = 0; i < z.length; i++ ) {
+         acos[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            acos[i][j] = Complex.acos(z[i][j]);
          }
       }
-      return product;
+      return acos;
    }
 
 
    /**
-    * Masked product--returns the product of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the inverse cosine of the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the product of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  acos(z)
     */
-   public static double product ( double a[], boolean b[] ) {
-      double product = 1;
-
-      if ( a.length != b.length ) {
-         String s = "product: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            if ( b[i] ) {
-               product *= a[i];
-            }
-         }
-      }
-      return product;
+   public static ComplexArray acos ( ComplexArray z ) {
+      return acos( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Masked product--returns the product of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Calculates the inverse cosine of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the product of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing acos(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static Complex product ( Complex a[], boolean b[] ) {
-      Complex product = new Complex(1.0,0.0);
-
-      if ( a.length != b.length ) {
-         String s = "product: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            if ( b[i] ) {
-               product = product.mul(a[i]);
-            }
-         }
-      }
-      return product;
+   public static ComplexArray acos ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.ACOS, z, null, 0, 0, out, "acos" );
+      return out;
    }
 
 
    /**
-    * Masked product--returns the product of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the inverse cosine of the elements in an array,
+    * in the range of 0 through 180 <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the product of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  acosd(a)
     */
-   public static int product ( int a[][], boolean b[][] ) {
-      int product = 1;
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "product: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   public static double[] acosd ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).acosd().eval();
       }
+      double acosd[] = new double[a.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "product: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            for ( int j = 0; j < a[i].length; j++ ) {
-               if ( b[i][j] ) {
-                  product *= a[i][j];
-               }
-            }
-         }
+      for ( int i = 0; i < a.length; i++ ) {
+         acosd[i] = Math1.acosd(a[i]);
       }
-      return product;
+      return acosd;
    }
 
 
    /**
-    * Masked product--returns the product of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the inverse cosine of the elements in an array,
+    * in the range of 0 through 180 <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the product of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  acosd(a)
     */
-   public static long product ( long a[][], boolean b[][] ) {
-      long product = 1;
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "product: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   public static double[][] acosd ( double a[][] ) {
+      double acosd[][] = new double[a.length][];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "product: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            for ( int j = 0; j < a[i].length; j++ ) {
-               if ( b[i][j] ) {
-                  product *= a[i][j];
-               }
-            }
+      for ( int i = 0; i < a.length; i++ ) {
+         acosd[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            acosd[i][j] = Math1.acosd(a[i][j]);
          }
       }
-      return product;
+      return acosd;
    }
 
 
    /**
-    * Masked product--returns the product of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the inverse cosine of the elements in a float array,
+    * in the range of 0 through 180 <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the product of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @return  acosd(a)
     */
-   public static float product ( float a[][], boolean b[][] ) {
-      float product = 1;
+   public static float[] acosd ( float a[] ) {
+      return acosd( a, new float[a.length] );
+   }
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "product: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "product: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            for ( int j = 0; j < a[i].length; j++ ) {
-               if ( b[i][j] ) {
-                  product *= a[i][j];
-               }
-            }
-         }
-      }
-      return product;
+   /**
+    * Calculates the inverse cosine of the elements in a float array, in
+    * the range of 0 through 180 <i>degrees</i>, storing the results in
+    * array <code>out</code>.  Each element is evaluated without
+    * creating a double copy of the array.  <code>out</code> may be the
+    * same array as <code>a</code>.  Large arrays are processed in
+    * parallel (see class <code>Parallel</code>).
+    *
+    * @param   a   input array, in the range -1.0 through 1.0
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing acosd(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] acosd ( float a[], float out[] ) {
+      map( F_ACOSD, a, out, "acosd" );
+      return out;
    }
 
 
    /**
-    * Masked product--returns the product of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the inverse hyperbolic cosine of the elements in an array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the product of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array, a >= 1.0
+    * @return  acosh(a)
     */
-   public static double product ( double a[][], boolean b[][] ) {
-      double product = 1;
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "product: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   public static double[] acosh ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).acosh().eval();
       }
+      double acosh[] = new double[a.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "product: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            for ( int j = 0; j < a[i].length; j++ ) {
-               if ( b[i][j] ) {
-                  product *= a[i][j];
-               }
-            }
-         }
+      for ( int i = 0; i < a.length; i++ ) {
+         acosh[i] = Math1.acosh(a[i]);
       }
-      return product;
+      return acosh;
    }
 
 
    /**
-    * Masked product--returns the product of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the inverse hyperbolic cosine of the elements in an array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the product of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array
+    * @return  acosh(a)
     */
-   public static Complex product ( Complex a[][], boolean b[][] ) {
-      Complex product = new Complex(1.0,0.0);
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "product: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   public static double[][] acosh ( double a[][] ) {
+      double acosh[][] = new double[a.length][];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "product: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            for ( int j = 0; j < a[i].length; j++ ) {
-               if ( b[i][j] ) {
-                  product = product.mul(a[i][j]);
-               }
-            }
+      for ( int i = 0; i < a.length; i++ ) {
+         acosh[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            acosh[i][j] = Math1.acosh(a[i][j]);
          }
       }
-      return product;
+      return acosh;
    }
 
 
-   //******************************************************
-   //  subtract element-by-element methods
-   //******************************************************
+   /**
+    * Returns the inverse hyperbolic cosine of the elements in a float array
+    *
+    * @param   a   input array, a >= 1.0
+    * @return  acosh(a)
+    */
+   public static float[] acosh ( float a[] ) {
+      return acosh( a, new float[a.length] );
+   }
+
 
    /**
-    * Returns the element-by-element difference of two 1-D int arrays.
+    * Calculates the inverse hyperbolic cosine of the elements in a
+    * float array, storing the results in array <code>out</code>.  Each
+    * element is evaluated without creating a double copy of the array.
+    * <code>out</code> may be the same array as <code>a</code>.  Large
+    * arrays are processed in parallel (see class
+    * <code>Parallel</code>).
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the difference of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, a >= 1.0
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing acosh(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static int[] sub ( int a[], int b[] ) {
+   public static float[] acosh ( float a[], float out[] ) {
+      map( F_ACOSH, a, out, "acosh" );
+      return out;
+   }
 
-      int sub[] = new int[a.length];
 
-      if ( a.length != b.length ) {
-         String s = "sub: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   /**
+    * Returns the inverse hyperbolic cosine of the elements in a
+    * <code>Complex</code> array
+    *
+    * @param   z   input array
+    * @return  acosh(z)
+    */
+   public static Complex[] acosh ( Complex z[] ) {
+      Complex acosh[] = new Complex[z.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            sub[i] = a[i] - b[i];
+      for ( int i = 0; i < z.length; i++ ) {
+         acosh[i] = Complex.acosh(z[i]);
       }
-      return sub;
+      return acosh;
    }
 
 
    /**
-    * Returns the element-by-element difference of two 1-D long arrays.
+    * Returns the inverse hyperbolic cosine of the elements in a
+    * <code>Complex</code> array
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the difference of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   input array
+    * @return  acosh(z)
     */
-   public static long[] sub ( long a[], long b[] ) {
-
-      long sub[] = new long[a.length];
+   public static Complex[][] acosh ( Complex z[][] ) {
+      Complex acosh[][] = new Complex[z.length][];
 
-      if ( a.length != b.length ) {
-         String s = "sub: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+      for ( int i = 0; i < z.length; i++ ) {
+         acosh[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            acosh[i][j] = Complex.acosh(z[i][j]);
+         }
       }
+      return acosh;
+   }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            sub[i] = a[i] - b[i];
-      }
-      return sub;
+
+   /**
+    * Returns the inverse hyperbolic cosine of the elements in a <code>ComplexArray</code>
+    *
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  acosh(z)
+    */
+   public static ComplexArray acosh ( ComplexArray z ) {
+      return acosh( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Returns the element-by-element difference of two 1-D float arrays.
+    * Calculates the inverse hyperbolic cosine of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the difference of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing acosh(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static float[] sub ( float a[], float b[] ) {
+   public static ComplexArray acosh ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.ACOSH, z, null, 0, 0, out, "acosh" );
+      return out;
+   }
 
-      float sub[] = new float[a.length];
 
-      if ( a.length != b.length ) {
-         String s = "sub: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   /**
+    * Returns the inverse tangent of the elements in an array,
+    * in the range of -<i>pi</i>/2 through <i>pi</i>/2.
+    *
+    * @param   a   input array
+    * @return  atan(a)
+    */
+   public static double[] atan ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).atan().eval();
       }
+      double atan[] = new double[a.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            sub[i] = a[i] - b[i];
+      for ( int i = 0; i < a.length; i++ ) {
+         atan[i] = Math.atan(a[i]);
       }
-      return sub;
+      return atan;
    }
 
 
    /**
-    * Returns the element-by-element difference of two 1-D double arrays.
+    * Returns the inverse tangent of the elements in an array,
+    * in the range of -<i>pi</i>/2 through <i>pi</i>/2.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the difference of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array
+    * @return  atan(a)
     */
-   public static double[] sub ( double a[], double b[] ) {
-
-      double sub[] = new double[a.length];
+   public static double[][] atan ( double a[][] ) {
+      double atan[][] = new double[a.length][];
 
-      if ( a.length != b.length ) {
-         String s = "sub: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+      for ( int i = 0; i < a.length; i++ ) {
+         atan[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            atan[i][j] = Math.atan(a[i][j]);
+         }
       }
+      return atan;
+   }
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            sub[i] = a[i] - b[i];
-      }
-      return sub;
+
+   /**
+    * Returns the inverse tangent of the elements in a float array,
+    * in the range of -<i>pi</i>/2 through <i>pi</i>/2.
+    *
+    * @param   a   input array
+    * @return  atan(a)
+    */
+   public static float[] atan ( float a[] ) {
+      return atan( a, new float[a.length] );
+   }
+
+
+   /**
+    * Calculates the inverse tangent of the elements in a float array,
+    * in the range of -<i>pi</i>/2 through <i>pi</i>/2, storing the
+    * results in array <code>out</code>.  Each element is evaluated
+    * without creating a double copy of the array.  <code>out</code> may
+    * be the same array as <code>a</code>.  Large arrays are processed
+    * in parallel (see class <code>Parallel</code>).
+    *
+    * @param   a   input array
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing atan(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] atan ( float a[], float out[] ) {
+      map( F_ATAN, a, out, "atan" );
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element difference of two 1-D Complex arrays.
+    * Returns the inverse tangent of the elements in a <code>Complex</code> array
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the difference of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   input array
+    * @return  atan(z)
     */
-   public static Complex[] sub ( Complex a[], Complex b[] ) {
-
-      Complex sub[] = new Complex[a.length];
-
-      if ( a.length != b.length ) {
-         String s = "sub: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   public static Complex[] atan ( Complex z[] ) {
+      Complex atan[] = new Complex[z.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ )
-            sub[i] = a[i].sub(b[i]);
+      for ( int i = 0; i < z.length; i++ ) {
+         atan[i] = Complex.atan(z[i]);
       }
-      return sub;
+      return atan;
    }
 
 
    /**
-    * Returns the element-by-element difference of two 2-D int arrays.
+    * Returns the inverse tangent of the elements in a <code>Complex</code> array
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the difference of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   input array
+    * @return  atan(z)
     */
-   public static int[][] sub ( int a[][], int b[][] ) {
-      int sub[][] = new int[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "sub: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   public static Complex[][] atan ( Complex z[][] ) {
+      Complex atan[][] = new Complex[z.length][];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "sub: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            sub[i] = new int[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               sub[i][j] = a[i][j] - b[i][j];
-            }
+      for ( int i = 0; i < z.length; i++ ) {
+         atan[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            atan[i][j] = Complex.atan(z[i][j]);
          }
       }
-      return sub;
+      return atan;
    }
 
 
    /**
-    * Returns the element-by-element difference of two 2-D long arrays.
+    * Returns the inverse tangent of the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the difference of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  atan(z)
     */
-   public static long[][] sub ( long a[][], long b[][] ) {
-      long sub[][] = new long[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "sub: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "sub: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            sub[i] = new long[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               sub[i][j] = a[i][j] - b[i][j];
-            }
-         }
-      }
-      return sub;
+   public static ComplexArray atan ( ComplexArray z ) {
+      return atan( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Returns the element-by-element difference of two 2-D float arrays.
+    * Calculates the inverse tangent of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the difference of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing atan(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static float[][] sub ( float a[][], float b[][] ) {
-      float sub[][] = new float[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "sub: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "sub: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            sub[i] = new float[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               sub[i][j] = a[i][j] - b[i][j];
-            }
-         }
-      }
-      return sub;
+   public static ComplexArray atan ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.ATAN, z, null, 0, 0, out, "atan" );
+      return out;
    }
 
 
    /**
-    * Returns the element-by-element difference of two 2-D double arrays.
+    * Returns the inverse tangent of the elements in an array,
+    * in the range of -90 through 90 <i>degrees</i>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the difference of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array
+    * @return  atand(a)
     */
-   public static double[][] sub ( double a[][], double b[][] ) {
-      double sub[][] = new double[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "sub: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   public static double[] atand ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).atand().eval();
       }
+      double atand[] = new double[a.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "sub: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            sub[i] = new double[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               sub[i][j] = a[i][j] - b[i][j];
-            }
-         }
+      for ( int i = 0; i < a.length; i++ ) {
+         atand[i] = Math1.atand(a[i]);
       }
-      return sub;
+      return atand;
    }
 
 
    /**
-    * Returns the element-by-element difference of two 2-D Complex arrays.
+    * Returns the inverse tangent of the elements in an array,
+    * in the range of -90 through 90 <i>degrees</i>.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  an array whose elements are the difference of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array
+    * @return  atand(a)
     */
-   public static Complex[][] sub ( Complex a[][], Complex b[][] ) {
-      Complex sub[][] = new Complex[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "sub: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   public static double[][] atand ( double a[][] ) {
+      double atand[][] = new double[a.length][];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "sub: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            sub[i] = new Complex[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               sub[i][j] = a[i][j].sub(b[i][j]);
-            }
+      for ( int i = 0; i < a.length; i++ ) {
+         atand[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            atand[i][j] = Math1.atand(a[i][j]);
          }
       }
-      return sub;
+      return atand;
    }
 
 
-   //******************************************************
-   //  substract scalar-from-array methods
-   //******************************************************
-
    /**
-    * Subtracts a scalar value from a 1-D int array.
+    * Returns the inverse tangent of the elements in a float array,
+    * in the range of -90 through 90 <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array
+    * @return  atand(a)
     */
-   public static int[] sub ( int a[], int b ) {
-      int sub[] = new int[a.length];
-
-      for ( int i = 0; i < a.length; i++ )
-         sub[i] = a[i] - b;
-
-      return sub;
+   public static float[] atand ( float a[] ) {
+      return atand( a, new float[a.length] );
    }
 
 
    /**
-    * Subtracts a scalar value from a 1-D long array.
+    * Calculates the inverse tangent of the elements in a float array,
+    * in the range of -90 through 90 <i>degrees</i>, storing the results
+    * in array <code>out</code>.  Each element is evaluated without
+    * creating a double copy of the array.  <code>out</code> may be the
+    * same array as <code>a</code>.  Large arrays are processed in
+    * parallel (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing atand(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static long[] sub ( long a[], long b ) {
+   public static float[] atand ( float a[], float out[] ) {
+      map( F_ATAND, a, out, "atand" );
+      return out;
+   }
 
-      long sub[] = new long[a.length];
 
-      for ( int i = 0; i < a.length; i++ )
-         sub[i] = a[i] - b;
+   /**
+    * Returns the inverse hyperbolic tangent of the elements in an array
+    *
+    * @param   a   input array, a >= 1.0
+    * @return  atanh(a)
+    */
+   public static double[] atanh ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).atanh().eval();
+      }
+      double atanh[] = new double[a.length];
 
-      return sub;
+      for ( int i = 0; i < a.length; i++ ) {
+         atanh[i] = Math1.atanh(a[i]);
+      }
+      return atanh;
    }
 
 
    /**
-    * Subtracts a scalar value from a 1-D float array.
+    * Returns the inverse hyperbolic tangent of the elements in an array
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array
+    * @return  atanh(a)
     */
-   public static float[] sub ( float a[], float b ) {
-
-      float sub[] = new float[a.length];
-
-      for ( int i = 0; i < a.length; i++ )
-         sub[i] = a[i] - b;
+   public static double[][] atanh ( double a[][] ) {
+      double atanh[][] = new double[a.length][];
 
-      return sub;
+      for ( int i = 0; i < a.length; i++ ) {
+         atanh[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            atanh[i][j] = Math1.atanh(a[i][j]);
+         }
+      }
+      return atanh;
    }
 
 
    /**
-    * Subtracts a scalar value from a 1-D double array.
+    * Returns the inverse hyperbolic tangent of the elements in a float array
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array, a >= 1.0
+    * @return  atanh(a)
     */
-   public static double[] sub ( double a[], double b ) {
-
-      double sub[] = new double[a.length];
+   public static float[] atanh ( float a[] ) {
+      return atanh( a, new float[a.length] );
+   }
 
-      for ( int i = 0; i < a.length; i++ )
-         sub[i] = a[i] - b;
 
-      return sub;
+   /**
+    * Calculates the inverse hyperbolic tangent of the elements in a
+    * float array, storing the results in array <code>out</code>.  Each
+    * element is evaluated without creating a double copy of the array.
+    * <code>out</code> may be the same array as <code>a</code>.  Large
+    * arrays are processed in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array, a >= 1.0
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing atanh(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] atanh ( float a[], float out[] ) {
+      map( F_ATANH, a, out, "atanh" );
+      return out;
    }
 
 
    /**
-    * Subtracts a scalar value from a 1-D Complex array.
+    * Returns the inverse hyperbolic tangent of the elements in a
+    * <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   input array
+    * @return  atanh(z)
     */
-   public static Complex[] sub ( Complex a[], double b ) {
+   public static Complex[] atanh ( Complex z[] ) {
+      Complex atanh[] = new Complex[z.length];
 
-      Complex sub[] = new Complex[a.length];
+      for ( int i = 0; i < z.length; i++ ) {
+         atanh[i] = Complex.atanh(z[i]);
+      }
+      return atanh;
+   }
 
-      for ( int i = 0; i < a.length; i++ )
-         sub[i] = a[i].sub(b);
 
-      return sub;
+   /**
+    * Returns the inverse hyperbolic tangent of the elements in a
+    * <code>Complex</code> array
+    *
+    * @param   z   input array
+    * @return  atanh(z)
+    */
+   public static Complex[][] atanh ( Complex z[][] ) {
+      Complex atanh[][] = new Complex[z.length][];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         atanh[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            atanh[i][j] = Complex.atanh(z[i][j]);
+         }
+      }
+      return atanh;
    }
 
 
    /**
-    * Subtracts a scalar value from a 1-D Complex array.
+    * Returns the inverse hyperbolic tangent of the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  atanh(z)
     */
-   public static Complex[] sub ( Complex a[], Complex b ) {
-
-      Complex sub[] = new Complex[a.length];
+   public static ComplexArray atanh ( ComplexArray z ) {
+      return atanh( z, new ComplexArray(z.length()) );
+   }
 
-      for ( int i = 0; i < a.length; i++ )
-         sub[i] = a[i].sub(b);
 
-      return sub;
+   /**
+    * Calculates the inverse hyperbolic tangent of the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
+    *
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing atanh(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
+    */
+   public static ComplexArray atanh ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.ATANH, z, null, 0, 0, out, "atanh" );
+      return out;
    }
 
 
    /**
-    * Subtracts a scalar value from a 2-D int array.
+    * Converts rectangular coordinates (<code>b</code>,&nbsp;<code>a</code>)
+    * to polar (r,&nbsp;<i>theta</i>).
+    * This method computes the phase <i>theta</i> by computing an arc tangent
+    * of <code>b/a</code> in the range of -<i>pi</i> to <i>pi</i>.
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   a <code>double</code> value.
+    * @param   b   a <code>double</code> value.
+    * @return  the <i>theta</i> component of the point
+    *          (<i>r</i>,&nbsp;<i>theta</i>)
+    *          in polar coordinates that corresponds to the point
+    *          (<i>b</i>,&nbsp;<i>a</i>) in Cartesian coordinates.
     */
-   public static int[][] sub ( int a[][], int b ) {
-      int sub[][] = new int[a.length][];
+   public static double[] atan2 ( double a[], double b[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).atan2( ArrayExpr.of(b) ).eval();
+      }
+      double atan2[] = new double[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "atan2: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
 
       for ( int i = 0; i < a.length; i++ ) {
-         sub[i] = new int[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sub[i][j] = a[i][j] - b;
-         }
+         atan2[i] = Math.atan2(a[i],b[i]);
       }
-      return sub;
+      return atan2;
    }
 
 
    /**
-    * Subtracts a scalar value from a 2-D long array.
+    * Converts rectangular coordinates (<code>b</code>,&nbsp;<code>a</code>)
+    * to polar (r,&nbsp;<i>theta</i>).
+    * This method computes the phase <i>theta</i> by computing an arc tangent
+    * of <code>b/a</code> in the range of -<i>pi</i> to <i>pi</i>.
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   a <code>double</code> value.
+    * @param   b   a <code>double</code> value.
+    * @return  the <i>theta</i> component of the point
+    *          (<i>r</i>,&nbsp;<i>theta</i>)
+    *          in polar coordinates that corresponds to the point
+    *          (<i>b</i>,&nbsp;<i>a</i>) in Cartesian coordinates.
     */
-   public static long[][] sub ( long a[][], long b ) {
-      long sub[][] = new long[a.length][];
+   public static double[][] atan2 ( double a[][], double b[][] ) {
+      double atan2[][] = new double[a.length][];
 
-      for ( int i = 0; i < a.length; i++ ) {
-         sub[i] = new long[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sub[i][j] = a[i][j] - b;
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "atan2: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "atan2: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            atan2[i] = new double[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               atan2[i][j] = Math.atan2(a[i][j],b[i][j]);
+            }
          }
       }
-      return sub;
+      return atan2;
    }
 
 
    /**
-    * Subtracts a scalar value from a 2-D float array.
+    * Converts rectangular coordinates (<code>b</code>,&nbsp;<code>a</code>)
+    * to polar (r,&nbsp;<i>theta</i>).
+    * This method computes the phase <i>theta</i> by computing an arc tangent
+    * of <code>b/a</code> in the range of -180 to 180 <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   a <code>double</code> value.
+    * @param   b   a <code>double</code> value.
+    * @return  the <i>theta</i> component of the point
+    *          (<i>r</i>,&nbsp;<i>theta</i>)
+    *          in polar coordinates that corresponds to the point
+    *          (<i>b</i>,&nbsp;<i>a</i>) in Cartesian coordinates.
     */
-   public static float[][] sub ( float a[][], float b ) {
-      float sub[][] = new float[a.length][];
+   public static double[] atan2d ( double a[], double b[] ) {
+      double atan2d[] = new double[a.length];
+
+      if ( a.length != b.length ) {
+         String s = "atan2d: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
 
       for ( int i = 0; i < a.length; i++ ) {
-         sub[i] = new float[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sub[i][j] = a[i][j] - b;
-         }
+         atan2d[i] = Math1.atan2d(a[i],b[i]);
       }
-      return sub;
+      return atan2d;
    }
 
 
    /**
-    * Subtracts a scalar value from a 2-D double array.
+    * Converts rectangular coordinates (<code>b</code>,&nbsp;<code>a</code>)
+    * to polar (r,&nbsp;<i>theta</i>).
+    * This method computes the phase <i>theta</i> by computing an arc tangent
+    * of <code>b/a</code> in the range of -180 to 180 <i>degrees</i>.
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   a <code>double</code> value.
+    * @param   b   a <code>double</code> value.
+    * @return  the <i>theta</i> component of the point
+    *          (<i>r</i>,&nbsp;<i>theta</i>)
+    *          in polar coordinates that corresponds to the point
+    *          (<i>b</i>,&nbsp;<i>a</i>) in Cartesian coordinates.
     */
-   public static double[][] sub ( double a[][], double b ) {
-      double sub[][] = new double[a.length][];
+   public static double[][] atan2d ( double a[][], double b[][] ) {
+      double atan2d[][] = new double[a.length][];
 
-      for ( int i = 0; i < a.length; i++ ) {
-         sub[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sub[i][j] = a[i][j] - b;
+      // Check for incompatibilities in the first dimension
+      if ( a.length != b.length ) {
+         String s = "atan2d: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < a.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( a[i].length != b[i].length ) {
+               String s = "atan2d: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            atan2d[i] = new double[a[i].length];
+            for ( int j = 0; j < a[i].length; j++ ) {
+               atan2d[i][j] = Math1.atan2d(a[i][j],b[i][j]);
+            }
          }
       }
-      return sub;
+      return atan2d;
    }
 
 
    /**
-    * Subtracts a scalar value from a 2-D Complex array.
+    * Returns exp(a) for the elements in an array
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array
+    * @return  exp(a)
     */
-   public static Complex[][] sub ( Complex a[][], double b ) {
-      Complex sub[][] = new Complex[a.length][];
+   public static double[] exp ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).exp().eval();
+      }
+      double exp[] = new double[a.length];
 
       for ( int i = 0; i < a.length; i++ ) {
-         sub[i] = new Complex[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sub[i][j] = a[i][j].sub(b);
-         }
+         exp[i] = Math.exp(a[i]);
       }
-      return sub;
+      return exp;
    }
 
 
    /**
-    * Subtracts a scalar value from a 2-D Complex array.
+    * Returns exp(a) for the elements in an array
     *
-    * @param   a   input array.
-    * @param   b   input scalar value.
-    * @return  an array whose elements are the sum of the
-    *          elements in <tt>a</tt> and <tt>b</tt>.
+    * @param   a   input array
+    * @return  exp(a)
     */
-   public static Complex[][] sub ( Complex a[][], Complex b ) {
-      Complex sub[][] = new Complex[a.length][];
+   public static double[][] exp ( double a[][] ) {
+      double exp[][] = new double[a.length][];
 
       for ( int i = 0; i < a.length; i++ ) {
-         sub[i] = new Complex[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-            sub[i][j] = a[i][j].sub(b);
+            exp[i][j] = Math.exp(a[i][j]);
          }
       }
-      return sub;
+      return exp;
    }
 
 
-   //******************************************************
-   //  sum methods
-   //******************************************************
-
    /**
-    * Returns the sum of the elements in array a.
+    * Returns exp(a) for the elements in a float array
     *
-    * @param   a   input array.
-    * @return  the sum of the elements in <tt>a</tt>.
+    * @param   a   input array
+    * @return  exp(a)
     */
-   public static int sum ( int a[] ) {
-      int sum = 0;
-      for ( int i = 0; i < a.length; i++ ) {
-         sum += a[i];
-      }
-      return sum;
+   public static float[] exp ( float a[] ) {
+      return exp( a, new float[a.length] );
    }
 
 
    /**
-    * Returns the sum of the elements in array a.
+    * Calculates exp(a) for the elements in a float array, storing the
+    * results in array <code>out</code>.  Each element is evaluated
+    * without creating a double copy of the array.  <code>out</code> may
+    * be the same array as <code>a</code>.  Large arrays are processed
+    * in parallel (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the sum of the elements in <tt>a</tt>.
+    * @param   a   input array
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing exp(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static long sum ( long a[] ) {
-      long sum = 0;
-      for ( int i = 0; i < a.length; i++ ) {
-         sum += a[i];
-      }
-      return sum;
+   public static float[] exp ( float a[], float out[] ) {
+      map( F_EXP, a, out, "exp" );
+      return out;
    }
 
 
    /**
-    * Returns the sum of the elements in array a.
+    * Returns exp(z) for the elements in a <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @return  the sum of the elements in <tt>a</tt>.
+    * @param   z   <code>Complex</code> input array
+    * @return  exp(z)
     */
-   public static float sum ( float a[] ) {
-      float sum = 0;
-      for ( int i = 0; i < a.length; i++ ) {
-         sum += a[i];
+   public static Complex[] exp ( Complex z[] ) {
+      Complex exp[] = new Complex[z.length];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         exp[i] = Complex.exp(z[i]);
       }
-      return sum;
+      return exp;
    }
 
 
    /**
-    * Returns the sum of the elements in array a.
+    * Returns exp(z) for the elements in a <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @return  the sum of the elements in <tt>a</tt>.
+    * @param   z   <code>Complex</code> input array
+    * @return  exp(z)
     */
-   public static double sum ( double a[] ) {
-      double sum = 0;
-      for ( int i = 0; i < a.length; i++ ) {
-         sum += a[i];
+   public static Complex[][] exp ( Complex z[][] ) {
+      Complex exp[][] = new Complex[z.length][];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         exp[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            exp[i][j] = Complex.exp(z[i][j]);
+         }
       }
-      return sum;
+      return exp;
    }
 
 
    /**
-    * Returns the sum of the elements in array a.
+    * Returns exp(z) for the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array.
-    * @return  the sum of the elements in <tt>a</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  exp(z)
     */
-   public static Complex sum ( Complex a[] ) {
-      Complex sum = new Complex(0.0,0.0);
-      for ( int i = 0; i < a.length; i++ ) {
-         sum = sum.add(a[i]);
-      }
-      return sum;
+   public static ComplexArray exp ( ComplexArray z ) {
+      return exp( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Returns the sum of the elements in array a.
+    * Calculates exp(z) for the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the sum of the elements in <tt>a</tt>.
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing exp(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static int sum ( int a[][] ) {
-      int sum = 0;
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sum += a[i][j];
-         }
-      }
-      return sum;
+   public static ComplexArray exp ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.EXP, z, null, 0, 0, out, "exp" );
+      return out;
    }
 
 
    /**
-    * Returns the sum of the elements in array a.
+    * Returns the natural logarithm log(a) for the elements in an array
     *
-    * @param   a   input array.
-    * @return  the sum of the elements in <tt>a</tt>.
+    * @param   a   input array, where all a[i] > 0.0
+    * @return  log(a)
     */
-   public static long sum ( long a[][] ) {
-      long sum = 0;
+   public static double[] log ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).log().eval();
+      }
+      double log[] = new double[a.length];
+
       for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sum += a[i][j];
-         }
+         log[i] = Math.log(a[i]);
       }
-      return sum;
+      return log;
    }
 
 
    /**
-    * Returns the sum of the elements in array a.
+    * Returns the natural logarithm log(a) for the elements in an array
     *
-    * @param   a   input array.
-    * @return  the sum of the elements in <tt>a</tt>.
+    * @param   a   input array, where all a[i] > 0.0
+    * @return  log(a)
     */
-   public static float sum ( float a[][] ) {
-      float sum = 0;
+   public static double[][] log ( double a[][] ) {
+      double log[][] = new double[a.length][];
+
       for ( int i = 0; i < a.length; i++ ) {
          for ( int j = 0; j < a[i].length; j++ ) {
-            sum += a[i][j];
+            log[i][j] = Math.log(a[i][j]);
          }
       }
-      return sum;
+      return log;
    }
 
 
    /**
-    * Returns the sum of the elements in array a.
+    * Returns the natural logarithm log(a) for the elements in a float array
     *
-    * @param   a   input array.
-    * @return  the sum of the elements in <tt>a</tt>.
+    * @param   a   input array, where all a[i] > 0.0
+    * @return  log(a)
     */
-   public static double sum ( double a[][] ) {
-      double sum = 0;
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sum += a[i][j];
-         }
-      }
-      return sum;
+   public static float[] log ( float a[] ) {
+      return log( a, new float[a.length] );
    }
 
 
    /**
-    * Returns the sum of the elements in array a.
+    * Calculates the natural logarithm log(a) for the elements in a
+    * float array, storing the results in array <code>out</code>.  Each
+    * element is evaluated without creating a double copy of the array.
+    * <code>out</code> may be the same array as <code>a</code>.  Large
+    * arrays are processed in parallel (see class
+    * <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @return  the sum of the elements in <tt>a</tt>.
+    * @param   a   input array, where all a[i] > 0.0
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing log(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
     */
-   public static Complex sum ( Complex a[][] ) {
-      Complex sum = new Complex(0.0,0.0);
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sum = sum.add(a[i][j]);
-         }
-      }
-      return sum;
+   public static float[] log ( float a[], float out[] ) {
+      map( F_LOG, a, out, "log" );
+      return out;
    }
 
 
-   //******************************************************
-   //  sum (mask) methods
-   //******************************************************
-
    /**
-    * Masked sum--returns the sum of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns log(z) for the elements in a <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the sum of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   z   <code>Complex</code> input array
+    * @return  log(z)
     */
-   public static int sum ( int a[], boolean b[] ) {
-      int sum = 0;
+   public static Complex[] log ( Complex z[] ) {
+      Complex log[] = new Complex[z.length];
 
-      if ( a.length != b.length ) {
-         String s = "sum: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            if ( b[i] ) {
-               sum += a[i];
-            }
-         }
+      for ( int i = 0; i < z.length; i++ ) {
+         log[i] = Complex.log(z[i]);
       }
-      return sum;
+      return log;
    }
 
 
    /**
-    * Masked sum--returns the sum of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns log(z) for the elements in a <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the sum of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   z   <code>Complex</code> input array
+    * @return  log(z)
     */
-   public static long sum ( long a[], boolean b[] ) {
-      long sum = 0;
+   public static Complex[][] log ( Complex z[][] ) {
+      Complex log[][] = new Complex[z.length][];
 
-      if ( a.length != b.length ) {
-         String s = "sum: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            if ( b[i] ) {
-               sum += a[i];
-            }
+      for ( int i = 0; i < z.length; i++ ) {
+         log[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            log[i][j] = Complex.log(z[i][j]);
          }
       }
-      return sum;
+      return log;
    }
 
 
    /**
-    * Masked sum--returns the sum of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns log(z) for the elements in a <code>ComplexArray</code>
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the sum of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  log(z)
     */
-   public static float sum ( float a[], boolean b[] ) {
-      float sum = 0;
-
-      if ( a.length != b.length ) {
-         String s = "sum: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            if ( b[i] ) {
-               sum += a[i];
-            }
-         }
-      }
-      return sum;
+   public static ComplexArray log ( ComplexArray z ) {
+      return log( z, new ComplexArray(z.length()) );
    }
 
 
    /**
-    * Masked sum--returns the sum of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Calculates log(z) for the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the sum of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing log(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
     */
-   public static double sum ( double a[], boolean b[] ) {
-      double sum = 0;
+   public static ComplexArray log ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.LOG, z, null, 0, 0, out, "log" );
+      return out;
+   }
 
-      if ( a.length != b.length ) {
-         String s = "sum: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+
+   /**
+    * Returns the base-10 logarithm log10(a) for the elements in an array
+    *
+    * @param   a   input array, where all a[i] > 0.0
+    * @return  log10(a)
+    */
+   public static double[] log10 ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).log10().eval();
       }
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            if ( b[i] ) {
-               sum += a[i];
-            }
-         }
+      double log10[] = new double[a.length];
+
+      for ( int i = 0; i < a.length; i++ ) {
+         log10[i] = Math1.log10(a[i]);
       }
-      return sum;
+      return log10;
    }
 
 
    /**
-    * Masked sum--returns the sum of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the base-10 logarithm log10(a) for the elements in an array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the sum of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array, where all a[i] > 0.0
+    * @return  log10(a)
     */
-   public static Complex sum ( Complex a[], boolean b[] ) {
-      Complex sum = new Complex(0.0,0.0);
+   public static double[][] log10 ( double a[][] ) {
+      double log10[][] = new double[a.length][];
 
-      if ( a.length != b.length ) {
-         String s = "sum: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            if ( b[i] ) {
-               sum = sum.add(a[i]);
-            }
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            log10[i][j] = Math1.log10(a[i][j]);
          }
       }
-      return sum;
+      return log10;
    }
 
 
    /**
-    * Masked sum--returns the sum of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the base-10 logarithm log10(a) for the elements in a float array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the sum of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array, where all a[i] > 0.0
+    * @return  log10(a)
     */
-   public static int sum ( int a[][], boolean b[][] ) {
-      int sum = 0;
+   public static float[] log10 ( float a[] ) {
+      return log10( a, new float[a.length] );
+   }
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "sum: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "sum: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            for ( int j = 0; j < a[i].length; j++ ) {
-               if ( b[i][j] ) {
-                  sum += a[i][j];
-               }
-            }
-         }
-      }
-      return sum;
+   /**
+    * Calculates the base-10 logarithm log10(a) for the elements in a
+    * float array, storing the results in array <code>out</code>.  Each
+    * element is evaluated without creating a double copy of the array.
+    * <code>out</code> may be the same array as <code>a</code>.  Large
+    * arrays are processed in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array, where all a[i] > 0.0
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing log10(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] log10 ( float a[], float out[] ) {
+      map( F_LOG10, a, out, "log10" );
+      return out;
    }
 
 
    /**
-    * Masked sum--returns the sum of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the square root of a for the elements in an array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the sum of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array, where all a[i] >= 0.0
+    * @return  sqrt(a)
     */
-   public static long sum ( long a[][], boolean b[][] ) {
-      long sum = 0;
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "sum: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   public static double[] sqrt ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).sqrt().eval();
       }
+      double sqrt[] = new double[a.length];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "sum: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            for ( int j = 0; j < a[i].length; j++ ) {
-               if ( b[i][j] ) {
-                  sum += a[i][j];
-               }
-            }
-         }
+      for ( int i = 0; i < a.length; i++ ) {
+         sqrt[i] = Math.sqrt(a[i]);
       }
-      return sum;
+      return sqrt;
    }
 
 
    /**
-    * Masked sum--returns the sum of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the square root of a for the elements in an array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the sum of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array, where all a[i] >= 0.0
+    * @return  sqrt(a)
     */
-   public static float sum ( float a[][], boolean b[][] ) {
-      float sum = 0;
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "sum: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
+   public static double[][] sqrt ( double a[][] ) {
+      double sqrt[][] = new double[a.length][];
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "sum: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            for ( int j = 0; j < a[i].length; j++ ) {
-               if ( b[i][j] ) {
-                  sum += a[i][j];
-               }
-            }
+      for ( int i = 0; i < a.length; i++ ) {
+         for ( int j = 0; j < a[i].length; j++ ) {
+            sqrt[i][j] = Math.sqrt(a[i][j]);
          }
       }
-      return sum;
+      return sqrt;
    }
 
 
    /**
-    * Masked sum--returns the sum of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns the square root of a for the elements in a float array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the sum of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   a   input array, where all a[i] >= 0.0
+    * @return  sqrt(a)
     */
-   public static double sum ( double a[][], boolean b[][] ) {
-      double sum = 0;
+   public static float[] sqrt ( float a[] ) {
+      return sqrt( a, new float[a.length] );
+   }
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "sum: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "sum: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            for ( int j = 0; j < a[i].length; j++ ) {
-               if ( b[i][j] ) {
-                  sum += a[i][j];
-               }
-            }
-         }
-      }
-      return sum;
+   /**
+    * Calculates the square root of a for the elements in a float array,
+    * storing the results in array <code>out</code>.  Each element is
+    * evaluated without creating a double copy of the array.
+    * <code>out</code> may be the same array as <code>a</code>.  Large
+    * arrays are processed in parallel (see class
+    * <code>Parallel</code>).
+    *
+    * @param   a   input array, where all a[i] >= 0.0
+    * @param   out output array, the same length as <code>a</code>
+    * @return  <code>out</code>, containing sqrt(a)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>a</code>
+    */
+   public static float[] sqrt ( float a[], float out[] ) {
+      map( F_SQRT, a, out, "sqrt" );
+      return out;
    }
 
 
    /**
-    * Masked sum--returns the sum of the elements
-    * in array <tt>a</tt> that correspond to <tt>true</tt> elements
-    * in array <tt>b</tt>.
+    * Returns sqrt(z) for the elements in a <code>Complex</code> array
     *
-    * @param   a   input array.
-    * @param   b   masking array.
-    * @return  the sum of the elements in <tt>a</tt>
-    *          that correspond to <tt>true</tt> elements in array
-    *          <tt>b</tt>
+    * @param   z   <code>Complex</code> input array
+    * @return  sqrt(z)
     */
-   public static Complex sum ( Complex a[][], boolean b[][] ) {
-      Complex sum = new Complex(0.0,0.0);
+   public static Complex[] sqrt ( Complex z[] ) {
+      Complex sqrt[] = new Complex[z.length];
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "sum: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+      for ( int i = 0; i < z.length; i++ ) {
+         sqrt[i] = Complex.sqrt(z[i]);
       }
+      return sqrt;
+   }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "sum: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            for ( int j = 0; j < a[i].length; j++ ) {
-               if ( b[i][j] ) {
-                  sum = sum.add(a[i][j]);
-               }
-            }
+
+   /**
+    * Returns sqrt(z) for the elements in a <code>Complex</code> array
+    *
+    * @param   z   <code>Complex</code> input array
+    * @return  sqrt(z)
+    */
+   public static Complex[][] sqrt ( Complex z[][] ) {
+      Complex sqrt[][] = new Complex[z.length][];
+
+      for ( int i = 0; i < z.length; i++ ) {
+         sqrt[i] = new Complex[z[i].length];
+         for ( int j = 0; j < z[i].length; j++ ) {
+            sqrt[i][j] = Complex.sqrt(z[i][j]);
          }
       }
-      return sum;
+      return sqrt;
    }
 
 
-   //******************************************************
-   //  xor methods
-   //******************************************************
+   /**
+    * Returns sqrt(z) for the elements in a <code>ComplexArray</code>
+    *
+    * @param   z   <code>ComplexArray</code> input array
+    * @return  sqrt(z)
+    */
+   public static ComplexArray sqrt ( ComplexArray z ) {
+      return sqrt( z, new ComplexArray(z.length()) );
+   }
+
 
    /**
-    * Returns the element-by-element logical <code>xor</code> of
-    * two boolean arrays.
+    * Calculates sqrt(z) for the elements in a <code>ComplexArray</code>,
+    * storing the results in array <code>out</code>.  No objects are created
+    * for the individual elements, and <code>out</code> may be the same
+    * object as <code>z</code>.  Large arrays are processed in parallel
+    * (see class <code>Parallel</code>).
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  the <code>boolean</code> result
+    * @param   z   <code>ComplexArray</code> input array
+    * @param   out <code>ComplexArray</code> output array, the same length as <code>z</code>
+    * @return  <code>out</code>, containing sqrt(z)
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>z</code>
+    */
+   public static ComplexArray sqrt ( ComplexArray z, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.SQRT, z, null, 0, 0, out, "sqrt" );
+      return out;
+   }
+
+
+   /**
+    * Returns an array of the first argument raised to the power of the
+    * second argument.
+    * <p>
+    * If (<code>a&nbsp;==&nbsp;0.0</code>), then <code>b</code> must be
+    * greater than <code>0.0</code>; otherwise an exception is thrown.
+    * An exception also will occur if (<code>a&nbsp;&lt;=&nbsp;0.0</code>)
+    * and <code>b</code> is not equal to a whole number.
+    *
+    * @param   a   a <code>double</code> array.
+    * @param   b   a <code>double</code> array.
+    * @return  the array <code>a<sup>b</sup></code>.
+    * @exception ArithmeticException  if (<code>a&nbsp;==&nbsp;0.0</code>) and
+    *              (<code>b&nbsp;&lt;=&nbsp;0.0</code>), or
+    *              if (<code>a&nbsp;&lt;=&nbsp;0.0</code>) and <code>b</code>
+    *              is not equal to a whole number.
+    * @exception InvalidArraySizeException  if <code>a</code> is not the same
+    *              size as <code>b</code>
     */
-   public static boolean[] xor ( boolean a[], boolean b[] ) {
-      boolean xor[] = new boolean[a.length];
+   public static double[] pow ( double a[], double b[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).pow( ArrayExpr.of(b) ).eval();
+      }
+      double pow[] = new double[a.length];
 
       if ( a.length != b.length ) {
-         String s = "xor: Incompatible array lengths";
+         String s = "pow: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
       for ( int i = 0; i < a.length; i++ ) {
-         xor[i] = a[i] ^ b[i];
+         pow[i] = Math.pow(a[i],b[i]);
       }
-      return xor;
+      return pow;
    }
 
 
    /**
-    * Returns the element-by-element logical <code>xor</code> of
-    * two boolean arrays.
+    * Returns an array of the first argument raised to the power of the
+    * second argument.
+    * <p>
+    * If (<code>a&nbsp;==&nbsp;0.0</code>), then <code>b</code> must be
+    * greater than <code>0.0</code>; otherwise an exception is thrown.
+    * An exception also will occur if (<code>a&nbsp;&lt;=&nbsp;0.0</code>)
+    * and <code>b</code> is not equal to a whole number.
     *
-    * @param   a   input array 1.
-    * @param   b   input array 2.
-    * @return  the <code>boolean</code> result
+    * @param   a   a <code>double</code> array.
+    * @param   b   a <code>double</code> array.
+    * @return  the array <code>a<sup>b</sup></code>.
+    * @exception ArithmeticException  if (<code>a&nbsp;==&nbsp;0.0</code>) and
+    *              (<code>b&nbsp;&lt;=&nbsp;0.0</code>), or
+    *              if (<code>a&nbsp;&lt;=&nbsp;0.0</code>) and <code>b</code>
+    *              is not equal to a whole number.
+    * @exception InvalidArraySizeException  if <code>a</code> is not the same
+    *              size as <code>b</code>
     */
-   public static boolean[][] xor ( boolean a[][], boolean b[][] ) {
-      boolean xor[][] = new boolean[a.length][];
+   public static double[][] pow ( double a[][], double b[][] ) {
+      double pow[][] = new double[a.length][];
 
       // Check for incompatibilities in the first dimension
       if ( a.length != b.length ) {
-         String s = "xor: Incompatible array lengths";
+         String s = "pow: Incompatible array lengths";
          throw new InvalidArraySizeException(s);
       }
 
@@ -6475,1985 +15540,2971 @@ public final class Array {
          for ( int i = 0; i < a.length; i++ ) {
             // Check for incompatibilities in the second dimension
             if ( a[i].length != b[i].length ) {
-               String s = "xor: Incompatible array lengths";
+               String s = "pow: Incompatible array lengths";
                throw new InvalidArraySizeException(s);
             }
-            xor[i] = new boolean[a[i].length];
+            pow[i] = new double[a[i].length];
             for ( int j = 0; j < a[i].length; j++ ) {
-               xor[i][j] = a[i][j] ^ b[i][j];
+               pow[i][j] = Math.pow(a[i][j],b[i][j]);
             }
          }
       }
-      return xor;
+      return pow;
    }
 
 
-   //******************************************************
-   //  trig and special functions
-   //******************************************************
-
    /**
-    * Returns the sine of the elements in an array
+    * Returns an array of the first argument raised to a scalar power.
+    * <p>
+    * If (<code>a&nbsp;==&nbsp;0.0</code>), then <code>b</code> must be
+    * greater than <code>0.0</code>; otherwise an exception is thrown.
+    * An exception also will occur if (<code>a&nbsp;&lt;=&nbsp;0.0</code>)
+    * and <code>b</code> is not equal to a whole number.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  sin(a)
+    * @param   a   a <code>double</code> array.
+    * @param   b   a scalar exponent.
+    * @return  the array <code>a<sup>b</sup></code>.
+    * @exception ArithmeticException  if (<code>a&nbsp;==&nbsp;0.0</code>) and
+    *              (<code>b&nbsp;&lt;=&nbsp;0.0</code>), or
+    *              if (<code>a&nbsp;&lt;=&nbsp;0.0</code>) and <code>b</code>
+    *              is not equal to a whole number.
     */
-   public static double[] sin ( double a[] ) {
-      double sin[] = new double[a.length];
+   public static double[] pow ( double a[], double b ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).pow(b).eval();
+      }
+      double pow[] = new double[a.length];
 
       for ( int i = 0; i < a.length; i++ ) {
-         sin[i] = Math.sin(a[i]);
+         pow[i] = Math.pow(a[i],b);
       }
-      return sin;
+      return pow;
    }
 
 
    /**
-    * Returns the sine of the elements in an array
+    * Returns an array of the first argument raised to a scalar power.
+    * <p>
+    * If (<code>a&nbsp;==&nbsp;0.0</code>), then <code>b</code> must be
+    * greater than <code>0.0</code>; otherwise an exception is thrown.
+    * An exception also will occur if (<code>a&nbsp;&lt;=&nbsp;0.0</code>)
+    * and <code>b</code> is not equal to a whole number.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  sin(a)
+    * @param   a   a <code>double</code> array.
+    * @param   b   a scalar exponent.
+    * @return  the array <code>a<sup>b</sup></code>.
+    * @exception ArithmeticException  if (<code>a&nbsp;==&nbsp;0.0</code>) and
+    *              (<code>b&nbsp;&lt;=&nbsp;0.0</code>), or
+    *              if (<code>a&nbsp;&lt;=&nbsp;0.0</code>) and <code>b</code>
+    *              is not equal to a whole number.
     */
-   public static double[][] sin ( double a[][] ) {
-      double sin[][] = new double[a.length][];
+   public static double[][] pow ( double a[][], double b ) {
+      double pow[][] = new double[a.length][];
 
       for ( int i = 0; i < a.length; i++ ) {
-         sin[i] = new double[a[i].length];
+         pow[i] = new double[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-            sin[i][j] = Math.sin(a[i][j]);
+            pow[i][j] = Math.pow(a[i][j],b);
          }
       }
-      return sin;
+      return pow;
    }
 
-
    /**
-    * Returns the sine of the elements in a <code>Complex</code> array
+    * Returns an array of the first argument raised to the power of the
+    * second argument.
     *
-    * @param   z   input array
-    * @return  sin(z)
+    * @param   za   a <code>Complex</code> array.
+    * @param   zb   a <code>Complex</code> array.
+    * @return  the array <code>za<sup>zb</sup></code>.
+    * @exception InvalidArraySizeException  if <code>za</code> is not the same
+    *              size as <code>zb</code>
     */
-   public static Complex[] sin ( Complex z[] ) {
-      Complex sin[] = new Complex[z.length];
+   public static Complex[] pow ( Complex za[], Complex zb[] ) {
+      Complex pow[] = new Complex[za.length];
 
-      for ( int i = 0; i < z.length; i++ ) {
-         sin[i] = Complex.sin(z[i]);
+      if ( za.length != zb.length ) {
+         String s = "pow: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return sin;
+
+      for ( int i = 0; i < za.length; i++ ) {
+         pow[i] = Complex.pow(za[i],zb[i]);
+      }
+      return pow;
    }
 
 
    /**
-    * Returns the sine of the elements in a <code>Complex</code> array
+    * Returns an array of the first argument raised to the power of the
+    * second argument.
     *
-    * @param   z   input array
-    * @return  sin(z)
+    * @param   za   a <code>Complex</code> array.
+    * @param   zb   a <code>Complex</code> array.
+    * @return  the array <code>za<sup>zb</sup></code>.
+    * @exception InvalidArraySizeException  if <code>za</code> is not the same
+    *              size as <code>zb</code>
     */
-   public static Complex[][] sin ( Complex z[][] ) {
-      Complex sin[][] = new Complex[z.length][];
+   public static Complex[][] pow ( Complex za[][], Complex zb[][] ) {
+      Complex pow[][] = new Complex[za.length][];
 
-      for ( int i = 0; i < z.length; i++ ) {
-         sin[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            sin[i][j] = Complex.sin(z[i][j]);
+      // Check for incompatibilities in the first dimension
+      if ( za.length != zb.length ) {
+         String s = "pow: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      else {
+         for ( int i = 0; i < za.length; i++ ) {
+            // Check for incompatibilities in the second dimension
+            if ( za[i].length != zb[i].length ) {
+               String s = "pow: Incompatible array lengths";
+               throw new InvalidArraySizeException(s);
+            }
+            pow[i] = new Complex[za[i].length];
+            for ( int j = 0; j < za[i].length; j++ ) {
+               pow[i][j] = Complex.pow(za[i][j],zb[i][j]);
+            }
          }
       }
-      return sin;
+      return pow;
    }
 
 
    /**
-    * Returns the sine of the elements in an array, where the
-    * input arguments are in <i>degrees</i>.
+    * Returns an array of the first argument raised to a scalar power.
     *
-    * @param   a   input array, in <i>degrees</i>.
-    * @return  sind(a)
+    * @param   za   a <code>Complex</code> array.
+    * @param   zb   a <code>Complex</code> scalar exponent.
+    * @return  the array <code>za<sup>zb</sup></code>.
     */
-   public static double[] sind ( double a[] ) {
-      double sind[] = new double[a.length];
+   public static Complex[] pow ( Complex za[], Complex zb ) {
+      Complex pow[] = new Complex[za.length];
 
-      for ( int i = 0; i < a.length; i++ ) {
-         sind[i] = Math1.sind(a[i]);
+      for ( int i = 0; i < za.length; i++ ) {
+         pow[i] = Complex.pow(za[i],zb);
       }
-      return sind;
+      return pow;
    }
 
 
    /**
-    * Returns the sine of the elements in an array, where the
-    * input arguments are in <i>degrees</i>.
+    * Returns an array of the first argument raised to a scalar power.
     *
-    * @param   a   input array, in <i>degrees</i>.
-    * @return  sind(a)
+    * @param   za   a <code>Complex</code> array.
+    * @param   zb   a <code>Complex</code> scalar exponent.
+    * @return  the array <code>za<sup>zb</sup></code>.
     */
-   public static double[][] sind ( double a[][] ) {
-      double sind[][] = new double[a.length][];
+   public static Complex[][] pow ( Complex za[][], Complex zb ) {
+      Complex pow[][] = new Complex[za.length][];
 
-      for ( int i = 0; i < a.length; i++ ) {
-         sind[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sind[i][j] = Math1.sind(a[i][j]);
+      for ( int i = 0; i < za.length; i++ ) {
+         pow[i] = new Complex[za[i].length];
+         for ( int j = 0; j < za[i].length; j++ ) {
+            pow[i][j] = Complex.pow(za[i][j],zb);
          }
       }
-      return sind;
+      return pow;
    }
 
 
    /**
-    * Returns the hyperbolic sine of the elements in an array
+    * Returns an array of the first argument raised to a scalar power.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  sinh(a)
+    * @param   za  a <code>Complex</code> array.
+    * @param   b   a <code>double</code> scalar exponent.
+    * @return  the array <code>za<sup>b</sup></code>.
     */
-   public static double[] sinh ( double a[] ) {
-      double sinh[] = new double[a.length];
+   public static Complex[] pow ( Complex za[], double b ) {
+      Complex pow[] = new Complex[za.length];
 
-      for ( int i = 0; i < a.length; i++ ) {
-         sinh[i] = Math1.sinh(a[i]);
+      for ( int i = 0; i < za.length; i++ ) {
+         pow[i] = Complex.pow(za[i],b);
       }
-      return sinh;
+      return pow;
    }
 
 
    /**
-    * Returns the hyperbolic sine of the elements in an array
+    * Returns an array of the first argument raised to a scalar power.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  sinh(a)
+    * @param   za  a <code>Complex</code> array.
+    * @param   b   a <code>double</code> scalar exponent.
+    * @return  the array <code>za<sup>b</sup></code>.
     */
-   public static double[][] sinh ( double a[][] ) {
-      double sinh[][] = new double[a.length][];
+   public static Complex[][] pow ( Complex za[][], double b ) {
+      Complex pow[][] = new Complex[za.length][];
 
-      for ( int i = 0; i < a.length; i++ ) {
-         sinh[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sinh[i][j] = Math1.sinh(a[i][j]);
+      for ( int i = 0; i < za.length; i++ ) {
+         pow[i] = new Complex[za[i].length];
+         for ( int j = 0; j < za[i].length; j++ ) {
+            pow[i][j] = Complex.pow(za[i][j],b);
          }
       }
-      return sinh;
+      return pow;
+   }
+
+
+   /**
+    * Returns an array of the first argument raised to the power of the
+    * second argument.
+    *
+    * @param   za   a <code>ComplexArray</code>.
+    * @param   zb   a <code>ComplexArray</code>.
+    * @return  the array <code>za<sup>zb</sup></code>.
+    * @exception InvalidArraySizeException  if <code>za</code> is not the same
+    *              size as <code>zb</code>
+    */
+   public static ComplexArray pow ( ComplexArray za, ComplexArray zb ) {
+      return pow( za, zb, new ComplexArray(za.length()) );
    }
 
 
    /**
-    * Returns the hyperbolic sine of the elements in a
-    * <code>Complex</code> array
+    * Calculates the first argument raised to the power of the second
+    * argument, element by element, storing the results in array
+    * <code>out</code>.  <code>out</code> may be the same object as
+    * either input.
     *
-    * @param   z   input array
-    * @return  sinh(z)
+    * @param   za   a <code>ComplexArray</code>.
+    * @param   zb   a <code>ComplexArray</code>.
+    * @param   out  a <code>ComplexArray</code> to receive the results.
+    * @return  <code>out</code>, containing <code>za<sup>zb</sup></code>.
+    * @exception InvalidArraySizeException  if the arrays are not all the
+    *              same size
     */
-   public static Complex[] sinh ( Complex z[] ) {
-      Complex sinh[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         sinh[i] = Complex.sinh(z[i]);
-      }
-      return sinh;
+   public static ComplexArray pow ( ComplexArray za, ComplexArray zb, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.POWZ, za, zb, 0, 0, out, "pow" );
+      return out;
    }
 
 
    /**
-    * Returns the hyperbolic sine of the elements in a
-    * <code>Complex</code> array
+    * Returns an array of the first argument raised to a scalar power.
     *
-    * @param   z   input array
-    * @return  sinh(z)
+    * @param   za   a <code>ComplexArray</code>.
+    * @param   zb   a <code>Complex</code> scalar exponent.
+    * @return  the array <code>za<sup>zb</sup></code>.
     */
-   public static Complex[][] sinh ( Complex z[][] ) {
-      Complex sinh[][] = new Complex[z.length][];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         sinh[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            sinh[i][j] = Complex.sinh(z[i][j]);
-         }
-      }
-      return sinh;
+   public static ComplexArray pow ( ComplexArray za, Complex zb ) {
+      return pow( za, zb, new ComplexArray(za.length()) );
    }
 
 
    /**
-    * Returns the sinc function of the elements in an array, where
-    * sinc <i>a</i> is defined as sin <i>a</i> / <i>a</i>.
+    * Calculates the first argument raised to a scalar power, storing the
+    * results in array <code>out</code>.  <code>out</code> may be the same
+    * object as <code>za</code>.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  sinc(a)
+    * @param   za   a <code>ComplexArray</code>.
+    * @param   zb   a <code>Complex</code> scalar exponent.
+    * @param   out  a <code>ComplexArray</code> to receive the results.
+    * @return  <code>out</code>, containing <code>za<sup>zb</sup></code>.
+    * @exception InvalidArraySizeException  if <code>out</code> is not the
+    *              same size as <code>za</code>
     */
-   public static double[] sinc ( double a[] ) {
-      double sinc[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         sinc[i] = Math1.sinc(a[i]);
-      }
-      return sinc;
+   public static ComplexArray pow ( ComplexArray za, Complex zb, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.POW, za, null, zb.re(), zb.im(), out, "pow" );
+      return out;
    }
 
 
    /**
-    * Returns the sinc function of the elements in an array, where
-    * sinc <i>a</i> is defined as sin <i>a</i> / <i>a</i>.
+    * Returns an array of the first argument raised to a scalar power.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  sinc(a)
+    * @param   za   a <code>ComplexArray</code>.
+    * @param   b    a <code>double</code> scalar exponent.
+    * @return  the array <code>za<sup>b</sup></code>.
     */
-   public static double[][] sinc ( double a[][] ) {
-      double sinc[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         sinc[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sinc[i][j] = Math1.sinc(a[i][j]);
-         }
-      }
-      return sinc;
+   public static ComplexArray pow ( ComplexArray za, double b ) {
+      return pow( za, b, new ComplexArray(za.length()) );
    }
 
 
    /**
-    * Returns the cosine of the elements in an array
+    * Calculates the first argument raised to a scalar power, storing the
+    * results in array <code>out</code>.  <code>out</code> may be the same
+    * object as <code>za</code>.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  cos(a)
+    * @param   za   a <code>ComplexArray</code>.
+    * @param   b    a <code>double</code> scalar exponent.
+    * @param   out  a <code>ComplexArray</code> to receive the results.
+    * @return  <code>out</code>, containing <code>za<sup>b</sup></code>.
+    * @exception InvalidArraySizeException  if <code>out</code> is not the
+    *              same size as <code>za</code>
     */
-   public static double[] cos ( double a[] ) {
-      double cos[] = new double[a.length];
+   public static ComplexArray pow ( ComplexArray za, double b, ComplexArray out ) {
+      ComplexArray.map( ComplexArray.POW, za, null, b, 0, out, "pow" );
+      return out;
+   }
+
 
+   /**
+    * Returns an array of the smallest (closest to negative infinity)
+    * <code>double</code> values that are not less than the argument and are
+    * equal to mathematical integers.
+    *
+    * @param   a   a <code>double</code> array.
+    * <!--@return  the value &lceil;&nbsp;<code>a</code>&nbsp;&rceil;.-->
+    * @return  the array of the smallest (closest to negative infinity)
+    *          <code>double</code> values that are not less than the arguments
+    *          and are equal to a mathematical integer.
+    */
+   public static double[] ceil ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).ceil().eval();
+      }
+      double ceil[] = new double[a.length];
       for ( int i = 0; i < a.length; i++ ) {
-         cos[i] = Math.cos(a[i]);
+         ceil[i] = Math.ceil(a[i]);
       }
-      return cos;
+      return ceil;
    }
 
 
    /**
-    * Returns the cosine of the elements in an array
+    * Returns an array of the smallest (closest to negative infinity)
+    * <code>double</code> values that are not less than the argument and are
+    * equal to mathematical integers.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  cos(a)
+    * @param   a   a <code>double</code> array.
+    * <!--@return  the value &lceil;&nbsp;<code>a</code>&nbsp;&rceil;.-->
+    * @return  the array of the smallest (closest to negative infinity)
+    *          <code>double</code> values that are not less than the arguments
+    *          and are equal to a mathematical integer.
     */
-   public static double[][] cos ( double a[][] ) {
-      double cos[][] = new double[a.length][];
-
+   public static double[][] ceil ( double a[][] ) {
+      double ceil[][] = new double[a.length][];
       for ( int i = 0; i < a.length; i++ ) {
-         cos[i] = new double[a[i].length];
+         ceil[i] = new double[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-            cos[i][j] = Math.cos(a[i][j]);
+            ceil[i][j] = Math.ceil(a[i][j]);
          }
       }
-      return cos;
+      return ceil;
    }
 
 
    /**
-    * Returns the cosine of the elements in a <code>Complex</code> array
+    * Returns an array of the smallest (closest to positive infinity)
+    * <code>double</code> values that are not greater than the argument and are
+    * equal to mathematical integers.
     *
-    * @param   z   input array
-    * @return  cos(z)
+    * @param   a   a <code>double</code> array.
+     * <!--@return  the value &lfloor;&nbsp;<code>a</code>&nbsp;&rfloor;.-->
+    * @return  the array of the largest (closest to positive infinity)
+    *          <code>double</code> values that are not greater than the arguments
+    *          and are equal to a mathematical integer.
     */
-   public static Complex[] cos ( Complex z[] ) {
-      Complex cos[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         cos[i] = Complex.cos(z[i]);
+   public static double[] floor ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).floor().eval();
       }
-      return cos;
+      double floor[] = new double[a.length];
+      for ( int i = 0; i < a.length; i++ ) {
+         floor[i] = Math.floor(a[i]);
+      }
+      return floor;
    }
 
 
    /**
-    * Returns the cosine of the elements in a <code>Complex</code> array
+    * Returns an array of the smallest (closest to positive infinity)
+    * <code>double</code> values that are not greater than the argument and are
+    * equal to mathematical integers.
     *
-    * @param   z   input array
-    * @return  sin(z)
+    * @param   a   a <code>double</code> array.
+     * <!--@return  the value &lfloor;&nbsp;<code>a</code>&nbsp;&rfloor;.-->
+    * @return  the array of the largest (closest to positive infinity)
+    *          <code>double</code> values that are not greater than the arguments
+    *          and are equal to a mathematical integer.
     */
-   public static Complex[][] cos ( Complex z[][] ) {
-      Complex cos[][] = new Complex[z.length][];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         cos[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            cos[i][j] = Complex.cos(z[i][j]);
+   public static double[][] floor ( double a[][] ) {
+      double floor[][] = new double[a.length][];
+      for ( int i = 0; i < a.length; i++ ) {
+         floor[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            floor[i][j] = Math.floor(a[i][j]);
          }
       }
-      return cos;
+      return floor;
    }
 
 
    /**
-    * Returns the cosine of the elements in an array, where the
-    * input arguments are in <i>degrees</i>.
+    * Returns an array of the closest <code>long</code> values to the input
+    * arguments.
     *
-    * @param   a   input array, in <i>degrees</i>.
-    * @return  cosd(a)
+    * @param   a   a <code>double</code> array.
+    * @return  the array of the <code>long</code> values closest to the input
+    *          values
     */
-   public static double[] cosd ( double a[] ) {
-      double cosd[] = new double[a.length];
-
+   public static long[] round ( double a[] ) {
+      long round[] = new long[a.length];
       for ( int i = 0; i < a.length; i++ ) {
-         cosd[i] = Math1.cosd(a[i]);
+         round[i] = Math.round(a[i]);
       }
-      return cosd;
+      return round;
    }
 
 
    /**
-    * Returns the cosine of the elements in an array, where the
-    * input arguments are in <i>degrees</i>.
+    * Returns an array of the closest <code>long</code> values to the input
+    * arguments.
     *
-    * @param   a   input array, in <i>degrees</i>.
-    * @return  cosd(a)
+    * @param   a   a <code>double</code> array.
+    * @return  the array of the <code>long</code> values closest to the input
+    *          values
     */
-   public static double[][] cosd ( double a[][] ) {
-      double cosd[][] = new double[a.length][];
-
+   public static long[][] round ( double a[][] ) {
+      long round[][] = new long[a.length][];
       for ( int i = 0; i < a.length; i++ ) {
-         cosd[i] = new double[a[i].length];
+         round[i] = new long[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-            cosd[i][j] = Math1.cosd(a[i][j]);
+            round[i][j] = Math.round(a[i][j]);
          }
       }
-      return cosd;
+      return round;
    }
 
 
    /**
-    * Returns the hyperbolic cosine of the elements in an array
+    * Returns an array of the closest <code>int</code> values to the input
+    * arguments.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  cosh(a)
+    * @param   a   a <code>float</code> array.
+    * @return  the array of the <code>int</code> values closest to the input
+    *          values
     */
-   public static double[] cosh ( double a[] ) {
-      double cosh[] = new double[a.length];
-
+   public static int[] round ( float a[] ) {
+      int round[] = new int[a.length];
       for ( int i = 0; i < a.length; i++ ) {
-         cosh[i] = Math1.cosh(a[i]);
+         round[i] = Math.round(a[i]);
       }
-      return cosh;
+      return round;
    }
 
 
    /**
-    * Returns the hyperbolic cosine of the elements in an array
+    * Returns an array of the closest <code>int</code> values to the input
+    * arguments.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  cosh(a)
+    * @param   a   a <code>float</code> array.
+    * @return  the array of the <code>int</code> values closest to the input
+    *          values
     */
-   public static double[][] cosh ( double a[][] ) {
-      double cosh[][] = new double[a.length][];
-
+   public static int[][] round ( float a[][] ) {
+      int round[][] = new int[a.length][];
       for ( int i = 0; i < a.length; i++ ) {
-         cosh[i] = new double[a[i].length];
+         round[i] = new int[a[i].length];
          for ( int j = 0; j < a[i].length; j++ ) {
-            cosh[i][j] = Math1.cosh(a[i][j]);
+            round[i][j] = Math.round(a[i][j]);
          }
       }
-      return cosh;
+      return round;
    }
 
 
    /**
-    * Returns the hyperbolic cosine of the elements in a
-    * <code>Complex</code> array
+    * Returns a <code>double</code> array containing the closest integer to
+    * the argument.
     *
-    * @param   z   input array
-    * @return  cosh(z)
+    * @param   a   a <code>double</code> array.
+    * @return  a <code>double</code> array containing the the closest
+    *          <code>double</code> values to <code>a</code> that are
+    *          equal to mathematical integers. If two <code>double</code>
+    *          values that are mathematical integers are equally close to the
+    *          value of the argument, the result is the integer value that
+    *          is even.
     */
-   public static Complex[] cosh ( Complex z[] ) {
-      Complex cosh[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         cosh[i] = Complex.cosh(z[i]);
+   public static double[] rint ( double a[] ) {
+      if ( Parallel.isParallel(a.length) ) {
+         return ArrayExpr.of(a).rint().eval();
       }
-      return cosh;
+      double rint[] = new double[a.length];
+      for ( int i = 0; i < a.length; i++ ) {
+         rint[i] = Math.rint(a[i]);
+      }
+      return rint;
    }
 
 
    /**
-    * Returns the hyperbolic cosine of the elements in a
-    * <code>Complex</code> array
+    * Returns a <code>double</code> array containing the closest integer to
+    * the argument.
     *
-    * @param   z   input array
-    * @return  cosh(z)
+    * @param   a   a <code>double</code> array.
+    * @return  a <code>double</code> array containing the the closest
+    *          <code>double</code> values to <code>a</code> that are
+    *          equal to mathematical integers. If two <code>double</code>
+    *          values that are mathematical integers are equally close to the
+    *          value of the argument, the result is the integer value that
+    *          is even.
     */
-   public static Complex[][] cosh ( Complex z[][] ) {
-      Complex cosh[][] = new Complex[z.length][];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         cosh[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            cosh[i][j] = Complex.cosh(z[i][j]);
+   public static double[][] rint ( double a[][] ) {
+      double rint[][] = new double[a.length][];
+      for ( int i = 0; i < a.length; i++ ) {
+         rint[i] = new double[a[i].length];
+         for ( int j = 0; j < a[i].length; j++ ) {
+            rint[i][j] = Math.rint(a[i][j]);
          }
       }
-      return cosh;
+      return rint;
    }
 
 
+   //******************************************************
+   //  magnitude and phase methods
+   //******************************************************
+
    /**
-    * Returns the tangent of the elements in an array
+    * Returns the squared magnitude of the elements in a 1-D Complex array.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  tan(a)
+    * @param   a   input array.
+    * @return  an array whose elements are <tt>re*re + im*im</tt>.
     */
-   public static double[] tan ( double a[] ) {
-      double tan[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         tan[i] = Math.tan(a[i]);
-      }
-      return tan;
+   public static double[] norm ( Complex a[] ) {
+      return norm( a, new double[a.length] );
    }
 
 
    /**
-    * Returns the tangent of the elements in an array
+    * Calculates the squared magnitude of the elements in a 1-D Complex array,
+    * storing the results in array <tt>out</tt>.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  tan(a)
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing <tt>re*re + im*im</tt>.
     */
-   public static double[][] tan ( double a[][] ) {
-      double tan[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         tan[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            tan[i][j] = Math.tan(a[i][j]);
-         }
-      }
-      return tan;
+   public static double[] norm ( Complex a[], double out[] ) {
+      ComplexArray.mapReal( ComplexArray.NORM, a, out, "norm" );
+      return out;
    }
 
 
    /**
-    * Returns the tangent of the elements in a <code>Complex</code> array
+    * Returns the squared magnitude of the elements in a 1-D <tt>ComplexArray</tt>.
     *
-    * @param   z   input array
-    * @return  tan(z)
+    * @param   a   input array.
+    * @return  an array whose elements are <tt>re*re + im*im</tt>.
     */
-   public static Complex[] tan ( Complex z[] ) {
-      Complex tan[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         tan[i] = Complex.tan(z[i]);
-      }
-      return tan;
+   public static double[] norm ( ComplexArray a ) {
+      return norm( a, new double[a.length()] );
    }
 
 
    /**
-    * Returns the tangent of the elements in a <code>Complex</code> array
+    * Calculates the squared magnitude of the elements in a 1-D <tt>ComplexArray</tt>,
+    * storing the results in array <tt>out</tt>.
     *
-    * @param   z   input array
-    * @return  sin(z)
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing <tt>re*re + im*im</tt>.
     */
-   public static Complex[][] tan ( Complex z[][] ) {
-      Complex tan[][] = new Complex[z.length][];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         tan[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            tan[i][j] = Complex.tan(z[i][j]);
-         }
-      }
-      return tan;
+   public static double[] norm ( ComplexArray a, double out[] ) {
+      ComplexArray.mapReal( ComplexArray.NORM, a, out, "norm" );
+      return out;
    }
 
 
    /**
-    * Returns the tangent of the elements in an array, where the
-    * input arguments are in <i>degrees</i>.
+    * Returns the magnitude in decibels of the elements in a 1-D Complex array.
     *
-    * @param   a   input array, in <i>degrees</i>.
-    * @return  tand(a)
+    * @param   a   input array.
+    * @return  an array whose elements are <tt>20*log10(abs(a))</tt>.
     */
-   public static double[] tand ( double a[] ) {
-      double tand[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         tand[i] = Math1.tand(a[i]);
-      }
-      return tand;
+   public static double[] dB ( Complex a[] ) {
+      return dB( a, new double[a.length] );
    }
 
 
    /**
-    * Returns the tangent of the elements in an array, where the
-    * input arguments are in <i>degrees</i>.
+    * Calculates the magnitude in decibels of the elements in a 1-D Complex array,
+    * storing the results in array <tt>out</tt>.
     *
-    * @param   a   input array, in <i>degrees</i>.
-    * @return  tand(a)
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing <tt>20*log10(abs(a))</tt>.
     */
-   public static double[][] tand ( double a[][] ) {
-      double tand[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         tand[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            tand[i][j] = Math1.tand(a[i][j]);
-         }
-      }
-      return tand;
+   public static double[] dB ( Complex a[], double out[] ) {
+      ComplexArray.mapReal( ComplexArray.DB, a, out, "dB" );
+      return out;
    }
 
 
    /**
-    * Returns the hyperbolic tangent of the elements in an array
+    * Returns the magnitude in decibels of the elements in a 1-D <tt>ComplexArray</tt>.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  tanh(a)
+    * @param   a   input array.
+    * @return  an array whose elements are <tt>20*log10(abs(a))</tt>.
     */
-   public static double[] tanh ( double a[] ) {
-      double tanh[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         tanh[i] = Math1.tanh(a[i]);
-      }
-      return tanh;
+   public static double[] dB ( ComplexArray a ) {
+      return dB( a, new double[a.length()] );
    }
 
 
    /**
-    * Returns the hyperbolic tangent of the elements in an array
+    * Calculates the magnitude in decibels of the elements in a 1-D <tt>ComplexArray</tt>,
+    * storing the results in array <tt>out</tt>.
     *
-    * @param   a   input array, in <i>radians</i>.
-    * @return  tanh(a)
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing <tt>20*log10(abs(a))</tt>.
     */
-   public static double[][] tanh ( double a[][] ) {
-      double tanh[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         tanh[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            tanh[i][j] = Math1.tanh(a[i][j]);
-         }
-      }
-      return tanh;
+   public static double[] dB ( ComplexArray a, double out[] ) {
+      ComplexArray.mapReal( ComplexArray.DB, a, out, "dB" );
+      return out;
    }
 
 
    /**
-    * Returns the hyperbolic tangent of the elements in a
-    * <code>Complex</code> array
+    * Returns the phase angle, in radians, of the elements in a 1-D Complex array.
     *
-    * @param   z   input array
-    * @return  tanh(z)
+    * @param   a   input array.
+    * @return  an array whose elements are the principal angles of the elements in <tt>a</tt>,
+    *          between -<tt>PI</tt> and +<tt>PI</tt>.
     */
-   public static Complex[] tanh ( Complex z[] ) {
-      Complex tanh[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         tanh[i] = Complex.tanh(z[i]);
-      }
-      return tanh;
+   public static double[] arg ( Complex a[] ) {
+      return arg( a, new double[a.length] );
    }
 
 
    /**
-    * Returns the hyperbolic tangent of the elements in a
-    * <code>Complex</code> array
+    * Calculates the phase angle, in radians, of the elements in a 1-D Complex array,
+    * storing the results in array <tt>out</tt>.
     *
-    * @param   z   input array
-    * @return  tanh(z)
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the principal angles of the elements in <tt>a</tt>,
+    *          between -<tt>PI</tt> and +<tt>PI</tt>.
     */
-   public static Complex[][] tanh ( Complex z[][] ) {
-      Complex tanh[][] = new Complex[z.length][];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         tanh[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            tanh[i][j] = Complex.tanh(z[i][j]);
-         }
-      }
-      return tanh;
+   public static double[] arg ( Complex a[], double out[] ) {
+      ComplexArray.mapReal( ComplexArray.ARG, a, out, "arg" );
+      return out;
    }
 
 
    /**
-    * Returns the inverse sine of the elements in an array,
-    * in the range of -<i>pi</i>/2 through <i>pi</i>/2.
+    * Returns the phase angle, in radians, of the elements in a 1-D <tt>ComplexArray</tt>.
     *
-    * @param   a   input array, in the range -1.0 through 1.0
-    * @return  asin(a)
+    * @param   a   input array.
+    * @return  an array whose elements are the principal angles of the elements in <tt>a</tt>,
+    *          between -<tt>PI</tt> and +<tt>PI</tt>.
     */
-   public static double[] asin ( double a[] ) {
-      double asin[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         asin[i] = Math.asin(a[i]);
-      }
-      return asin;
+   public static double[] arg ( ComplexArray a ) {
+      return arg( a, new double[a.length()] );
    }
 
 
    /**
-    * Returns the inverse sine of the elements in an array,
-    * in the range of -<i>pi</i>/2 through <i>pi</i>/2.
+    * Calculates the phase angle, in radians, of the elements in a 1-D <tt>ComplexArray</tt>,
+    * storing the results in array <tt>out</tt>.
     *
-    * @param   a   input array, in the range -1.0 through 1.0
-    * @return  asin(a)
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the principal angles of the elements in <tt>a</tt>,
+    *          between -<tt>PI</tt> and +<tt>PI</tt>.
     */
-   public static double[][] asin ( double a[][] ) {
-      double asin[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         asin[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            asin[i][j] = Math.asin(a[i][j]);
-         }
-      }
-      return asin;
+   public static double[] arg ( ComplexArray a, double out[] ) {
+      ComplexArray.mapReal( ComplexArray.ARG, a, out, "arg" );
+      return out;
    }
 
 
    /**
-    * Returns the inverse sine of the elements in a <code>Complex</code> array.
+    * Unwraps an array of phase angles, in radians, by adding multiples of
+    * 2*<tt>PI</tt> wherever the jump between consecutive elements is
+    * <tt>PI</tt> or more.  The result is a continuous phase curve.
     *
-    * @param   z   input array
-    * @return  asin(z)
+    * @param   a   input array of phase angles, in radians.
+    * @return  the unwrapped phase angles.
     */
-   public static Complex[] asin ( Complex z[] ) {
-      Complex asin[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         asin[i] = Complex.asin(z[i]);
-      }
-      return asin;
+   public static double[] unwrap ( double a[] ) {
+      return unwrap( a, new double[a.length] );
    }
 
 
    /**
-    * Returns the inverse sine of the elements in a <code>Complex</code> array.
+    * Unwraps an array of phase angles, in radians, by adding multiples of
+    * 2*<tt>PI</tt> wherever the jump between consecutive elements is
+    * <tt>PI</tt> or more, storing the result in array <tt>out</tt>.
+    * <tt>out</tt> may be the same array as <tt>a</tt>.
     *
-    * @param   z   input array
-    * @return  asin(z)
+    * @param   a   input array of phase angles, in radians.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>, containing the unwrapped phase angles.
     */
-   public static Complex[][] asin ( Complex z[][] ) {
-      Complex asin[][] = new Complex[z.length][];
+   public static double[] unwrap ( double a[], double out[] ) {
 
-      for ( int i = 0; i < z.length; i++ ) {
-         asin[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            asin[i][j] = Complex.asin(z[i][j]);
+      final double TWO_PI = 2.0 * Math.PI;
+      double prev;         // Previous (wrapped) phase
+      double d, dm;        // Phase step and wrapped phase step
+      double offset = 0;   // Accumulated correction
+
+      if ( a.length != out.length ) {
+         String s = "unwrap: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      if ( a.length > 0 ) {
+         prev = a[0];
+         out[0] = a[0];
+         for ( int i = 1; i < a.length; i++ ) {
+            d = a[i] - prev;
+            prev = a[i];
+            if ( Math.abs(d) >= Math.PI ) {
+               // Wrap the step into the range [-PI,PI)
+               dm = d - TWO_PI * Math.floor( (d + Math.PI) / TWO_PI );
+               if ( dm == -Math.PI && d > 0 ) {
+                  dm = Math.PI;
+               }
+               offset += dm - d;
+            }
+            out[i] = prev + offset;
          }
       }
-      return asin;
+      return out;
    }
 
 
+   //******************************************************
+   //  float function helper methods
+   //******************************************************
+
    /**
-    * Returns the inverse sine of the elements in an array,
-    * in the range of -90 through 90 <i>degrees</i>.
-    *
-    * @param   a   input array, in the range -1.0 through 1.0
-    * @return  asind(a)
+    * Applies the function selected by <tt>op</tt> to each element of the
+    * float array <tt>a</tt>, storing the results in <tt>out</tt>, in
+    * parallel for large arrays.  Each element is widened to double only
+    * for the call.
     */
-   public static double[] asind ( double a[] ) {
-      double asind[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         asind[i] = Math1.asind(a[i]);
+   private static void map( final int op, final float a[], final float out[],
+                            String name ) {
+      if ( a.length != out.length ) {
+         String s = name + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return asind;
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            switch ( op ) {
+               case F_SINH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math1.sinh( a[i] );
+                  break;
+               case F_COSH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math1.cosh( a[i] );
+                  break;
+               case F_TAN:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math.tan( a[i] );
+                  break;
+               case F_TANH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math1.tanh( a[i] );
+                  break;
+               case F_ASIN:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math.asin( a[i] );
+                  break;
+               case F_ASIND:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math1.asind( a[i] );
+                  break;
+               case F_ASINH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math1.asinh( a[i] );
+                  break;
+               case F_ACOS:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math.acos( a[i] );
+                  break;
+               case F_ACOSD:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math1.acosd( a[i] );
+                  break;
+               case F_ACOSH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math1.acosh( a[i] );
+                  break;
+               case F_ATAN:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math.atan( a[i] );
+                  break;
+               case F_ATAND:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math1.atand( a[i] );
+                  break;
+               case F_ATANH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math1.atanh( a[i] );
+                  break;
+               case F_EXP:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math.exp( a[i] );
+                  break;
+               case F_LOG:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math.log( a[i] );
+                  break;
+               case F_LOG10:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math.log10( a[i] );
+                  break;
+               case F_SQRT:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = (float) Math.sqrt( a[i] );
+                  break;
+            }
+         }
+      } );
    }
 
 
+   //******************************************************
+   //  matrix helper methods
+   //******************************************************
+
    /**
-    * Returns the inverse sine of the elements in an array,
-    * in the range of -90 through 90 <i>degrees</i>.
-    *
-    * @param   a   input array, in the range -1.0 through 1.0
-    * @return  asind(a)
+    * Returns the number of columns of a rectangular 2-D array,
+    * throwing an <tt>InvalidArraySizeException</tt> if the rows
+    * have different lengths.
     */
-   public static double[][] asind ( double a[][] ) {
-      double asind[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         asind[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            asind[i][j] = Math1.asind(a[i][j]);
+   private static int matrixCols( Object a[], String name ) {
+      int n = ( a.length > 0 ) ? java.lang.reflect.Array.getLength( a[0] ) : 0;
+      for ( int i = 1; i < a.length; i++ ) {
+         if ( java.lang.reflect.Array.getLength( a[i] ) != n ) {
+            String s = name + ": Array is not rectangular";
+            throw new InvalidArraySizeException(s);
          }
       }
-      return asind;
+      return n;
    }
 
 
    /**
-    * Returns the inverse hyperbolic sine of the elements in an array
-    *
-    * @param   a   input array
-    * @return  asinh(a)
+    * Checks that an m x k matrix can be multiplied by a
+    * k2 x n matrix, and that the product fits in one array.
     */
-   public static double[] asinh ( double a[] ) {
-      double asinh[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         asinh[i] = Math1.asinh(a[i]);
+   private static void checkProduct( int m, int k, int k2, int n ) {
+      if ( k != k2 && m > 0 ) {
+         String s = "matmul: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( (long) m * k > Integer.MAX_VALUE || (long) k * n > Integer.MAX_VALUE
+           || (long) m * n > Integer.MAX_VALUE ) {
+         String s = "matmul: Array too large";
+         throw new InvalidArraySizeException(s);
       }
-      return asinh;
    }
 
 
    /**
-    * Returns the inverse hyperbolic sine of the elements in an array
-    *
-    * @param   a   input array
-    * @return  asinh(a)
+    * Copies a rectangular complex matrix with <tt>n</tt> columns
+    * into separate row-major real and imaginary arrays.
     */
-   public static double[][] asinh ( double a[][] ) {
-      double asinh[][] = new double[a.length][];
-
+   private static void splitComplex( Complex a[][], int n, double re[], double im[] ) {
       for ( int i = 0; i < a.length; i++ ) {
-         asinh[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            asinh[i][j] = Math1.asinh(a[i][j]);
+         for ( int j = 0; j < n; j++ ) {
+            re[i*n + j] = a[i][j].re();
+            im[i*n + j] = a[i][j].im();
          }
       }
-      return asinh;
    }
 
 
+   //******************************************************
+   //  parallel reduction methods
+   //******************************************************
+
    /**
-    * Returns the inverse hyperbolic sine of the elements in a
-    * <code>Complex</code> array
-    *
-    * @param   z   input array
-    * @return  asinh(z)
+    * Calculates the sum of the elements of <tt>a</tt> block by block,
+    * including only the elements selected by mask <tt>b</tt> if it is not
+    * <tt>null</tt>.  The block sums are added in order.
     */
-   public static Complex[] asinh ( Complex z[] ) {
-      Complex asinh[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         asinh[i] = Complex.asinh(z[i]);
-      }
-      return asinh;
+   private static int parallelSum ( final int a[], final boolean b[] ) {
+      final int part[] = new int[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int sum = 0;
+            if ( b == null ) {
+               for ( int i = from; i < to; i++ )
+                  sum += a[i];
+            }
+            else {
+               for ( int i = from; i < to; i++ )
+                  if ( b[i] ) sum += a[i];
+            }
+            part[from / Parallel.BLOCK] = sum;
+         }
+      } );
+      int sum = 0;
+      for ( int k = 0; k < part.length; k++ )
+         sum += part[k];
+      return sum;
    }
 
 
    /**
-    * Returns the inverse hyperbolic cosine of the elements in a
-    * <code>Complex</code> array
-    *
-    * @param   z   input array
-    * @return  asinh(z)
+    * Calculates the sum of the elements of <tt>a</tt> selected by
+    * bitset <tt>b</tt> block by block.  The blocks are whole words of the
+    * mask, and the block sums are added in order, so the result is
+    * the same as for the equivalent <tt>boolean</tt> mask.
     */
-   public static Complex[][] asinh ( Complex z[][] ) {
-      Complex asinh[][] = new Complex[z.length][];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         asinh[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            asinh[i][j] = Complex.asinh(z[i][j]);
+   private static int parallelMaskedSum ( final int a[], BitMask b ) {
+      final long w[] = b.words();
+      final int part[] = new int[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            part[from / Parallel.BLOCK] = maskedSum( a, w, from, to );
          }
-      }
-      return asinh;
+      } );
+      int sum = 0;
+      for ( int k = 0; k < part.length; k++ )
+         sum += part[k];
+      return sum;
    }
 
 
    /**
-    * Returns the inverse cosine of the elements in an array,
-    * in the range of 0 through <i>pi</i>.
-    *
-    * @param   a   input array, in the range -1.0 through 1.0
-    * @return  acos(a)
+    * Calculates the sum of the elements <tt>a[from]</tt> through
+    * <tt>a[to-1]</tt> selected by the mask words <tt>w</tt>, in order.
+    * <tt>from</tt> must be a multiple of 64.  Words that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
     */
-   public static double[] acos ( double a[] ) {
-      double acos[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         acos[i] = Math.acos(a[i]);
+   private static int maskedSum ( int a[], long w[], int from, int to ) {
+      int sum = 0;
+      int last = (to + 63) >>> 6;
+      for ( int k = from >>> 6; k < last; k++ ) {
+         long bits = w[k];
+         if ( bits == 0L ) {
+            continue;
+         }
+         int base = k << 6;
+         if ( bits == -1L ) {
+            for ( int i = base; i < base + 64; i++ ) {
+               sum += a[i];
+            }
+         }
+         else {
+            while ( bits != 0L ) {
+               sum += a[base + Long.numberOfTrailingZeros(bits)];
+               bits &= bits - 1;
+            }
+         }
       }
-      return acos;
+      return sum;
    }
 
 
    /**
-    * Returns the inverse cosine of the elements in an array,
-    * in the range of 0 through <i>pi</i>.
-    *
-    * @param   a   input array, in the range -1.0 through 1.0
-    * @return  acos(a)
+    * Calculates the product of the elements of <tt>a</tt> block by block,
+    * including only the elements selected by mask <tt>b</tt> if it is not
+    * <tt>null</tt>.  The block products are multiplied in order.
     */
-   public static double[][] acos ( double a[][] ) {
-      double acos[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         acos[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            acos[i][j] = Math.acos(a[i][j]);
+   private static int parallelProduct ( final int a[], final boolean b[] ) {
+      final int part[] = new int[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int product = 1;
+            if ( b == null ) {
+               for ( int i = from; i < to; i++ )
+                  product *= a[i];
+            }
+            else {
+               for ( int i = from; i < to; i++ )
+                  if ( b[i] ) product *= a[i];
+            }
+            part[from / Parallel.BLOCK] = product;
          }
-      }
-      return acos;
+      } );
+      int product = 1;
+      for ( int k = 0; k < part.length; k++ )
+         product *= part[k];
+      return product;
    }
 
 
    /**
-    * Returns the inverse cosine of the elements in a <code>Complex</code> array
-    *
-    * @param   z   input array
-    * @return  acos(z)
+    * Calculates the product of the elements of <tt>a</tt> selected by
+    * bitset <tt>b</tt> block by block.  The blocks are whole words of the
+    * mask, and the block products are multiplied in order, so the result is
+    * the same as for the equivalent <tt>boolean</tt> mask.
     */
-   public static Complex[] acos ( Complex z[] ) {
-      Complex acos[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         acos[i] = Complex.acos(z[i]);
-      }
-      return acos;
+   private static int parallelMaskedProduct ( final int a[], BitMask b ) {
+      final long w[] = b.words();
+      final int part[] = new int[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            part[from / Parallel.BLOCK] = maskedProduct( a, w, from, to );
+         }
+      } );
+      int product = 1;
+      for ( int k = 0; k < part.length; k++ )
+         product *= part[k];
+      return product;
    }
 
 
    /**
-    * Returns the inverse cosine of the elements in a <code>Complex</code> array
-    *
-    * @param   z   input array
-    * @return  acos(z)
+    * Calculates the product of the elements <tt>a[from]</tt> through
+    * <tt>a[to-1]</tt> selected by the mask words <tt>w</tt>, in order.
+    * <tt>from</tt> must be a multiple of 64.  Words that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
     */
-   public static Complex[][] acos ( Complex z[][] ) {
-      Complex acos[][] = new Complex[z.length][];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         acos[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            acos[i][j] = Complex.acos(z[i][j]);
+   private static int maskedProduct ( int a[], long w[], int from, int to ) {
+      int product = 1;
+      int last = (to + 63) >>> 6;
+      for ( int k = from >>> 6; k < last; k++ ) {
+         long bits = w[k];
+         if ( bits == 0L ) {
+            continue;
+         }
+         int base = k << 6;
+         if ( bits == -1L ) {
+            for ( int i = base; i < base + 64; i++ ) {
+               product *= a[i];
+            }
+         }
+         else {
+            while ( bits != 0L ) {
+               product *= a[base + Long.numberOfTrailingZeros(bits)];
+               bits &= bits - 1;
+            }
          }
       }
-      return acos;
+      return product;
    }
 
 
    /**
-    * Returns the inverse cosine of the elements in an array,
-    * in the range of 0 through 180 <i>degrees</i>.
-    *
-    * @param   a   input array, in the range -1.0 through 1.0
-    * @return  acosd(a)
+    * Calculates the dot product of <tt>a</tt> and <tt>b</tt> block by
+    * block.  The block results are added in order.
     */
-   public static double[] acosd ( double a[] ) {
-      double acosd[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         acosd[i] = Math1.acosd(a[i]);
-      }
-      return acosd;
+   private static int parallelDotProduct ( final int a[], final int b[] ) {
+      final int part[] = new int[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int product = 0;
+            for ( int i = from; i < to; i++ )
+               product += a[i] * b[i];
+            part[from / Parallel.BLOCK] = product;
+         }
+      } );
+      int product = 0;
+      for ( int k = 0; k < part.length; k++ )
+         product += part[k];
+      return product;
    }
 
 
    /**
-    * Returns the inverse cosine of the elements in an array,
-    * in the range of 0 through 180 <i>degrees</i>.
-    *
-    * @param   a   input array, in the range -1.0 through 1.0
-    * @return  acosd(a)
+    * Finds the index of the maximum (if <tt>max</tt> is <tt>true</tt>)
+    * or minimum element of <tt>a</tt> block by block.  Each block reports
+    * the first occurrence of its own extreme value, and the blocks are
+    * then merged in order with the same strict comparison as the serial
+    * loop, so the result is identical to it.
     */
-   public static double[][] acosd ( double a[][] ) {
-      double acosd[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         acosd[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            acosd[i][j] = Math1.acosd(a[i][j]);
+   private static int parallelLoc ( final int a[], final boolean max ) {
+      final int loc[] = new int[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int iloc = -1;
+            int i = from;
+            if ( i < to ) {
+               iloc = i;
+               if ( max ) {
+                  for ( i++; i < to; i++ )
+                     if ( a[i] > a[iloc] ) iloc = i;
+               }
+               else {
+                  for ( i++; i < to; i++ )
+                     if ( a[i] < a[iloc] ) iloc = i;
+               }
+            }
+            loc[from / Parallel.BLOCK] = iloc;
+         }
+      } );
+      int iloc = 0;
+      for ( int k = 0; k < loc.length; k++ ) {
+         if ( loc[k] >= 0 && ( max ? a[loc[k]] > a[iloc] : a[loc[k]] < a[iloc] ) ) {
+            iloc = loc[k];
          }
       }
-      return acosd;
+      return iloc;
    }
 
 
    /**
-    * Returns the inverse hyperbolic cosine of the elements in an array
-    *
-    * @param   a   input array, a >= 1.0
-    * @return  acosh(a)
+    * Calculates the sum of the elements of <tt>a</tt> block by block,
+    * including only the elements selected by mask <tt>b</tt> if it is not
+    * <tt>null</tt>.  The block sums are added in order.
     */
-   public static double[] acosh ( double a[] ) {
-      double acosh[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         acosh[i] = Math1.acosh(a[i]);
-      }
-      return acosh;
+   private static long parallelSum ( final long a[], final boolean b[] ) {
+      final long part[] = new long[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            long sum = 0;
+            if ( b == null ) {
+               for ( int i = from; i < to; i++ )
+                  sum += a[i];
+            }
+            else {
+               for ( int i = from; i < to; i++ )
+                  if ( b[i] ) sum += a[i];
+            }
+            part[from / Parallel.BLOCK] = sum;
+         }
+      } );
+      long sum = 0;
+      for ( int k = 0; k < part.length; k++ )
+         sum += part[k];
+      return sum;
    }
 
 
    /**
-    * Returns the inverse hyperbolic cosine of the elements in an array
-    *
-    * @param   a   input array
-    * @return  acosh(a)
+    * Calculates the sum of the elements of <tt>a</tt> selected by
+    * bitset <tt>b</tt> block by block.  The blocks are whole words of the
+    * mask, and the block sums are added in order, so the result is
+    * the same as for the equivalent <tt>boolean</tt> mask.
     */
-   public static double[][] acosh ( double a[][] ) {
-      double acosh[][] = new double[a.length][];
+   private static long parallelMaskedSum ( final long a[], BitMask b ) {
+      final long w[] = b.words();
+      final long part[] = new long[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            part[from / Parallel.BLOCK] = maskedSum( a, w, from, to );
+         }
+      } );
+      long sum = 0;
+      for ( int k = 0; k < part.length; k++ )
+         sum += part[k];
+      return sum;
+   }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         acosh[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            acosh[i][j] = Math1.acosh(a[i][j]);
+
+   /**
+    * Calculates the sum of the elements <tt>a[from]</tt> through
+    * <tt>a[to-1]</tt> selected by the mask words <tt>w</tt>, in order.
+    * <tt>from</tt> must be a multiple of 64.  Words that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    */
+   private static long maskedSum ( long a[], long w[], int from, int to ) {
+      long sum = 0;
+      int last = (to + 63) >>> 6;
+      for ( int k = from >>> 6; k < last; k++ ) {
+         long bits = w[k];
+         if ( bits == 0L ) {
+            continue;
+         }
+         int base = k << 6;
+         if ( bits == -1L ) {
+            for ( int i = base; i < base + 64; i++ ) {
+               sum += a[i];
+            }
+         }
+         else {
+            while ( bits != 0L ) {
+               sum += a[base + Long.numberOfTrailingZeros(bits)];
+               bits &= bits - 1;
+            }
          }
       }
-      return acosh;
+      return sum;
    }
 
 
    /**
-    * Returns the inverse hyperbolic cosine of the elements in a
-    * <code>Complex</code> array
-    *
-    * @param   z   input array
-    * @return  acosh(z)
+    * Calculates the product of the elements of <tt>a</tt> block by block,
+    * including only the elements selected by mask <tt>b</tt> if it is not
+    * <tt>null</tt>.  The block products are multiplied in order.
     */
-   public static Complex[] acosh ( Complex z[] ) {
-      Complex acosh[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         acosh[i] = Complex.acosh(z[i]);
-      }
-      return acosh;
+   private static long parallelProduct ( final long a[], final boolean b[] ) {
+      final long part[] = new long[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            long product = 1;
+            if ( b == null ) {
+               for ( int i = from; i < to; i++ )
+                  product *= a[i];
+            }
+            else {
+               for ( int i = from; i < to; i++ )
+                  if ( b[i] ) product *= a[i];
+            }
+            part[from / Parallel.BLOCK] = product;
+         }
+      } );
+      long product = 1;
+      for ( int k = 0; k < part.length; k++ )
+         product *= part[k];
+      return product;
    }
 
 
    /**
-    * Returns the inverse hyperbolic cosine of the elements in a
-    * <code>Complex</code> array
-    *
-    * @param   z   input array
-    * @return  acosh(z)
+    * Calculates the product of the elements of <tt>a</tt> selected by
+    * bitset <tt>b</tt> block by block.  The blocks are whole words of the
+    * mask, and the block products are multiplied in order, so the result is
+    * the same as for the equivalent <tt>boolean</tt> mask.
     */
-   public static Complex[][] acosh ( Complex z[][] ) {
-      Complex acosh[][] = new Complex[z.length][];
+   private static long parallelMaskedProduct ( final long a[], BitMask b ) {
+      final long w[] = b.words();
+      final long part[] = new long[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            part[from / Parallel.BLOCK] = maskedProduct( a, w, from, to );
+         }
+      } );
+      long product = 1;
+      for ( int k = 0; k < part.length; k++ )
+         product *= part[k];
+      return product;
+   }
 
-      for ( int i = 0; i < z.length; i++ ) {
-         acosh[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            acosh[i][j] = Complex.acosh(z[i][j]);
+
+   /**
+    * Calculates the product of the elements <tt>a[from]</tt> through
+    * <tt>a[to-1]</tt> selected by the mask words <tt>w</tt>, in order.
+    * <tt>from</tt> must be a multiple of 64.  Words that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    */
+   private static long maskedProduct ( long a[], long w[], int from, int to ) {
+      long product = 1;
+      int last = (to + 63) >>> 6;
+      for ( int k = from >>> 6; k < last; k++ ) {
+         long bits = w[k];
+         if ( bits == 0L ) {
+            continue;
+         }
+         int base = k << 6;
+         if ( bits == -1L ) {
+            for ( int i = base; i < base + 64; i++ ) {
+               product *= a[i];
+            }
+         }
+         else {
+            while ( bits != 0L ) {
+               product *= a[base + Long.numberOfTrailingZeros(bits)];
+               bits &= bits - 1;
+            }
          }
       }
-      return acosh;
+      return product;
    }
 
 
    /**
-    * Returns the inverse tangent of the elements in an array,
-    * in the range of -<i>pi</i>/2 through <i>pi</i>/2.
-    *
-    * @param   a   input array
-    * @return  atan(a)
+    * Calculates the dot product of <tt>a</tt> and <tt>b</tt> block by
+    * block.  The block results are added in order.
     */
-   public static double[] atan ( double a[] ) {
-      double atan[] = new double[a.length];
+   private static long parallelDotProduct ( final long a[], final long b[] ) {
+      final long part[] = new long[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            long product = 0;
+            for ( int i = from; i < to; i++ )
+               product += a[i] * b[i];
+            part[from / Parallel.BLOCK] = product;
+         }
+      } );
+      long product = 0;
+      for ( int k = 0; k < part.length; k++ )
+         product += part[k];
+      return product;
+   }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         atan[i] = Math.atan(a[i]);
+
+   /**
+    * Finds the index of the maximum (if <tt>max</tt> is <tt>true</tt>)
+    * or minimum element of <tt>a</tt> block by block.  Each block reports
+    * the first occurrence of its own extreme value, and the blocks are
+    * then merged in order with the same strict comparison as the serial
+    * loop, so the result is identical to it.
+    */
+   private static int parallelLoc ( final long a[], final boolean max ) {
+      final int loc[] = new int[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int iloc = -1;
+            int i = from;
+            if ( i < to ) {
+               iloc = i;
+               if ( max ) {
+                  for ( i++; i < to; i++ )
+                     if ( a[i] > a[iloc] ) iloc = i;
+               }
+               else {
+                  for ( i++; i < to; i++ )
+                     if ( a[i] < a[iloc] ) iloc = i;
+               }
+            }
+            loc[from / Parallel.BLOCK] = iloc;
+         }
+      } );
+      int iloc = 0;
+      for ( int k = 0; k < loc.length; k++ ) {
+         if ( loc[k] >= 0 && ( max ? a[loc[k]] > a[iloc] : a[loc[k]] < a[iloc] ) ) {
+            iloc = loc[k];
+         }
       }
-      return atan;
+      return iloc;
    }
 
 
    /**
-    * Returns the inverse tangent of the elements in an array,
-    * in the range of -<i>pi</i>/2 through <i>pi</i>/2.
-    *
-    * @param   a   input array
-    * @return  atan(a)
+    * Calculates the sum of the elements of <tt>a</tt> block by block,
+    * including only the elements selected by mask <tt>b</tt> if it is not
+    * <tt>null</tt>.  The block sums are added in order.
     */
-   public static double[][] atan ( double a[][] ) {
-      double atan[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         atan[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            atan[i][j] = Math.atan(a[i][j]);
+   private static float parallelSum ( final float a[], final boolean b[] ) {
+      final float part[] = new float[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            float sum = 0;
+            if ( b == null ) {
+               for ( int i = from; i < to; i++ )
+                  sum += a[i];
+            }
+            else {
+               for ( int i = from; i < to; i++ )
+                  if ( b[i] ) sum += a[i];
+            }
+            part[from / Parallel.BLOCK] = sum;
          }
-      }
-      return atan;
+      } );
+      float sum = 0;
+      for ( int k = 0; k < part.length; k++ )
+         sum += part[k];
+      return sum;
    }
 
 
    /**
-    * Returns the inverse tangent of the elements in a <code>Complex</code> array
-    *
-    * @param   z   input array
-    * @return  atan(z)
+    * Calculates the sum of the elements of <tt>a</tt> selected by
+    * bitset <tt>b</tt> block by block.  The blocks are whole words of the
+    * mask, and the block sums are added in order, so the result is
+    * the same as for the equivalent <tt>boolean</tt> mask.
     */
-   public static Complex[] atan ( Complex z[] ) {
-      Complex atan[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         atan[i] = Complex.atan(z[i]);
-      }
-      return atan;
+   private static float parallelMaskedSum ( final float a[], BitMask b ) {
+      final long w[] = b.words();
+      final float part[] = new float[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            part[from / Parallel.BLOCK] = maskedSum( a, w, from, to );
+         }
+      } );
+      float sum = 0;
+      for ( int k = 0; k < part.length; k++ )
+         sum += part[k];
+      return sum;
    }
 
 
    /**
-    * Returns the inverse tangent of the elements in a <code>Complex</code> array
-    *
-    * @param   z   input array
-    * @return  atan(z)
+    * Calculates the sum of the elements <tt>a[from]</tt> through
+    * <tt>a[to-1]</tt> selected by the mask words <tt>w</tt>, in order.
+    * <tt>from</tt> must be a multiple of 64.  Words that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
     */
-   public static Complex[][] atan ( Complex z[][] ) {
-      Complex atan[][] = new Complex[z.length][];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         atan[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            atan[i][j] = Complex.atan(z[i][j]);
+   private static float maskedSum ( float a[], long w[], int from, int to ) {
+      float sum = 0;
+      int last = (to + 63) >>> 6;
+      for ( int k = from >>> 6; k < last; k++ ) {
+         long bits = w[k];
+         if ( bits == 0L ) {
+            continue;
+         }
+         int base = k << 6;
+         if ( bits == -1L ) {
+            for ( int i = base; i < base + 64; i++ ) {
+               sum += a[i];
+            }
+         }
+         else {
+            while ( bits != 0L ) {
+               sum += a[base + Long.numberOfTrailingZeros(bits)];
+               bits &= bits - 1;
+            }
          }
       }
-      return atan;
+      return sum;
    }
 
 
    /**
-    * Returns the inverse tangent of the elements in an array,
-    * in the range of -90 through 90 <i>degrees</i>.
-    *
-    * @param   a   input array
-    * @return  atand(a)
+    * Calculates the product of the elements of <tt>a</tt> block by block,
+    * including only the elements selected by mask <tt>b</tt> if it is not
+    * <tt>null</tt>.  The block products are multiplied in order.
     */
-   public static double[] atand ( double a[] ) {
-      double atand[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         atand[i] = Math1.atand(a[i]);
-      }
-      return atand;
+   private static float parallelProduct ( final float a[], final boolean b[] ) {
+      final float part[] = new float[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            float product = 1;
+            if ( b == null ) {
+               for ( int i = from; i < to; i++ )
+                  product *= a[i];
+            }
+            else {
+               for ( int i = from; i < to; i++ )
+                  if ( b[i] ) product *= a[i];
+            }
+            part[from / Parallel.BLOCK] = product;
+         }
+      } );
+      float product = 1;
+      for ( int k = 0; k < part.length; k++ )
+         product *= part[k];
+      return product;
    }
 
 
    /**
-    * Returns the inverse tangent of the elements in an array,
-    * in the range of -90 through 90 <i>degrees</i>.
-    *
-    * @param   a   input array
-    * @return  atand(a)
+    * Calculates the product of the elements of <tt>a</tt> selected by
+    * bitset <tt>b</tt> block by block.  The blocks are whole words of the
+    * mask, and the block products are multiplied in order, so the result is
+    * the same as for the equivalent <tt>boolean</tt> mask.
     */
-   public static double[][] atand ( double a[][] ) {
-      double atand[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         atand[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            atand[i][j] = Math1.atand(a[i][j]);
+   private static float parallelMaskedProduct ( final float a[], BitMask b ) {
+      final long w[] = b.words();
+      final float part[] = new float[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            part[from / Parallel.BLOCK] = maskedProduct( a, w, from, to );
          }
-      }
-      return atand;
+      } );
+      float product = 1;
+      for ( int k = 0; k < part.length; k++ )
+         product *= part[k];
+      return product;
    }
 
 
    /**
-    * Returns the inverse hyperbolic tangent of the elements in an array
-    *
-    * @param   a   input array, a >= 1.0
-    * @return  atanh(a)
+    * Calculates the product of the elements <tt>a[from]</tt> through
+    * <tt>a[to-1]</tt> selected by the mask words <tt>w</tt>, in order.
+    * <tt>from</tt> must be a multiple of 64.  Words that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
     */
-   public static double[] atanh ( double a[] ) {
-      double atanh[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         atanh[i] = Math1.atanh(a[i]);
+   private static float maskedProduct ( float a[], long w[], int from, int to ) {
+      float product = 1;
+      int last = (to + 63) >>> 6;
+      for ( int k = from >>> 6; k < last; k++ ) {
+         long bits = w[k];
+         if ( bits == 0L ) {
+            continue;
+         }
+         int base = k << 6;
+         if ( bits == -1L ) {
+            for ( int i = base; i < base + 64; i++ ) {
+               product *= a[i];
+            }
+         }
+         else {
+            while ( bits != 0L ) {
+               product *= a[base + Long.numberOfTrailingZeros(bits)];
+               bits &= bits - 1;
+            }
+         }
       }
-      return atanh;
+      return product;
    }
 
 
    /**
-    * Returns the inverse hyperbolic tangent of the elements in an array
-    *
-    * @param   a   input array
-    * @return  atanh(a)
+    * Calculates the dot product of <tt>a</tt> and <tt>b</tt> block by
+    * block.  The block results are added in order.
     */
-   public static double[][] atanh ( double a[][] ) {
-      double atanh[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         atanh[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            atanh[i][j] = Math1.atanh(a[i][j]);
+   private static float parallelDotProduct ( final float a[], final float b[] ) {
+      final float part[] = new float[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            float product = 0;
+            for ( int i = from; i < to; i++ )
+               product += a[i] * b[i];
+            part[from / Parallel.BLOCK] = product;
          }
-      }
-      return atanh;
+      } );
+      float product = 0;
+      for ( int k = 0; k < part.length; k++ )
+         product += part[k];
+      return product;
    }
 
 
    /**
-    * Returns the inverse hyperbolic tangent of the elements in a
-    * <code>Complex</code> array
-    *
-    * @param   z   input array
-    * @return  atanh(z)
+    * Finds the index of the maximum (if <tt>max</tt> is <tt>true</tt>)
+    * or minimum element of <tt>a</tt> block by block.  Each block reports
+    * the first occurrence of its own extreme value, and the blocks are
+    * then merged in order with the same strict comparison as the serial
+    * loop, so the result is identical to it.
     */
-   public static Complex[] atanh ( Complex z[] ) {
-      Complex atanh[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         atanh[i] = Complex.atanh(z[i]);
+   private static int parallelLoc ( final float a[], final boolean max ) {
+      final int loc[] = new int[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int iloc = -1;
+            int i = from;
+            // Skip leading NaNs, which the serial loop never selects
+            while ( i < to && a[i] != a[i] )
+               i++;
+            if ( i < to ) {
+               iloc = i;
+               if ( max ) {
+                  for ( i++; i < to; i++ )
+                     if ( a[i] > a[iloc] ) iloc = i;
+               }
+               else {
+                  for ( i++; i < to; i++ )
+                     if ( a[i] < a[iloc] ) iloc = i;
+               }
+            }
+            loc[from / Parallel.BLOCK] = iloc;
+         }
+      } );
+      int iloc = 0;
+      for ( int k = 0; k < loc.length; k++ ) {
+         if ( loc[k] >= 0 && ( max ? a[loc[k]] > a[iloc] : a[loc[k]] < a[iloc] ) ) {
+            iloc = loc[k];
+         }
       }
-      return atanh;
+      return iloc;
    }
 
 
    /**
-    * Returns the inverse hyperbolic tangent of the elements in a
-    * <code>Complex</code> array
-    *
-    * @param   z   input array
-    * @return  atanh(z)
+    * Calculates the sum of the elements of <tt>a</tt> block by block,
+    * including only the elements selected by mask <tt>b</tt> if it is not
+    * <tt>null</tt>.  The block sums are added in order.
     */
-   public static Complex[][] atanh ( Complex z[][] ) {
-      Complex atanh[][] = new Complex[z.length][];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         atanh[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            atanh[i][j] = Complex.atanh(z[i][j]);
+   private static double parallelSum ( final double a[], final boolean b[] ) {
+      final double part[] = new double[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            double sum = 0;
+            if ( b == null ) {
+               for ( int i = from; i < to; i++ )
+                  sum += a[i];
+            }
+            else {
+               for ( int i = from; i < to; i++ )
+                  if ( b[i] ) sum += a[i];
+            }
+            part[from / Parallel.BLOCK] = sum;
          }
-      }
-      return atanh;
+      } );
+      double sum = 0;
+      for ( int k = 0; k < part.length; k++ )
+         sum += part[k];
+      return sum;
    }
 
 
    /**
-    * Converts rectangular coordinates (<code>b</code>,&nbsp;<code>a</code>)
-    * to polar (r,&nbsp;<i>theta</i>).
-    * This method computes the phase <i>theta</i> by computing an arc tangent
-    * of <code>b/a</code> in the range of -<i>pi</i> to <i>pi</i>.
-    *
-    * @param   a   a <code>double</code> value.
-    * @param   b   a <code>double</code> value.
-    * @return  the <i>theta</i> component of the point
-    *          (<i>r</i>,&nbsp;<i>theta</i>)
-    *          in polar coordinates that corresponds to the point
-    *          (<i>b</i>,&nbsp;<i>a</i>) in Cartesian coordinates.
+    * Calculates the sum of the elements of <tt>a</tt> selected by
+    * bitset <tt>b</tt> block by block.  The blocks are whole words of the
+    * mask, and the block sums are added in order, so the result is
+    * the same as for the equivalent <tt>boolean</tt> mask.
     */
-   public static double[] atan2 ( double a[], double b[] ) {
-      double atan2[] = new double[a.length];
+   private static double parallelMaskedSum ( final double a[], BitMask b ) {
+      final long w[] = b.words();
+      final double part[] = new double[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            part[from / Parallel.BLOCK] = maskedSum( a, w, from, to );
+         }
+      } );
+      double sum = 0;
+      for ( int k = 0; k < part.length; k++ )
+         sum += part[k];
+      return sum;
+   }
 
-      if ( a.length != b.length ) {
-         String s = "atan2: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         atan2[i] = Math.atan2(a[i],b[i]);
+   /**
+    * Calculates the sum of the elements <tt>a[from]</tt> through
+    * <tt>a[to-1]</tt> selected by the mask words <tt>w</tt>, in order.
+    * <tt>from</tt> must be a multiple of 64.  Words that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    */
+   private static double maskedSum ( double a[], long w[], int from, int to ) {
+      double sum = 0;
+      int last = (to + 63) >>> 6;
+      for ( int k = from >>> 6; k < last; k++ ) {
+         long bits = w[k];
+         if ( bits == 0L ) {
+            continue;
+         }
+         int base = k << 6;
+         if ( bits == -1L ) {
+            for ( int i = base; i < base + 64; i++ ) {
+               sum += a[i];
+            }
+         }
+         else {
+            while ( bits != 0L ) {
+               sum += a[base + Long.numberOfTrailingZeros(bits)];
+               bits &= bits - 1;
+            }
+         }
       }
-      return atan2;
+      return sum;
    }
 
 
    /**
-    * Converts rectangular coordinates (<code>b</code>,&nbsp;<code>a</code>)
-    * to polar (r,&nbsp;<i>theta</i>).
-    * This method computes the phase <i>theta</i> by computing an arc tangent
-    * of <code>b/a</code> in the range of -<i>pi</i> to <i>pi</i>.
-    *
-    * @param   a   a <code>double</code> value.
-    * @param   b   a <code>double</code> value.
-    * @return  the <i>theta</i> component of the point
-    *          (<i>r</i>,&nbsp;<i>theta</i>)
-    *          in polar coordinates that corresponds to the point
-    *          (<i>b</i>,&nbsp;<i>a</i>) in Cartesian coordinates.
+    * Calculates the product of the elements of <tt>a</tt> block by block,
+    * including only the elements selected by mask <tt>b</tt> if it is not
+    * <tt>null</tt>.  The block products are multiplied in order.
     */
-   public static double[][] atan2 ( double a[][], double b[][] ) {
-      double atan2[][] = new double[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "atan2: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "atan2: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
+   private static double parallelProduct ( final double a[], final boolean b[] ) {
+      final double part[] = new double[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            double product = 1;
+            if ( b == null ) {
+               for ( int i = from; i < to; i++ )
+                  product *= a[i];
             }
-            atan2[i] = new double[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               atan2[i][j] = Math.atan2(a[i][j],b[i][j]);
+            else {
+               for ( int i = from; i < to; i++ )
+                  if ( b[i] ) product *= a[i];
             }
+            part[from / Parallel.BLOCK] = product;
          }
-      }
-      return atan2;
+      } );
+      double product = 1;
+      for ( int k = 0; k < part.length; k++ )
+         product *= part[k];
+      return product;
    }
 
 
    /**
-    * Converts rectangular coordinates (<code>b</code>,&nbsp;<code>a</code>)
-    * to polar (r,&nbsp;<i>theta</i>).
-    * This method computes the phase <i>theta</i> by computing an arc tangent
-    * of <code>b/a</code> in the range of -180 to 180 <i>degrees</i>.
-    *
-    * @param   a   a <code>double</code> value.
-    * @param   b   a <code>double</code> value.
-    * @return  the <i>theta</i> component of the point
-    *          (<i>r</i>,&nbsp;<i>theta</i>)
-    *          in polar coordinates that corresponds to the point
-    *          (<i>b</i>,&nbsp;<i>a</i>) in Cartesian coordinates.
+    * Calculates the product of the elements of <tt>a</tt> selected by
+    * bitset <tt>b</tt> block by block.  The blocks are whole words of the
+    * mask, and the block products are multiplied in order, so the result is
+    * the same as for the equivalent <tt>boolean</tt> mask.
     */
-   public static double[] atan2d ( double a[], double b[] ) {
-      double atan2d[] = new double[a.length];
+   private static double parallelMaskedProduct ( final double a[], BitMask b ) {
+      final long w[] = b.words();
+      final double part[] = new double[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            part[from / Parallel.BLOCK] = maskedProduct( a, w, from, to );
+         }
+      } );
+      double product = 1;
+      for ( int k = 0; k < part.length; k++ )
+         product *= part[k];
+      return product;
+   }
 
-      if ( a.length != b.length ) {
-         String s = "atan2d: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         atan2d[i] = Math1.atan2d(a[i],b[i]);
+   /**
+    * Calculates the product of the elements <tt>a[from]</tt> through
+    * <tt>a[to-1]</tt> selected by the mask words <tt>w</tt>, in order.
+    * <tt>from</tt> must be a multiple of 64.  Words that are all
+    * <tt>false</tt> are skipped without reading <tt>a</tt>.
+    */
+   private static double maskedProduct ( double a[], long w[], int from, int to ) {
+      double product = 1;
+      int last = (to + 63) >>> 6;
+      for ( int k = from >>> 6; k < last; k++ ) {
+         long bits = w[k];
+         if ( bits == 0L ) {
+            continue;
+         }
+         int base = k << 6;
+         if ( bits == -1L ) {
+            for ( int i = base; i < base + 64; i++ ) {
+               product *= a[i];
+            }
+         }
+         else {
+            while ( bits != 0L ) {
+               product *= a[base + Long.numberOfTrailingZeros(bits)];
+               bits &= bits - 1;
+            }
+         }
       }
-      return atan2d;
+      return product;
    }
 
 
    /**
-    * Converts rectangular coordinates (<code>b</code>,&nbsp;<code>a</code>)
-    * to polar (r,&nbsp;<i>theta</i>).
-    * This method computes the phase <i>theta</i> by computing an arc tangent
-    * of <code>b/a</code> in the range of -180 to 180 <i>degrees</i>.
-    *
-    * @param   a   a <code>double</code> value.
-    * @param   b   a <code>double</code> value.
-    * @return  the <i>theta</i> component of the point
-    *          (<i>r</i>,&nbsp;<i>theta</i>)
-    *          in polar coordinates that corresponds to the point
-    *          (<i>b</i>,&nbsp;<i>a</i>) in Cartesian coordinates.
+    * Calculates the dot product of <tt>a</tt> and <tt>b</tt> block by
+    * block.  The block results are added in order.
     */
-   public static double[][] atan2d ( double a[][], double b[][] ) {
-      double atan2d[][] = new double[a.length][];
+   private static double parallelDotProduct ( final double a[], final double b[] ) {
+      final double part[] = new double[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            double product = 0;
+            for ( int i = from; i < to; i++ )
+               product += a[i] * b[i];
+            part[from / Parallel.BLOCK] = product;
+         }
+      } );
+      double product = 0;
+      for ( int k = 0; k < part.length; k++ )
+         product += part[k];
+      return product;
+   }
 
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "atan2d: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "atan2d: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            atan2d[i] = new double[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               atan2d[i][j] = Math1.atan2d(a[i][j],b[i][j]);
+   /**
+    * Finds the index of the maximum (if <tt>max</tt> is <tt>true</tt>)
+    * or minimum element of <tt>a</tt> block by block.  Each block reports
+    * the first occurrence of its own extreme value, and the blocks are
+    * then merged in order with the same strict comparison as the serial
+    * loop, so the result is identical to it.
+    */
+   private static int parallelLoc ( final double a[], final boolean max ) {
+      final int loc[] = new int[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int iloc = -1;
+            int i = from;
+            // Skip leading NaNs, which the serial loop never selects
+            while ( i < to && a[i] != a[i] )
+               i++;
+            if ( i < to ) {
+               iloc = i;
+               if ( max ) {
+                  for ( i++; i < to; i++ )
+                     if ( a[i] > a[iloc] ) iloc = i;
+               }
+               else {
+                  for ( i++; i < to; i++ )
+                     if ( a[i] < a[iloc] ) iloc = i;
+               }
             }
+            loc[from / Parallel.BLOCK] = iloc;
+         }
+      } );
+      int iloc = 0;
+      for ( int k = 0; k < loc.length; k++ ) {
+         if ( loc[k] >= 0 && ( max ? a[loc[k]] > a[iloc] : a[loc[k]] < a[iloc] ) ) {
+            iloc = loc[k];
          }
       }
-      return atan2d;
+      return iloc;
    }
 
 
    /**
-    * Returns exp(a) for the elements in an array
-    *
-    * @param   a   input array
-    * @return  exp(a)
+    * Returns the position in the output of the first selected
+    * element of each block of a mask, as used by the parallel
+    * <tt>compress</tt> and <tt>find</tt> methods.  Element
+    * <tt>k</tt> is the number of <tt>true</tt> elements before
+    * block <tt>k</tt>, and the last element is the total.
     */
-   public static double[] exp ( double a[] ) {
-      double exp[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         exp[i] = Math.exp(a[i]);
-      }
-      return exp;
+   private static int[] maskOffsets( final boolean mask[] ) {
+      final int pos[] = new int[ Parallel.blocks(mask.length) + 1 ];
+      Parallel.forBlocks( mask.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int n = 0;
+            for ( int i = from; i < to; i++ ) {
+               if ( mask[i] )
+                  n++;
+            }
+            pos[from / Parallel.BLOCK + 1] = n;
+         }
+      } );
+      for ( int k = 1; k < pos.length; k++ )
+         pos[k] += pos[k-1];
+      return pos;
    }
 
 
    /**
-    * Returns exp(a) for the elements in an array
-    *
-    * @param   a   input array
-    * @return  exp(a)
+    * Returns the position in the output of the first selected
+    * element of each block of a bitset mask.  Blocks are a whole
+    * number of words long, so each block counts its own words.
     */
-   public static double[][] exp ( double a[][] ) {
-      double exp[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            exp[i][j] = Math.exp(a[i][j]);
+   private static int[] maskOffsets( BitMask mask ) {
+      final long w[] = mask.words();
+      final int pos[] = new int[ Parallel.blocks(mask.length()) + 1 ];
+      Parallel.forBlocks( mask.length(), new Parallel.Loop() {
+         void run( int from, int to ) {
+            int n = 0;
+            for ( int k = from >>> 6; k < (to + 63) >>> 6; k++ )
+               n += Long.bitCount( w[k] );
+            pos[from / Parallel.BLOCK + 1] = n;
          }
-      }
-      return exp;
+      } );
+      for ( int k = 1; k < pos.length; k++ )
+         pos[k] += pos[k-1];
+      return pos;
    }
 
 
    /**
-    * Returns exp(z) for the elements in a <code>Complex</code> array
-    *
-    * @param   z   <code>Complex</code> input array
-    * @return  exp(z)
+    * Summarizes elements <tt>from</tt> to <tt>to-1</tt> of
+    * <tt>a</tt> as block <tt>k</tt>, storing the minimum, maximum
+    * and sum in <tt>part[3*k]</tt> onwards, and the locations of the
+    * minimum and maximum (or -1) and the NaN count in
+    * <tt>loc[3*k]</tt> onwards.
     */
-   public static Complex[] exp ( Complex z[] ) {
-      Complex exp[] = new Complex[z.length];
+   private static void summarize ( float a[], int from, int to, int k,
+                                   double part[], int loc[] ) {
+      float sum = 0;
+      int nan = 0;
+      int i = from;
 
-      for ( int i = 0; i < z.length; i++ ) {
-         exp[i] = Complex.exp(z[i]);
+      // Skip leading NaNs, so the first number can start the search
+      for ( ; i < to && a[i] != a[i]; i++ ) {
+         sum += a[i];
+         nan++;
       }
-      return exp;
+      int imin = -1, imax = -1;
+      float min = Float.NaN, max = Float.NaN;
+      if ( i < to ) {
+         imin = imax = i;
+         min = max = a[i];
+         sum += a[i];
+         for ( i++; i < to; i++ ) {
+            float v = a[i];
+            sum += v;
+            if ( v < min ) {
+               min  = v;
+               imin = i;
+            }
+            else if ( v > max ) {
+               max  = v;
+               imax = i;
+            }
+            else if ( v != v ) {
+               nan++;
+            }
+         }
+      }
+      part[3*k]     = min;
+      part[3*k + 1] = max;
+      part[3*k + 2] = sum;
+      loc[3*k]      = imin;
+      loc[3*k + 1]  = imax;
+      loc[3*k + 2]  = nan;
    }
 
 
    /**
-    * Returns exp(z) for the elements in a <code>Complex</code> array
-    *
-    * @param   z   <code>Complex</code> input array
-    * @return  exp(z)
+    * Summarizes elements <tt>from</tt> to <tt>to-1</tt> of
+    * <tt>a</tt> as block <tt>k</tt>, storing the minimum, maximum
+    * and sum in <tt>part[3*k]</tt> onwards, and the locations of the
+    * minimum and maximum (or -1) and the NaN count in
+    * <tt>loc[3*k]</tt> onwards.
     */
-   public static Complex[][] exp ( Complex z[][] ) {
-      Complex exp[][] = new Complex[z.length][];
+   private static void summarize ( double a[], int from, int to, int k,
+                                   double part[], int loc[] ) {
+      double sum = 0;
+      int nan = 0;
+      int i = from;
 
-      for ( int i = 0; i < z.length; i++ ) {
-         exp[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            exp[i][j] = Complex.exp(z[i][j]);
+      // Skip leading NaNs, so the first number can start the search
+      for ( ; i < to && a[i] != a[i]; i++ ) {
+         sum += a[i];
+         nan++;
+      }
+      int imin = -1, imax = -1;
+      double min = Double.NaN, max = Double.NaN;
+      if ( i < to ) {
+         imin = imax = i;
+         min = max = a[i];
+         sum += a[i];
+         for ( i++; i < to; i++ ) {
+            double v = a[i];
+            sum += v;
+            if ( v < min ) {
+               min  = v;
+               imin = i;
+            }
+            else if ( v > max ) {
+               max  = v;
+               imax = i;
+            }
+            else if ( v != v ) {
+               nan++;
+            }
          }
       }
-      return exp;
+      part[3*k]     = min;
+      part[3*k + 1] = max;
+      part[3*k + 2] = sum;
+      loc[3*k]      = imin;
+      loc[3*k + 1]  = imax;
+      loc[3*k + 2]  = nan;
    }
 
 
    /**
-    * Returns the natural logarithm log(a) for the elements in an array
-    *
-    * @param   a   input array, where all a[i] > 0.0
-    * @return  log(a)
+    * Combines the block results of <tt>summarize</tt> in block
+    * order.  Ties keep the earlier block, so the locations are
+    * those of the first minimum and maximum, as in a serial loop.
     */
-   public static double[] log ( double a[] ) {
-      double log[] = new double[a.length];
+   private static ArraySummary mergeSummary ( int n, double part[], int loc[],
+                                              double sum ) {
+      double min = Double.NaN, max = Double.NaN;
+      int imin = -1, imax = -1, nan = 0;
+      for ( int k = 0; k < loc.length / 3; k++ ) {
+         nan += loc[3*k + 2];
+         if ( loc[3*k] < 0 )
+            continue;
+         if ( imin < 0 || part[3*k] < min ) {
+            min  = part[3*k];
+            imin = loc[3*k];
+         }
+         if ( imax < 0 || part[3*k + 1] > max ) {
+            max  = part[3*k + 1];
+            imax = loc[3*k + 1];
+         }
+      }
+      return new ArraySummary( n, min, imin, max, imax, sum, nan );
+   }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         log[i] = Math.log(a[i]);
+
+   //******************************************************
+   //  sort and selection helper methods
+   //******************************************************
+
+   /**
+    * Returns the indices that sort an array of keys into ascending
+    * order, stably.  Runs of <tt>SORT_RUN</tt> indices are sorted by
+    * insertion and then merged in pairs, doubling their length on each
+    * pass.  For large arrays, the runs and the merges within each pass
+    * are processed in parallel.
+    */
+   private static int[] argsortKeys( final long key[] ) {
+      final int n = key.length;
+      final int idx[] = new int[n];
+      Parallel.forRange( n, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int lo = from; lo < to; lo += SORT_RUN ) {
+               int hi = Math.min( lo + SORT_RUN, to );
+               for ( int i = lo; i < hi; i++ ) {
+                  int j = i;
+                  while ( j > lo && key[idx[j-1]] > key[i] ) {
+                     idx[j] = idx[j-1];
+                     j--;
+                  }
+                  idx[j] = i;
+               }
+            }
+         }
+      } );
+
+      int src[] = idx;
+      int dst[] = new int[n];
+      boolean parallel = Parallel.isParallel( n );
+      for ( long width = SORT_RUN; width < n; width *= 2 ) {
+         final int w = (int) width;
+         final int from[] = src;
+         final int to[] = dst;
+         int pairs = (int) ( (n + 2 * width - 1) / (2 * width) );
+         Parallel.forRange( pairs, 1, parallel, new Parallel.Loop() {
+            void run( int p0, int p1 ) {
+               for ( int p = p0; p < p1; p++ ) {
+                  int lo  = (int) Math.min( 2L * w * p, n );
+                  int mid = (int) Math.min( (long) lo + w, n );
+                  int hi  = (int) Math.min( (long) mid + w, n );
+                  merge( key, from, to, lo, mid, hi );
+               }
+            }
+         } );
+         src = to;
+         dst = from;
       }
-      return log;
+      return src;
    }
 
 
    /**
-    * Returns the natural logarithm log(a) for the elements in an array
-    *
-    * @param   a   input array, where all a[i] > 0.0
-    * @return  log(a)
+    * Merges the sorted runs <tt>src[lo..mid-1]</tt> and
+    * <tt>src[mid..hi-1]</tt> of indices into <tt>dst[lo..hi-1]</tt>,
+    * taking from the first run when keys are equal.
     */
-   public static double[][] log ( double a[][] ) {
-      double log[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            log[i][j] = Math.log(a[i][j]);
+   private static void merge( long key[], int src[], int dst[],
+                              int lo, int mid, int hi ) {
+      int i = lo, j = mid;
+      for ( int k = lo; k < hi; k++ ) {
+         if ( j >= hi || (i < mid && key[src[i]] <= key[src[j]]) ) {
+            dst[k] = src[i++];
+         }
+         else {
+            dst[k] = src[j++];
          }
       }
-      return log;
    }
 
 
    /**
-    * Returns log(z) for the elements in a <code>Complex</code> array
-    *
-    * @param   z   <code>Complex</code> input array
-    * @return  log(z)
+    * Returns a key whose signed order is the order of <tt>x</tt> used by
+    * <code>java.util.Arrays.sort</code>.
     */
-   public static Complex[] log ( Complex z[] ) {
-      Complex log[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         log[i] = Complex.log(z[i]);
-      }
-      return log;
+   private static long sortKey( double x ) {
+      long bits = Double.doubleToLongBits( x );
+      return bits ^ ( (bits >> 63) & 0x7fffffffffffffffL );
    }
 
 
    /**
-    * Returns log(z) for the elements in a <code>Complex</code> array
-    *
-    * @param   z   <code>Complex</code> input array
-    * @return  log(z)
+    * Returns a key whose signed order is the order of <tt>x</tt> used by
+    * <code>java.util.Arrays.sort</code>.
     */
-   public static Complex[][] log ( Complex z[][] ) {
-      Complex log[][] = new Complex[z.length][];
+   private static long sortKey( float x ) {
+      int bits = Float.floatToIntBits( x );
+      return bits ^ ( (bits >> 31) & 0x7fffffff );
+   }
 
-      for ( int i = 0; i < z.length; i++ ) {
-         log[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            log[i][j] = Complex.log(z[i][j]);
+
+
+   /**
+    * Moves the NaN values in <tt>a</tt> to its end, and returns the
+    * number of other values.
+    */
+   private static int moveNaNsLast( double a[] ) {
+      int n = a.length;
+      for ( int i = 0; i < n; ) {
+         if ( a[i] != a[i] ) {
+            n--;
+            double t = a[i];
+            a[i] = a[n];
+            a[n] = t;
+         }
+         else {
+            i++;
          }
       }
-      return log;
+      return n;
    }
 
 
    /**
-    * Returns the base-10 logarithm log10(a) for the elements in an array
-    *
-    * @param   a   input array, where all a[i] > 0.0
-    * @return  log10(a)
+    * Moves the NaN values in <tt>a</tt> to its end, and returns the
+    * number of other values.
     */
-   public static double[] log10 ( double a[] ) {
-      double log10[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         log10[i] = Math1.log10(a[i]);
+   private static int moveNaNsLast( float a[] ) {
+      int n = a.length;
+      for ( int i = 0; i < n; ) {
+         if ( a[i] != a[i] ) {
+            n--;
+            float t = a[i];
+            a[i] = a[n];
+            a[n] = t;
+         }
+         else {
+            i++;
+         }
       }
-      return log10;
+      return n;
    }
 
 
    /**
-    * Returns the base-10 logarithm log10(a) for the elements in an array
-    *
-    * @param   a   input array, where all a[i] > 0.0
-    * @return  log10(a)
+    * Rearranges <tt>a[lo..hi]</tt>, which holds no NaN values, so that
+    * <tt>a[k]</tt> holds the value it would hold if the range were
+    * sorted.  This is introselect: quickselect with a median-of-three
+    * pivot, falling back to sorting the range if the partitions stay
+    * unbalanced, so the worst case is n log n.
     */
-   public static double[][] log10 ( double a[][] ) {
-      double log10[][] = new double[a.length][];
+   private static void select( int a[], int lo, int hi, int k ) {
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros( hi - lo + 1 ));
+      while ( hi - lo > SELECT_SMALL ) {
+         if ( --depth < 0 ) {
+            java.util.Arrays.sort( a, lo, hi + 1 );
+            return;
+         }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            log10[i][j] = Math1.log10(a[i][j]);
+         // Order a[lo], a[mid], a[hi], and use the middle one as pivot
+         int mid = (lo + hi) >>> 1;
+         if ( a[mid] < a[lo] ) swap( a, lo, mid );
+         if ( a[hi] < a[mid] ) {
+            swap( a, mid, hi );
+            if ( a[mid] < a[lo] ) swap( a, lo, mid );
+         }
+         int pivot = a[mid];
+
+         // Partition, so that a[lo..j] <= pivot <= a[i..hi] with j < i
+         int i = lo, j = hi;
+         while ( i <= j ) {
+            while ( a[i] < pivot ) i++;
+            while ( a[j] > pivot ) j--;
+            if ( i <= j ) {
+               swap( a, i++, j-- );
+            }
+         }
+         if ( k <= j ) {
+            hi = j;
+         }
+         else if ( k >= i ) {
+            lo = i;
+         }
+         else {
+            return;
          }
       }
-      return log10;
+
+      // Insertion sort for short ranges
+      for ( int i = lo + 1; i <= hi; i++ ) {
+         int t = a[i];
+         int j = i;
+         while ( j > lo && a[j-1] > t ) {
+            a[j] = a[j-1];
+            j--;
+         }
+         a[j] = t;
+      }
    }
 
 
    /**
-    * Returns the square root of a for the elements in an array
-    *
-    * @param   a   input array, where all a[i] >= 0.0
-    * @return  sqrt(a)
+    * Swaps elements <tt>i</tt> and <tt>j</tt> of <tt>a</tt>.
     */
-   public static double[] sqrt ( double a[] ) {
-      double sqrt[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         sqrt[i] = Math.sqrt(a[i]);
-      }
-      return sqrt;
+   private static void swap( int a[], int i, int j ) {
+      int t = a[i];
+      a[i] = a[j];
+      a[j] = t;
    }
 
 
    /**
-    * Returns the square root of a for the elements in an array
-    *
-    * @param   a   input array, where all a[i] >= 0.0
-    * @return  sqrt(a)
+    * Rearranges <tt>a[lo..hi]</tt>, which holds no NaN values, so that
+    * <tt>a[k]</tt> holds the value it would hold if the range were
+    * sorted.  This is introselect: quickselect with a median-of-three
+    * pivot, falling back to sorting the range if the partitions stay
+    * unbalanced, so the worst case is n log n.
     */
-   public static double[][] sqrt ( double a[][] ) {
-      double sqrt[][] = new double[a.length][];
+   private static void select( float a[], int lo, int hi, int k ) {
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros( hi - lo + 1 ));
+      while ( hi - lo > SELECT_SMALL ) {
+         if ( --depth < 0 ) {
+            java.util.Arrays.sort( a, lo, hi + 1 );
+            return;
+         }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         for ( int j = 0; j < a[i].length; j++ ) {
-            sqrt[i][j] = Math.sqrt(a[i][j]);
+         // Order a[lo], a[mid], a[hi], and use the middle one as pivot
+         int mid = (lo + hi) >>> 1;
+         if ( a[mid] < a[lo] ) swap( a, lo, mid );
+         if ( a[hi] < a[mid] ) {
+            swap( a, mid, hi );
+            if ( a[mid] < a[lo] ) swap( a, lo, mid );
+         }
+         float pivot = a[mid];
+
+         // Partition, so that a[lo..j] <= pivot <= a[i..hi] with j < i
+         int i = lo, j = hi;
+         while ( i <= j ) {
+            while ( a[i] < pivot ) i++;
+            while ( a[j] > pivot ) j--;
+            if ( i <= j ) {
+               swap( a, i++, j-- );
+            }
+         }
+         if ( k <= j ) {
+            hi = j;
+         }
+         else if ( k >= i ) {
+            lo = i;
+         }
+         else {
+            return;
          }
       }
-      return sqrt;
+
+      // Insertion sort for short ranges
+      for ( int i = lo + 1; i <= hi; i++ ) {
+         float t = a[i];
+         int j = i;
+         while ( j > lo && a[j-1] > t ) {
+            a[j] = a[j-1];
+            j--;
+         }
+         a[j] = t;
+      }
    }
 
 
    /**
-    * Returns sqrt(z) for the elements in a <code>Complex</code> array
-    *
-    * @param   z   <code>Complex</code> input array
-    * @return  sqrt(z)
+    * Swaps elements <tt>i</tt> and <tt>j</tt> of <tt>a</tt>.
     */
-   public static Complex[] sqrt ( Complex z[] ) {
-      Complex sqrt[] = new Complex[z.length];
-
-      for ( int i = 0; i < z.length; i++ ) {
-         sqrt[i] = Complex.sqrt(z[i]);
-      }
-      return sqrt;
+   private static void swap( float a[], int i, int j ) {
+      float t = a[i];
+      a[i] = a[j];
+      a[j] = t;
    }
 
 
    /**
-    * Returns sqrt(z) for the elements in a <code>Complex</code> array
-    *
-    * @param   z   <code>Complex</code> input array
-    * @return  sqrt(z)
+    * Rearranges <tt>a[lo..hi]</tt>, which holds no NaN values, so that
+    * <tt>a[k]</tt> holds the value it would hold if the range were
+    * sorted.  This is introselect: quickselect with a median-of-three
+    * pivot, falling back to sorting the range if the partitions stay
+    * unbalanced, so the worst case is n log n.
     */
-   public static Complex[][] sqrt ( Complex z[][] ) {
-      Complex sqrt[][] = new Complex[z.length][];
+   private static void select( double a[], int lo, int hi, int k ) {
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros( hi - lo + 1 ));
+      while ( hi - lo > SELECT_SMALL ) {
+         if ( --depth < 0 ) {
+            java.util.Arrays.sort( a, lo, hi + 1 );
+            return;
+         }
+
+         // Order a[lo], a[mid], a[hi], and use the middle one as pivot
+         int mid = (lo + hi) >>> 1;
+         if ( a[mid] < a[lo] ) swap( a, lo, mid );
+         if ( a[hi] < a[mid] ) {
+            swap( a, mid, hi );
+            if ( a[mid] < a[lo] ) swap( a, lo, mid );
+         }
+         double pivot = a[mid];
+
+         // Partition, so that a[lo..j] <= pivot <= a[i..hi] with j < i
+         int i = lo, j = hi;
+         while ( i <= j ) {
+            while ( a[i] < pivot ) i++;
+            while ( a[j] > pivot ) j--;
+            if ( i <= j ) {
+               swap( a, i++, j-- );
+            }
+         }
+         if ( k <= j ) {
+            hi = j;
+         }
+         else if ( k >= i ) {
+            lo = i;
+         }
+         else {
+            return;
+         }
+      }
 
-      for ( int i = 0; i < z.length; i++ ) {
-         sqrt[i] = new Complex[z[i].length];
-         for ( int j = 0; j < z[i].length; j++ ) {
-            sqrt[i][j] = Complex.sqrt(z[i][j]);
+      // Insertion sort for short ranges
+      for ( int i = lo + 1; i <= hi; i++ ) {
+         double t = a[i];
+         int j = i;
+         while ( j > lo && a[j-1] > t ) {
+            a[j] = a[j-1];
+            j--;
          }
+         a[j] = t;
       }
-      return sqrt;
    }
 
 
    /**
-    * Returns an array of the first argument raised to the power of the
-    * second argument.
-    * <p>
-    * If (<code>a&nbsp;==&nbsp;0.0</code>), then <code>b</code> must be
-    * greater than <code>0.0</code>; otherwise an exception is thrown.
-    * An exception also will occur if (<code>a&nbsp;&lt;=&nbsp;0.0</code>)
-    * and <code>b</code> is not equal to a whole number.
-    *
-    * @param   a   a <code>double</code> array.
-    * @param   b   a <code>double</code> array.
-    * @return  the array <code>a<sup>b</sup></code>.
-    * @exception ArithmeticException  if (<code>a&nbsp;==&nbsp;0.0</code>) and
-    *              (<code>b&nbsp;&lt;=&nbsp;0.0</code>), or
-    *              if (<code>a&nbsp;&lt;=&nbsp;0.0</code>) and <code>b</code>
-    *              is not equal to a whole number.
-    * @exception InvalidArraySizeException  if <code>a</code> is not the same
-    *              size as <code>b</code>
+    * Swaps elements <tt>i</tt> and <tt>j</tt> of <tt>a</tt>.
     */
-   public static double[] pow ( double a[], double b[] ) {
-      double pow[] = new double[a.length];
+   private static void swap( double a[], int i, int j ) {
+      double t = a[i];
+      a[i] = a[j];
+      a[j] = t;
+   }
 
-      if ( a.length != b.length ) {
-         String s = "pow: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
 
-      for ( int i = 0; i < a.length; i++ ) {
-         pow[i] = Math.pow(a[i],b[i]);
-      }
-      return pow;
+   /**
+    * Returns <tt>true</tt> if element <tt>i</tt> of <tt>a</tt> ranks
+    * below element <tt>j</tt> for <tt>topK</tt>: it is smaller, or equal
+    * with a larger index.
+    */
+   private static boolean worse( int a[], int i, int j ) {
+      int x = a[i], y = a[j];
+      return ( x < y ) || ( x == y && i > j );
    }
 
 
    /**
-    * Returns an array of the first argument raised to the power of the
-    * second argument.
-    * <p>
-    * If (<code>a&nbsp;==&nbsp;0.0</code>), then <code>b</code> must be
-    * greater than <code>0.0</code>; otherwise an exception is thrown.
-    * An exception also will occur if (<code>a&nbsp;&lt;=&nbsp;0.0</code>)
-    * and <code>b</code> is not equal to a whole number.
-    *
-    * @param   a   a <code>double</code> array.
-    * @param   b   a <code>double</code> array.
-    * @return  the array <code>a<sup>b</sup></code>.
-    * @exception ArithmeticException  if (<code>a&nbsp;==&nbsp;0.0</code>) and
-    *              (<code>b&nbsp;&lt;=&nbsp;0.0</code>), or
-    *              if (<code>a&nbsp;&lt;=&nbsp;0.0</code>) and <code>b</code>
-    *              is not equal to a whole number.
-    * @exception InvalidArraySizeException  if <code>a</code> is not the same
-    *              size as <code>b</code>
+    * Offers index <tt>i</tt> to the heap <tt>heap[0..size-1]</tt> of
+    * the best elements of <tt>a</tt> found so far, whose root is the
+    * worst of them.  The index is added if the heap is not full, or
+    * replaces the root if it ranks above it.  Returns the new size.
     */
-   public static double[][] pow ( double a[][], double b[][] ) {
-      double pow[][] = new double[a.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( a.length != b.length ) {
-         String s = "pow: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   private static int heapPush( int a[], int heap[], int size, int i ) {
+      if ( size < heap.length ) {
+         int j = size++;
+         while ( j > 0 && worse( a, i, heap[(j-1)/2] ) ) {
+            heap[j] = heap[(j-1)/2];
+            j = (j-1)/2;
+         }
+         heap[j] = i;
       }
+      else if ( size > 0 && worse( a, heap[0], i ) ) {
+         heap[0] = i;
+         siftDown( a, heap, size, 0 );
+      }
+      return size;
+   }
 
-      else {
-         for ( int i = 0; i < a.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( a[i].length != b[i].length ) {
-               String s = "pow: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            pow[i] = new double[a[i].length];
-            for ( int j = 0; j < a[i].length; j++ ) {
-               pow[i][j] = Math.pow(a[i][j],b[i][j]);
-            }
+
+   /**
+    * Moves the index at <tt>heap[j]</tt> down the heap
+    * <tt>heap[0..size-1]</tt> until neither child ranks below it.
+    */
+   private static void siftDown( int a[], int heap[], int size, int j ) {
+      int i = heap[j];
+      while ( 2 * j + 1 < size ) {
+         int c = 2 * j + 1;
+         if ( c + 1 < size && worse( a, heap[c+1], heap[c] ) ) {
+            c++;
+         }
+         if ( !worse( a, heap[c], i ) ) {
+            break;
          }
+         heap[j] = heap[c];
+         j = c;
       }
-      return pow;
+      heap[j] = i;
    }
 
 
    /**
-    * Returns an array of the first argument raised to a scalar power.
-    * <p>
-    * If (<code>a&nbsp;==&nbsp;0.0</code>), then <code>b</code> must be
-    * greater than <code>0.0</code>; otherwise an exception is thrown.
-    * An exception also will occur if (<code>a&nbsp;&lt;=&nbsp;0.0</code>)
-    * and <code>b</code> is not equal to a whole number.
-    *
-    * @param   a   a <code>double</code> array.
-    * @param   b   a scalar exponent.
-    * @return  the array <code>a<sup>b</sup></code>.
-    * @exception ArithmeticException  if (<code>a&nbsp;==&nbsp;0.0</code>) and
-    *              (<code>b&nbsp;&lt;=&nbsp;0.0</code>), or
-    *              if (<code>a&nbsp;&lt;=&nbsp;0.0</code>) and <code>b</code>
-    *              is not equal to a whole number.
+    * Returns <tt>true</tt> if element <tt>i</tt> of <tt>a</tt> ranks
+    * below element <tt>j</tt> for <tt>topK</tt>: it is smaller, or equal
+    * with a larger index, with NaN below all numbers.
     */
-   public static double[] pow ( double a[], double b ) {
-      double pow[] = new double[a.length];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         pow[i] = Math.pow(a[i],b);
+   private static boolean worse( float a[], int i, int j ) {
+      float x = a[i], y = a[j];
+      if ( x < y || (x != x && y == y) ) {
+         return true;
       }
-      return pow;
+      return ( x == y || (x != x && y != y) ) && i > j;
    }
 
 
    /**
-    * Returns an array of the first argument raised to a scalar power.
-    * <p>
-    * If (<code>a&nbsp;==&nbsp;0.0</code>), then <code>b</code> must be
-    * greater than <code>0.0</code>; otherwise an exception is thrown.
-    * An exception also will occur if (<code>a&nbsp;&lt;=&nbsp;0.0</code>)
-    * and <code>b</code> is not equal to a whole number.
-    *
-    * @param   a   a <code>double</code> array.
-    * @param   b   a scalar exponent.
-    * @return  the array <code>a<sup>b</sup></code>.
-    * @exception ArithmeticException  if (<code>a&nbsp;==&nbsp;0.0</code>) and
-    *              (<code>b&nbsp;&lt;=&nbsp;0.0</code>), or
-    *              if (<code>a&nbsp;&lt;=&nbsp;0.0</code>) and <code>b</code>
-    *              is not equal to a whole number.
+    * Offers index <tt>i</tt> to the heap <tt>heap[0..size-1]</tt> of
+    * the best elements of <tt>a</tt> found so far, whose root is the
+    * worst of them.  The index is added if the heap is not full, or
+    * replaces the root if it ranks above it.  Returns the new size.
     */
-   public static double[][] pow ( double a[][], double b ) {
-      double pow[][] = new double[a.length][];
-
-      for ( int i = 0; i < a.length; i++ ) {
-         pow[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            pow[i][j] = Math.pow(a[i][j],b);
+   private static int heapPush( float a[], int heap[], int size, int i ) {
+      if ( size < heap.length ) {
+         int j = size++;
+         while ( j > 0 && worse( a, i, heap[(j-1)/2] ) ) {
+            heap[j] = heap[(j-1)/2];
+            j = (j-1)/2;
          }
+         heap[j] = i;
       }
-      return pow;
+      else if ( size > 0 && worse( a, heap[0], i ) ) {
+         heap[0] = i;
+         siftDown( a, heap, size, 0 );
+      }
+      return size;
    }
 
+
    /**
-    * Returns an array of the first argument raised to the power of the
-    * second argument.
-    *
-    * @param   za   a <code>Complex</code> array.
-    * @param   zb   a <code>Complex</code> array.
-    * @return  the array <code>za<sup>zb</sup></code>.
-    * @exception InvalidArraySizeException  if <code>za</code> is not the same
-    *              size as <code>zb</code>
+    * Moves the index at <tt>heap[j]</tt> down the heap
+    * <tt>heap[0..size-1]</tt> until neither child ranks below it.
     */
-   public static Complex[] pow ( Complex za[], Complex zb[] ) {
-      Complex pow[] = new Complex[za.length];
-
-      if ( za.length != zb.length ) {
-         String s = "pow: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
-      }
-
-      for ( int i = 0; i < za.length; i++ ) {
-         pow[i] = Complex.pow(za[i],zb[i]);
+   private static void siftDown( float a[], int heap[], int size, int j ) {
+      int i = heap[j];
+      while ( 2 * j + 1 < size ) {
+         int c = 2 * j + 1;
+         if ( c + 1 < size && worse( a, heap[c+1], heap[c] ) ) {
+            c++;
+         }
+         if ( !worse( a, heap[c], i ) ) {
+            break;
+         }
+         heap[j] = heap[c];
+         j = c;
       }
-      return pow;
+      heap[j] = i;
    }
 
 
    /**
-    * Returns an array of the first argument raised to the power of the
-    * second argument.
-    *
-    * @param   za   a <code>Complex</code> array.
-    * @param   zb   a <code>Complex</code> array.
-    * @return  the array <code>za<sup>zb</sup></code>.
-    * @exception InvalidArraySizeException  if <code>za</code> is not the same
-    *              size as <code>zb</code>
+    * Returns <tt>true</tt> if element <tt>i</tt> of <tt>a</tt> ranks
+    * below element <tt>j</tt> for <tt>topK</tt>: it is smaller, or equal
+    * with a larger index, with NaN below all numbers.
     */
-   public static Complex[][] pow ( Complex za[][], Complex zb[][] ) {
-      Complex pow[][] = new Complex[za.length][];
-
-      // Check for incompatibilities in the first dimension
-      if ( za.length != zb.length ) {
-         String s = "pow: Incompatible array lengths";
-         throw new InvalidArraySizeException(s);
+   private static boolean worse( double a[], int i, int j ) {
+      double x = a[i], y = a[j];
+      if ( x < y || (x != x && y == y) ) {
+         return true;
       }
+      return ( x == y || (x != x && y != y) ) && i > j;
+   }
 
-      else {
-         for ( int i = 0; i < za.length; i++ ) {
-            // Check for incompatibilities in the second dimension
-            if ( za[i].length != zb[i].length ) {
-               String s = "pow: Incompatible array lengths";
-               throw new InvalidArraySizeException(s);
-            }
-            pow[i] = new Complex[za[i].length];
-            for ( int j = 0; j < za[i].length; j++ ) {
-               pow[i][j] = Complex.pow(za[i][j],zb[i][j]);
-            }
+
+   /**
+    * Offers index <tt>i</tt> to the heap <tt>heap[0..size-1]</tt> of
+    * the best elements of <tt>a</tt> found so far, whose root is the
+    * worst of them.  The index is added if the heap is not full, or
+    * replaces the root if it ranks above it.  Returns the new size.
+    */
+   private static int heapPush( double a[], int heap[], int size, int i ) {
+      if ( size < heap.length ) {
+         int j = size++;
+         while ( j > 0 && worse( a, i, heap[(j-1)/2] ) ) {
+            heap[j] = heap[(j-1)/2];
+            j = (j-1)/2;
          }
+         heap[j] = i;
       }
-      return pow;
+      else if ( size > 0 && worse( a, heap[0], i ) ) {
+         heap[0] = i;
+         siftDown( a, heap, size, 0 );
+      }
+      return size;
    }
 
 
    /**
-    * Returns an array of the first argument raised to a scalar power.
-    *
-    * @param   za   a <code>Complex</code> array.
-    * @param   zb   a <code>Complex</code> scalar exponent.
-    * @return  the array <code>za<sup>zb</sup></code>.
+    * Moves the index at <tt>heap[j]</tt> down the heap
+    * <tt>heap[0..size-1]</tt> until neither child ranks below it.
     */
-   public static Complex[] pow ( Complex za[], Complex zb ) {
-      Complex pow[] = new Complex[za.length];
-
-      for ( int i = 0; i < za.length; i++ ) {
-         pow[i] = Complex.pow(za[i],zb);
+   private static void siftDown( double a[], int heap[], int size, int j ) {
+      int i = heap[j];
+      while ( 2 * j + 1 < size ) {
+         int c = 2 * j + 1;
+         if ( c + 1 < size && worse( a, heap[c+1], heap[c] ) ) {
+            c++;
+         }
+         if ( !worse( a, heap[c], i ) ) {
+            break;
+         }
+         heap[j] = heap[c];
+         j = c;
       }
-      return pow;
+      heap[j] = i;
    }
 
 
+   //******************************************************
+   //  scan helper methods
+   //******************************************************
+
    /**
-    * Returns an array of the first argument raised to a scalar power.
-    *
-    * @param   za   a <code>Complex</code> array.
-    * @param   zb   a <code>Complex</code> scalar exponent.
-    * @return  the array <code>za<sup>zb</sup></code>.
+    * Scans <tt>a</tt> into <tt>out</tt> with the operator selected by
+    * <tt>code</tt>, inclusively or exclusively.  Large arrays are
+    * scanned in two passes over the fixed blocks of class
+    * <tt>Parallel</tt>: the first finds the total of each block, the
+    * totals are combined in order to give the value carried into each
+    * block, and the second scans each block from its carried value.
     */
-   public static Complex[][] pow ( Complex za[][], Complex zb ) {
-      Complex pow[][] = new Complex[za.length][];
+   private static void scan( final int code, final java.util.function.LongBinaryOperator op,
+                             final long a[], final long out[],
+                             final boolean inclusive, long identity,
+                             String name ) {
+      if ( a.length != out.length ) {
+         String s = name + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( !Parallel.isLarge(a.length) ) {
+         scanBlock( code, op, a, out, 0, a.length, identity, !inclusive, inclusive );
+         return;
+      }
 
-      for ( int i = 0; i < za.length; i++ ) {
-         pow[i] = new Complex[za[i].length];
-         for ( int j = 0; j < za[i].length; j++ ) {
-            pow[i][j] = Complex.pow(za[i][j],zb);
+      // First pass: the total of each block
+      final long total[] = new long[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            total[from / Parallel.BLOCK] = reduceBlock( code, op, a, from, to );
          }
+      } );
+
+      // The value carried into each block
+      final long carry[] = new long[total.length];
+      carry[0] = identity;
+      for ( int b = 1; b < total.length; b++ ) {
+         carry[b] = ( b == 1 && inclusive ) ? total[0]
+                                            : applyLong( code, op, carry[b-1], total[b-1] );
       }
-      return pow;
+
+      // Second pass: scan each block from its carried value
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int b = from / Parallel.BLOCK;
+            scanBlock( code, op, a, out, from, to, carry[b], b > 0 || !inclusive, inclusive );
+         }
+      } );
    }
 
 
    /**
-    * Returns an array of the first argument raised to a scalar power.
-    *
-    * @param   za  a <code>Complex</code> array.
-    * @param   b   a <code>double</code> scalar exponent.
-    * @return  the array <code>za<sup>b</sup></code>.
+    * Returns <tt>x</tt> combined with <tt>y</tt> by the operator selected
+    * by <tt>code</tt>.
     */
-   public static Complex[] pow ( Complex za[], double b ) {
-      Complex pow[] = new Complex[za.length];
-
-      for ( int i = 0; i < za.length; i++ ) {
-         pow[i] = Complex.pow(za[i],b);
+   private static long applyLong( int code, java.util.function.LongBinaryOperator op, long x, long y ) {
+      switch ( code ) {
+         case SCAN_SUM:
+            return x + y;
+         case SCAN_PROD:
+            return x * y;
+         default:
+            return op.applyAsLong( x, y );
       }
-      return pow;
    }
 
 
    /**
-    * Returns an array of the first argument raised to a scalar power.
-    *
-    * @param   za  a <code>Complex</code> array.
-    * @param   b   a <code>double</code> scalar exponent.
-    * @return  the array <code>za<sup>b</sup></code>.
+    * Returns the elements <tt>a[from]</tt> through <tt>a[to-1]</tt>
+    * combined in order by the operator selected by <tt>code</tt>.
     */
-   public static Complex[][] pow ( Complex za[][], double b ) {
-      Complex pow[][] = new Complex[za.length][];
+   private static long reduceBlock( int code, java.util.function.LongBinaryOperator op,
+                                 long a[], int from, int to ) {
+      long s = a[from];
+      switch ( code ) {
+         case SCAN_SUM:
+            for ( int i = from + 1; i < to; i++ ) {
+               s += a[i];
+            }
+            break;
+         case SCAN_PROD:
+            for ( int i = from + 1; i < to; i++ ) {
+               s *= a[i];
+            }
+            break;
+         default:
+            for ( int i = from + 1; i < to; i++ ) {
+               s = op.applyAsLong( s, a[i] );
+            }
+            break;
+      }
+      return s;
+   }
 
-      for ( int i = 0; i < za.length; i++ ) {
-         pow[i] = new Complex[za[i].length];
-         for ( int j = 0; j < za[i].length; j++ ) {
-            pow[i][j] = Complex.pow(za[i][j],b);
+
+   /**
+    * Scans elements <tt>from</tt> through <tt>to-1</tt> of <tt>a</tt>
+    * into <tt>out</tt>.  If <tt>hasCarry</tt> is <tt>true</tt>, the
+    * scan starts from <tt>carry</tt>; otherwise (only for an inclusive
+    * scan) it starts from <tt>a[from]</tt>.  Each element of <tt>a</tt>
+    * is read before the same element of <tt>out</tt> is written, so the
+    * arrays may be the same.
+    */
+   private static void scanBlock( int code, java.util.function.LongBinaryOperator op,
+                                  long a[], long out[], int from, int to,
+                                  long carry, boolean hasCarry, boolean inclusive ) {
+      if ( from >= to ) {
+         return;
+      }
+      long s = carry;
+      if ( !hasCarry ) {
+         s = a[from];
+         out[from++] = s;
+      }
+      if ( inclusive ) {
+         switch ( code ) {
+            case SCAN_SUM:
+               for ( int i = from; i < to; i++ ) {
+                  s += a[i];
+                  out[i] = s;
+               }
+               break;
+            case SCAN_PROD:
+               for ( int i = from; i < to; i++ ) {
+                  s *= a[i];
+                  out[i] = s;
+               }
+               break;
+            default:
+               for ( int i = from; i < to; i++ ) {
+                  s = op.applyAsLong( s, a[i] );
+                  out[i] = s;
+               }
+               break;
+         }
+      }
+      else {
+         for ( int i = from; i < to; i++ ) {
+            long t = a[i];
+            out[i] = s;
+            s = op.applyAsLong( s, t );
          }
       }
-      return pow;
    }
 
 
    /**
-    * Returns an array of the smallest (closest to negative infinity)
-    * <code>double</code> values that are not less than the argument and are
-    * equal to mathematical integers.
-    *
-    * @param   a   a <code>double</code> array.
-    * <!--@return  the value &lceil;&nbsp;<code>a</code>&nbsp;&rceil;.-->
-    * @return  the array of the smallest (closest to negative infinity)
-    *          <code>double</code> values that are not less than the arguments
-    *          and are equal to a mathematical integer.
+    * Scans <tt>a</tt> into <tt>out</tt> with the operator selected by
+    * <tt>code</tt>, inclusively or exclusively.  Large arrays are
+    * scanned in two passes over the fixed blocks of class
+    * <tt>Parallel</tt>: the first finds the total of each block, the
+    * totals are combined in order to give the value carried into each
+    * block, and the second scans each block from its carried value.
     */
-   public static double[] ceil ( double a[] ) {
-      double ceil[] = new double[a.length];
-      for ( int i = 0; i < a.length; i++ ) {
-         ceil[i] = Math.ceil(a[i]);
+   private static void scan( final int code, final java.util.function.DoubleBinaryOperator op,
+                             final double a[], final double out[],
+                             final boolean inclusive, double identity,
+                             String name ) {
+      if ( a.length != out.length ) {
+         String s = name + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
       }
-      return ceil;
+      if ( !Parallel.isLarge(a.length) ) {
+         scanBlock( code, op, a, out, 0, a.length, identity, !inclusive, inclusive );
+         return;
+      }
+
+      // First pass: the total of each block
+      final double total[] = new double[Parallel.blocks(a.length)];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            total[from / Parallel.BLOCK] = reduceBlock( code, op, a, from, to );
+         }
+      } );
+
+      // The value carried into each block
+      final double carry[] = new double[total.length];
+      carry[0] = identity;
+      for ( int b = 1; b < total.length; b++ ) {
+         carry[b] = ( b == 1 && inclusive ) ? total[0]
+                                            : applyDouble( code, op, carry[b-1], total[b-1] );
+      }
+
+      // Second pass: scan each block from its carried value
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int b = from / Parallel.BLOCK;
+            scanBlock( code, op, a, out, from, to, carry[b], b > 0 || !inclusive, inclusive );
+         }
+      } );
    }
 
 
    /**
-    * Returns an array of the smallest (closest to negative infinity)
-    * <code>double</code> values that are not less than the argument and are
-    * equal to mathematical integers.
-    *
-    * @param   a   a <code>double</code> array.
-    * <!--@return  the value &lceil;&nbsp;<code>a</code>&nbsp;&rceil;.-->
-    * @return  the array of the smallest (closest to negative infinity)
-    *          <code>double</code> values that are not less than the arguments
-    *          and are equal to a mathematical integer.
+    * Returns <tt>x</tt> combined with <tt>y</tt> by the operator selected
+    * by <tt>code</tt>.
     */
-   public static double[][] ceil ( double a[][] ) {
-      double ceil[][] = new double[a.length][];
-      for ( int i = 0; i < a.length; i++ ) {
-         ceil[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            ceil[i][j] = Math.ceil(a[i][j]);
-         }
+   private static double applyDouble( int code, java.util.function.DoubleBinaryOperator op, double x, double y ) {
+      switch ( code ) {
+         case SCAN_SUM:
+            return x + y;
+         case SCAN_PROD:
+            return x * y;
+         default:
+            return op.applyAsDouble( x, y );
       }
-      return ceil;
    }
 
 
    /**
-    * Returns an array of the smallest (closest to positive infinity)
-    * <code>double</code> values that are not greater than the argument and are
-    * equal to mathematical integers.
-    *
-    * @param   a   a <code>double</code> array.
-     * <!--@return  the value &lfloor;&nbsp;<code>a</code>&nbsp;&rfloor;.-->
-    * @return  the array of the largest (closest to positive infinity)
-    *          <code>double</code> values that are not greater than the arguments
-    *          and are equal to a mathematical integer.
+    * Returns the elements <tt>a[from]</tt> through <tt>a[to-1]</tt>
+    * combined in order by the operator selected by <tt>code</tt>.
     */
-   public static double[] floor ( double a[] ) {
-      double floor[] = new double[a.length];
-      for ( int i = 0; i < a.length; i++ ) {
-         floor[i] = Math.floor(a[i]);
+   private static double reduceBlock( int code, java.util.function.DoubleBinaryOperator op,
+                                 double a[], int from, int to ) {
+      double s = a[from];
+      switch ( code ) {
+         case SCAN_SUM:
+            for ( int i = from + 1; i < to; i++ ) {
+               s += a[i];
+            }
+            break;
+         case SCAN_PROD:
+            for ( int i = from + 1; i < to; i++ ) {
+               s *= a[i];
+            }
+            break;
+         default:
+            for ( int i = from + 1; i < to; i++ ) {
+               s = op.applyAsDouble( s, a[i] );
+            }
+            break;
       }
-      return floor;
+      return s;
    }
 
 
    /**
-    * Returns an array of the smallest (closest to positive infinity)
-    * <code>double</code> values that are not greater than the argument and are
-    * equal to mathematical integers.
-    *
-    * @param   a   a <code>double</code> array.
-     * <!--@return  the value &lfloor;&nbsp;<code>a</code>&nbsp;&rfloor;.-->
-    * @return  the array of the largest (closest to positive infinity)
-    *          <code>double</code> values that are not greater than the arguments
-    *          and are equal to a mathematical integer.
+    * Scans elements <tt>from</tt> through <tt>to-1</tt> of <tt>a</tt>
+    * into <tt>out</tt>.  If <tt>hasCarry</tt> is <tt>true</tt>, the
+    * scan starts from <tt>carry</tt>; otherwise (only for an inclusive
+    * scan) it starts from <tt>a[from]</tt>.  Each element of <tt>a</tt>
+    * is read before the same element of <tt>out</tt> is written, so the
+    * arrays may be the same.
     */
-   public static double[][] floor ( double a[][] ) {
-      double floor[][] = new double[a.length][];
-      for ( int i = 0; i < a.length; i++ ) {
-         floor[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            floor[i][j] = Math.floor(a[i][j]);
+   private static void scanBlock( int code, java.util.function.DoubleBinaryOperator op,
+                                  double a[], double out[], int from, int to,
+                                  double carry, boolean hasCarry, boolean inclusive ) {
+      if ( from >= to ) {
+         return;
+      }
+      double s = carry;
+      if ( !hasCarry ) {
+         s = a[from];
+         out[from++] = s;
+      }
+      if ( inclusive ) {
+         switch ( code ) {
+            case SCAN_SUM:
+               for ( int i = from; i < to; i++ ) {
+                  s += a[i];
+                  out[i] = s;
+               }
+               break;
+            case SCAN_PROD:
+               for ( int i = from; i < to; i++ ) {
+                  s *= a[i];
+                  out[i] = s;
+               }
+               break;
+            default:
+               for ( int i = from; i < to; i++ ) {
+                  s = op.applyAsDouble( s, a[i] );
+                  out[i] = s;
+               }
+               break;
+         }
+      }
+      else {
+         for ( int i = from; i < to; i++ ) {
+            double t = a[i];
+            out[i] = s;
+            s = op.applyAsDouble( s, t );
          }
       }
-      return floor;
    }
 
 
+   //******************************************************
+   //  compensated summation methods
+   //******************************************************
+
    /**
-    * Returns an array of the closest <code>long</code> values to the input
-    * arguments.
-    *
-    * @param   a   a <code>double</code> array.
-    * @return  the array of the <code>long</code> values closest to the input
-    *          values
-    */
-   public static long[] round ( double a[] ) {
-      long round[] = new long[a.length];
-      for ( int i = 0; i < a.length; i++ ) {
-         round[i] = Math.round(a[i]);
+    * Sums <tt>a[i]</tt>, or <tt>a[i]*b[i]</tt> if <tt>b</tt> is not
+    * <tt>null</tt>, over the elements selected by mask <tt>m</tt> (all
+    * elements if <tt>m</tt> is <tt>null</tt>), using summation method
+    * <tt>mode</tt>.  Large arrays are summed block by block as described
+    * in class <tt>Parallel</tt>.
+    */
+   private static float modeSum ( final float a[], final float b[], final boolean m[],
+                                 final int mode, String method ) {
+
+      if ( mode == SUM_NAIVE ) {
+         if ( b != null )
+            return dotProduct( a, b );
+         else if ( m != null )
+            return sum( a, m );
+         else
+            return sum( a );
+      }
+      else if ( mode != SUM_PAIRWISE && mode != SUM_KAHAN ) {
+         throw new IllegalArgumentException( method + ": Invalid summation mode " + mode );
+      }
+
+      if ( !Parallel.isLarge(a.length) ) {
+         if ( mode == SUM_PAIRWISE )
+            return pairwiseSum( a, b, m, 0, a.length );
+         else
+            return kahanSum( a, b, m, 0, a.length, null, 0 );
+      }
+
+      // Sum each block separately, then combine the block results
+      // in order with the same method.
+      final float part[] = new float[Parallel.blocks(a.length)];
+      final float comp[] = new float[part.length];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int k = from / Parallel.BLOCK;
+            if ( mode == SUM_PAIRWISE )
+               part[k] = pairwiseSum( a, b, m, from, to );
+            else
+               part[k] = kahanSum( a, b, m, from, to, comp, k );
+         }
+      } );
+      if ( mode == SUM_PAIRWISE ) {
+         return pairwiseSum( part, null, null, 0, part.length );
+      }
+      else {
+         return kahanSum( part, null, null, 0, part.length, null, 0 )
+              + kahanSum( comp, null, null, 0, comp.length, null, 0 );
       }
-      return round;
    }
 
 
    /**
-    * Returns an array of the closest <code>long</code> values to the input
-    * arguments.
-    *
-    * @param   a   a <code>double</code> array.
-    * @return  the array of the <code>long</code> values closest to the input
-    *          values
+    * Pairwise summation over the range <tt>[from,to)</tt>.  Short ranges
+    * are summed directly; longer ones are split in half and the halves
+    * summed recursively.
     */
-   public static long[][] round ( double a[][] ) {
-      long round[][] = new long[a.length][];
-      for ( int i = 0; i < a.length; i++ ) {
-         round[i] = new long[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            round[i][j] = Math.round(a[i][j]);
-         }
+   private static float pairwiseSum ( float a[], float b[], boolean m[], int from, int to ) {
+
+      if ( to - from > PAIRWISE_LEAF ) {
+         int mid = from + (to - from) / 2;
+         return pairwiseSum( a, b, m, from, mid ) + pairwiseSum( a, b, m, mid, to );
       }
-      return round;
+
+      float sum = 0;
+      if ( b != null ) {
+         for ( int i = from; i < to; i++ )
+            sum += a[i] * b[i];
+      }
+      else if ( m != null ) {
+         for ( int i = from; i < to; i++ )
+            if ( m[i] ) sum += a[i];
+      }
+      else {
+         for ( int i = from; i < to; i++ )
+            sum += a[i];
+      }
+      return sum;
    }
 
 
    /**
-    * Returns an array of the closest <code>int</code> values to the input
-    * arguments.
-    *
-    * @param   a   a <code>float</code> array.
-    * @return  the array of the <code>int</code> values closest to the input
-    *          values
+    * Kahan-Neumaier summation over the range <tt>[from,to)</tt>.  The
+    * rounding error of each addition is accumulated separately and added
+    * back at the end.  If <tt>comp</tt> is not <tt>null</tt>, the sum is
+    * returned uncorrected and the accumulated correction is stored in
+    * <tt>comp[k]</tt> instead.  A sum that is infinite or NaN is left
+    * uncorrected.
     */
-   public static int[] round ( float a[] ) {
-      int round[] = new int[a.length];
-      for ( int i = 0; i < a.length; i++ ) {
-         round[i] = Math.round(a[i]);
+   private static float kahanSum ( float a[], float b[], boolean m[], int from, int to,
+                                  float comp[], int k ) {
+
+      float sum = 0;     // Running sum
+      float c = 0;       // Accumulated rounding errors
+      float x, t;
+
+      for ( int i = from; i < to; i++ ) {
+         if ( m != null && !m[i] )
+            continue;
+         x = ( b == null ) ? a[i] : a[i] * b[i];
+         t = sum + x;
+         if ( Math.abs(sum) >= Math.abs(x) )
+            c += (sum - t) + x;
+         else
+            c += (x - t) + sum;
+         sum = t;
       }
-      return round;
+
+      // The correction is meaningless once the sum has overflowed
+      if ( !(Math.abs(sum) <= Float.MAX_VALUE) ) {
+         c = 0;
+      }
+
+      if ( comp != null ) {
+         comp[k] = c;
+         return sum;
+      }
+      return sum + c;
    }
 
 
    /**
-    * Returns an array of the closest <code>int</code> values to the input
-    * arguments.
-    *
-    * @param   a   a <code>float</code> array.
-    * @return  the array of the <code>int</code> values closest to the input
-    *          values
+    * Sums <tt>a[i]</tt>, or <tt>a[i]*b[i]</tt> if <tt>b</tt> is not
+    * <tt>null</tt>, over the elements selected by mask <tt>m</tt> (all
+    * elements if <tt>m</tt> is <tt>null</tt>), using summation method
+    * <tt>mode</tt>.  Large arrays are summed block by block as described
+    * in class <tt>Parallel</tt>.
     */
-   public static int[][] round ( float a[][] ) {
-      int round[][] = new int[a.length][];
-      for ( int i = 0; i < a.length; i++ ) {
-         round[i] = new int[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            round[i][j] = Math.round(a[i][j]);
+   private static double modeSum ( final double a[], final double b[], final boolean m[],
+                                 final int mode, String method ) {
+
+      if ( mode == SUM_NAIVE ) {
+         if ( b != null )
+            return dotProduct( a, b );
+         else if ( m != null )
+            return sum( a, m );
+         else
+            return sum( a );
+      }
+      else if ( mode != SUM_PAIRWISE && mode != SUM_KAHAN ) {
+         throw new IllegalArgumentException( method + ": Invalid summation mode " + mode );
+      }
+
+      if ( !Parallel.isLarge(a.length) ) {
+         if ( mode == SUM_PAIRWISE )
+            return pairwiseSum( a, b, m, 0, a.length );
+         else
+            return kahanSum( a, b, m, 0, a.length, null, 0 );
+      }
+
+      // Sum each block separately, then combine the block results
+      // in order with the same method.
+      final double part[] = new double[Parallel.blocks(a.length)];
+      final double comp[] = new double[part.length];
+      Parallel.forBlocks( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            int k = from / Parallel.BLOCK;
+            if ( mode == SUM_PAIRWISE )
+               part[k] = pairwiseSum( a, b, m, from, to );
+            else
+               part[k] = kahanSum( a, b, m, from, to, comp, k );
          }
+      } );
+      if ( mode == SUM_PAIRWISE ) {
+         return pairwiseSum( part, null, null, 0, part.length );
+      }
+      else {
+         return kahanSum( part, null, null, 0, part.length, null, 0 )
+              + kahanSum( comp, null, null, 0, comp.length, null, 0 );
       }
-      return round;
    }
 
 
    /**
-    * Returns a <code>double</code> array containing the closest integer to
-    * the argument.
-    *
-    * @param   a   a <code>double</code> array.
-    * @return  a <code>double</code> array containing the the closest
-    *          <code>double</code> values to <code>a</code> that are
-    *          equal to mathematical integers. If two <code>double</code>
-    *          values that are mathematical integers are equally close to the
-    *          value of the argument, the result is the integer value that
-    *          is even.
+    * Pairwise summation over the range <tt>[from,to)</tt>.  Short ranges
+    * are summed directly; longer ones are split in half and the halves
+    * summed recursively.
     */
-   public static double[] rint ( double a[] ) {
-      double rint[] = new double[a.length];
-      for ( int i = 0; i < a.length; i++ ) {
-         rint[i] = Math.rint(a[i]);
+   private static double pairwiseSum ( double a[], double b[], boolean m[], int from, int to ) {
+
+      if ( to - from > PAIRWISE_LEAF ) {
+         int mid = from + (to - from) / 2;
+         return pairwiseSum( a, b, m, from, mid ) + pairwiseSum( a, b, m, mid, to );
       }
-      return rint;
+
+      double sum = 0;
+      if ( b != null ) {
+         for ( int i = from; i < to; i++ )
+            sum += a[i] * b[i];
+      }
+      else if ( m != null ) {
+         for ( int i = from; i < to; i++ )
+            if ( m[i] ) sum += a[i];
+      }
+      else {
+         for ( int i = from; i < to; i++ )
+            sum += a[i];
+      }
+      return sum;
    }
 
 
    /**
-    * Returns a <code>double</code> array containing the closest integer to
-    * the argument.
-    *
-    * @param   a   a <code>double</code> array.
-    * @return  a <code>double</code> array containing the the closest
-    *          <code>double</code> values to <code>a</code> that are
-    *          equal to mathematical integers. If two <code>double</code>
-    *          values that are mathematical integers are equally close to the
-    *          value of the argument, the result is the integer value that
-    *          is even.
+    * Kahan-Neumaier summation over the range <tt>[from,to)</tt>.  The
+    * rounding error of each addition is accumulated separately and added
+    * back at the end.  If <tt>comp</tt> is not <tt>null</tt>, the sum is
+    * returned uncorrected and the accumulated correction is stored in
+    * <tt>comp[k]</tt> instead.  A sum that is infinite or NaN is left
+    * uncorrected.
     */
-   public static double[][] rint ( double a[][] ) {
-      double rint[][] = new double[a.length][];
-      for ( int i = 0; i < a.length; i++ ) {
-         rint[i] = new double[a[i].length];
-         for ( int j = 0; j < a[i].length; j++ ) {
-            rint[i][j] = Math.rint(a[i][j]);
-         }
+   private static double kahanSum ( double a[], double b[], boolean m[], int from, int to,
+                                  double comp[], int k ) {
+
+      double sum = 0;     // Running sum
+      double c = 0;       // Accumulated rounding errors
+      double x, t;
+
+      for ( int i = from; i < to; i++ ) {
+         if ( m != null && !m[i] )
+            continue;
+         x = ( b == null ) ? a[i] : a[i] * b[i];
+         t = sum + x;
+         if ( Math.abs(sum) >= Math.abs(x) )
+            c += (sum - t) + x;
+         else
+            c += (x - t) + sum;
+         sum = t;
       }
-      return rint;
+
+      // The correction is meaningless once the sum has overflowed
+      if ( !(Math.abs(sum) <= Double.MAX_VALUE) ) {
+         c = 0;
+      }
+
+      if ( comp != null ) {
+         comp[k] = c;
+         return sum;
+      }
+      return sum + c;
    }
 
 
@@ -8461,11 +18512,6 @@ public final class Array {
    //  Random number generator methods
    //******************************************************
 
-   /**
-    * Reference to hold random number generator.
-    */
-    private static Random randomNumberGenerator;
-
    /**
     * Returns an array of <i>i</i> pseudorandom <code>double</code> values
     * uniformly distributed in the range 0.0 <= value < 1.0.
@@ -8475,14 +18521,7 @@ public final class Array {
     *          0.0 <= value < 1.0.
     */
    public static double[] random ( int i ) {
-      if (randomNumberGenerator == null) {
-         randomNumberGenerator = new Random();
-      }
-      double random[] = new double[i];
-      for ( int i1 = 0; i1 < i; i1++ ) {
-         random[i1] = randomNumberGenerator.nextDouble();
-      }
-      return random;
+      return RandomSource.getDefault().fill( new double[i] );
    }
 
 
@@ -8497,14 +18536,43 @@ public final class Array {
     *          0.0 <= value < 1.0.
     */
    public static double[][] random ( int i, int j ) {
-      if (randomNumberGenerator == null) {
-         randomNumberGenerator = new Random();
+      RandomSource r = RandomSource.getDefault();
+      double random[][] = new double[i][j];
+      for ( int i1 = 0; i1 < i; i1++ ) {
+         r.fill( random[i1] );
       }
+      return random;
+   }
+
+
+   /**
+    * Returns an array of pseudorandom <code>double</code> values
+    * with an exponential distribution with mean 1.
+    *
+    * @param   i   the length of the array of random numbers to return.
+    * @return  an array of pseudorandom <code>double</code> values
+    *          with an exponential distribution
+    */
+   public static double[] randomExponential ( int i ) {
+      return RandomSource.getDefault().fillExponential( new double[i] );
+   }
+
+
+   /**
+    * Returns two-dimensional array of <code>[i][j]</code> pseudorandom
+    * <code>double</code> values with an exponential distribution with
+    * mean 1.
+    *
+    * @param   i   the length of first dimension of the array.
+    * @param   j   the length of second dimension of the array.
+    * @return  an array of pseudorandom <code>double</code> values
+    *          with an exponential distribution.
+    */
+   public static double[][] randomExponential ( int i, int j ) {
+      RandomSource r = RandomSource.getDefault();
       double random[][] = new double[i][j];
       for ( int i1 = 0; i1 < i; i1++ ) {
-         for ( int j1 = 0; j1 < j; j1++ ) {
-            random[i1][j1] = randomNumberGenerator.nextDouble();
-         }
+         r.fillExponential( random[i1] );
       }
       return random;
    }
@@ -8520,14 +18588,7 @@ public final class Array {
     *          with a Gaussian normal distribution
     */
    public static double[] randomGaussian ( int i ) {
-      if (randomNumberGenerator == null) {
-         randomNumberGenerator = new Random();
-      }
-      double random[] = new double[i];
-      for ( int i1 = 0; i1 < i; i1++ ) {
-         random[i1] = randomNumberGenerator.nextGaussian();
-      }
-      return random;
+      return RandomSource.getDefault().fillGaussian( new double[i] );
    }
 
 
@@ -8540,14 +18601,10 @@ public final class Array {
     *          with a Gaussian normal distribution.
     */
    public static double[][] randomGaussian ( int i, int j ) {
-      if (randomNumberGenerator == null) {
-         randomNumberGenerator = new Random();
-      }
+      RandomSource r = RandomSource.getDefault();
       double random[][] = new double[i][j];
       for ( int i1 = 0; i1 < i; i1++ ) {
-         for ( int j1 = 0; j1 < j; j1++ ) {
-            random[i1][j1] = randomNumberGenerator.nextGaussian();
-         }
+         r.fillGaussian( random[i1] );
       }
       return random;
    }
@@ -8562,17 +18619,7 @@ public final class Array {
     *          with a Rayleigh normal distribution
     */
    public static double[] randomRayleigh ( int i ) {
-      if (randomNumberGenerator == null) {
-         randomNumberGenerator = new Random();
-      }
-      double random[] = new double[i];
-      double x, y;
-      for ( int i1 = 0; i1 < i; i1++ ) {
-         x = randomNumberGenerator.nextGaussian();
-         y = randomNumberGenerator.nextGaussian();
-         random[i1] = Math.sqrt( x*x + y*y );
-      }
-      return random;
+      return RandomSource.getDefault().fillRayleigh( new double[i] );
    }
 
 
@@ -8585,17 +18632,10 @@ public final class Array {
     *          with a Rayleigh distribution.
     */
    public static double[][] randomRayleigh ( int i, int j ) {
-      if (randomNumberGenerator == null) {
-         randomNumberGenerator = new Random();
-      }
+      RandomSource r = RandomSource.getDefault();
       double random[][] = new double[i][j];
-      double x, y;
       for ( int i1 = 0; i1 < i; i1++ ) {
-         for ( int j1 = 0; j1 < j; j1++ ) {
-            x = randomNumberGenerator.nextGaussian();
-            y = randomNumberGenerator.nextGaussian();
-            random[i1][j1] = Math.sqrt( x*x + y*y );
-         }
+         r.fillRayleigh( random[i1] );
       }
       return random;
    }
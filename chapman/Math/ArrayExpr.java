@@ -0,0 +1,751 @@
+package chapman.math;
+
+/**
+ * The class <code>ArrayExpr</code> represents an element-by-element
+ * expression over <code>double</code> arrays that is evaluated lazily.
+ * The methods of this class do not calculate anything; they build a tree
+ * describing the calculation, using the same operations as the
+ * <code>double[]</code> methods of class <code>Array</code>.  When the
+ * result is finally requested with <code>eval</code> or one of the
+ * reduction methods, the whole tree is evaluated in a single pass over the
+ * data.  For example, the expression
+ * <pre>
+ *   double c[] = Array.sqrt( Array.add( Array.mul(a,a), Array.mul(b,b) ) );
+ * </pre>
+ * makes four passes over memory and creates four arrays, while
+ * <pre>
+ *   ArrayExpr x = ArrayExpr.of(a);
+ *   ArrayExpr y = ArrayExpr.of(b);
+ *   double c[] = x.mul(x).add( y.mul(y) ).sqrt().eval();
+ * </pre>
+ * makes one pass and creates only the result array.
+ * <p>
+ * The expression is evaluated in short chunks of a few hundred elements.
+ * Each operation in the tree is applied to a whole chunk before moving on
+ * to the next operation, so the intermediate values stay in the processor
+ * cache and the inner loops remain simple enough for the compiler to
+ * optimize.  Large expressions are evaluated in parallel, as described in
+ * class <code>Parallel</code>, and the reductions always combine their
+ * partial results in the same order, so the results do not depend on the
+ * number of threads.
+ * <p>
+ * Like the methods of class <code>Complex</code>, the instance methods of
+ * this class are evaluated from left to right, so
+ * <code>x.add(y).mul(z)</code> means <tt>(x + y) * z</tt>.  The arrays
+ * wrapped by an expression are not copied: they are read when the
+ * expression is evaluated, so an expression can be built once and
+ * evaluated again after the data in its arrays has changed.
+ * <code>ArrayExpr</code> objects are immutable, and may be shared freely
+ * between threads.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Array
+ */
+
+public final class ArrayExpr {
+
+   //*************************************************
+   // Constants
+   //*************************************************
+
+   /**
+    * The number of elements evaluated at once.  This must divide
+    * <tt>Parallel.BLOCK</tt> evenly.
+    */
+   static final int CHUNK = 256;
+
+   /*
+    * Operation codes.
+    */
+   private static final int LEAF   =  0;   // the array a
+   private static final int ADD    =  1;   // x + y
+   private static final int SUB    =  2;   // x - y
+   private static final int MUL    =  3;   // x * y
+   private static final int DIV    =  4;   // x / y
+   private static final int POW    =  5;   // x ^ y
+   private static final int ATAN2  =  6;   // atan2(x, y)
+   private static final int WHERE  =  7;   // mask ? x : y
+   private static final int ADDC   =  8;   // x + c
+   private static final int SUBC   =  9;   // x - c
+   private static final int MULC   = 10;   // x * c
+   private static final int DIVC   = 11;   // x / c
+   private static final int POWC   = 12;   // x ^ c
+   private static final int WHEREC = 13;   // mask ? x : c
+   private static final int NEG    = 20;
+   private static final int ABS    = 21;
+   private static final int SQRT   = 22;
+   private static final int EXP    = 23;
+   private static final int LOG    = 24;
+   private static final int LOG10  = 25;
+   private static final int SIN    = 26;
+   private static final int COS    = 27;
+   private static final int TAN    = 28;
+   private static final int ASIN   = 29;
+   private static final int ACOS   = 30;
+   private static final int ATAN   = 31;
+   private static final int SINH   = 32;
+   private static final int COSH   = 33;
+   private static final int TANH   = 34;
+   private static final int ASINH  = 35;
+   private static final int ACOSH  = 36;
+   private static final int ATANH  = 37;
+   private static final int SIND   = 38;
+   private static final int COSD   = 39;
+   private static final int TAND   = 40;
+   private static final int ASIND  = 41;
+   private static final int ACOSD  = 42;
+   private static final int ATAND  = 43;
+   private static final int SINC   = 44;
+   private static final int CEIL   = 45;
+   private static final int FLOOR  = 46;
+   private static final int RINT   = 47;
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   private final int op;            // Operation code
+   private final ArrayExpr x;       // First operand
+   private final ArrayExpr y;       // Second operand, or null
+   private final double a[];        // Data for a LEAF node
+   private final double c;          // Scalar operand
+   private final boolean mask[];    // Mask for a WHERE node
+   private final int length;        // Number of elements
+   private final int depth;         // Scratch buffers needed to evaluate
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Creates a node of the expression tree.
+    */
+   private ArrayExpr( int op, ArrayExpr x, ArrayExpr y, double a[],
+                      double c, boolean mask[], int length ) {
+      this.op     = op;
+      this.x      = x;
+      this.y      = y;
+      this.a      = a;
+      this.c      = c;
+      this.mask   = mask;
+      this.length = length;
+      if ( x == null ) {
+         depth = 0;
+      }
+      else if ( y == null ) {
+         depth = x.depth;
+      }
+      else {
+         depth = Math.max( x.depth, y.depth + 1 );
+      }
+   }
+
+   //*************************************************
+   // Factory methods
+   //*************************************************
+
+   /**
+    * Returns an expression whose value is the array <tt>a</tt>.  The
+    * array is not copied.
+    *
+    * @param   a   input array.
+    * @return  an expression representing <tt>a</tt>
+    */
+   public static ArrayExpr of( double a[] ) {
+      return new ArrayExpr( LEAF, null, null, a, 0, null, a.length );
+   }
+
+   //*************************************************
+   // Arithmetic operations
+   //*************************************************
+
+   /**
+    * Returns the element-by-element sum of this expression and <tt>e</tt>.
+    *
+    * @param   e   an expression of the same length
+    * @return  the expression <tt>this + e</tt>
+    */
+   public ArrayExpr add( ArrayExpr e ) {
+      return binary( ADD, e, "add" );
+   }
+
+
+   /**
+    * Returns the element-by-element sum of this expression and array <tt>b</tt>.
+    *
+    * @param   b   an array of the same length
+    * @return  the expression <tt>this + b</tt>
+    */
+   public ArrayExpr add( double b[] ) {
+      return binary( ADD, of(b), "add" );
+   }
+
+
+   /**
+    * Returns the sum of this expression and a scalar.
+    *
+    * @param   d   scalar value
+    * @return  the expression <tt>this + d</tt>
+    */
+   public ArrayExpr add( double d ) {
+      return scalar( ADDC, d );
+   }
+
+
+   /**
+    * Returns the element-by-element difference of this expression and <tt>e</tt>.
+    *
+    * @param   e   an expression of the same length
+    * @return  the expression <tt>this - e</tt>
+    */
+   public ArrayExpr sub( ArrayExpr e ) {
+      return binary( SUB, e, "sub" );
+   }
+
+
+   /**
+    * Returns the element-by-element difference of this expression and array <tt>b</tt>.
+    *
+    * @param   b   an array of the same length
+    * @return  the expression <tt>this - b</tt>
+    */
+   public ArrayExpr sub( double b[] ) {
+      return binary( SUB, of(b), "sub" );
+   }
+
+
+   /**
+    * Returns the difference of this expression and a scalar.
+    *
+    * @param   d   scalar value
+    * @return  the expression <tt>this - d</tt>
+    */
+   public ArrayExpr sub( double d ) {
+      return scalar( SUBC, d );
+   }
+
+
+   /**
+    * Returns the element-by-element product of this expression and <tt>e</tt>.
+    *
+    * @param   e   an expression of the same length
+    * @return  the expression <tt>this * e</tt>
+    */
+   public ArrayExpr mul( ArrayExpr e ) {
+      return binary( MUL, e, "mul" );
+   }
+
+
+   /**
+    * Returns the element-by-element product of this expression and array <tt>b</tt>.
+    *
+    * @param   b   an array of the same length
+    * @return  the expression <tt>this * b</tt>
+    */
+   public ArrayExpr mul( double b[] ) {
+      return binary( MUL, of(b), "mul" );
+   }
+
+
+   /**
+    * Returns the product of this expression and a scalar.
+    *
+    * @param   d   scalar value
+    * @return  the expression <tt>this * d</tt>
+    */
+   public ArrayExpr mul( double d ) {
+      return scalar( MULC, d );
+   }
+
+
+   /**
+    * Returns the element-by-element quotient of this expression and <tt>e</tt>.
+    *
+    * @param   e   an expression of the same length
+    * @return  the expression <tt>this / e</tt>
+    */
+   public ArrayExpr div( ArrayExpr e ) {
+      return binary( DIV, e, "div" );
+   }
+
+
+   /**
+    * Returns the element-by-element quotient of this expression and array <tt>b</tt>.
+    *
+    * @param   b   an array of the same length
+    * @return  the expression <tt>this / b</tt>
+    */
+   public ArrayExpr div( double b[] ) {
+      return binary( DIV, of(b), "div" );
+   }
+
+
+   /**
+    * Returns the quotient of this expression and a scalar.
+    *
+    * @param   d   scalar value
+    * @return  the expression <tt>this / d</tt>
+    */
+   public ArrayExpr div( double d ) {
+      return scalar( DIVC, d );
+   }
+
+
+   /**
+    * Raises each element of this expression to the corresponding power
+    * in <tt>e</tt>.
+    *
+    * @param   e   an expression of the same length
+    * @return  the expression <tt>this ^ e</tt>
+    */
+   public ArrayExpr pow( ArrayExpr e ) {
+      return binary( POW, e, "pow" );
+   }
+
+
+   /**
+    * Raises each element of this expression to a scalar power.
+    *
+    * @param   d   the exponent
+    * @return  the expression <tt>this ^ d</tt>
+    */
+   public ArrayExpr pow( double d ) {
+      return scalar( POWC, d );
+   }
+
+
+   /**
+    * Returns the four-quadrant inverse tangent of this expression and
+    * <tt>e</tt>, in radians.
+    *
+    * @param   e   an expression of the same length
+    * @return  the expression <tt>atan2(this, e)</tt>
+    */
+   public ArrayExpr atan2( ArrayExpr e ) {
+      return binary( ATAN2, e, "atan2" );
+   }
+
+
+   /**
+    * Returns the negative of this expression.
+    *
+    * @return  the expression <tt>-this</tt>
+    */
+   public ArrayExpr neg() {
+      return unary( NEG );
+   }
+
+   //*************************************************
+   // Mask operations
+   //*************************************************
+
+   /**
+    * Returns an expression whose elements are taken from this expression
+    * where <tt>mask</tt> is <tt>true</tt>, and from <tt>e</tt> where it
+    * is <tt>false</tt>.  Masks are normally produced by the relational
+    * and logical methods of class <tt>Array</tt>.
+    *
+    * @param   mask   masking array of the same length
+    * @param   e      an expression of the same length
+    * @return  the expression <tt>mask ? this : e</tt>
+    */
+   public ArrayExpr where( boolean mask[], ArrayExpr e ) {
+      checkMask( mask, "where" );
+      if ( e.length != length ) {
+         String s = "where: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      return new ArrayExpr( WHERE, this, e, null, 0, mask, length );
+   }
+
+
+   /**
+    * Returns an expression whose elements are taken from this expression
+    * where <tt>mask</tt> is <tt>true</tt>, and are equal to <tt>d</tt>
+    * where it is <tt>false</tt>.
+    *
+    * @param   mask   masking array of the same length
+    * @param   d      value used where <tt>mask</tt> is <tt>false</tt>
+    * @return  the expression <tt>mask ? this : d</tt>
+    */
+   public ArrayExpr where( boolean mask[], double d ) {
+      checkMask( mask, "where" );
+      return new ArrayExpr( WHEREC, this, null, null, d, mask, length );
+   }
+
+   //*************************************************
+   // Elementary functions
+   //*************************************************
+
+   /** Returns the absolute value of this expression. */
+   public ArrayExpr abs()   { return unary( ABS ); }
+
+   /** Returns the square root of this expression. */
+   public ArrayExpr sqrt()  { return unary( SQRT ); }
+
+   /** Returns the exponential of this expression. */
+   public ArrayExpr exp()   { return unary( EXP ); }
+
+   /** Returns the natural logarithm of this expression. */
+   public ArrayExpr log()   { return unary( LOG ); }
+
+   /** Returns the base-10 logarithm of this expression. */
+   public ArrayExpr log10() { return unary( LOG10 ); }
+
+   /** Returns the sine of this expression, in radians. */
+   public ArrayExpr sin()   { return unary( SIN ); }
+
+   /** Returns the cosine of this expression, in radians. */
+   public ArrayExpr cos()   { return unary( COS ); }
+
+   /** Returns the tangent of this expression, in radians. */
+   public ArrayExpr tan()   { return unary( TAN ); }
+
+   /** Returns the inverse sine of this expression, in radians. */
+   public ArrayExpr asin()  { return unary( ASIN ); }
+
+   /** Returns the inverse cosine of this expression, in radians. */
+   public ArrayExpr acos()  { return unary( ACOS ); }
+
+   /** Returns the inverse tangent of this expression, in radians. */
+   public ArrayExpr atan()  { return unary( ATAN ); }
+
+   /** Returns the hyperbolic sine of this expression. */
+   public ArrayExpr sinh()  { return unary( SINH ); }
+
+   /** Returns the hyperbolic cosine of this expression. */
+   public ArrayExpr cosh()  { return unary( COSH ); }
+
+   /** Returns the hyperbolic tangent of this expression. */
+   public ArrayExpr tanh()  { return unary( TANH ); }
+
+   /** Returns the inverse hyperbolic sine of this expression. */
+   public ArrayExpr asinh() { return unary( ASINH ); }
+
+   /** Returns the inverse hyperbolic cosine of this expression. */
+   public ArrayExpr acosh() { return unary( ACOSH ); }
+
+   /** Returns the inverse hyperbolic tangent of this expression. */
+   public ArrayExpr atanh() { return unary( ATANH ); }
+
+   /** Returns the sine of this expression, in degrees. */
+   public ArrayExpr sind()  { return unary( SIND ); }
+
+   /** Returns the cosine of this expression, in degrees. */
+   public ArrayExpr cosd()  { return unary( COSD ); }
+
+   /** Returns the tangent of this expression, in degrees. */
+   public ArrayExpr tand()  { return unary( TAND ); }
+
+   /** Returns the inverse sine of this expression, in degrees. */
+   public ArrayExpr asind() { return unary( ASIND ); }
+
+   /** Returns the inverse cosine of this expression, in degrees. */
+   public ArrayExpr acosd() { return unary( ACOSD ); }
+
+   /** Returns the inverse tangent of this expression, in degrees. */
+   public ArrayExpr atand() { return unary( ATAND ); }
+
+   /** Returns <tt>sin(x)/x</tt> for each element of this expression. */
+   public ArrayExpr sinc()  { return unary( SINC ); }
+
+   /** Returns the ceiling of this expression. */
+   public ArrayExpr ceil()  { return unary( CEIL ); }
+
+   /** Returns the floor of this expression. */
+   public ArrayExpr floor() { return unary( FLOOR ); }
+
+   /** Returns this expression rounded to the nearest integer value. */
+   public ArrayExpr rint()  { return unary( RINT ); }
+
+   //*************************************************
+   // Evaluation
+   //*************************************************
+
+   /**
+    * Returns the number of elements in this expression.
+    *
+    * @return  the length of the expression
+    */
+   public int length() {
+      return length;
+   }
+
+
+   /**
+    * Evaluates this expression into a new array.
+    *
+    * @return  an array holding the value of the expression
+    */
+   public double[] eval() {
+      return eval( new double[length] );
+   }
+
+
+   /**
+    * Evaluates this expression into array <tt>out</tt>.  <tt>out</tt> may
+    * be one of the arrays used in the expression, in which case its old
+    * values are read before they are replaced.
+    *
+    * @param   out output array, the same length as the expression.
+    * @return  <tt>out</tt>, holding the value of the expression
+    */
+   public double[] eval( final double out[] ) {
+
+      if ( out.length != length ) {
+         String s = "eval: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      Parallel.forRange( length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            double buf[] = new double[CHUNK];
+            double scratch[][] = new double[depth][CHUNK];
+            for ( int i = from; i < to; i += CHUNK ) {
+               int n = Math.min( CHUNK, to - i );
+               eval( i, n, buf, scratch, 0 );
+               System.arraycopy( buf, 0, out, i, n );
+            }
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Returns the sum of the elements of this expression.
+    *
+    * @return  the sum of the elements
+    */
+   public double sum() {
+      return reduce( SUM, null );
+   }
+
+
+   /**
+    * Returns the sum of the elements of this expression for which the
+    * corresponding element of <tt>mask</tt> is <tt>true</tt>.
+    *
+    * @param   mask   masking array of the same length
+    * @return  the sum of the selected elements
+    */
+   public double sum( boolean mask[] ) {
+      checkMask( mask, "sum" );
+      return reduce( SUM, mask );
+   }
+
+
+   /**
+    * Returns the maximum value of any element of this expression.
+    * The expression must contain at least one element.
+    *
+    * @return  the maximum value
+    */
+   public double maxVal() {
+      return reduce( MAX, null );
+   }
+
+
+   /**
+    * Returns the minimum value of any element of this expression.
+    * The expression must contain at least one element.
+    *
+    * @return  the minimum value
+    */
+   public double minVal() {
+      return reduce( MIN, null );
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /*
+    * Reduction codes.
+    */
+   private static final int SUM = 0;
+   private static final int MAX = 1;
+   private static final int MIN = 2;
+
+
+   /**
+    * Creates a node applying a binary operation to this expression and
+    * <tt>e</tt>.
+    */
+   private ArrayExpr binary( int op, ArrayExpr e, String method ) {
+      if ( e.length != length ) {
+         String s = method + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      return new ArrayExpr( op, this, e, null, 0, null, length );
+   }
+
+
+   /**
+    * Creates a node applying a scalar operation to this expression.
+    */
+   private ArrayExpr scalar( int op, double d ) {
+      return new ArrayExpr( op, this, null, null, d, null, length );
+   }
+
+
+   /**
+    * Creates a node applying a function to this expression.
+    */
+   private ArrayExpr unary( int op ) {
+      return new ArrayExpr( op, this, null, null, 0, null, length );
+   }
+
+
+   /**
+    * Checks that a mask is the same length as this expression.
+    */
+   private void checkMask( boolean mask[], String method ) {
+      if ( mask.length != length ) {
+         String s = method + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+   }
+
+
+   /**
+    * Evaluates a reduction.  Each chunk is reduced separately and the
+    * partial results are combined in order, so the result is the same
+    * whether or not the evaluation runs in parallel.  As in
+    * <tt>Array.maxVal</tt> and <tt>Array.minVal</tt>, NaN values are
+    * skipped unless the first element is NaN.
+    */
+   private double reduce( final int kind, final boolean m[] ) {
+
+      if ( kind != SUM && length == 0 ) {
+         throw new ArrayIndexOutOfBoundsException(0);
+      }
+
+      final double part[] = new double[(length + CHUNK - 1) / CHUNK];
+      final double first[] = new double[1];
+
+      Parallel.forRange( length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            double buf[] = new double[CHUNK];
+            double scratch[][] = new double[depth][CHUNK];
+            for ( int i = from; i < to; i += CHUNK ) {
+               int n = Math.min( CHUNK, to - i );
+               eval( i, n, buf, scratch, 0 );
+               if ( i == 0 ) {
+                  first[0] = buf[0];
+               }
+
+               // Skip leading NaNs, which the serial loop never selects
+               int k0 = 0;
+               if ( kind != SUM ) {
+                  while ( k0 < n && buf[k0] != buf[k0] )
+                     k0++;
+               }
+               double r = ( kind == SUM ) ? 0.0
+                        : ( k0 < n ) ? buf[k0] : Double.NaN;
+               if ( kind == SUM && m == null ) {
+                  for ( int k = 0; k < n; k++ )
+                     r += buf[k];
+               }
+               else if ( kind == SUM ) {
+                  for ( int k = 0; k < n; k++ )
+                     if ( m[i+k] ) r += buf[k];
+               }
+               else if ( kind == MAX ) {
+                  for ( int k = k0 + 1; k < n; k++ )
+                     if ( buf[k] > r ) r = buf[k];
+               }
+               else {
+                  for ( int k = k0 + 1; k < n; k++ )
+                     if ( buf[k] < r ) r = buf[k];
+               }
+               part[i / CHUNK] = r;
+            }
+         }
+      } );
+
+      // Combine the partial results in order, starting from the first
+      // element; the comparisons ignore all-NaN chunks
+      double r = ( kind == SUM ) ? 0.0 : first[0];
+      for ( int k = 0; k < part.length; k++ ) {
+         if ( kind == SUM )
+            r += part[k];
+         else if ( kind == MAX && part[k] > r )
+            r = part[k];
+         else if ( kind == MIN && part[k] < r )
+            r = part[k];
+      }
+      return r;
+   }
+
+
+   /**
+    * Evaluates elements <tt>from</tt> through <tt>from+n-1</tt> of this
+    * expression into <tt>buf[0]</tt> through <tt>buf[n-1]</tt>.  Buffers
+    * <tt>scratch[level]</tt> and above are free for intermediate results.
+    */
+   private void eval( int from, int n, double buf[], double scratch[][], int level ) {
+
+      if ( op == LEAF ) {
+         System.arraycopy( a, from, buf, 0, n );
+         return;
+      }
+
+      // Evaluate the operands: x into buf, and y into the scratch buffer
+      // for this level, which is not touched while x is evaluated.
+      x.eval( from, n, buf, scratch, level );
+      double b[] = null;
+      if ( y != null ) {
+         b = scratch[level];
+         y.eval( from, n, b, scratch, level + 1 );
+      }
+
+      int k;
+      switch ( op ) {
+         case ADD:    for ( k = 0; k < n; k++ ) buf[k] = buf[k] + b[k]; break;
+         case SUB:    for ( k = 0; k < n; k++ ) buf[k] = buf[k] - b[k]; break;
+         case MUL:    for ( k = 0; k < n; k++ ) buf[k] = buf[k] * b[k]; break;
+         case DIV:    for ( k = 0; k < n; k++ ) buf[k] = buf[k] / b[k]; break;
+         case POW:    for ( k = 0; k < n; k++ ) buf[k] = Math.pow(buf[k],b[k]); break;
+         case ATAN2:  for ( k = 0; k < n; k++ ) buf[k] = Math.atan2(buf[k],b[k]); break;
+         case WHERE:  for ( k = 0; k < n; k++ ) if ( !mask[from+k] ) buf[k] = b[k]; break;
+         case ADDC:   for ( k = 0; k < n; k++ ) buf[k] = buf[k] + c; break;
+         case SUBC:   for ( k = 0; k < n; k++ ) buf[k] = buf[k] - c; break;
+         case MULC:   for ( k = 0; k < n; k++ ) buf[k] = buf[k] * c; break;
+         case DIVC:   for ( k = 0; k < n; k++ ) buf[k] = buf[k] / c; break;
+         case POWC:   for ( k = 0; k < n; k++ ) buf[k] = Math.pow(buf[k],c); break;
+         case WHEREC: for ( k = 0; k < n; k++ ) if ( !mask[from+k] ) buf[k] = c; break;
+         case NEG:    for ( k = 0; k < n; k++ ) buf[k] = -buf[k]; break;
+         case ABS:    for ( k = 0; k < n; k++ ) buf[k] = Math.abs(buf[k]); break;
+         case SQRT:   for ( k = 0; k < n; k++ ) buf[k] = Math.sqrt(buf[k]); break;
+         case EXP:    for ( k = 0; k < n; k++ ) buf[k] = Math.exp(buf[k]); break;
+         case LOG:    for ( k = 0; k < n; k++ ) buf[k] = Math.log(buf[k]); break;
+         case LOG10:  for ( k = 0; k < n; k++ ) buf[k] = Math1.log10(buf[k]); break;
+         case SIN:    for ( k = 0; k < n; k++ ) buf[k] = Math.sin(buf[k]); break;
+         case COS:    for ( k = 0; k < n; k++ ) buf[k] = Math.cos(buf[k]); break;
+         case TAN:    for ( k = 0; k < n; k++ ) buf[k] = Math.tan(buf[k]); break;
+         case ASIN:   for ( k = 0; k < n; k++ ) buf[k] = Math.asin(buf[k]); break;
+         case ACOS:   for ( k = 0; k < n; k++ ) buf[k] = Math.acos(buf[k]); break;
+         case ATAN:   for ( k = 0; k < n; k++ ) buf[k] = Math.atan(buf[k]); break;
+         case SINH:   for ( k = 0; k < n; k++ ) buf[k] = Math1.sinh(buf[k]); break;
+         case COSH:   for ( k = 0; k < n; k++ ) buf[k] = Math1.cosh(buf[k]); break;
+         case TANH:   for ( k = 0; k < n; k++ ) buf[k] = Math1.tanh(buf[k]); break;
+         case ASINH:  for ( k = 0; k < n; k++ ) buf[k] = Math1.asinh(buf[k]); break;
+         case ACOSH:  for ( k = 0; k < n; k++ ) buf[k] = Math1.acosh(buf[k]); break;
+         case ATANH:  for ( k = 0; k < n; k++ ) buf[k] = Math1.atanh(buf[k]); break;
+         case SIND:   for ( k = 0; k < n; k++ ) buf[k] = Math1.sind(buf[k]); break;
+         case COSD:   for ( k = 0; k < n; k++ ) buf[k] = Math1.cosd(buf[k]); break;
+         case TAND:   for ( k = 0; k < n; k++ ) buf[k] = Math1.tand(buf[k]); break;
+         case ASIND:  for ( k = 0; k < n; k++ ) buf[k] = Math1.asind(buf[k]); break;
+         case ACOSD:  for ( k = 0; k < n; k++ ) buf[k] = Math1.acosd(buf[k]); break;
+         case ATAND:  for ( k = 0; k < n; k++ ) buf[k] = Math1.atand(buf[k]); break;
+         case SINC:   for ( k = 0; k < n; k++ ) buf[k] = Math1.sinc(buf[k]); break;
+         case CEIL:   for ( k = 0; k < n; k++ ) buf[k] = Math.ceil(buf[k]); break;
+         case FLOOR:  for ( k = 0; k < n; k++ ) buf[k] = Math.floor(buf[k]); break;
+         case RINT:   for ( k = 0; k < n; k++ ) buf[k] = Math.rint(buf[k]); break;
+         default:
+            throw new IllegalStateException("eval: Unknown operation " + op);
+      }
+   }
+}
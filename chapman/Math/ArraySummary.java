@@ -0,0 +1,148 @@
+package chapman.math;
+
+/**
+ * Class <code>ArraySummary</code> holds the results of a single pass over
+ * an array:  the minimum and maximum values and their locations, the sum
+ * of the elements, and the number of elements that are NaN.  It is
+ * returned by the <code>summary</code> methods of class
+ * <code>Array</code>, which calculate all of these values while reading
+ * the data once, instead of once each for <code>maxVal</code>,
+ * <code>minVal</code>, <code>maxLoc</code>, <code>minLoc</code>, and
+ * <code>sum</code>.  For example, a plot can find its axis limits with
+ * <pre>
+ *   ArraySummary s = Array.summary( y );
+ *   double yMax = s.max();
+ *   double yMin = s.min();
+ * </pre>
+ * NaN elements are ignored when finding the minimum and maximum, so a
+ * single missing value does not hide the range of the rest of the data.
+ * If the array is empty or every element is NaN, <code>min</code> and
+ * <code>max</code> return NaN and <code>minLoc</code> and
+ * <code>maxLoc</code> return -1.  If the extreme value occurs more than
+ * once, its first location is returned.  The sum includes every element,
+ * and is exactly the value returned by <code>Array.sum</code>.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Array
+ */
+
+public final class ArraySummary {
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   private final int length;     // Number of elements
+   private final double min;     // Minimum value
+   private final double max;     // Maximum value
+   private final int minLoc;     // Location of minimum value
+   private final int maxLoc;     // Location of maximum value
+   private final double sum;     // Sum of all elements
+   private final int nanCount;   // Number of NaN elements
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Constructs a summary from the values calculated by class
+    * <tt>Array</tt>.
+    */
+   ArraySummary( int length, double min, int minLoc, double max, int maxLoc,
+                 double sum, int nanCount ) {
+      this.length   = length;
+      this.min      = min;
+      this.minLoc   = minLoc;
+      this.max      = max;
+      this.maxLoc   = maxLoc;
+      this.sum      = sum;
+      this.nanCount = nanCount;
+   }
+
+   //*************************************************
+   // Instance methods
+   //*************************************************
+
+   /**
+    * Returns the number of elements in the array.
+    *
+    * @return the length of the array
+    */
+   public int length() {
+      return length;
+   }
+
+
+   /**
+    * Returns the maximum value of the elements that are not NaN.
+    *
+    * @return the maximum value, or NaN if there is none
+    */
+   public double max() {
+      return max;
+   }
+
+
+   /**
+    * Returns the index of the first element having the maximum value.
+    *
+    * @return the index of the maximum value, or -1 if there is none
+    */
+   public int maxLoc() {
+      return maxLoc;
+   }
+
+
+   /**
+    * Returns the minimum value of the elements that are not NaN.
+    *
+    * @return the minimum value, or NaN if there is none
+    */
+   public double min() {
+      return min;
+   }
+
+
+   /**
+    * Returns the index of the first element having the minimum value.
+    *
+    * @return the index of the minimum value, or -1 if there is none
+    */
+   public int minLoc() {
+      return minLoc;
+   }
+
+
+   /**
+    * Returns the number of elements that are NaN.
+    *
+    * @return the number of NaN elements
+    */
+   public int nanCount() {
+      return nanCount;
+   }
+
+
+   /**
+    * Returns the sum of all of the elements.  The sum is NaN if any
+    * element is NaN.
+    *
+    * @return the sum of the elements
+    */
+   public double sum() {
+      return sum;
+   }
+
+
+   /**
+    * Converts this summary into a <tt>String</tt>.
+    *
+    * @return <tt>String</tt> listing the values of the summary
+    */
+   public String toString() {
+      return "min = " + min + " at " + minLoc + ", max = " + max + " at "
+           + maxLoc + ", sum = " + sum + ", NaNs = " + nanCount
+           + ", length = " + length;
+   }
+}
@@ -0,0 +1,1715 @@
+package chapman.math;
+import java.io.Serializable;
+
+/**
+ * Class <code>BitMask</code> is a logical mask stored as a packed set of
+ * bits, 64 elements to each <code>long</code> word.  It serves the same
+ * purpose as the <code>boolean</code> arrays returned by the relational
+ * methods of class <code>Array</code> (<code>isGreaterThan</code>,
+ * <code>isEqual</code>, etc.), but it needs only one eighth of the memory,
+ * and its logical operations combine 64 elements at a time.
+ * <code>count</code> uses a single population-count instruction for each
+ * word, and the masked reductions of class <code>Array</code> skip words
+ * that are entirely <code>false</code> without examining the data.
+ * <p>
+ * A mask can be built from a <code>boolean</code> array, or directly from
+ * a comparison by the static methods of this class, which have the same
+ * names as the relational methods of class <code>Array</code>:
+ * <pre>
+ *   BitMask m = BitMask.isGreaterThan( x, 0.0 ).and(
+ *               BitMask.isLessThan( x, 10.0 ) );
+ *   double s  = Array.sum( x, m );
+ *   int    n  = m.count();
+ * </pre>
+ * Methods whose names end in <code>Assign</code> modify the mask in
+ * place; the other logical methods return a new mask.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Array
+ */
+
+public final class BitMask implements Cloneable, Serializable {
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * The bits of the mask.  Element <tt>i</tt> is bit <tt>i % 64</tt> of
+    * word <tt>i / 64</tt>.  The unused bits of the last word are always
+    * zero.
+    *
+    * @serial
+    */
+   private final long words[];
+
+   /**
+    * The number of elements in the mask.
+    *
+    * @serial
+    */
+   private final int length;
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Constructs a mask of <tt>n</tt> elements, all <tt>false</tt>.
+    *
+    * @param  n  The number of elements
+    * @exception <code>InvalidArraySizeException</code> if <tt>n</tt> is
+    *            negative
+    */
+   public BitMask( int n ) {
+      if ( n < 0 ) {
+         String s = "BitMask: Invalid length " + n;
+         throw new InvalidArraySizeException(s);
+      }
+      words  = new long[ (n + 63) >>> 6 ];
+      length = n;
+   }
+
+
+   /**
+    * Constructs a mask holding the same values as a <tt>boolean</tt>
+    * array.
+    *
+    * @param  b  The values of the mask
+    */
+   public BitMask( boolean b[] ) {
+      this( b.length );
+      for ( int k = 0; k < words.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ ) {
+            if ( b[i] )
+               bits |= 1L << i;
+         }
+         words[k] = bits;
+      }
+   }
+
+   //*************************************************
+   // Instance methods
+   //*************************************************
+
+   /**
+    * Returns <tt>true</tt> if every element of the mask is <tt>true</tt>.
+    *
+    * @return <tt>true</tt> if all elements are set
+    */
+   public boolean all() {
+      return count() == length;
+   }
+
+
+   /**
+    * Returns the element-by-element logical AND of this mask and
+    * <tt>m</tt>.
+    *
+    * @param   m   a mask of the same length
+    * @return  a new mask holding <tt>this &amp; m</tt>
+    */
+   public BitMask and( BitMask m ) {
+      return ((BitMask) clone()).andAssign( m );
+   }
+
+
+   /**
+    * Replaces this mask with the element-by-element logical AND of this
+    * mask and <tt>m</tt>.
+    *
+    * @param   m   a mask of the same length
+    * @return  this mask
+    */
+   public BitMask andAssign( BitMask m ) {
+      check( m, "andAssign" );
+      for ( int k = 0; k < words.length; k++ )
+         words[k] &= m.words[k];
+      return this;
+   }
+
+
+   /**
+    * Returns the element-by-element logical AND of this mask and the
+    * complement of <tt>m</tt>, which is <tt>true</tt> where this mask
+    * is <tt>true</tt> and <tt>m</tt> is <tt>false</tt>.
+    *
+    * @param   m   a mask of the same length
+    * @return  a new mask holding <tt>this &amp; ~m</tt>
+    */
+   public BitMask andNot( BitMask m ) {
+      return ((BitMask) clone()).andNotAssign( m );
+   }
+
+
+   /**
+    * Replaces this mask with the element-by-element logical AND of this
+    * mask and the complement of <tt>m</tt>.
+    *
+    * @param   m   a mask of the same length
+    * @return  this mask
+    */
+   public BitMask andNotAssign( BitMask m ) {
+      check( m, "andNotAssign" );
+      for ( int k = 0; k < words.length; k++ )
+         words[k] &= ~m.words[k];
+      return this;
+   }
+
+
+   /**
+    * Returns <tt>true</tt> if any element of the mask is <tt>true</tt>.
+    *
+    * @return <tt>true</tt> if any element is set
+    */
+   public boolean any() {
+      for ( int k = 0; k < words.length; k++ )
+         if ( words[k] != 0 )
+            return true;
+      return false;
+   }
+
+
+   /**
+    * Sets element <tt>i</tt> to <tt>false</tt>.
+    *
+    * @param   i   the index of the element
+    */
+   public void clear( int i ) {
+      checkIndex( i );
+      words[i >>> 6] &= ~(1L << i);
+   }
+
+
+   /**
+    * Returns a copy of this mask.
+    *
+    * @return a new <tt>BitMask</tt> with the same values
+    */
+   public Object clone() {
+      BitMask m = new BitMask( length );
+      System.arraycopy( words, 0, m.words, 0, words.length );
+      return m;
+   }
+
+
+   /**
+    * Returns the number of <tt>true</tt> elements in the mask.
+    *
+    * @return the number of elements set
+    */
+   public int count() {
+      int n = 0;
+      for ( int k = 0; k < words.length; k++ )
+         n += Long.bitCount( words[k] );
+      return n;
+   }
+
+
+   /**
+    * Compares this mask with another object.  Two masks are equal if
+    * they have the same length and the same values.
+    *
+    * @param   obj   the object to compare with
+    * @return  <tt>true</tt> if the masks are equal
+    */
+   public boolean equals( Object obj ) {
+      if ( !(obj instanceof BitMask) )
+         return false;
+      BitMask m = (BitMask) obj;
+      return length == m.length && java.util.Arrays.equals( words, m.words );
+   }
+
+
+   /**
+    * Returns the value of element <tt>i</tt>.
+    *
+    * @param   i   the index of the element
+    * @return  the value of the element
+    */
+   public boolean get( int i ) {
+      checkIndex( i );
+      return (words[i >>> 6] & (1L << i)) != 0;
+   }
+
+
+   /**
+    * Returns a hash code for this mask.
+    *
+    * @return a hash code value
+    */
+   public int hashCode() {
+      return 31 * length + java.util.Arrays.hashCode( words );
+   }
+
+
+   /**
+    * Returns the number of elements in the mask.
+    *
+    * @return the length of the mask
+    */
+   public int length() {
+      return length;
+   }
+
+
+   /**
+    * Returns the index of the first <tt>true</tt> element at or after
+    * <tt>from</tt>, or -1 if there is none.  The <tt>true</tt> elements
+    * can be visited with
+    * <pre>
+    *   for ( int i = m.nextSetBit(0); i &gt;= 0; i = m.nextSetBit(i+1) )
+    * </pre>
+    *
+    * @param   from   the index at which to start the search
+    * @return  the index of the next <tt>true</tt> element, or -1
+    */
+   public int nextSetBit( int from ) {
+      if ( from < 0 )
+         from = 0;
+      if ( from >= length )
+         return -1;
+      int k = from >>> 6;
+      long bits = words[k] & (-1L << from);
+      while ( bits == 0 ) {
+         if ( ++k == words.length )
+            return -1;
+         bits = words[k];
+      }
+      return (k << 6) + Long.numberOfTrailingZeros( bits );
+   }
+
+
+   /**
+    * Returns the logical NOT of this mask.
+    *
+    * @return  a new mask holding <tt>~this</tt>
+    */
+   public BitMask not() {
+      return ((BitMask) clone()).notAssign();
+   }
+
+
+   /**
+    * Replaces this mask with its logical NOT.
+    *
+    * @return  this mask
+    */
+   public BitMask notAssign() {
+      for ( int k = 0; k < words.length; k++ )
+         words[k] = ~words[k];
+      trim();
+      return this;
+   }
+
+
+   /**
+    * Returns the element-by-element logical OR of this mask and
+    * <tt>m</tt>.
+    *
+    * @param   m   a mask of the same length
+    * @return  a new mask holding <tt>this | m</tt>
+    */
+   public BitMask or( BitMask m ) {
+      return ((BitMask) clone()).orAssign( m );
+   }
+
+
+   /**
+    * Replaces this mask with the element-by-element logical OR of this
+    * mask and <tt>m</tt>.
+    *
+    * @param   m   a mask of the same length
+    * @return  this mask
+    */
+   public BitMask orAssign( BitMask m ) {
+      check( m, "orAssign" );
+      for ( int k = 0; k < words.length; k++ )
+         words[k] |= m.words[k];
+      return this;
+   }
+
+
+   /**
+    * Sets element <tt>i</tt> to <tt>true</tt>.
+    *
+    * @param   i   the index of the element
+    */
+   public void set( int i ) {
+      checkIndex( i );
+      words[i >>> 6] |= 1L << i;
+   }
+
+
+   /**
+    * Sets element <tt>i</tt> to the specified value.
+    *
+    * @param   i       the index of the element
+    * @param   value   the new value
+    */
+   public void set( int i, boolean value ) {
+      if ( value )
+         set( i );
+      else
+         clear( i );
+   }
+
+
+   /**
+    * Converts this mask into a <tt>boolean</tt> array.
+    *
+    * @return  a new array holding the values of the mask
+    */
+   public boolean[] toBooleanArray() {
+      boolean b[] = new boolean[length];
+      for ( int k = 0; k < words.length; k++ ) {
+         long bits = words[k];
+         while ( bits != 0 ) {
+            b[(k << 6) + Long.numberOfTrailingZeros( bits )] = true;
+            bits &= bits - 1;
+         }
+      }
+      return b;
+   }
+
+
+   /**
+    * Converts this mask into a <tt>String</tt> of 0s and 1s, with
+    * element 0 first.
+    *
+    * @return <tt>String</tt> containing the values of the mask
+    */
+   public String toString() {
+      StringBuffer sb = new StringBuffer( length );
+      for ( int i = 0; i < length; i++ )
+         sb.append( (words[i >>> 6] & (1L << i)) != 0 ? '1' : '0' );
+      return sb.toString();
+   }
+
+
+   /**
+    * Returns the element-by-element logical exclusive OR of this mask
+    * and <tt>m</tt>.
+    *
+    * @param   m   a mask of the same length
+    * @return  a new mask holding <tt>this ^ m</tt>
+    */
+   public BitMask xor( BitMask m ) {
+      return ((BitMask) clone()).xorAssign( m );
+   }
+
+
+   /**
+    * Replaces this mask with the element-by-element logical exclusive
+    * OR of this mask and <tt>m</tt>.
+    *
+    * @param   m   a mask of the same length
+    * @return  this mask
+    */
+   public BitMask xorAssign( BitMask m ) {
+      check( m, "xorAssign" );
+      for ( int k = 0; k < words.length; k++ )
+         words[k] ^= m.words[k];
+      return this;
+   }
+
+   //*************************************************
+   // Package methods
+   //*************************************************
+
+   /**
+    * Returns the words holding the bits of the mask, for the masked
+    * reductions of class <tt>Array</tt>.  The array must not be
+    * modified.
+    */
+   long[] words() {
+      return words;
+   }
+
+   //*************************************************
+   // Static methods
+   //*************************************************
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] == b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isEqual ( int a[], int b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] == b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] == b</tt>
+    */
+   public static BitMask isEqual ( int a[], int b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] == b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] == b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isEqual ( long a[], long b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] == b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] == b</tt>
+    */
+   public static BitMask isEqual ( long a[], long b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] == b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] == b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isEqual ( float a[], float b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] == b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] == b</tt>
+    */
+   public static BitMask isEqual ( float a[], float b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] == b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] == b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isEqual ( double a[], double b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] == b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] == b</tt>
+    */
+   public static BitMask isEqual ( double a[], double b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] == b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &gt; b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isGreaterThan ( int a[], int b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] > b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &gt; b</tt>
+    */
+   public static BitMask isGreaterThan ( int a[], int b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] > b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &gt; b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isGreaterThan ( long a[], long b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] > b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &gt; b</tt>
+    */
+   public static BitMask isGreaterThan ( long a[], long b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] > b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &gt; b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isGreaterThan ( float a[], float b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] > b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &gt; b</tt>
+    */
+   public static BitMask isGreaterThan ( float a[], float b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] > b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &gt; b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isGreaterThan ( double a[], double b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isGreaterThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] > b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &gt; b</tt>
+    */
+   public static BitMask isGreaterThan ( double a[], double b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] > b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than or equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &gt;= b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isGreaterThanOrEqual ( int a[], int b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] >= b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than or equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &gt;= b</tt>
+    */
+   public static BitMask isGreaterThanOrEqual ( int a[], int b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] >= b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than or equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &gt;= b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isGreaterThanOrEqual ( long a[], long b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] >= b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than or equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &gt;= b</tt>
+    */
+   public static BitMask isGreaterThanOrEqual ( long a[], long b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] >= b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than or equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &gt;= b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isGreaterThanOrEqual ( float a[], float b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] >= b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than or equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &gt;= b</tt>
+    */
+   public static BitMask isGreaterThanOrEqual ( float a[], float b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] >= b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than or equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &gt;= b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isGreaterThanOrEqual ( double a[], double b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isGreaterThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] >= b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is greater than or equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &gt;= b</tt>
+    */
+   public static BitMask isGreaterThanOrEqual ( double a[], double b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] >= b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &lt; b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isLessThan ( int a[], int b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] < b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &lt; b</tt>
+    */
+   public static BitMask isLessThan ( int a[], int b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] < b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &lt; b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isLessThan ( long a[], long b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] < b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &lt; b</tt>
+    */
+   public static BitMask isLessThan ( long a[], long b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] < b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &lt; b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isLessThan ( float a[], float b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] < b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &lt; b</tt>
+    */
+   public static BitMask isLessThan ( float a[], float b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] < b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &lt; b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isLessThan ( double a[], double b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isLessThan: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] < b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &lt; b</tt>
+    */
+   public static BitMask isLessThan ( double a[], double b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] < b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than or equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &lt;= b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isLessThanOrEqual ( int a[], int b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] <= b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than or equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &lt;= b</tt>
+    */
+   public static BitMask isLessThanOrEqual ( int a[], int b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] <= b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than or equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &lt;= b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isLessThanOrEqual ( long a[], long b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] <= b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than or equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &lt;= b</tt>
+    */
+   public static BitMask isLessThanOrEqual ( long a[], long b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] <= b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than or equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &lt;= b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isLessThanOrEqual ( float a[], float b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] <= b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than or equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &lt;= b</tt>
+    */
+   public static BitMask isLessThanOrEqual ( float a[], float b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] <= b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than or equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] &lt;= b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isLessThanOrEqual ( double a[], double b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isLessThanOrEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] <= b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is less than or equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] &lt;= b</tt>
+    */
+   public static BitMask isLessThanOrEqual ( double a[], double b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] <= b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is not equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] != b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isNotEqual ( int a[], int b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] != b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is not equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] != b</tt>
+    */
+   public static BitMask isNotEqual ( int a[], int b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] != b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is not equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] != b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isNotEqual ( long a[], long b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] != b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is not equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] != b</tt>
+    */
+   public static BitMask isNotEqual ( long a[], long b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] != b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is not equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] != b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isNotEqual ( float a[], float b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] != b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is not equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] != b</tt>
+    */
+   public static BitMask isNotEqual ( float a[], float b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] != b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is not equal to the corresponding element of <tt>b</tt>.
+    *
+    * @param   a   first array.
+    * @param   b   second array.
+    * @return  a mask holding <tt>a[i] != b[i]</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static BitMask isNotEqual ( double a[], double b[] ) {
+      if ( a.length != b.length ) {
+         String s = "isNotEqual: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] != b[i] ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+
+   /**
+    * Returns a mask that is <tt>true</tt> where an element of
+    * <tt>a</tt> is not equal to the scalar <tt>b</tt>.
+    *
+    * @param   a   input array.
+    * @param   b   scalar value.
+    * @return  a mask holding <tt>a[i] != b</tt>
+    */
+   public static BitMask isNotEqual ( double a[], double b ) {
+      BitMask m = new BitMask( a.length );
+      long w[] = m.words;
+      for ( int k = 0; k < w.length; k++ ) {
+         int base = k << 6;
+         int end  = Math.min( base + 64, a.length );
+         long bits = 0L;
+         for ( int i = base; i < end; i++ )
+            bits |= ( a[i] != b ? 1L : 0L ) << i;
+         w[k] = bits;
+      }
+      return m;
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Checks that mask <tt>m</tt> has the same length as this mask.
+    */
+   private void check( BitMask m, String name ) {
+      if ( m.length != length ) {
+         String s = name + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+   }
+
+
+   /**
+    * Checks that <tt>i</tt> is a valid index.
+    */
+   private void checkIndex( int i ) {
+      if ( i < 0 || i >= length )
+         throw new ArrayIndexOutOfBoundsException(i);
+   }
+
+
+   /**
+    * Clears the unused bits of the last word.
+    */
+   private void trim() {
+      if ( (length & 63) != 0 )
+         words[words.length - 1] &= (1L << length) - 1;
+   }
+}
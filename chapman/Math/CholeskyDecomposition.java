@@ -0,0 +1,252 @@
+package chapman.math;
+
+/**
+ * Class <code>CholeskyDecomposition</code> calculates the Cholesky
+ * decomposition of a symmetric, positive definite matrix,
+ * <code>A = L*L'</code>, where <code>L</code> is lower triangular with a
+ * positive diagonal.  It needs half of the work of an LU decomposition,
+ * and is the usual way to solve the normal equations of a least-squares
+ * fit or to invert a covariance matrix.  Only the lower triangle of
+ * <code>A</code> is read; the upper triangle is assumed to match it.
+ * <p>
+ * The factor is held in a single contiguous row-major array and is
+ * calculated in panels of <code>64</code> columns.  After each panel is
+ * factored, the lower triangle of the rest of the matrix is updated with
+ * cache-blocked matrix multiplications, which run in parallel for large
+ * matrices as described in class <code>Parallel</code>.  For example,
+ * <pre>
+ *   CholeskyDecomposition chol = new CholeskyDecomposition( cov );
+ *   double x[] = chol.solve( b );
+ * </pre>
+ * If <code>A</code> is not positive definite, the decomposition stops at
+ * the first non-positive pivot, <code>isSPD</code> returns
+ * <code>false</code>, and the <code>solve</code> methods throw an
+ * <code>ArithmeticException</code>.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     LUDecomposition
+ * @see     QRDecomposition
+ */
+
+public class CholeskyDecomposition {
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * The factor <tt>L</tt>, stored in row-major order with zeros above
+    * the diagonal.
+    */
+   private double l[];
+
+   /**
+    * The order of the matrix.
+    */
+   private int n;
+
+   /**
+    * <tt>true</tt> if the matrix is positive definite.
+    */
+   private boolean spd;
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Calculates the Cholesky decomposition of a symmetric, positive
+    * definite matrix.  The input array is not modified.
+    *
+    * @param   a   a square, symmetric matrix.
+    * @exception InvalidArraySizeException if <tt>a</tt> is not square.
+    */
+   public CholeskyDecomposition( double a[][] ) {
+      factor( MatrixKernel.flatten( a, "CholeskyDecomposition" ), a.length );
+   }
+
+
+   /**
+    * Calculates the Cholesky decomposition of a symmetric, positive
+    * definite 2-D <tt>NDArray</tt>.  The input array is not modified.
+    *
+    * @param   a   a square, symmetric matrix.
+    * @exception InvalidArraySizeException if <tt>a</tt> is not 2-D
+    *          and square.
+    */
+   public CholeskyDecomposition( NDArray a ) {
+      factor( MatrixKernel.flatten( a, "CholeskyDecomposition" ), a.shape(0) );
+   }
+
+   //*************************************************
+   // Instance methods
+   //*************************************************
+
+   /**
+    * Returns the lower triangular factor <tt>L</tt>.
+    *
+    * @return  a new n x n array holding <tt>L</tt>
+    */
+   public double[][] getL() {
+      return MatrixKernel.unflatten( l, 0, n, n, n );
+   }
+
+
+   /**
+    * Returns <tt>true</tt> if the matrix is positive definite, so that
+    * the decomposition is complete.
+    *
+    * @return  <tt>true</tt> if the matrix is positive definite
+    */
+   public boolean isSPD() {
+      return spd;
+   }
+
+
+   /**
+    * Solves the system <tt>A*x = b</tt>.
+    *
+    * @param   b   the right-hand side, of length n.
+    * @return  a new array holding the solution <tt>x</tt>
+    * @exception InvalidArraySizeException if <tt>b</tt> has the
+    *          wrong length.
+    * @exception ArithmeticException if the matrix is not positive
+    *          definite.
+    */
+   public double[] solve( double b[] ) {
+      if ( b.length != n ) {
+         String s = "solve: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      double x[] = (double[]) b.clone();
+      solveInPlace( x, 1 );
+      return x;
+   }
+
+
+   /**
+    * Solves the systems <tt>A*X = B</tt>, where each column of
+    * <tt>B</tt> is a separate right-hand side.
+    *
+    * @param   b   the right-hand sides, with n rows.
+    * @return  a new array holding the solutions <tt>X</tt>
+    * @exception InvalidArraySizeException if <tt>b</tt> is not
+    *          rectangular or has the wrong number of rows.
+    * @exception ArithmeticException if the matrix is not positive
+    *          definite.
+    */
+   public double[][] solve( double b[][] ) {
+      if ( b.length != n ) {
+         String s = "solve: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      double x[] = MatrixKernel.flatten( b, "solve" );
+      int nrhs = ( n > 0 ) ? b[0].length : 0;
+      solveInPlace( x, nrhs );
+      return MatrixKernel.unflatten( x, 0, nrhs, n, nrhs );
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Factors the row-major <tt>n</tt> by <tt>n</tt> matrix <tt>a</tt> in
+    * place.
+    */
+   private void factor( double a[], int order ) {
+      if ( (long) order * order != a.length ) {
+         String s = "CholeskyDecomposition: Matrix must be square";
+         throw new InvalidArraySizeException(s);
+      }
+      l   = a;
+      n   = order;
+      spd = true;
+
+      for ( int k0 = 0; k0 < n && spd; k0 += MatrixKernel.PANEL ) {
+         final int k  = k0;
+         final int kb = Math.min( k0 + MatrixKernel.PANEL, n );
+
+         // Factor the diagonal block
+         for ( int j = k0; j < kb; j++ ) {
+            int rj = j*n;
+            double d = l[rj + j];
+            for ( int p = k0; p < j; p++ )
+               d -= l[rj + p] * l[rj + p];
+            if ( !(d > 0) ) {
+               spd = false;
+               break;
+            }
+            d = Math.sqrt( d );
+            l[rj + j] = d;
+            for ( int i = j + 1; i < kb; i++ ) {
+               int ri = i*n;
+               double s = l[ri + j];
+               for ( int p = k0; p < j; p++ )
+                  s -= l[ri + p] * l[rj + p];
+               l[ri + j] = s / d;
+            }
+         }
+         if ( !spd || kb == n )
+            break;
+
+         // Panel below the diagonal block:  L21 = A21 * inv(L11')
+         final int rest = n - kb;
+         Parallel.forRange( rest, MatrixKernel.ROWS, (long) rest * (kb - k0) * (kb - k0)
+                            >= 64L * Parallel.getThreshold(), new Parallel.Loop() {
+            void run( int from, int to ) {
+               for ( int i = kb + from; i < kb + to; i++ ) {
+                  int ri = i*n;
+                  for ( int j = k; j < kb; j++ ) {
+                     int rj = j*n;
+                     double s = l[ri + j];
+                     for ( int p = k; p < j; p++ )
+                        s -= l[ri + p] * l[rj + p];
+                     l[ri + j] = s / l[rj + j];
+                  }
+               }
+            }
+         } );
+
+         // Lower triangle of the trailing matrix:  A22 = A22 - L21 * L21'
+         final int nb = kb - k0;
+         final double lt[] = new double[nb * rest];
+         MatrixKernel.transpose( rest, nb, l, kb*n + k0, n, lt, 0, rest );
+         Parallel.forRange( rest, MatrixKernel.ROWS,
+                            MatrixKernel.isParallel( rest, rest / 2, nb ), new Parallel.Loop() {
+            void run( int from, int to ) {
+
+               // Rows are taken in groups, each updated up to its last
+               // column, so that little of the upper triangle is computed
+               for ( int r0 = from; r0 < to; r0 += 4 * MatrixKernel.PANEL ) {
+                  int r1 = Math.min( r0 + 4 * MatrixKernel.PANEL, to );
+                  MatrixKernel.gemm( r1 - r0, r1, nb, -1.0,
+                                     l, (kb + r0)*n + k, n, lt, 0, rest,
+                                     l, (kb + r0)*n + kb, n );
+               }
+            }
+         } );
+      }
+
+      // Clear the upper triangle, which now holds partial sums
+      for ( int i = 0; i < n; i++ )
+         for ( int j = i + 1; j < n; j++ )
+            l[i*n + j] = 0.0;
+   }
+
+
+   /**
+    * Solves <tt>L*L'*X = X</tt> in place, where <tt>X</tt> holds
+    * <tt>nrhs</tt> columns in row-major order.
+    */
+   private void solveInPlace( double x[], int nrhs ) {
+      if ( !spd ) {
+         throw new ArithmeticException( "solve: Matrix is not positive definite" );
+      }
+      MatrixKernel.trsmLower( n, nrhs, false, l, 0, n, x, 0, nrhs );
+      double u[] = new double[n * n];
+      MatrixKernel.transpose( n, n, l, 0, n, u, 0, n );
+      MatrixKernel.trsmUpper( n, nrhs, u, 0, n, x, 0, nrhs );
+   }
+}
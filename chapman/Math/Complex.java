@@ -53,6 +53,17 @@ import java.io.Serializable;
  * This class also implements the <code>java.lang.Comparable</code> interface.
  * In this case, the comparisons are between the <i>absolute values</i> of the
  * two <code>Complex</code> numbers.
+ * <p>
+ * The static factory methods <code>complex(re)</code> and
+ * <code>complex(re,im)</code> return shared instances for the most
+ * commonly occurring values (small integers on the real axis and
+ * <i><b>i</b></i>), so that large result arrays full of zeros or ones
+ * do not hold a separate object for every element.  Since these instances
+ * are shared, the <code>setRe</code>, <code>setIm</code>, and
+ * <code>setZ</code> methods refuse to modify them.  If the system property
+ * <code>chapman.math.Complex.immutable</code> is set to <code>true</code>,
+ * these methods refuse to modify <i>any</i> <code>Complex</code> object, and
+ * the class is truly immutable.
  *
  * @author  S. J. Chapman
  * @version 1.00, 07/15/98
@@ -72,6 +83,39 @@ public final class Complex extends Number
    private static final double TWO_PI  = 2.0 * Math.PI;
 
 
+   /**
+    * Serial version number, fixed so that the serialized form stays
+    * compatible as methods are added to the class.
+    */
+   private static final long serialVersionUID = -7020661192588496118L;
+
+
+   /**
+    * The smallest and largest real integers held in the shared cache.
+    */
+   private static final int CACHE_LOW  = -128;
+   private static final int CACHE_HIGH =  127;
+
+
+   /**
+    * Shared instances of the real integers from <tt>CACHE_LOW</tt>
+    * through <tt>CACHE_HIGH</tt>.
+    */
+   private static final Complex CACHE[] = new Complex[CACHE_HIGH - CACHE_LOW + 1];
+
+   static {
+      for ( int i = 0; i < CACHE.length; i++ ) {
+         CACHE[i] = new Complex( CACHE_LOW + i, 0.0 );
+      }
+   }
+
+
+   /**
+    * <tt>true</tt> if the setter methods are disabled for all objects.
+    */
+   private static final boolean IMMUTABLE = immutableProperty();
+
+
    /**
     * Constant representing <i><b>i</b></i>, the square root of -1.
     *
@@ -322,7 +366,7 @@ public final class Complex extends Number
       im1 = 0.0 - ( (z.re*z.im) + (z.im*z.re) );
 
       // Build sqrt(1 - z*z)
-      result = complex(re1, im1);
+      result = new Complex(re1, im1);
       sqrt1( result );
 
       // Build i * sqrt(1 - z*z)
@@ -365,7 +409,7 @@ public final class Complex extends Number
       im1 = ( (z.re*z.im) + (z.im*z.re) );
 
       // Build sqrt(z*z - 1)
-      result = complex(re1, im1);
+      result = new Complex(re1, im1);
       sqrt1(result);
 
       // Build z + sqrt(z*z - 1)
@@ -404,7 +448,7 @@ public final class Complex extends Number
       im1 =  0.0 - ( (z.re*z.im) + (z.im*z.re) );
 
       // Build sqrt(1 - z*z)
-      result = complex(re1, im1);
+      result = new Complex(re1, im1);
       sqrt1( result );
 
       // Build iz = i*z
@@ -447,7 +491,7 @@ public final class Complex extends Number
       im1 = ( (z.re*z.im) + (z.im*z.re) );
 
       // Build sqrt(z*z + 1)
-      result = complex(re1, im1);
+      result = new Complex(re1, im1);
       sqrt1(result);
 
       // Build z + sqrt(z*z + 1)
@@ -481,7 +525,7 @@ public final class Complex extends Number
       Complex result;    // Intermediate results of calc
 
       // Build (i-z)
-      result = complex(-z.re, 1.0 - z.im);
+      result = new Complex(-z.re, 1.0 - z.im);
 
       // Build (i+z)
       re1 = z.re;
@@ -518,7 +562,7 @@ public final class Complex extends Number
       Complex result;    // Intermediate results of calc
 
       // Build (1+z)
-      result = complex(1.0 + z.re, + z.im);
+      result = new Complex(1.0 + z.re, + z.im);
 
       // Build (1-z)
       re1 = 1.0 - z.re;
@@ -546,12 +590,15 @@ public final class Complex extends Number
     * @see  Complex#complex(double, double)
     */
    public static Complex complex( double re ) {
-      return new Complex(re, 0.);
+      return complex(re, 0.);
    }
 
 
    /**
     * Creates a new <tt>Complex</tt> from real and imaginary parts. 
+    * Common values such as 0, 1, -1 and <i><b>i</b></i> are returned as
+    * shared instances instead of new objects, so the result must not be
+    * modified with <tt>setRe</tt>, <tt>setIm</tt>, or <tt>setZ</tt>.
     *
     * @param  re  Real part
     * @param  im  Imaginary part
@@ -559,6 +606,19 @@ public final class Complex extends Number
     * @see  Complex#complex(double)
     */
    public static Complex complex (double re, double im) {
+
+      // The sign of a zero matters at the branch cuts, so only
+      // positive zeros are replaced by the shared instances.
+      if ( Double.doubleToRawLongBits(im) == 0L ) {
+         int k = (int) re;
+         if ( k == re && k >= CACHE_LOW && k <= CACHE_HIGH
+              && ( k != 0 || Double.doubleToRawLongBits(re) == 0L ) ) {
+            return CACHE[k - CACHE_LOW];
+         }
+      }
+      else if ( im == 1.0 && Double.doubleToRawLongBits(re) == 0L ) {
+         return I;
+      }
       return new Complex(re, im);
    }
 
@@ -981,7 +1041,7 @@ public final class Complex extends Number
       im3 = im1 - im2;
 
       // Build sin(z) = z3 / (2*i)
-      result = complex( 0.5*im3, -0.5*re3 );
+      result = new Complex( 0.5*im3, -0.5*re3 );
 
       // Now, calculate cos(z):
 
@@ -1043,7 +1103,7 @@ public final class Complex extends Number
       im4 =  im1 + im2;
 
       // tanh(z) = z3 / z4
-      result = complex( re3, im3 );
+      result = new Complex( re3, im3 );
       div( result, re4, im4 );
       return result;
    }
@@ -1080,9 +1140,13 @@ public final class Complex extends Number
     *
     * @see  Complex#im()
     * @see  Complex#setRe(double)
+    * @exception <code>UnsupportedOperationException</code> if this object
+    *            is a shared instance, or if <tt>Complex</tt> objects are
+    *            immutable
     * @see  Complex#setZ(double,double)
     */
    public void setIm( double im ) {
+      checkMutable("setIm");
       this.im = im;
    }
 
@@ -1092,9 +1156,13 @@ public final class Complex extends Number
     *
     * @see  Complex#re()
     * @see  Complex#setIm(double)
+    * @exception <code>UnsupportedOperationException</code> if this object
+    *            is a shared instance, or if <tt>Complex</tt> objects are
+    *            immutable
     * @see  Complex#setZ(double,double)
     */
    public void setRe( double re ) {
+      checkMutable("setRe");
       this.re = re;
    }
 
@@ -1105,14 +1173,31 @@ public final class Complex extends Number
     *
     * @see  Complex#re()
     * @see  Complex#setRe(double)
+    * @exception <code>UnsupportedOperationException</code> if this object
+    *            is a shared instance, or if <tt>Complex</tt> objects are
+    *            immutable
     * @see  Complex#setIm(double)
     */
    public void setZ( double re, double im ) {
+      checkMutable("setZ");
       this.re = re;
       this.im = im;
    }
 
 
+   /**
+    * Returns <tt>true</tt> if the <tt>setRe</tt>, <tt>setIm</tt>, and
+    * <tt>setZ</tt> methods are disabled for all <tt>Complex</tt> objects.
+    * This is controlled by the system property
+    * <tt>chapman.math.Complex.immutable</tt>.
+    *
+    * @return  <tt>true</tt> if <tt>Complex</tt> objects are immutable
+    */
+   public static boolean isImmutable() {
+      return IMMUTABLE;
+   }
+
+
    /**
     * Returns the absolute value (magnitude) of a <tt>Complex</tt> object.
     *
@@ -1628,4 +1713,37 @@ public final class Complex extends Number
       z.re = re;
       z.im = im;
    }
+
+
+   /**
+    * Throws an <tt>UnsupportedOperationException</tt> if this object may
+    * not be modified, either because it is shared or because all
+    * <tt>Complex</tt> objects are immutable.
+    */
+   private void checkMutable( String method ) {
+      boolean shared = ( this == I || this == J );
+      if ( !shared && im == 0.0 ) {
+         int k = (int) re;
+         if ( k == re && k >= CACHE_LOW && k <= CACHE_HIGH ) {
+            shared = ( CACHE[k - CACHE_LOW] == this );
+         }
+      }
+      if ( IMMUTABLE || shared ) {
+         throw new UnsupportedOperationException( method + ": Complex value is immutable" );
+      }
+   }
+
+
+   /**
+    * Reads the system property that makes all <tt>Complex</tt> objects
+    * immutable.
+    */
+   private static boolean immutableProperty() {
+      try {
+         return Boolean.getBoolean("chapman.math.Complex.immutable");
+      }
+      catch ( SecurityException e ) {
+         return false;
+      }
+   }
 }
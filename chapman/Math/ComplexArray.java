@@ -0,0 +1,1091 @@
+package chapman.math;
+import java.io.Serializable;
+
+/**
+ * The class <code>ComplexArray</code> holds a one-dimensional array of
+ * complex numbers in <i>split</i> form:  the real parts are stored in one
+ * <code>double</code> array, and the imaginary parts are stored in another.
+ * This layout is much more compact than an array of <code>Complex</code>
+ * objects, since no object header or pointer is needed for each element,
+ * and it allows loops over the data to run through contiguous memory.
+ * <p>
+ * A <code>ComplexArray</code> can be created empty, wrapped around existing
+ * real and imaginary arrays, or converted from a <code>Complex[]</code>.
+ * The method <code>toArray</code> converts it back to a
+ * <code>Complex[]</code> when needed.  For example,
+ * <pre>
+ *   ComplexArray za = new ComplexArray( z );      // from Complex[]
+ *   ComplexArray zf = SigProc.fft( za );
+ *   Complex[] out   = zf.toArray();
+ * </pre>
+ * The methods whose names end in <code>Assign</code> modify the array
+ * in place and return a reference to it, so that no new storage is
+ * needed.  The methods in classes <code>Array</code> and
+ * <code>SigProc</code> that accept <code>ComplexArray</code> arguments
+ * return new arrays, and never modify their inputs.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Complex
+ * @see     Array
+ */
+
+public final class ComplexArray implements Cloneable, Serializable {
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * Real parts of the elements.
+    *
+    * @serial
+    */
+   private double re[];
+
+   /**
+    * Imaginary parts of the elements.
+    *
+    * @serial
+    */
+   private double im[];
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Constructs a <tt>ComplexArray</tt> of length <tt>n</tt>, with all
+    * elements initialized to zero.
+    *
+    * @param  n  The number of elements
+    */
+   public ComplexArray( int n ) {
+      this.re = new double[n];
+      this.im = new double[n];
+   }
+
+
+   /**
+    * Constructs a <tt>ComplexArray</tt> that uses the specified arrays
+    * as its storage.  The arrays are <i>not</i> copied, so later changes
+    * to them are visible through this object and vice versa.
+    *
+    * @param  re  The real parts
+    * @param  im  The imaginary parts
+    * @exception <code>InvalidArraySizeException</code> if the two arrays
+    *            have different lengths
+    */
+   public ComplexArray( double re[], double im[] ) {
+      if ( re.length != im.length ) {
+         String s = "ComplexArray: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      this.re = re;
+      this.im = im;
+   }
+
+
+   /**
+    * Constructs a <tt>ComplexArray</tt> from an array of real values.
+    * The real values are copied, and the imaginary parts are zero.
+    *
+    * @param  re  The real parts
+    */
+   public ComplexArray( double re[] ) {
+      this.re = (double[]) re.clone();
+      this.im = new double[re.length];
+   }
+
+
+   /**
+    * Constructs a <tt>ComplexArray</tt> holding the same values as
+    * an array of <tt>Complex</tt> objects.
+    *
+    * @param  z  A <tt>Complex</tt> array
+    */
+   public ComplexArray( Complex z[] ) {
+      this.re = new double[z.length];
+      this.im = new double[z.length];
+      for ( int i = 0; i < z.length; i++ ) {
+         re[i] = z[i].re();
+         im[i] = z[i].im();
+      }
+   }
+
+   //*************************************************
+   // Access methods
+   //*************************************************
+
+   /**
+    * Returns the number of elements in this array.
+    *
+    * @return  the number of elements
+    */
+   public int length() {
+      return re.length;
+   }
+
+
+   /**
+    * Returns the real part of element <tt>i</tt>.
+    *
+    * @param   i   element index
+    * @return  the real part of element <tt>i</tt>
+    */
+   public double re( int i ) {
+      return re[i];
+   }
+
+
+   /**
+    * Returns the imaginary part of element <tt>i</tt>.
+    *
+    * @param   i   element index
+    * @return  the imaginary part of element <tt>i</tt>
+    */
+   public double im( int i ) {
+      return im[i];
+   }
+
+
+   /**
+    * Returns element <tt>i</tt> as a new <tt>Complex</tt> object.
+    *
+    * @param   i   element index
+    * @return  element <tt>i</tt>
+    */
+   public Complex get( int i ) {
+      return Complex.complex( re[i], im[i] );
+   }
+
+
+   /**
+    * Sets element <tt>i</tt> from real and imaginary parts.
+    *
+    * @param   i   element index
+    * @param   re  Real part
+    * @param   im  Imaginary part
+    */
+   public void set( int i, double re, double im ) {
+      this.re[i] = re;
+      this.im[i] = im;
+   }
+
+
+   /**
+    * Sets element <tt>i</tt> to the value of a <tt>Complex</tt> number.
+    *
+    * @param   i   element index
+    * @param   z   A <tt>Complex</tt> value
+    */
+   public void set( int i, Complex z ) {
+      this.re[i] = z.re();
+      this.im[i] = z.im();
+   }
+
+
+   /**
+    * Returns the array holding the real parts of the elements.  This is
+    * the storage of this object, not a copy.
+    *
+    * @return  the real parts
+    */
+   public double[] getRe() {
+      return re;
+   }
+
+
+   /**
+    * Returns the array holding the imaginary parts of the elements.  This is
+    * the storage of this object, not a copy.
+    *
+    * @return  the imaginary parts
+    */
+   public double[] getIm() {
+      return im;
+   }
+
+
+   /**
+    * Converts this array into an array of <tt>Complex</tt> objects.
+    *
+    * @return  a <tt>Complex</tt> array holding the same values
+    */
+   public Complex[] toArray() {
+      Complex z[] = new Complex[re.length];
+      for ( int i = 0; i < re.length; i++ ) {
+         z[i] = Complex.complex( re[i], im[i] );
+      }
+      return z;
+   }
+
+
+   /**
+    * Returns a copy of this array.  The storage is copied, so the
+    * copy is independent of the original.
+    *
+    * @return  a copy of this <tt>ComplexArray</tt>
+    */
+   public Object clone() {
+      return new ComplexArray( (double[]) re.clone(), (double[]) im.clone() );
+   }
+
+
+   /**
+    * Converts this array into a <tt>String</tt> of the form
+    * <tt>[(</tt><i>re</i><tt> + i</tt><i>im</i><tt>), ...]</tt>.
+    *
+    * @return <tt>String</tt> containing the values of the array
+    */
+   public String toString() {
+      StringBuffer sb = new StringBuffer("[");
+      for ( int i = 0; i < re.length; i++ ) {
+         if ( i > 0 ) sb.append(", ");
+         sb.append( new Complex(re[i], im[i]).toString() );
+      }
+      sb.append("]");
+      return sb.toString();
+   }
+
+   //*************************************************
+   // In-place operations
+   //*************************************************
+
+   /**
+    * Adds another array to this one, element by element (this += z).
+    *
+    * @param   z   A <tt>ComplexArray</tt> of the same length
+    * @return  a reference to this object
+    */
+   public ComplexArray addAssign( ComplexArray z ) {
+      check( z, "addAssign" );
+      double zr[] = z.re, zi[] = z.im;
+      for ( int i = 0; i < re.length; i++ ) {
+         re[i] += zr[i];
+         im[i] += zi[i];
+      }
+      return this;
+   }
+
+
+   /**
+    * Adds a <tt>Complex</tt> value to each element of this array.
+    *
+    * @param   z   A <tt>Complex</tt> value
+    * @return  a reference to this object
+    */
+   public ComplexArray addAssign( Complex z ) {
+      double zr = z.re(), zi = z.im();
+      for ( int i = 0; i < re.length; i++ ) {
+         re[i] += zr;
+         im[i] += zi;
+      }
+      return this;
+   }
+
+
+   /**
+    * Adds a <tt>double</tt> value to each element of this array.
+    *
+    * @param   d   A <tt>double</tt> value
+    * @return  a reference to this object
+    */
+   public ComplexArray addAssign( double d ) {
+      for ( int i = 0; i < re.length; i++ ) {
+         re[i] += d;
+      }
+      return this;
+   }
+
+
+   /**
+    * Subtracts another array from this one, element by element (this -= z).
+    *
+    * @param   z   A <tt>ComplexArray</tt> of the same length
+    * @return  a reference to this object
+    */
+   public ComplexArray subAssign( ComplexArray z ) {
+      check( z, "subAssign" );
+      double zr[] = z.re, zi[] = z.im;
+      for ( int i = 0; i < re.length; i++ ) {
+         re[i] -= zr[i];
+         im[i] -= zi[i];
+      }
+      return this;
+   }
+
+
+   /**
+    * Subtracts a <tt>Complex</tt> value from each element of this array.
+    *
+    * @param   z   A <tt>Complex</tt> value
+    * @return  a reference to this object
+    */
+   public ComplexArray subAssign( Complex z ) {
+      double zr = z.re(), zi = z.im();
+      for ( int i = 0; i < re.length; i++ ) {
+         re[i] -= zr;
+         im[i] -= zi;
+      }
+      return this;
+   }
+
+
+   /**
+    * Subtracts a <tt>double</tt> value from each element of this array.
+    *
+    * @param   d   A <tt>double</tt> value
+    * @return  a reference to this object
+    */
+   public ComplexArray subAssign( double d ) {
+      for ( int i = 0; i < re.length; i++ ) {
+         re[i] -= d;
+      }
+      return this;
+   }
+
+
+   /**
+    * Multiplies this array by another one, element by element (this *= z).
+    *
+    * @param   z   A <tt>ComplexArray</tt> of the same length
+    * @return  a reference to this object
+    */
+   public ComplexArray mulAssign( ComplexArray z ) {
+      check( z, "mulAssign" );
+      double zr[] = z.re, zi[] = z.im;
+      double xr, xi;
+      for ( int i = 0; i < re.length; i++ ) {
+         xr = re[i];
+         xi = im[i];
+         re[i] = (xr*zr[i]) - (xi*zi[i]);
+         im[i] = (xr*zi[i]) + (xi*zr[i]);
+      }
+      return this;
+   }
+
+
+   /**
+    * Multiplies each element of this array by a <tt>Complex</tt> value.
+    *
+    * @param   z   A <tt>Complex</tt> value
+    * @return  a reference to this object
+    */
+   public ComplexArray mulAssign( Complex z ) {
+      double zr = z.re(), zi = z.im();
+      double xr, xi;
+      for ( int i = 0; i < re.length; i++ ) {
+         xr = re[i];
+         xi = im[i];
+         re[i] = (xr*zr) - (xi*zi);
+         im[i] = (xr*zi) + (xi*zr);
+      }
+      return this;
+   }
+
+
+   /**
+    * Multiplies each element of this array by a <tt>double</tt> value.
+    *
+    * @param   d   A <tt>double</tt> value
+    * @return  a reference to this object
+    */
+   public ComplexArray mulAssign( double d ) {
+      for ( int i = 0; i < re.length; i++ ) {
+         re[i] *= d;
+         im[i] *= d;
+      }
+      return this;
+   }
+
+
+   /**
+    * Divides this array by another one, element by element (this /= z).
+    *
+    * @param   z   A <tt>ComplexArray</tt> of the same length
+    * @return  a reference to this object
+    */
+   public ComplexArray divAssign( ComplexArray z ) {
+      check( z, "divAssign" );
+      div( re, im, z.re, z.im, re, im, 0, re.length );
+      return this;
+   }
+
+
+   /**
+    * Divides each element of this array by a <tt>Complex</tt> value.
+    *
+    * @param   z   A <tt>Complex</tt> value
+    * @return  a reference to this object
+    */
+   public ComplexArray divAssign( Complex z ) {
+      // Multiply by the reciprocal, which is calculated only once
+      return mulAssign( z.inv() );
+   }
+
+
+   /**
+    * Divides each element of this array by a <tt>double</tt> value.
+    *
+    * @param   d   A <tt>double</tt> value
+    * @return  a reference to this object
+    */
+   public ComplexArray divAssign( double d ) {
+      for ( int i = 0; i < re.length; i++ ) {
+         re[i] /= d;
+         im[i] /= d;
+      }
+      return this;
+   }
+
+
+   /**
+    * Replaces each element of this array by its complex conjugate.
+    *
+    * @return  a reference to this object
+    */
+   public ComplexArray conjAssign() {
+      for ( int i = 0; i < im.length; i++ ) {
+         im[i] = -im[i];
+      }
+      return this;
+   }
+
+   //*************************************************
+   // Package-private methods
+   //*************************************************
+
+   /**
+    * Divides the split complex values <tt>(xr,xi)</tt> by <tt>(yr,yi)</tt>
+    * over the index range <tt>[from,to)</tt>, writing the results into
+    * <tt>(zr,zi)</tt>.  The output arrays may be the same as either input.
+    * This uses the same scaled algorithm as <tt>Complex.div</tt>.
+    */
+   static void div( double xr[], double xi[], double yr[], double yi[],
+                    double zr[], double zi[], int from, int to ) {
+
+      double x, y, r, scalar, a, b;
+
+      for ( int i = from; i < to; i++ ) {
+         x = yr[i];
+         y = yi[i];
+         a = xr[i];
+         b = xi[i];
+         if (Math.abs(x) >= Math.abs(y)) {
+            r = y / x;
+            scalar =  1.0 / ( x + y*r );
+            zr[i] = scalar * (a + b*r);
+            zi[i] = scalar * (b - a*r);
+         }
+         else {
+            r = x / y;
+            scalar =  1.0 / ( x*r + y );
+            zr[i] = scalar * (a*r + b);
+            zi[i] = scalar * (b*r - a);
+         }
+      }
+   }
+
+   //*************************************************
+   // Bulk function kernels
+   //*************************************************
+
+   /*
+    * Codes for the elementwise functions evaluated by method map.
+    */
+   static final int EXP   =  1;
+   static final int LOG   =  2;
+   static final int SQRT  =  3;
+   static final int SIN   =  4;
+   static final int COS   =  5;
+   static final int TAN   =  6;
+   static final int SINH  =  7;
+   static final int COSH  =  8;
+   static final int TANH  =  9;
+   static final int ASIN  = 10;
+   static final int ACOS  = 11;
+   static final int ATAN  = 12;
+   static final int ASINH = 13;
+   static final int ACOSH = 14;
+   static final int ATANH = 15;
+   static final int POW   = 16;   // z ^ (pr + i*pi)
+   static final int POWZ  = 17;   // z ^ w, element by element
+   static final int ABS   = 18;   // |z|
+   static final int NORM  = 19;   // |z|^2
+   static final int DB    = 20;   // 20 * log10(|z|)
+   static final int ARG   = 21;   // atan2(im, re)
+
+   /*
+    * Range of magnitudes whose squares can be summed without overflow
+    * or harmful underflow (2^-500 and 2^500).
+    */
+   private static final double SAFE_MIN = 3.054936363499605E-151;
+   private static final double SAFE_MAX = 3.273390607896142E150;
+
+   /*
+    * The natural logarithm of 2.
+    */
+   private static final double LN2 = 0.6931471805599453;
+
+   /**
+    * Evaluates the function selected by <tt>op</tt> for every element of
+    * <tt>z</tt>, writing the results into <tt>out</tt>.  Argument <tt>w</tt>
+    * holds the exponents for <tt>POWZ</tt>, and <tt>(pr,pi)</tt> hold the
+    * exponent for <tt>POW</tt>.  The output may be the same object as either
+    * input.  No objects are created per element, and large arrays are
+    * processed in parallel.
+    */
+   static void map( final int op, ComplexArray z, ComplexArray w,
+                    final double pr, final double pi, ComplexArray out,
+                    String method ) {
+
+      if ( out.length() != z.length() || (w != null && w.length() != z.length()) ) {
+         String s = method + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      final double xr[] = z.re, xi[] = z.im;
+      final double yr[] = (w == null) ? null : w.re;
+      final double yi[] = (w == null) ? null : w.im;
+      final double zr[] = out.re, zi[] = out.im;
+
+      Parallel.forRange( xr.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            kernel( op, xr, xi, yr, yi, pr, pi, zr, zi, from, to );
+         }
+      });
+   }
+
+
+   /**
+    * Evaluates the function selected by <tt>op</tt> over the index
+    * range <tt>[from,to)</tt>.  The formulas are the same as those used
+    * by the static methods of class <tt>Complex</tt>, rearranged so that
+    * each sine, cosine and exponential is evaluated only once.
+    * <tt>asin</tt>, <tt>acos</tt>, <tt>asinh</tt> and <tt>acosh</tt> are
+    * evaluated by <tt>inverse</tt>, which avoids the cancellation of
+    * those formulas for large arguments.
+    */
+   static void kernel( int op, double xr[], double xi[], double yr[], double yi[],
+                       double pr, double pi, double zr[], double zi[],
+                       int from, int to ) {
+
+      double x, y;          // Real and imag parts of the input
+      double ep, em;        // exp(y) and exp(-y), or exp(x) and exp(-x)
+      double s, c;          // Sine and cosine
+      double ar, ai;        // Intermediate complex value
+      double br, bi;        // Intermediate complex value
+      double mag, ang;      // log magnitude and angle
+      int i;
+
+      switch ( op ) {
+
+         case EXP:
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               ep = Math.exp(x);
+               zr[i] = ep * Math.cos(y);
+               zi[i] = ep * Math.sin(y);
+            }
+            break;
+
+         case LOG:
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               zr[i] = Math.log( abs(x, y) );
+               zi[i] = Math.atan2( y, x );
+            }
+            break;
+
+         case SQRT:
+            for ( i = from; i < to; i++ ) {
+               sqrt( xr[i], xi[i], zr, zi, i );
+            }
+            break;
+
+         case SIN:
+            // sin(x+iy) = sin(x)cosh(y) + i cos(x)sinh(y)
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               ep = Math.exp(y);
+               em = 1.0 / ep;
+               zr[i] = Math.sin(x) * 0.5 * (ep + em);
+               zi[i] = Math.cos(x) * 0.5 * (ep - em);
+            }
+            break;
+
+         case COS:
+            // cos(x+iy) = cos(x)cosh(y) - i sin(x)sinh(y)
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               ep = Math.exp(y);
+               em = 1.0 / ep;
+               zr[i] =  Math.cos(x) * 0.5 * (ep + em);
+               zi[i] = -Math.sin(x) * 0.5 * (ep - em);
+            }
+            break;
+
+         case TAN:
+            // tan(z) = sin(z) / cos(z)
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               ep = Math.exp(y);
+               em = 1.0 / ep;
+               s = Math.sin(x);
+               c = Math.cos(x);
+               zr[i] =  s * 0.5 * (ep + em);
+               zi[i] =  c * 0.5 * (ep - em);
+               div( zr, zi, i, c * 0.5 * (ep + em), -s * 0.5 * (ep - em) );
+            }
+            break;
+
+         case SINH:
+            // sinh(x+iy) = sinh(x)cos(y) + i cosh(x)sin(y)
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               ep = Math.exp(x);
+               em = 1.0 / ep;
+               zr[i] = 0.5 * (ep - em) * Math.cos(y);
+               zi[i] = 0.5 * (ep + em) * Math.sin(y);
+            }
+            break;
+
+         case COSH:
+            // cosh(x+iy) = cosh(x)cos(y) + i sinh(x)sin(y)
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               ep = Math.exp(x);
+               em = 1.0 / ep;
+               zr[i] = 0.5 * (ep + em) * Math.cos(y);
+               zi[i] = 0.5 * (ep - em) * Math.sin(y);
+            }
+            break;
+
+         case TANH:
+            // tanh(z) = sinh(z) / cosh(z)
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               ep = Math.exp(x);
+               em = 1.0 / ep;
+               s = Math.sin(y);
+               c = Math.cos(y);
+               zr[i] = 0.5 * (ep - em) * c;
+               zi[i] = 0.5 * (ep + em) * s;
+               div( zr, zi, i, 0.5 * (ep + em) * c, 0.5 * (ep - em) * s );
+            }
+            break;
+
+         case ASIN:
+            // asin(z) = -i * log(i*z + sqrt(1 - z*z))
+            for ( i = from; i < to; i++ ) {
+               inverse( op, xr[i], xi[i], zr, zi, i );
+            }
+            break;
+
+         case ACOS:
+            // acos(z) = -i * log(z + i * sqrt(1 - z*z))
+            for ( i = from; i < to; i++ ) {
+               inverse( op, xr[i], xi[i], zr, zi, i );
+            }
+            break;
+
+         case ATAN:
+            // atan(z) = -i/2 * log( (i-z)/(i+z) )
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               zr[i] = -x;
+               zi[i] = 1.0 - y;
+               div( zr, zi, i, x, 1.0 + y );
+               ar = zr[i];
+               ai = zi[i];
+               zr[i] =  0.5 * Math.atan2( ai, ar );
+               zi[i] = -0.5 * Math.log( abs(ar, ai) );
+            }
+            break;
+
+         case ASINH:
+            // asinh(z) = log(z + sqrt(z*z + 1))
+            for ( i = from; i < to; i++ ) {
+               inverse( op, xr[i], xi[i], zr, zi, i );
+            }
+            break;
+
+         case ACOSH:
+            // acosh(z) = log(z + sqrt(z*z - 1))
+            for ( i = from; i < to; i++ ) {
+               inverse( op, xr[i], xi[i], zr, zi, i );
+            }
+            break;
+
+         case ATANH:
+            // atanh(z) = 1/2 * log( (1+z)/(1-z) )
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               zr[i] = 1.0 + x;
+               zi[i] = y;
+               div( zr, zi, i, 1.0 - x, -y );
+               ar = zr[i];
+               ai = zi[i];
+               zr[i] = 0.5 * Math.log( abs(ar, ai) );
+               zi[i] = 0.5 * Math.atan2( ai, ar );
+            }
+            break;
+
+         case POW:
+            // z^p = exp( p * log(z) )
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               mag = Math.log( abs(x, y) );
+               ang = Math.atan2( y, x );
+               br = (mag*pr) - (ang*pi);
+               bi = (mag*pi) + (ang*pr);
+               ep = Math.exp(br);
+               zr[i] = ep * Math.cos(bi);
+               zi[i] = ep * Math.sin(bi);
+            }
+            break;
+
+         case POWZ:
+            // z^w = exp( w * log(z) )
+            for ( i = from; i < to; i++ ) {
+               x = xr[i];
+               y = xi[i];
+               mag = Math.log( abs(x, y) );
+               ang = Math.atan2( y, x );
+               br = (mag*yr[i]) - (ang*yi[i]);
+               bi = (mag*yi[i]) + (ang*yr[i]);
+               ep = Math.exp(br);
+               zr[i] = ep * Math.cos(bi);
+               zi[i] = ep * Math.sin(bi);
+            }
+            break;
+
+         default:
+            throw new IllegalArgumentException("kernel: Unknown function code " + op);
+      }
+   }
+
+
+   /**
+    * Evaluates the real-valued function selected by <tt>op</tt>
+    * (<tt>ABS</tt>, <tt>NORM</tt>, <tt>DB</tt> or <tt>ARG</tt>) for every
+    * element of <tt>z</tt>, writing the results into <tt>out</tt>.
+    * Large arrays are processed in parallel.
+    */
+   static void mapReal( final int op, ComplexArray z, final double out[], String method ) {
+
+      if ( out.length != z.length() ) {
+         String s = method + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      final double xr[] = z.re, xi[] = z.im;
+      Parallel.forRange( xr.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            realKernel( op, xr, xi, out, from, to );
+         }
+      });
+   }
+
+
+   /**
+    * Evaluates the real-valued function selected by <tt>op</tt> for every
+    * element of the <tt>Complex</tt> array <tt>z</tt>, writing the results
+    * into <tt>out</tt>.  Large arrays are processed in parallel.
+    */
+   static void mapReal( final int op, final Complex z[], final double out[], String method ) {
+
+      if ( out.length != z.length ) {
+         String s = method + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+
+      Parallel.forRange( z.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            double x, y;
+            for ( int i = from; i < to; i++ ) {
+               x = z[i].re();
+               y = z[i].im();
+               switch ( op ) {
+                  case ABS:  out[i] = abs(x, y);           break;
+                  case NORM: out[i] = x*x + y*y;           break;
+                  case DB:   out[i] = dB(x, y);            break;
+                  case ARG:  out[i] = Math.atan2(y, x);    break;
+                  default:
+                     throw new IllegalArgumentException("mapReal: Unknown function code " + op);
+               }
+            }
+         }
+      });
+   }
+
+
+   /**
+    * Evaluates the real-valued function selected by <tt>op</tt> over the
+    * index range <tt>[from,to)</tt> of the split values <tt>(xr,xi)</tt>.
+    */
+   static void realKernel( int op, double xr[], double xi[], double out[],
+                           int from, int to ) {
+      int i;
+
+      switch ( op ) {
+
+         case ABS:
+            for ( i = from; i < to; i++ ) {
+               out[i] = abs( xr[i], xi[i] );
+            }
+            break;
+
+         case NORM:
+            for ( i = from; i < to; i++ ) {
+               out[i] = xr[i]*xr[i] + xi[i]*xi[i];
+            }
+            break;
+
+         case DB:
+            for ( i = from; i < to; i++ ) {
+               out[i] = dB( xr[i], xi[i] );
+            }
+            break;
+
+         case ARG:
+            for ( i = from; i < to; i++ ) {
+               out[i] = Math.atan2( xi[i], xr[i] );
+            }
+            break;
+
+         default:
+            throw new IllegalArgumentException("realKernel: Unknown function code " + op);
+      }
+   }
+
+
+   /**
+    * Returns the magnitude of <tt>x + iy</tt> in decibels, 20*log10(|z|).
+    * The sum of squares is used directly whenever it is a normal,
+    * finite number, which avoids the square root.
+    */
+   static double dB( double x, double y ) {
+      double norm = x*x + y*y;
+      if ( norm >= Double.MIN_NORMAL && norm <= Double.MAX_VALUE ) {
+         return 10.0 * Math.log10( norm );
+      }
+      else {
+         return 20.0 * Math.log10( abs(x, y) );
+      }
+   }
+
+
+   /**
+    * Evaluates <tt>asin</tt>, <tt>acos</tt>, <tt>asinh</tt> or
+    * <tt>acosh</tt> (selected by <tt>op</tt>) of <tt>x + iy</tt>, storing
+    * the result in element <tt>i</tt> of <tt>(zr,zi)</tt>.  The formulas
+    * and branches are those of class <tt>Complex</tt>.
+    * <p>
+    * Each function is the log of a sum <tt>u</tt>, such as
+    * <tt>i*z + sqrt(1 - z*z)</tt>, whose product with a partner
+    * <tt>v</tt>, such as <tt>sqrt(1 - z*z) - i*z</tt>, is 1.  For large
+    * <tt>z</tt> one of the two almost cancels, so the log is formed from
+    * the larger, using log(u) = -log(v) if necessary.  Arguments whose
+    * squares would overflow are first scaled by a power of two; the 1
+    * beside <tt>z*z</tt> is then below the precision of the result.
+    */
+   private static void inverse( int op, double x, double y,
+                                double zr[], double zi[], int i ) {
+
+      boolean minus = (op == ASIN || op == ACOS);
+      double big = Math.max( Math.abs(x), Math.abs(y) );
+      int k = 0;
+      double xs = x;
+      double ys = y;
+      double re, im;
+      if ( big >= SAFE_MAX && big <= Double.MAX_VALUE ) {
+
+         // Scale z by 2^-k, and form the scaled square term
+         k  = Math.getExponent( big );
+         xs = Math.scalb( x, -k );
+         ys = Math.scalb( y, -k );
+         re = xs*xs - ys*ys;
+         im = xs*ys + ys*xs;
+         if ( minus ) {
+            re = 0.0 - re;
+            im = 0.0 - im;
+         }
+
+         // Keep the side of the branch cut if the scaled product underflows
+         if ( im == 0.0 && x*y != 0.0 ) {
+            im = Math.copySign( Double.MIN_VALUE, minus ? -(x*y) : x*y );
+         }
+      }
+      else if ( minus ) {
+         re = 1.0 - (x*x - y*y);
+         im = 0.0 - (x*y + y*x);
+      }
+      else {
+         re = (x*x - y*y) + ( (op == ASINH) ? 1.0 : -1.0 );
+         im = x*y + y*x;
+      }
+      sqrt( re, im, zr, zi, i );
+      double pr = zr[i];
+      double pi = zi[i];
+
+      // The sum u and its partner v, in scaled units
+      double ur, ui, vr, vi;
+      switch ( op ) {
+         case ASIN:
+            ur = pr - ys;  ui = pi + xs;
+            vr = pr + ys;  vi = pi - xs;
+            break;
+         case ACOS:
+            ur = xs - pi;  ui = ys + pr;
+            vr = xs + pi;  vi = ys - pr;
+            break;
+         case ASINH:
+            ur = xs + pr;  ui = ys + pi;
+            vr = pr - xs;  vi = pi - ys;
+            break;
+         default:
+            ur = xs + pr;  ui = ys + pi;
+            vr = xs - pr;  vi = ys - pi;
+            break;
+      }
+
+      // log(u), undoing the scaling.  If v is real, so is u, and the
+      // sign of its zero imaginary part picks the side of the cut.
+      double mag, ang;
+      double au = abs( ur, ui );
+      double av = abs( vr, vi );
+      if ( au >= av ) {
+         mag = Math.log( au ) + k * LN2;
+         ang = Math.atan2( ui, ur );
+      }
+      else {
+         mag = -( Math.log( av ) + k * LN2 );
+         ang = ( vi == 0.0 ) ? Math.atan2( ui, vr ) : -Math.atan2( vi, vr );
+      }
+
+      if ( minus ) {
+         zr[i] =  ang;
+         zi[i] = -mag;
+      }
+      else {
+         zr[i] = mag;
+         zi[i] = ang;
+      }
+   }
+
+
+   /**
+    * Returns the absolute value of the complex number <tt>x + iy</tt>.
+    * When the larger component lies between <tt>2^-500</tt> and
+    * <tt>2^500</tt>, the squares cannot overflow or lose precision to
+    * underflow, so the value is calculated directly as
+    * <tt>sqrt(x*x + y*y)</tt>.  Otherwise the components are scaled by
+    * the larger one first, as in <tt>Complex.abs</tt>.  This is
+    * considerably faster than <tt>Math.hypot</tt>, and accurate to
+    * within one or two units in the last place.
+    */
+   static double abs( double x, double y ) {
+      double absRe = Math.abs(x);
+      double absIm = Math.abs(y);
+      double big   = Math.max(absRe, absIm);
+      double d;
+
+      if ( big > SAFE_MIN && big < SAFE_MAX ) {
+         return Math.sqrt( x*x + y*y );
+      }
+      else if ( absRe == Double.POSITIVE_INFINITY || absIm == Double.POSITIVE_INFINITY ) {
+         return Double.POSITIVE_INFINITY;
+      }
+      else if ( big == 0.0 || Double.isNaN(big) ) {
+         return big;
+      }
+      else {
+         d = Math.min(absRe, absIm) / big;
+         return big * Math.sqrt(1.0 + d*d);
+      }
+   }
+
+
+   /**
+    * Calculates the square root of <tt>x + iy</tt>, storing the result
+    * in element <tt>i</tt> of <tt>(zr,zi)</tt>.  This is the algorithm
+    * of <tt>Complex.sqrt</tt>, adapted from "Numerical Recipes in C".
+    */
+   static void sqrt( double x, double y, double zr[], double zi[], int i ) {
+
+      double mag = abs(x, y);
+      double temp;
+
+      if (mag > 0.0) {
+         if (x > 0.0) {
+            temp = Math.sqrt(0.5 * (mag + x));
+            zr[i] = temp;
+            zi[i] = 0.5 * y / temp;
+         }
+         else {
+            temp = Math.sqrt(0.5 * (mag - x));
+            if (y < 0.0) {
+               temp = -temp;
+            }
+            zr[i] = 0.5 * y / temp;
+            zi[i] = temp;
+         }
+      }
+      else {
+         zr[i] = 0.0;
+         zi[i] = 0.0;
+      }
+   }
+
+
+   /**
+    * Divides element <tt>i</tt> of <tt>(zr,zi)</tt> by <tt>x + iy</tt>
+    * in place, using the scaled algorithm of <tt>Complex.div</tt>.
+    */
+   static void div( double zr[], double zi[], int i, double x, double y ) {
+
+      double a = zr[i], b = zi[i];
+      double r, scalar;
+
+      if (Math.abs(x) >= Math.abs(y)) {
+         r = y / x;
+         scalar =  1.0 / ( x + y*r );
+         zr[i] = scalar * (a + b*r);
+         zi[i] = scalar * (b - a*r);
+      }
+      else {
+         r = x / y;
+         scalar =  1.0 / ( x*r + y );
+         zr[i] = scalar * (a*r + b);
+         zi[i] = scalar * (b*r - a);
+      }
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Throws an <tt>InvalidArraySizeException</tt> if array <tt>z</tt> does
+    * not have the same length as this array.
+    */
+   private void check( ComplexArray z, String method ) {
+      if ( z.re.length != re.length ) {
+         String s = method + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+   }
+}
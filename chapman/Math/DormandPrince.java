@@ -0,0 +1,452 @@
+package chapman.math;
+
+/**
+ * Class <code>DormandPrince</code> solves systems of ordinary
+ * differential equations <code>dy/dt = f(t,y)</code> with the adaptive
+ * Runge-Kutta method of Dormand and Prince, which advances the solution
+ * with a 5th order formula and controls the step size with an embedded
+ * 4th order error estimate.  It is the usual choice for problems that
+ * are not stiff.
+ * <p>
+ * A solver is created for a fixed number of equations, and allocates
+ * all of its stage and state buffers once.  Each call to
+ * <code>integrate</code> then advances the state array in place without
+ * creating any objects, so one solver may integrate many problems, or
+ * many millions of steps, without garbage.  The last stage of each step
+ * is the first stage of the next, so a step costs six evaluations of
+ * <code>f</code>.  A <code>StepHandler</code> may be supplied to observe
+ * or stop the integration after each accepted step.  For example,
+ * <pre>
+ *   DormandPrince ode = new DormandPrince( 2, 1.0e-8, 1.0e-10 );
+ *   double y[] = { 1, 0 };
+ *   ode.integrate( new DormandPrince.Derivatives() {
+ *      public void evaluate( double t, double y[], double dydt[] ) {
+ *         dydt[0] = y[1];
+ *         dydt[1] = -y[0];
+ *      }
+ *   }, 0, y, 10, null );
+ * </pre>
+ * A solver is not safe for use by several threads at once; give each
+ * thread its own solver.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Quadrature
+ */
+
+public class DormandPrince {
+
+   //*************************************************
+   // Nested classes
+   //*************************************************
+
+   /**
+    * The right-hand side <tt>f(t,y)</tt> of a system of equations.
+    */
+   public static abstract class Derivatives {
+
+      /**
+       * Calculates the derivatives at a point.
+       *
+       * @param   t     the independent variable.
+       * @param   y     the state, which must not be modified.
+       * @param   dydt  output array, which receives <tt>f(t,y)</tt>.
+       */
+      public abstract void evaluate( double t, double y[], double dydt[] );
+   }
+
+
+   /**
+    * An observer called after each accepted step.
+    */
+   public static abstract class StepHandler {
+
+      /**
+       * Called after each accepted step.
+       *
+       * @param   t     the independent variable at the end of the step.
+       * @param   y     the state at <tt>t</tt>, which must not be
+       *                modified.
+       * @return  <tt>true</tt> to continue the integration, or
+       *          <tt>false</tt> to stop it at <tt>t</tt>
+       */
+      public abstract boolean step( double t, double y[] );
+   }
+
+   //*************************************************
+   // Class variables
+   //*************************************************
+
+   /*
+    * The Dormand-Prince coefficients.  The weights of the 5th order
+    * solution are the coefficients of the last stage, A71 to A76, and
+    * E1 to E7 are the differences between the 5th and 4th order weights.
+    */
+   private static final double A21 = 1.0/5.0;
+   private static final double A31 = 3.0/40.0,       A32 = 9.0/40.0;
+   private static final double A41 = 44.0/45.0,      A42 = -56.0/15.0,
+                               A43 = 32.0/9.0;
+   private static final double A51 = 19372.0/6561.0, A52 = -25360.0/2187.0,
+                               A53 = 64448.0/6561.0, A54 = -212.0/729.0;
+   private static final double A61 = 9017.0/3168.0,  A62 = -355.0/33.0,
+                               A63 = 46732.0/5247.0, A64 = 49.0/176.0,
+                               A65 = -5103.0/18656.0;
+   private static final double A71 = 35.0/384.0,     A73 = 500.0/1113.0,
+                               A74 = 125.0/192.0,    A75 = -2187.0/6784.0,
+                               A76 = 11.0/84.0;
+   private static final double C2 = 1.0/5.0, C3 = 3.0/10.0, C4 = 4.0/5.0,
+                               C5 = 8.0/9.0;
+   private static final double E1 = 71.0/57600.0,    E3 = -71.0/16695.0,
+                               E4 = 71.0/1920.0,     E5 = -17253.0/339200.0,
+                               E6 = 22.0/525.0,      E7 = -1.0/40.0;
+
+   /*
+    * Step size control: the safety factor and the limits on the change
+    * of step size after a step.
+    */
+   private static final double SAFETY    = 0.9;
+   private static final double MIN_SCALE = 0.2;
+   private static final double MAX_SCALE = 10.0;
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * The number of equations.
+    */
+   private int n;
+
+   /**
+    * The relative and absolute error tolerances.
+    */
+   private double relTol, absTol;
+
+   /**
+    * The largest step allowed, and the largest number of steps in one
+    * call to <tt>integrate</tt>.
+    */
+   private double maxStep = Double.POSITIVE_INFINITY;
+   private long maxSteps = Long.MAX_VALUE;
+
+   /**
+    * The stage derivatives, and the trial state of a step.
+    */
+   private double k1[], k2[], k3[], k4[], k5[], k6[], k7[], yNew[];
+
+   /**
+    * The step size at the end of the last integration, and the number
+    * of evaluations of <tt>f</tt> it made.
+    */
+   private double lastStep;
+   private long evaluations;
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Creates a solver for a system of <tt>n</tt> equations.  The error
+    * in each component of each step is kept below
+    * <tt>absTol + relTol*|y[i]|</tt>, in the root mean square sense.
+    *
+    * @param   n       the number of equations.
+    * @param   relTol  the relative error tolerance.
+    * @param   absTol  the absolute error tolerance.
+    * @exception IllegalArgumentException if <tt>n</tt> is less than one,
+    *          <tt>relTol</tt> is negative or <tt>absTol</tt> is not
+    *          positive.
+    */
+   public DormandPrince( int n, double relTol, double absTol ) {
+      if ( n < 1 ) {
+         String s = "DormandPrince: Invalid number of equations " + n;
+         throw new IllegalArgumentException(s);
+      }
+      if ( !(relTol >= 0 && absTol > 0) ) {
+         String s = "DormandPrince: Invalid tolerances " + relTol + ", " + absTol;
+         throw new IllegalArgumentException(s);
+      }
+      this.n      = n;
+      this.relTol = relTol;
+      this.absTol = absTol;
+      k1   = new double[n];
+      k2   = new double[n];
+      k3   = new double[n];
+      k4   = new double[n];
+      k5   = new double[n];
+      k6   = new double[n];
+      k7   = new double[n];
+      yNew = new double[n];
+   }
+
+   //*************************************************
+   // Instance methods
+   //*************************************************
+
+   /**
+    * Sets the largest step the solver may take.  The default is
+    * unlimited.
+    *
+    * @param   maxStep  the largest step, greater than zero.
+    * @exception IllegalArgumentException if <tt>maxStep</tt> is not
+    *          positive.
+    */
+   public void setMaxStep( double maxStep ) {
+      if ( !(maxStep > 0) ) {
+         String s = "setMaxStep: Invalid step " + maxStep;
+         throw new IllegalArgumentException(s);
+      }
+      this.maxStep = maxStep;
+   }
+
+
+   /**
+    * Sets the largest number of steps, accepted or rejected, in one call
+    * to <tt>integrate</tt>.  The default is unlimited.
+    *
+    * @param   maxSteps  the largest number of steps, greater than zero.
+    * @exception IllegalArgumentException if <tt>maxSteps</tt> is not
+    *          positive.
+    */
+   public void setMaxSteps( long maxSteps ) {
+      if ( maxSteps < 1 ) {
+         String s = "setMaxSteps: Invalid number of steps " + maxSteps;
+         throw new IllegalArgumentException(s);
+      }
+      this.maxSteps = maxSteps;
+   }
+
+
+   /**
+    * Returns the number of evaluations of <tt>f</tt> made by the last
+    * call to <tt>integrate</tt>.
+    *
+    * @return  the number of evaluations
+    */
+   public long getEvaluations() {
+      return evaluations;
+   }
+
+
+   /**
+    * Returns the step size the last call to <tt>integrate</tt> would
+    * have taken next, which is a good initial step for continuing the
+    * integration.
+    *
+    * @return  the next step size
+    */
+   public double getLastStep() {
+      return lastStep;
+   }
+
+
+   /**
+    * Integrates the system from <tt>t0</tt> to <tt>t1</tt>, choosing the
+    * initial step automatically.  <tt>t1</tt> may be less than
+    * <tt>t0</tt>, to integrate backwards.
+    *
+    * @param   f        the right-hand side of the system.
+    * @param   t0       the initial value of the independent variable.
+    * @param   y        on entry, the state at <tt>t0</tt>; on exit, the
+    *                   state at the point the integration stopped.
+    * @param   t1       the final value of the independent variable.
+    * @param   handler  the observer of each accepted step, or
+    *                   <tt>null</tt>.
+    * @return  the value of the independent variable at which the
+    *          integration stopped, which is <tt>t1</tt> unless the
+    *          handler stopped it
+    * @exception InvalidArraySizeException if <tt>y</tt> does not have
+    *          one element per equation.
+    * @exception ArithmeticException if the step size becomes too small,
+    *          or the maximum number of steps is exceeded.
+    */
+   public double integrate( Derivatives f, double t0, double y[], double t1,
+                            StepHandler handler ) {
+      return integrate( f, t0, y, t1, 0, handler );
+   }
+
+
+   /**
+    * Integrates the system from <tt>t0</tt> to <tt>t1</tt>, starting
+    * with step <tt>h0</tt>.  <tt>t1</tt> may be less than <tt>t0</tt>,
+    * to integrate backwards.
+    *
+    * @param   f        the right-hand side of the system.
+    * @param   t0       the initial value of the independent variable.
+    * @param   y        on entry, the state at <tt>t0</tt>; on exit, the
+    *                   state at the point the integration stopped.
+    * @param   t1       the final value of the independent variable.
+    * @param   h0       the size of the first step, or 0 to choose it
+    *                   automatically.
+    * @param   handler  the observer of each accepted step, or
+    *                   <tt>null</tt>.
+    * @return  the value of the independent variable at which the
+    *          integration stopped, which is <tt>t1</tt> unless the
+    *          handler stopped it
+    * @exception InvalidArraySizeException if <tt>y</tt> does not have
+    *          one element per equation.
+    * @exception ArithmeticException if the step size becomes too small,
+    *          or the maximum number of steps is exceeded.
+    */
+   public double integrate( Derivatives f, double t0, double y[], double t1,
+                            double h0, StepHandler handler ) {
+      if ( y.length != n ) {
+         String s = "integrate: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      evaluations = 0;
+      lastStep    = 0;
+      if ( t1 == t0 ) {
+         return t0;
+      }
+      double dir = (t1 > t0) ? 1 : -1;
+
+      double t = t0;
+      f.evaluate( t, y, k1 );
+      evaluations++;
+      double h = (h0 != 0) ? Math.abs( h0 ) : initialStep( f, t, y, dir );
+      h = Math.min( h, maxStep );
+
+      boolean rejected = false;
+      for ( long steps = 0; ; steps++ ) {
+         if ( steps >= maxSteps ) {
+            String s = "integrate: Too many steps at t = " + t;
+            throw new ArithmeticException(s);
+         }
+         if ( !(h > 16 * Math.ulp( t )) ) {
+            String s = "integrate: Step size too small at t = " + t;
+            throw new ArithmeticException(s);
+         }
+
+         // Do not step past the end
+         boolean last = (t + dir * h - t1) * dir >= 0;
+         double step = last ? t1 - t : dir * h;
+
+         double err = trialStep( f, t, y, step );
+         if ( err <= 1 ) {
+
+            // Accept the step; the last stage becomes the first stage
+            // of the next step
+            t = last ? t1 : t + step;
+            System.arraycopy( yNew, 0, y, 0, n );
+            double swap[] = k1;
+            k1 = k7;
+            k7 = swap;
+
+            double scale = (err == 0) ? MAX_SCALE
+                         : Math.min( MAX_SCALE, SAFETY * Math.pow( err, -0.2 ) );
+            if ( rejected ) {
+               scale = Math.min( scale, 1 );
+            }
+            rejected = false;
+            h = Math.min( Math.abs( step ) * Math.max( scale, MIN_SCALE ), maxStep );
+            if ( handler != null && !handler.step( t, y ) ) {
+               break;
+            }
+            if ( last ) {
+               break;
+            }
+         }
+         else {
+
+            // Reject the step, and retry with a smaller one.  A NaN
+            // error estimate gives the smallest step
+            double scale = SAFETY * Math.pow( err, -0.2 );
+            h = Math.abs( step ) * ( (scale > MIN_SCALE) ? scale : MIN_SCALE );
+            rejected = true;
+         }
+      }
+      lastStep = dir * h;
+      return t;
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Takes a trial step of size <tt>h</tt> from (<tt>t</tt>, <tt>y</tt>),
+    * given the derivatives <tt>k1</tt> at its start.  The 5th order
+    * solution is left in <tt>yNew</tt> and its derivatives in
+    * <tt>k7</tt>, and the scaled root mean square error is returned.
+    */
+   private double trialStep( Derivatives f, double t, double y[], double h ) {
+      for ( int i = 0; i < n; i++ ) {
+         yNew[i] = y[i] + h * A21 * k1[i];
+      }
+      f.evaluate( t + C2 * h, yNew, k2 );
+      for ( int i = 0; i < n; i++ ) {
+         yNew[i] = y[i] + h * (A31 * k1[i] + A32 * k2[i]);
+      }
+      f.evaluate( t + C3 * h, yNew, k3 );
+      for ( int i = 0; i < n; i++ ) {
+         yNew[i] = y[i] + h * (A41 * k1[i] + A42 * k2[i] + A43 * k3[i]);
+      }
+      f.evaluate( t + C4 * h, yNew, k4 );
+      for ( int i = 0; i < n; i++ ) {
+         yNew[i] = y[i] + h * (A51 * k1[i] + A52 * k2[i] + A53 * k3[i]
+                             + A54 * k4[i]);
+      }
+      f.evaluate( t + C5 * h, yNew, k5 );
+      for ( int i = 0; i < n; i++ ) {
+         yNew[i] = y[i] + h * (A61 * k1[i] + A62 * k2[i] + A63 * k3[i]
+                             + A64 * k4[i] + A65 * k5[i]);
+      }
+      f.evaluate( t + h, yNew, k6 );
+      for ( int i = 0; i < n; i++ ) {
+         yNew[i] = y[i] + h * (A71 * k1[i] + A73 * k3[i] + A74 * k4[i]
+                             + A75 * k5[i] + A76 * k6[i]);
+      }
+      f.evaluate( t + h, yNew, k7 );
+      evaluations += 6;
+
+      // Scaled error of the embedded 4th order solution
+      double sum = 0;
+      for ( int i = 0; i < n; i++ ) {
+         double e = h * (E1 * k1[i] + E3 * k3[i] + E4 * k4[i]
+                       + E5 * k5[i] + E6 * k6[i] + E7 * k7[i]);
+         double sc = absTol + relTol * Math.max( Math.abs( y[i] ),
+                                                 Math.abs( yNew[i] ) );
+         double r = e / sc;
+         sum += r * r;
+      }
+      return Math.sqrt( sum / n );
+   }
+
+
+   /**
+    * Returns an initial step size, from the size of the state and of its
+    * first and second derivatives at the start (Hairer, Norsett and
+    * Wanner).  <tt>k2</tt> and <tt>yNew</tt> are used as work space.
+    */
+   private double initialStep( Derivatives f, double t, double y[], double dir ) {
+      double d0 = 0, d1 = 0;
+      for ( int i = 0; i < n; i++ ) {
+         double sc = absTol + relTol * Math.abs( y[i] );
+         d0 += (y[i] / sc) * (y[i] / sc);
+         d1 += (k1[i] / sc) * (k1[i] / sc);
+      }
+      d0 = Math.sqrt( d0 / n );
+      d1 = Math.sqrt( d1 / n );
+      double h = (d0 < 1.0e-5 || d1 < 1.0e-5) ? 1.0e-6 : 0.01 * d0 / d1;
+
+      // An explicit Euler step, to estimate the second derivative
+      for ( int i = 0; i < n; i++ ) {
+         yNew[i] = y[i] + dir * h * k1[i];
+      }
+      f.evaluate( t + dir * h, yNew, k2 );
+      evaluations++;
+      double d2 = 0;
+      for ( int i = 0; i < n; i++ ) {
+         double sc = absTol + relTol * Math.abs( y[i] );
+         double r = (k2[i] - k1[i]) / sc;
+         d2 += r * r;
+      }
+      d2 = Math.sqrt( d2 / n ) / h;
+
+      double dmax = Math.max( d1, d2 );
+      double h1 = (dmax <= 1.0e-15) ? Math.max( 1.0e-6, 1.0e-3 * h )
+                                    : Math.pow( 0.01 / dmax, 0.2 );
+      return Math.min( 100 * h, h1 );
+   }
+}
@@ -0,0 +1,1224 @@
+package chapman.math;
+
+/**
+ * Class <code>FastMath</code> contains fast approximations to the
+ * trigonometric functions of angles in degrees, the sinc function, and
+ * the logarithm to the base 10.  They give up a little accuracy compared
+ * to the methods of the same names in class <code>Math1</code> in return
+ * for speed, and are intended for bulk calculations such as the steering
+ * vectors of an antenna array, where an error of 1.0e-9 is acceptable.
+ * They are used only when called explicitly; the methods of
+ * <code>Math1</code> and <code>Array</code> are not affected.
+ * <p>
+ * The trigonometric functions reduce their argument to the nearest
+ * multiple of 180 degrees (or <i>pi</i> radians for <code>sinc</code>),
+ * fold the sign of the result into the reduced argument, and evaluate a
+ * single odd polynomial for the sine over +/-90 degrees.  There are no
+ * branches or table lookups, so the bulk methods compile to vectorized
+ * loops and run several times faster than calls to <code>Math.sin</code>.
+ * The reduction is done exactly in degrees, so <code>sind(180)</code> is
+ * exactly zero and <code>tand</code> is accurate close to its poles.
+ * <code>log10</code> uses a table of 128 logarithms and a short
+ * polynomial.  Over their full input ranges, the maximum errors are
+ * <pre>
+ *   sind, cosd    absolute error  < 5.0e-16
+ *   tand          relative error  < 1.0e-15
+ *   sinc          absolute error  < 5.0e-16
+ *   log10         absolute error  < 5.0e-16 * max(1, |log10(a)|)
+ * </pre>
+ * NaN and infinite arguments, and zero or negative arguments to
+ * <code>log10</code>, give the same results as the exact methods,
+ * except that <code>tand</code> of an odd multiple of 90 degrees is
+ * infinite.
+ * <p>
+ * The trigonometric functions also have <code>float</code> versions,
+ * which include the sine and cosine of angles in radians, for data that
+ * is kept in single precision.  They work in <code>float</code>
+ * arithmetic throughout, reducing the argument to the nearest multiple of
+ * 90 degrees (or <i>pi</i>/2 radians) and evaluating short polynomials for
+ * both the sine and cosine, and their results are within 3 units in the
+ * last place of the correctly rounded values.
+ * <p>
+ * Each function has bulk versions that work on whole arrays, and
+ * <code>sincosd</code> calculates the sine and cosine of the same angles
+ * together.  Each bulk method has a loop of its own, so that the
+ * compiler optimizes it for that function alone.  Large arrays are
+ * processed in parallel, as described in class <code>Parallel</code>.
+ * For example,
+ * <pre>
+ *   FastMath.sincosd( theta, s, c );
+ * </pre>
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Math1
+ */
+
+public final class FastMath {
+
+   //*************************************************
+   // Constants
+   //*************************************************
+
+   /**
+    * Degrees to radians.
+    */
+   private static final double DEG_2_RAD = Math.PI / 180;
+
+   /**
+    * Largest angle in degrees that is reduced without first taking its
+    * remainder modulo 360.  Below this, the nearest multiple of 180 and
+    * the difference from it are exact.
+    */
+   private static final double DEG_MAX = 1.0e15;
+
+   /**
+    * <i>pi</i>, split into a 33-bit leading part and the rest, so that
+    * the product of the leading part and a multiplier below 2<sup>20</sup>
+    * is exact.
+    */
+   private static final double PI_HI = 3.14159265346825122833e+00;
+   private static final double PI_LO = 1.21542010130123844986e-10;
+
+   /**
+    * Largest argument that <tt>sinc</tt> reduces itself.
+    */
+   private static final double SINC_MAX = 1.0e6;
+
+   /**
+    * Taylor coefficients of sin(t)/t in powers of t*t.  The first
+    * omitted term is below 1.0e-20 for |t| <= <i>pi</i>/2.
+    */
+   private static final double S1  = -1.0 / 6;
+   private static final double S2  =  1.0 / 120;
+   private static final double S3  = -1.0 / 5040;
+   private static final double S4  =  1.0 / 362880;
+   private static final double S5  = -1.0 / 39916800;
+   private static final double S6  =  1.0 / 6227020800.0;
+   private static final double S7  = -1.0 / 1307674368000.0;
+   private static final double S8  =  1.0 / 355687428096000.0;
+   private static final double S9  = -1.0 / 121645100408832000.0;
+   private static final double S10 =  1.0 / 51090942171709440000.0;
+   private static final double S11 = -1.0 / 25852016738884976640000.0;
+
+   /**
+    * Constants for the <code>float</code> methods, which work in
+    * <code>float</code> arithmetic throughout, since conversions to and
+    * from <code>double</code> would cost more than the functions
+    * themselves.  Adding and subtracting <tt>ROUND_F</tt> rounds a
+    * <code>float</code> below 2<sup>22</sup> in magnitude to the nearest
+    * integer.
+    */
+   private static final float ROUND_F       = 12582912f;
+   private static final float DEG_2_RAD_F   = (float) DEG_2_RAD;
+   private static final float INV_PI_F      = (float) (1 / Math.PI);
+   private static final float TWO_OVER_PI_F = (float) (2 / Math.PI);
+
+   /**
+    * Largest <code>float</code> angles in degrees and in radians that
+    * are reduced in <code>float</code> arithmetic.  Below these, the
+    * product of the nearest multiple and 90, or the leading parts of
+    * <i>pi</i>/2, is exact.
+    */
+   private static final float DEG_MAX_F = 1.0e7f;
+   private static final float RAD_MAX_F = 8192f;
+
+   /**
+    * <i>pi</i>/2, split into three 11-bit parts and the rest.
+    */
+   private static final float PIO2_A_F = 1.5703125f;
+   private static final float PIO2_B_F = 4.837512969970703125e-4f;
+   private static final float PIO2_C_F = 7.54953362047672271728515625e-8f;
+   private static final float PIO2_D_F = 2.5633440682570896e-12f;
+
+   /**
+    * The first six Taylor coefficients of sin(t)/t, which are enough for
+    * a <code>float</code> result.  The first omitted term is below
+    * 1.0e-9 for |t| <= <i>pi</i>/2, and the first four are enough for
+    * |t| <= <i>pi</i>/4.
+    */
+   private static final float F1 = (float) S1;
+   private static final float F2 = (float) S2;
+   private static final float F3 = (float) S3;
+   private static final float F4 = (float) S4;
+   private static final float F5 = (float) S5;
+   private static final float F6 = (float) S6;
+
+   /**
+    * Taylor coefficients of cos(t) in powers of t*t.  The first omitted
+    * term is below 2.0e-10 for |t| <= <i>pi</i>/4.
+    */
+   private static final float G1 = -1.0f / 2;
+   private static final float G2 =  1.0f / 24;
+   private static final float G3 = (float) (-1.0 / 720);
+   private static final float G4 = (float) (1.0 / 40320);
+   private static final float G5 = (float) (-1.0 / 3628800);
+
+   /**
+    * Number of bits of the mantissa used to index the logarithm table.
+    */
+   private static final int LOG_BITS = 7;
+
+   /**
+    * Natural logarithm of 2, and the inverse of the natural logarithm
+    * of 10.
+    */
+   private static final double LN2      = 0.6931471805599453;
+   private static final double INV_LN10 = 0.4342944819032518;
+
+   /**
+    * For each interval of the mantissa, its midpoint <tt>c</tt>, the
+    * inverse of <tt>c</tt>, and the natural logarithm of <tt>c</tt>.
+    */
+   private static final double logMid[] = new double[1 << LOG_BITS];
+   private static final double logInv[] = new double[1 << LOG_BITS];
+   private static final double logC[]   = new double[1 << LOG_BITS];
+
+   static {
+      for ( int k = 0; k < logC.length; k++ ) {
+         double c  = 1.0 + (k + 0.5) / logC.length;
+         logMid[k] = c;
+         logInv[k] = 1.0 / c;
+         logC[k]   = Math.log( c );
+      }
+   }
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Create an inaccessible constructor, so that this class cannot be
+    * instantiated.
+    */
+   private FastMath() {}
+
+   //*************************************************
+   // Static Methods
+   //*************************************************
+
+   /**
+    * Returns the cosine of a <code>float</code> angle expressed in
+    * <i>radians</i>, calculated to <code>float</code> precision.
+    *
+    * @param   a   an angle, in <i>radians</i>.
+    * @return  the cosine of the argument.
+    */
+   public static float cos( float a ) {
+      if ( !(Math.abs( a ) < RAD_MAX_F) )
+         return (float) Math.cos( a );
+      return cos0( a );
+   }
+
+
+   /**
+    * Returns the cosine of each element of a <code>float</code> array of
+    * angles in <i>radians</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the cosine of each element
+    */
+   public static float[] cos( float a[] ) {
+      return cos( a, new float[a.length] );
+   }
+
+
+   /**
+    * Calculates the cosine of each element of a <code>float</code> array
+    * of angles in <i>radians</i>, storing the results in array
+    * <tt>out</tt>.  <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static float[] cos( final float a[], final float out[] ) {
+      if ( a.length != out.length ) {
+         String s = "cos: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( !isBelow( a, from, to, RAD_MAX_F ) )
+               for ( int i = from; i < to; i++ )
+                  out[i] = cos( a[i] );
+            else if ( out == a )
+               for ( int i = from; i < to; i++ )
+                  out[i] = cos0( a[i] );
+            else {
+
+               // Two passes, each short enough to be vectorized
+               for ( int i = from; i < to; i++ )
+                  out[i] = rem90( a[i], rint( a[i] * TWO_OVER_PI_F ) );
+               for ( int i = from; i < to; i++ )
+                  out[i] = sinQ( rint( a[i] * TWO_OVER_PI_F ) + 1, out[i] );
+            }
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Returns the cosine of an angle expressed in <i>degrees</i>.
+    *
+    * @param   a   an angle, in <i>degrees</i>.
+    * @return  the cosine of the argument.
+    */
+   public static double cosd( double a ) {
+      if ( !(Math.abs( a ) < DEG_MAX) )
+         a = Math.IEEEremainder( a, 360 );
+      return cosd0( a );
+   }
+
+
+   /**
+    * Returns the cosine of each element of an array of angles in
+    * <i>degrees</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the cosine of each element
+    */
+   public static double[] cosd( double a[] ) {
+      return cosd( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the cosine of each element of an array of angles in
+    * <i>degrees</i>, storing the results in array <tt>out</tt>.
+    * <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] cosd( final double a[], final double out[] ) {
+      if ( a.length != out.length ) {
+         String s = "cosd: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( isBelow( a, from, to, DEG_MAX ) )
+               for ( int i = from; i < to; i++ )
+                  out[i] = cosd0( a[i] );
+            else
+               for ( int i = from; i < to; i++ )
+                  out[i] = cosd( a[i] );
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Returns the cosine of a <code>float</code> angle expressed in
+    * <i>degrees</i>, calculated to <code>float</code> precision.
+    *
+    * @param   a   an angle, in <i>degrees</i>.
+    * @return  the cosine of the argument.
+    */
+   public static float cosd( float a ) {
+      if ( !(Math.abs( a ) < DEG_MAX_F) )
+         return (float) cosd( (double) a );
+      return cosd0( a );
+   }
+
+
+   /**
+    * Returns the cosine of each element of a <code>float</code> array of
+    * angles in <i>degrees</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the cosine of each element
+    */
+   public static float[] cosd( float a[] ) {
+      return cosd( a, new float[a.length] );
+   }
+
+
+   /**
+    * Calculates the cosine of each element of a <code>float</code> array
+    * of angles in <i>degrees</i>, storing the results in array
+    * <tt>out</tt>.  <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static float[] cosd( final float a[], final float out[] ) {
+      if ( a.length != out.length ) {
+         String s = "cosd: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( isBelow( a, from, to, DEG_MAX_F ) )
+               for ( int i = from; i < to; i++ )
+                  out[i] = cosd0( a[i] );
+            else
+               for ( int i = from; i < to; i++ )
+                  out[i] = cosd( a[i] );
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Returns the logarithm to the base 10 of a number.
+    *
+    * @param   a   a <code>double</code> value
+    * @return  the logarithm to the base 10 of the argument.
+    */
+   public static double log10( double a ) {
+      long bits = Double.doubleToRawLongBits( a );
+      int e = (int) (bits >>> 52);
+      if ( e == 0 || e >= 0x7ff ) {
+
+         // Zero, subnormal, negative, infinite or NaN
+         return Math.log10( a );
+      }
+      e -= 1023;
+      int k = (int) (bits >>> (52 - LOG_BITS)) & ((1 << LOG_BITS) - 1);
+      double m = Double.longBitsToDouble( (bits & 0x000fffffffffffffL)
+                                          | 0x3ff0000000000000L );
+      double r = (m - logMid[k]) * logInv[k];
+
+      // log(1+r) for |r| < 2^-8
+      double p = r * r * (-0.5 + r * (1.0 / 3 + r * (-0.25 + r * (0.2
+               + r * (-1.0 / 6 + r * (1.0 / 7))))));
+      return ( (e * LN2 + logC[k]) + (r + p) ) * INV_LN10;
+   }
+
+
+   /**
+    * Returns the logarithm to the base 10 of each element of an array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the logarithm to the base 10 of each
+    *          element
+    */
+   public static double[] log10( double a[] ) {
+      return log10( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the logarithm to the base 10 of each element of an
+    * array, storing the results in array <tt>out</tt>.  <tt>out</tt> may
+    * be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] log10( final double a[], final double out[] ) {
+      if ( a.length != out.length ) {
+         String s = "log10: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               out[i] = log10( a[i] );
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Returns the sine of a <code>float</code> angle expressed in
+    * <i>radians</i>, calculated to <code>float</code> precision.
+    *
+    * @param   a   an angle, in <i>radians</i>.
+    * @return  the sine of the argument.
+    */
+   public static float sin( float a ) {
+      if ( !(Math.abs( a ) < RAD_MAX_F) )
+         return (float) Math.sin( a );
+      return sin0( a );
+   }
+
+
+   /**
+    * Returns the sine of each element of a <code>float</code> array of
+    * angles in <i>radians</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the sine of each element
+    */
+   public static float[] sin( float a[] ) {
+      return sin( a, new float[a.length] );
+   }
+
+
+   /**
+    * Calculates the sine of each element of a <code>float</code> array
+    * of angles in <i>radians</i>, storing the results in array
+    * <tt>out</tt>.  <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static float[] sin( final float a[], final float out[] ) {
+      if ( a.length != out.length ) {
+         String s = "sin: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( !isBelow( a, from, to, RAD_MAX_F ) )
+               for ( int i = from; i < to; i++ )
+                  out[i] = sin( a[i] );
+            else if ( out == a )
+               for ( int i = from; i < to; i++ )
+                  out[i] = sin0( a[i] );
+            else {
+
+               // Two passes, each short enough to be vectorized
+               for ( int i = from; i < to; i++ )
+                  out[i] = rem90( a[i], rint( a[i] * TWO_OVER_PI_F ) );
+               for ( int i = from; i < to; i++ )
+                  out[i] = sinQ( rint( a[i] * TWO_OVER_PI_F ), out[i] );
+            }
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Returns the function sinc <i>x</i>, where sinc <i>x</i> is defined
+    * as sin <i>x</i> / <i>x</i>.
+    *
+    * @param   a   input value.
+    * @return  the sinc of the argument.
+    */
+   public static double sinc( double a ) {
+      if ( !(Math.abs( a ) < SINC_MAX) )
+         return Math.sin( a ) / a;
+      return sinc0( a );
+   }
+
+
+   /**
+    * Returns the sinc function of each element of an array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the sinc function of each element
+    */
+   public static double[] sinc( double a[] ) {
+      return sinc( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the sinc function of each element of an array, storing
+    * the results in array <tt>out</tt>.  <tt>out</tt> may be the same
+    * array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] sinc( final double a[], final double out[] ) {
+      if ( a.length != out.length ) {
+         String s = "sinc: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( !isBelow( a, from, to, SINC_MAX ) )
+               for ( int i = from; i < to; i++ )
+                  out[i] = sinc( a[i] );
+            else if ( out == a )
+               for ( int i = from; i < to; i++ )
+                  out[i] = sinc0( a[i] );
+            else {
+               for ( int i = from; i < to; i++ )
+                  out[i] = sincArg( a[i] );
+               for ( int i = from; i < to; i++ )
+                  out[i] = sincRatio( out[i], a[i] );
+            }
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Returns the function sinc <i>x</i> of a <code>float</code> value,
+    * calculated to <code>float</code> precision.
+    *
+    * @param   a   input value.
+    * @return  the sinc of the argument.
+    */
+   public static float sinc( float a ) {
+      if ( !(Math.abs( a ) < RAD_MAX_F) )
+         return (float) (Math.sin( a ) / a);
+      return sinc0( a );
+   }
+
+
+   /**
+    * Returns the sinc function of each element of a <code>float</code>
+    * array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the sinc function of each element
+    */
+   public static float[] sinc( float a[] ) {
+      return sinc( a, new float[a.length] );
+   }
+
+
+   /**
+    * Calculates the sinc function of each element of a <code>float</code>
+    * array, storing the results in array <tt>out</tt>.  <tt>out</tt> may
+    * be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static float[] sinc( final float a[], final float out[] ) {
+      if ( a.length != out.length ) {
+         String s = "sinc: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( isBelow( a, from, to, RAD_MAX_F ) )
+               for ( int i = from; i < to; i++ )
+                  out[i] = sinc0( a[i] );
+            else
+               for ( int i = from; i < to; i++ )
+                  out[i] = sinc( a[i] );
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Calculates the sine and cosine of each element of an array of angles
+    * in <i>degrees</i>.
+    *
+    * @param   a   input array, in <i>degrees</i>.
+    * @param   sin output array for the sines, the same length as
+    *          <tt>a</tt>.
+    * @param   cos output array for the cosines, the same length as
+    *          <tt>a</tt>.
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static void sincosd( final double a[], final double sin[],
+                               final double cos[] ) {
+      if ( a.length != sin.length || a.length != cos.length ) {
+         String s = "sincosd: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+
+            // The cosines are calculated first, in case sin is a
+            if ( isBelow( a, from, to, DEG_MAX ) ) {
+               for ( int i = from; i < to; i++ )
+                  cos[i] = cosd0( a[i] );
+               for ( int i = from; i < to; i++ )
+                  sin[i] = sind0( a[i] );
+            }
+            else {
+               for ( int i = from; i < to; i++ )
+                  cos[i] = cosd( a[i] );
+               for ( int i = from; i < to; i++ )
+                  sin[i] = sind( a[i] );
+            }
+         }
+      } );
+   }
+
+
+   /**
+    * Calculates the sine and cosine of each element of a
+    * <code>float</code> array of angles in <i>degrees</i>.
+    *
+    * @param   a   input array, in <i>degrees</i>.
+    * @param   sin output array for the sines, the same length as
+    *          <tt>a</tt>.
+    * @param   cos output array for the cosines, the same length as
+    *          <tt>a</tt>.
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static void sincosd( final float a[], final float sin[],
+                               final float cos[] ) {
+      if ( a.length != sin.length || a.length != cos.length ) {
+         String s = "sincosd: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+
+            // The cosines are calculated first, in case sin is a
+            if ( isBelow( a, from, to, DEG_MAX_F ) ) {
+               for ( int i = from; i < to; i++ )
+                  cos[i] = cosd0( a[i] );
+               for ( int i = from; i < to; i++ )
+                  sin[i] = sind0( a[i] );
+            }
+            else {
+               for ( int i = from; i < to; i++ )
+                  cos[i] = cosd( a[i] );
+               for ( int i = from; i < to; i++ )
+                  sin[i] = sind( a[i] );
+            }
+         }
+      } );
+   }
+
+
+   /**
+    * Returns the sine of an angle expressed in <i>degrees</i>.
+    *
+    * @param   a   an angle, in <i>degrees</i>.
+    * @return  the sine of the argument.
+    */
+   public static double sind( double a ) {
+      if ( !(Math.abs( a ) < DEG_MAX) )
+         a = Math.IEEEremainder( a, 360 );
+      return sind0( a );
+   }
+
+
+   /**
+    * Returns the sine of each element of an array of angles in
+    * <i>degrees</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the sine of each element
+    */
+   public static double[] sind( double a[] ) {
+      return sind( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the sine of each element of an array of angles in
+    * <i>degrees</i>, storing the results in array <tt>out</tt>.
+    * <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] sind( final double a[], final double out[] ) {
+      if ( a.length != out.length ) {
+         String s = "sind: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( isBelow( a, from, to, DEG_MAX ) )
+               for ( int i = from; i < to; i++ )
+                  out[i] = sind0( a[i] );
+            else
+               for ( int i = from; i < to; i++ )
+                  out[i] = sind( a[i] );
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Returns the sine of a <code>float</code> angle expressed in
+    * <i>degrees</i>, calculated to <code>float</code> precision.
+    *
+    * @param   a   an angle, in <i>degrees</i>.
+    * @return  the sine of the argument.
+    */
+   public static float sind( float a ) {
+      if ( !(Math.abs( a ) < DEG_MAX_F) )
+         return (float) sind( (double) a );
+      return sind0( a );
+   }
+
+
+   /**
+    * Returns the sine of each element of a <code>float</code> array of
+    * angles in <i>degrees</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the sine of each element
+    */
+   public static float[] sind( float a[] ) {
+      return sind( a, new float[a.length] );
+   }
+
+
+   /**
+    * Calculates the sine of each element of a <code>float</code> array
+    * of angles in <i>degrees</i>, storing the results in array
+    * <tt>out</tt>.  <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static float[] sind( final float a[], final float out[] ) {
+      if ( a.length != out.length ) {
+         String s = "sind: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( isBelow( a, from, to, DEG_MAX_F ) )
+               for ( int i = from; i < to; i++ )
+                  out[i] = sind0( a[i] );
+            else
+               for ( int i = from; i < to; i++ )
+                  out[i] = sind( a[i] );
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Returns the tangent of an angle expressed in <i>degrees</i>.
+    *
+    * @param   a   an angle, in <i>degrees</i>.
+    * @return  the tangent of the argument.
+    */
+   public static double tand( double a ) {
+      if ( !(Math.abs( a ) < DEG_MAX) )
+         a = Math.IEEEremainder( a, 360 );
+      return tand0( a );
+   }
+
+
+   /**
+    * Returns the tangent of each element of an array of angles in
+    * <i>degrees</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the tangent of each element
+    */
+   public static double[] tand( double a[] ) {
+      return tand( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the tangent of each element of an array of angles in
+    * <i>degrees</i>, storing the results in array <tt>out</tt>.
+    * <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] tand( final double a[], final double out[] ) {
+      if ( a.length != out.length ) {
+         String s = "tand: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( !isBelow( a, from, to, DEG_MAX ) )
+               for ( int i = from; i < to; i++ )
+                  out[i] = tand( a[i] );
+            else if ( out == a )
+               for ( int i = from; i < to; i++ )
+                  out[i] = tand0( a[i] );
+            else {
+
+               // Two passes, each short enough to be vectorized
+               for ( int i = from; i < to; i++ )
+                  out[i] = sin( rem180( a[i] ) * DEG_2_RAD );
+               for ( int i = from; i < to; i++ )
+                  out[i] /= sin( (90 - Math.abs( rem180( a[i] ) )) * DEG_2_RAD );
+            }
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Returns the tangent of a <code>float</code> angle expressed in
+    * <i>degrees</i>, calculated to <code>float</code> precision.
+    *
+    * @param   a   an angle, in <i>degrees</i>.
+    * @return  the tangent of the argument.
+    */
+   public static float tand( float a ) {
+      if ( !(Math.abs( a ) < DEG_MAX_F) )
+         return (float) tand( (double) a );
+      return tand0( a );
+   }
+
+
+   /**
+    * Returns the tangent of each element of a <code>float</code> array of
+    * angles in <i>degrees</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the tangent of each element
+    */
+   public static float[] tand( float a[] ) {
+      return tand( a, new float[a.length] );
+   }
+
+
+   /**
+    * Calculates the tangent of each element of a <code>float</code> array
+    * of angles in <i>degrees</i>, storing the results in array
+    * <tt>out</tt>.  <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static float[] tand( final float a[], final float out[] ) {
+      if ( a.length != out.length ) {
+         String s = "tand: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( !isBelow( a, from, to, DEG_MAX_F ) )
+               for ( int i = from; i < to; i++ )
+                  out[i] = tand( a[i] );
+            else if ( out == a )
+               for ( int i = from; i < to; i++ )
+                  out[i] = tand0( a[i] );
+            else {
+
+               // Two passes, each short enough to be vectorized
+               for ( int i = from; i < to; i++ )
+                  out[i] = (a[i] - rint( a[i] * (1f / 90) ) * 90) * DEG_2_RAD_F;
+               for ( int i = from; i < to; i++ )
+                  out[i] = tanQ( rint( a[i] * (1f / 90) ), out[i] );
+            }
+         }
+      } );
+      return out;
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+
+   /**
+    * Returns the cosine of <tt>a</tt> degrees, for |a| <
+    * <tt>DEG_MAX</tt>.  cos(a) = (-1)^m sin(90 - |r|), where <tt>r</tt>
+    * is the remainder after the nearest multiple <tt>m</tt> of 180
+    * degrees; 90 - |r| is exact wherever the sine is not flat.
+    */
+   private static double cosd0( double a ) {
+      double m = Math.rint( a * (1.0 / 180) );
+      double r = a - m * 180;
+      return sin( sign( m ) * (90 - Math.abs( r )) * DEG_2_RAD );
+   }
+
+
+   /**
+    * Returns the cosine of <tt>a</tt> degrees in <code>float</code>
+    * arithmetic, for |a| < <tt>DEG_MAX_F</tt>.  cos(a) = sin(a + 90).
+    */
+   private static float cosd0( float a ) {
+      float q = rint( a * (1f / 90) );
+      return sinQ( q + 1, (a - q * 90) * DEG_2_RAD_F );
+   }
+
+
+   /**
+    * Returns the cosine of <tt>a</tt> radians in <code>float</code>
+    * arithmetic, for |a| < <tt>RAD_MAX_F</tt>.  cos(a) = sin(a +
+    * <i>pi</i>/2).
+    */
+   private static float cos0( float a ) {
+      float q = rint( a * TWO_OVER_PI_F );
+      return sinQ( q + 1, rem90( a, q ) );
+   }
+
+
+   /**
+    * Returns cos(t) in <code>float</code> arithmetic, for |t| <=
+    * <i>pi</i>/4.
+    */
+   private static float cosF( float t ) {
+      float z = t * t;
+      return 1 + z * (G1 + z * (G2 + z * (G3 + z * (G4 + z * G5))));
+   }
+
+
+   /**
+    * Returns <tt>true</tt> if elements <tt>from</tt> through
+    * <tt>to-1</tt> of <tt>a</tt> are all less than <tt>max</tt> in
+    * magnitude or NaN, so that the functions without range checks may
+    * be used.
+    */
+   private static boolean isBelow( double a[], int from, int to, double max ) {
+      for ( int i = from; i < to; i++ )
+         if ( !(Math.abs( a[i] ) < max) && !Double.isNaN( a[i] ) )
+            return false;
+      return true;
+   }
+
+
+   /**
+    * Returns <tt>true</tt> if elements <tt>from</tt> through
+    * <tt>to-1</tt> of <tt>a</tt> are all less than <tt>max</tt> in
+    * magnitude or NaN.
+    */
+   private static boolean isBelow( float a[], int from, int to, float max ) {
+      for ( int i = from; i < to; i++ )
+         if ( !(Math.abs( a[i] ) < max) && !Float.isNaN( a[i] ) )
+            return false;
+      return true;
+   }
+
+
+   /**
+    * Returns the remainder of <tt>a</tt> after the nearest multiple of
+    * 180, for |a| < <tt>DEG_MAX</tt>.  The result is exact.
+    */
+   private static double rem180( double a ) {
+      return a - Math.rint( a * (1.0 / 180) ) * 180;
+   }
+
+
+   /**
+    * Returns a - q <i>pi</i>/2 in <code>float</code> arithmetic, for an
+    * integer |q| < 2<sup>13</sup>.  The first three steps are exact.
+    */
+   private static float rem90( float a, float q ) {
+      return (((a - q * PIO2_A_F) - q * PIO2_B_F) - q * PIO2_C_F) - q * PIO2_D_F;
+   }
+
+
+   /**
+    * Rounds <tt>x</tt> to the nearest integer, for |x| < 2<sup>22</sup>.
+    */
+   private static float rint( float x ) {
+      return (x + ROUND_F) - ROUND_F;
+   }
+
+
+   /**
+    * Returns (-1)^m for an integer <tt>m</tt>, without branching.
+    */
+   private static double sign( double m ) {
+      double h = 0.5 * m;
+      return 1 - 4 * Math.abs( h - Math.rint( h ) );
+   }
+
+
+   /**
+    * Returns (-1)^m for an integer <tt>m</tt> held in a
+    * <code>float</code>, without branching.
+    */
+   private static float sign( float m ) {
+      float h = 0.5f * m;
+      return 1 - 4 * Math.abs( h - rint( h ) );
+   }
+
+
+   /**
+    * Returns sin(t) for |t| <= <i>pi</i>/2.
+    */
+   private static double sin( double t ) {
+      double z = t * t;
+      return t + t * z * series( z );
+   }
+
+
+   /**
+    * Returns sin(t) in <code>float</code> arithmetic, for |t| <=
+    * <i>pi</i>/4.
+    */
+   private static float sinF( float t ) {
+      float z = t * t;
+      return t + t * z * (F1 + z * (F2 + z * (F3 + z * F4)));
+   }
+
+
+   /**
+    * Returns the sine of <tt>a</tt> radians in <code>float</code>
+    * arithmetic, for |a| < <tt>RAD_MAX_F</tt>.
+    */
+   private static float sin0( float a ) {
+      float q = rint( a * TWO_OVER_PI_F );
+      return sinQ( q, rem90( a, q ) );
+   }
+
+
+   /**
+    * Returns sin(q <i>pi</i>/2 + t) for an integer <tt>q</tt> and |t| <=
+    * <i>pi</i>/4, which is one of +/-sin(t) or +/-cos(t).  Rather than
+    * branching, the choice is made by weights of 0 or +/-1 calculated
+    * from f = q/4 - rint(q/4), which is 0, 1/4, +/-1/2 or -1/4.
+    */
+   private static float sinQ( float q, float t ) {
+      float f = 0.25f * q - rint( 0.25f * q );
+      float g = Math.abs( f );
+      return (1 - 4 * g) * sinF( t ) + 8 * f * (1 - 2 * g) * cosF( t );
+   }
+
+
+   /**
+    * Returns the sine of <tt>a</tt> degrees, for |a| < <tt>DEG_MAX</tt>.
+    * sin(a) = sin((-1)^m r), where <tt>r</tt> is the remainder after the
+    * nearest multiple <tt>m</tt> of 180 degrees.
+    */
+   private static double sind0( double a ) {
+      double m = Math.rint( a * (1.0 / 180) );
+      double r = a - m * 180;
+      return sin( sign( m ) * r * DEG_2_RAD );
+   }
+
+
+   /**
+    * Returns the sine of <tt>a</tt> degrees in <code>float</code>
+    * arithmetic, for |a| < <tt>DEG_MAX_F</tt>.  The remainder after the
+    * nearest multiple of 90 degrees is exact.
+    */
+   private static float sind0( float a ) {
+      float q = rint( a * (1f / 90) );
+      return sinQ( q, (a - q * 90) * DEG_2_RAD_F );
+   }
+
+
+   /**
+    * Returns (sin(t)/t - 1)/(t*t) as a polynomial in z = t*t.
+    */
+   private static double series( double z ) {
+      return S1 + z * (S2 + z * (S3 + z * (S4 + z * (S5 + z * (S6 + z * (S7
+                + z * (S8 + z * (S9 + z * (S10 + z * S11)))))))));
+   }
+
+
+   /**
+    * Returns the sinc of <tt>a</tt>, for |a| < <tt>SINC_MAX</tt>.
+    */
+   private static double sinc0( double a ) {
+      return sincRatio( sincArg( a ), a );
+   }
+
+
+   /**
+    * Returns the sinc of <tt>a</tt> in <code>float</code> arithmetic, for
+    * |a| < <tt>RAD_MAX_F</tt>.  As for <code>double</code>, sin(|a|) =
+    * (-1)^m sin(r), where <tt>r</tt> is the remainder after the nearest
+    * multiple m <i>pi</i>.
+    */
+   private static float sinc0( float a ) {
+      float x = Math.abs( a );
+      float m = rint( x * INV_PI_F );
+      float t = sign( m ) * rem90( x, 2 * m );
+      float z = t * t;
+      return (t + Float.MIN_VALUE) / (x + Float.MIN_VALUE)
+             * (1 + z * (F1 + z * (F2 + z * (F3 + z * (F4 + z * (F5 + z * F6))))));
+   }
+
+
+   /**
+    * Returns the reduced argument <tt>t</tt> of the sinc of <tt>a</tt>,
+    * for |a| < <tt>SINC_MAX</tt>.  With x = |a| = m*<i>pi</i> + r,
+    * sin(x) = sin(t), where t = (-1)^m r.
+    */
+   private static double sincArg( double a ) {
+      double x = Math.abs( a );
+      double m = Math.rint( x * (1 / Math.PI) );
+      return sign( m ) * ((x - m * PI_HI) - m * PI_LO);
+   }
+
+
+   /**
+    * Returns sin(t)/|a| = (t/|a|) (sin(t)/t), given the reduced argument
+    * <tt>t</tt> of <tt>a</tt>.  When |a| <= <i>pi</i>/2, t = |a|, and
+    * adding the same tiny number to both makes their ratio exactly 1,
+    * even at a = 0.
+    */
+   private static double sincRatio( double t, double a ) {
+      double z = t * t;
+      return (t + Double.MIN_VALUE) / (Math.abs( a ) + Double.MIN_VALUE)
+             * (1 + z * series( z ));
+   }
+
+
+   /**
+    * Returns the tangent of <tt>a</tt> degrees, for |a| <
+    * <tt>DEG_MAX</tt>.  tan(a) = sin(r)/sin(90 - |r|), where <tt>r</tt>
+    * is the remainder after the nearest multiple of 180 degrees.
+    */
+   private static double tand0( double a ) {
+      double r = rem180( a );
+      return sin( r * DEG_2_RAD ) / sin( (90 - Math.abs( r )) * DEG_2_RAD );
+   }
+
+
+   /**
+    * Returns the tangent of <tt>a</tt> degrees in <code>float</code>
+    * arithmetic, for |a| < <tt>DEG_MAX_F</tt>.
+    */
+   private static float tand0( float a ) {
+      float q = rint( a * (1f / 90) );
+      return tanQ( q, (a - q * 90) * DEG_2_RAD_F );
+   }
+
+
+   /**
+    * Returns tan(q <i>pi</i>/2 + t) for an integer <tt>q</tt> and |t| <=
+    * <i>pi</i>/4, which is sin(t)/cos(t) or -cos(t)/sin(t) as <tt>q</tt>
+    * is even or odd.  As for <tt>sinQ</tt>, the choice is made by
+    * weights, here scaled by 8, which does not change the quotient.  At
+    * a pole the denominator is zero, and subtracting e
+    * <tt>Float.MIN_NORMAL</tt>, where e = q - 2 rint(q/2) = +1 or -1,
+    * makes the scaled quotient overflow with the sign of the remainder
+    * r = e <i>pi</i>/2 after the nearest multiple of <i>pi</i>, as for
+    * <code>double</code>.  Away from a pole the subtraction leaves the
+    * denominator unchanged.
+    */
+   private static float tanQ( float q, float t ) {
+      float h = 0.5f * q;
+      float g = h - rint( h );
+      float odd = 16 * Math.abs( g );
+      float s = sinF( t );
+      float c = cosF( t );
+      return ((8 - odd) * s - odd * c)
+             / (((8 - odd) * c + odd * s) - g * (2 * Float.MIN_NORMAL));
+   }
+
+
+}
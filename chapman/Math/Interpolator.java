@@ -0,0 +1,505 @@
+package chapman.math;
+
+/**
+ * Class <code>Interpolator</code> interpolates tabulated data
+ * <code>y = f(x)</code> on a strictly increasing grid <code>x</code>.
+ * Three methods are supported: piecewise <code>LINEAR</code>
+ * interpolation, the shape-preserving <code>MONOTONE_CUBIC</code>
+ * (Fritsch-Carlson) interpolant, which does not overshoot the data, and
+ * the <code>NATURAL_SPLINE</code>, a cubic spline with zero second
+ * derivative at both ends.
+ * <p>
+ * The coefficients of the cubic on each interval are calculated once,
+ * when the object is created, and each value is then one interval
+ * lookup and a cubic polynomial.  The lookup is a binary search, or a
+ * single division if the grid is uniform.  An <code>Interpolator</code>
+ * is never modified after it is created, so the same object may be used
+ * from many threads at once.  For example,
+ * <pre>
+ *   Interpolator f = new Interpolator( x, y, Interpolator.NATURAL_SPLINE );
+ *   double yq[] = f.value( xq );
+ *   f.resample( x0, dx, out );
+ * </pre>
+ * Points outside the grid give <code>NaN</code>, unless the object was
+ * created to extrapolate, in which case the end cubics are extended.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Statistics
+ */
+
+public class Interpolator {
+
+   //*************************************************
+   // Class variables
+   //*************************************************
+
+   /**
+    * Piecewise linear interpolation.
+    */
+   public static final int LINEAR = 0;
+
+   /**
+    * Monotone piecewise cubic interpolation, which preserves the
+    * monotonicity of the data between each pair of points.
+    */
+   public static final int MONOTONE_CUBIC = 1;
+
+   /**
+    * Natural cubic spline interpolation, with a continuous second
+    * derivative that is zero at both ends of the grid.
+    */
+   public static final int NATURAL_SPLINE = 2;
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * The grid and the data values on it.
+    */
+   private double x[], y[];
+
+   /**
+    * The coefficients of <tt>t</tt>, <tt>t^2</tt>, and <tt>t^3</tt>
+    * on each interval, where <tt>t = xq - x[i]</tt>.
+    */
+   private double b[], c[], d[];
+
+   /**
+    * The interpolation method.
+    */
+   private int method;
+
+   /**
+    * <tt>true</tt> if points outside the grid are extrapolated.
+    */
+   private boolean extrapolate;
+
+   /**
+    * <tt>true</tt> if the grid is uniform, and the reciprocal of its
+    * spacing.
+    */
+   private boolean uniform;
+   private double invStep;
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Creates an interpolator for the data <tt>y</tt> on the grid
+    * <tt>x</tt>, which returns <tt>NaN</tt> outside the grid.  The input
+    * arrays are copied.
+    *
+    * @param   x       the grid, in strictly increasing order.
+    * @param   y       the data values at the grid points.
+    * @param   method  <tt>LINEAR</tt>, <tt>MONOTONE_CUBIC</tt>, or
+    *                  <tt>NATURAL_SPLINE</tt>.
+    * @exception InvalidArraySizeException if <tt>x</tt> and <tt>y</tt>
+    *          have different lengths.
+    * @exception IllegalArgumentException if the grid has fewer than two
+    *          points or is not strictly increasing, or the method is
+    *          invalid.
+    */
+   public Interpolator( double x[], double y[], int method ) {
+      this( x, y, method, false );
+   }
+
+
+   /**
+    * Creates an interpolator for the data <tt>y</tt> on the grid
+    * <tt>x</tt>.  The input arrays are copied.
+    *
+    * @param   x           the grid, in strictly increasing order.
+    * @param   y           the data values at the grid points.
+    * @param   method      <tt>LINEAR</tt>, <tt>MONOTONE_CUBIC</tt>, or
+    *                      <tt>NATURAL_SPLINE</tt>.
+    * @param   extrapolate <tt>true</tt> to extend the end intervals to
+    *                      points outside the grid, <tt>false</tt> to
+    *                      return <tt>NaN</tt> there.
+    * @exception InvalidArraySizeException if <tt>x</tt> and <tt>y</tt>
+    *          have different lengths.
+    * @exception IllegalArgumentException if the grid has fewer than two
+    *          points or is not strictly increasing, or the method is
+    *          invalid.
+    */
+   public Interpolator( double x[], double y[], int method,
+                        boolean extrapolate ) {
+      if ( x.length != y.length ) {
+         String s = "Interpolator: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( x.length < 2 ) {
+         String s = "Interpolator: Invalid grid length " + x.length;
+         throw new IllegalArgumentException(s);
+      }
+      for ( int i = 1; i < x.length; i++ ) {
+         if ( !(x[i] > x[i-1]) ) {
+            String s = "Interpolator: Grid not increasing at " + i;
+            throw new IllegalArgumentException(s);
+         }
+      }
+      this.x           = x.clone();
+      this.y           = y.clone();
+      this.method      = method;
+      this.extrapolate = extrapolate;
+      coefficients();
+      checkUniform();
+   }
+
+
+   /**
+    * Creates an interpolator for the data <tt>y</tt> on the uniform grid
+    * <tt>start + i*step</tt>, which returns <tt>NaN</tt> outside the
+    * grid.  The input array is copied.
+    *
+    * @param   start   the first grid point.
+    * @param   step    the grid spacing, greater than zero.
+    * @param   y       the data values at the grid points.
+    * @param   method  <tt>LINEAR</tt>, <tt>MONOTONE_CUBIC</tt>, or
+    *                  <tt>NATURAL_SPLINE</tt>.
+    * @exception IllegalArgumentException if the grid has fewer than two
+    *          points, the step is not positive, or the method is
+    *          invalid.
+    */
+   public Interpolator( double start, double step, double y[], int method ) {
+      this( grid( start, step, y.length ), y, method, false );
+   }
+
+   //*************************************************
+   // Instance methods
+   //*************************************************
+
+   /**
+    * Returns the interpolation method.
+    *
+    * @return  <tt>LINEAR</tt>, <tt>MONOTONE_CUBIC</tt>, or
+    *          <tt>NATURAL_SPLINE</tt>
+    */
+   public int getMethod() {
+      return method;
+   }
+
+
+   /**
+    * Returns the interpolated value at a single point.
+    *
+    * @param   xq  the point to interpolate.
+    * @return  the interpolated value, or <tt>NaN</tt> if <tt>xq</tt> is
+    *          outside the grid and the object does not extrapolate
+    */
+   public double value( double xq ) {
+      if ( !(xq >= x[0] && xq <= x[x.length-1]) ) {
+         if ( !extrapolate || xq != xq ) {
+            return Double.NaN;
+         }
+      }
+      int i = interval( xq );
+      double t = xq - x[i];
+      return y[i] + t * ( b[i] + t * ( c[i] + t * d[i] ) );
+   }
+
+
+   /**
+    * Returns the interpolated values at an array of points.
+    *
+    * @param   xq  the points to interpolate.
+    * @return  a new array holding the interpolated values
+    */
+   public double[] value( double xq[] ) {
+      return value( xq, new double[xq.length] );
+   }
+
+
+   /**
+    * Calculates the interpolated values at an array of points, storing
+    * the results in array <code>out</code>.  <code>out</code> may be the
+    * same array as <code>xq</code>.  Large arrays are processed in
+    * parallel (see class <code>Parallel</code>).
+    *
+    * @param   xq  the points to interpolate.
+    * @param   out output array, the same length as <code>xq</code>
+    * @return  <code>out</code>, containing the interpolated values
+    * @exception InvalidArraySizeException  if <code>out</code> is not the same
+    *              size as <code>xq</code>
+    */
+   public double[] value( final double xq[], final double out[] ) {
+      if ( xq.length != out.length ) {
+         String s = "value: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( xq.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ ) {
+               out[i] = value( xq[i] );
+            }
+         }
+      } );
+      return out;
+   }
+
+
+   /**
+    * Resamples the data onto the uniform grid <tt>start + k*step</tt>,
+    * for <tt>k</tt> from 0 to <tt>out.length-1</tt>.  For a positive
+    * step the intervals are found by walking along the grid rather than
+    * by searching, so resampling <tt>m</tt> points costs
+    * <tt>O(m + n)</tt>.  Large arrays are processed in parallel (see
+    * class <code>Parallel</code>).
+    *
+    * @param   start   the first point of the new grid.
+    * @param   step    the spacing of the new grid.
+    * @param   out     output array, which receives the resampled values.
+    * @return  <code>out</code>, containing the resampled values
+    */
+   public double[] resample( final double start, final double step,
+                             final double out[] ) {
+      Parallel.forRange( out.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            if ( !(step > 0) ) {
+               for ( int k = from; k < to; k++ ) {
+                  out[k] = value( start + k * step );
+               }
+               return;
+            }
+            int last = x.length - 2;
+            int i = interval( start + from * step );
+            for ( int k = from; k < to; k++ ) {
+               double xq = start + k * step;
+               if ( !(xq >= x[0] && xq <= x[last+1]) && !extrapolate ) {
+                  out[k] = Double.NaN;
+                  continue;
+               }
+               while ( i < last && xq > x[i+1] ) {
+                  i++;
+               }
+               double t = xq - x[i];
+               out[k] = y[i] + t * ( b[i] + t * ( c[i] + t * d[i] ) );
+            }
+         }
+      } );
+      return out;
+   }
+
+   //*************************************************
+   // Static methods
+   //*************************************************
+
+   /**
+    * Returns the index <tt>i</tt> of the interval
+    * <tt>x[i] &lt;= xq &lt;= x[i+1]</tt> of a grid in non-decreasing
+    * order, found by binary search.  If several intervals qualify, the
+    * first is returned.  Points below the grid give 0 and points above
+    * it give <tt>x.length-2</tt>.
+    *
+    * @param   x   the grid, in non-decreasing order, with at least two
+    *              points.
+    * @param   xq  the point to locate.
+    * @return  the index of the interval containing <tt>xq</tt>
+    */
+   public static int search( double x[], double xq ) {
+
+      // The search range always halves, whatever the comparison gives,
+      // so the loop compiles to conditional moves rather than branches
+      // that mispredict on scattered points
+      int lo = 0;
+      int len = x.length - 1;
+      while ( len > 1 ) {
+         int half = len >>> 1;
+         lo = ( x[lo + half] < xq ) ? lo + half : lo;
+         len -= half;
+      }
+      return lo;
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Returns the index of the interval containing <tt>xq</tt>, by direct
+    * calculation on a uniform grid and by binary search otherwise.
+    */
+   private int interval( double xq ) {
+      if ( !uniform ) {
+         return search( x, xq );
+      }
+      int last = x.length - 2;
+      int i = (int) ( (xq - x[0]) * invStep );
+      i = Math.max( 0, Math.min( i, last ) );
+
+      // Correct for the rounding of a nearly uniform grid
+      while ( i > 0 && xq < x[i] ) {
+         i--;
+      }
+      while ( i < last && xq > x[i+1] ) {
+         i++;
+      }
+      return i;
+   }
+
+
+   /**
+    * Decides whether the grid is uniform, to within a small fraction of
+    * its spacing.
+    */
+   private void checkUniform() {
+      int n = x.length;
+      double step = (x[n-1] - x[0]) / (n - 1);
+      double tol = 1.0e-6 * step;
+      uniform = true;
+      for ( int i = 1; i < n - 1 && uniform; i++ ) {
+         uniform = Math.abs( x[i] - (x[0] + i * step) ) <= tol;
+      }
+      invStep = 1.0 / step;
+   }
+
+
+   /**
+    * Calculates the polynomial coefficients on each interval.
+    */
+   private void coefficients() {
+      int n = x.length;
+      b = new double[n-1];
+      c = new double[n-1];
+      d = new double[n-1];
+
+      // The width and slope of each interval
+      double h[] = new double[n-1];
+      double delta[] = new double[n-1];
+      for ( int i = 0; i < n - 1; i++ ) {
+         h[i] = x[i+1] - x[i];
+         delta[i] = (y[i+1] - y[i]) / h[i];
+      }
+
+      switch ( method ) {
+         case LINEAR:
+            System.arraycopy( delta, 0, b, 0, n - 1 );
+            break;
+         case MONOTONE_CUBIC:
+            hermite( h, delta, monotoneSlopes( h, delta ) );
+            break;
+         case NATURAL_SPLINE:
+            naturalSpline( h, delta );
+            break;
+         default:
+            String s = "Interpolator: Invalid method " + method;
+            throw new IllegalArgumentException(s);
+      }
+   }
+
+
+   /**
+    * Calculates the cubic coefficients of each interval from the slopes
+    * <tt>m</tt> at the grid points.
+    */
+   private void hermite( double h[], double delta[], double m[] ) {
+      for ( int i = 0; i < h.length; i++ ) {
+         b[i] = m[i];
+         c[i] = (3 * delta[i] - 2 * m[i] - m[i+1]) / h[i];
+         d[i] = (m[i] + m[i+1] - 2 * delta[i]) / (h[i] * h[i]);
+      }
+   }
+
+
+   /**
+    * Returns the slopes at the grid points of the monotone cubic.
+    * Interior slopes are the weighted harmonic mean of the neighbouring
+    * interval slopes, or zero at a local extremum; end slopes use a
+    * three-point formula limited so that the end cubics do not
+    * overshoot.
+    */
+   private static double[] monotoneSlopes( double h[], double delta[] ) {
+      int n = h.length + 1;
+      double m[] = new double[n];
+      if ( n == 2 ) {
+         m[0] = delta[0];
+         m[1] = delta[0];
+         return m;
+      }
+      for ( int i = 1; i < n - 1; i++ ) {
+         if ( delta[i-1] * delta[i] > 0 ) {
+            double w1 = 2 * h[i] + h[i-1];
+            double w2 = h[i] + 2 * h[i-1];
+            m[i] = (w1 + w2) / (w1 / delta[i-1] + w2 / delta[i]);
+         }
+      }
+      m[0]   = endSlope( h[0], h[1], delta[0], delta[1] );
+      m[n-1] = endSlope( h[n-2], h[n-3], delta[n-2], delta[n-3] );
+      return m;
+   }
+
+
+   /**
+    * Returns the slope at an end of the monotone cubic, from the widths
+    * and slopes of the end interval and its neighbour.
+    */
+   private static double endSlope( double h0, double h1, double d0, double d1 ) {
+      double m = ((2 * h0 + h1) * d0 - h0 * d1) / (h0 + h1);
+      if ( Math.signum(m) != Math.signum(d0) ) {
+         m = 0;
+      }
+      else if ( Math.signum(d0) != Math.signum(d1)
+                && Math.abs(m) > Math.abs(3 * d0) ) {
+         m = 3 * d0;
+      }
+      return m;
+   }
+
+
+   /**
+    * Calculates the coefficients of the natural cubic spline, solving
+    * the tridiagonal system for the second derivatives at the interior
+    * grid points.
+    */
+   private void naturalSpline( double h[], double delta[] ) {
+      int n = h.length + 1;
+
+      // Second derivatives, zero at both ends
+      double s[] = new double[n];
+      if ( n > 2 ) {
+
+         // Forward elimination of the tridiagonal system
+         double diag[] = new double[n];
+         double rhs[] = new double[n];
+         for ( int i = 1; i < n - 1; i++ ) {
+            diag[i] = 2 * (h[i-1] + h[i]);
+            rhs[i]  = 6 * (delta[i] - delta[i-1]);
+            if ( i > 1 ) {
+               double f = h[i-1] / diag[i-1];
+               diag[i] -= f * h[i-1];
+               rhs[i]  -= f * rhs[i-1];
+            }
+         }
+
+         // Back substitution
+         for ( int i = n - 2; i >= 1; i-- ) {
+            s[i] = (rhs[i] - h[i] * s[i+1]) / diag[i];
+         }
+      }
+
+      for ( int i = 0; i < n - 1; i++ ) {
+         b[i] = delta[i] - h[i] * (2 * s[i] + s[i+1]) / 6;
+         c[i] = s[i] / 2;
+         d[i] = (s[i+1] - s[i]) / (6 * h[i]);
+      }
+   }
+
+
+   /**
+    * Returns the uniform grid <tt>start + i*step</tt> of <tt>n</tt>
+    * points.
+    */
+   private static double[] grid( double start, double step, int n ) {
+      if ( !(step > 0) ) {
+         String s = "Interpolator: Invalid step " + step;
+         throw new IllegalArgumentException(s);
+      }
+      double x[] = new double[n];
+      for ( int i = 0; i < n; i++ ) {
+         x[i] = start + i * step;
+      }
+      return x;
+   }
+}
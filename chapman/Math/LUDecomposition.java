@@ -0,0 +1,314 @@
+package chapman.math;
+
+/**
+ * Class <code>LUDecomposition</code> calculates the LU decomposition of a
+ * square matrix with partial (row) pivoting, <code>P*A = L*U</code>, where
+ * <code>P</code> is a permutation matrix, <code>L</code> is lower
+ * triangular with a unit diagonal, and <code>U</code> is upper triangular.
+ * The decomposition is calculated once, when the object is created, and
+ * may then be used to solve any number of systems <code>A*x = b</code>,
+ * or to calculate the determinant or inverse of <code>A</code>.
+ * <p>
+ * The factors are held in a single contiguous row-major array.  The
+ * decomposition works on panels of <code>64</code> columns:  each panel
+ * is factored directly, and its effect on the rest of the matrix is then
+ * applied with one cache-blocked matrix multiplication, which runs in
+ * parallel for large matrices as described in class
+ * <code>Parallel</code>.  Nearly all of the work is done in these
+ * multiplications, so systems of several thousand equations can be
+ * solved in reasonable time.  For example,
+ * <pre>
+ *   LUDecomposition lu = new LUDecomposition( a );
+ *   double x[] = lu.solve( b );
+ * </pre>
+ * If <code>A</code> is singular, the decomposition is still calculated,
+ * but <code>isNonsingular</code> returns <code>false</code> and the
+ * <code>solve</code> and <code>inverse</code> methods throw an
+ * <code>ArithmeticException</code>.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     CholeskyDecomposition
+ * @see     QRDecomposition
+ */
+
+public class LUDecomposition {
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * The factors <tt>L</tt> (below the diagonal) and <tt>U</tt> (on and
+    * above the diagonal), stored in row-major order.
+    */
+   private double lu[];
+
+   /**
+    * The order of the matrix.
+    */
+   private int n;
+
+   /**
+    * The row permutation:  row <tt>i</tt> of <tt>P*A</tt> is row
+    * <tt>piv[i]</tt> of <tt>A</tt>.
+    */
+   private int piv[];
+
+   /**
+    * The sign of the permutation, +1 or -1.
+    */
+   private int pivsign;
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Calculates the LU decomposition of a square matrix.  The input
+    * array is not modified.
+    *
+    * @param   a   a square matrix.
+    * @exception InvalidArraySizeException if <tt>a</tt> is not square.
+    */
+   public LUDecomposition( double a[][] ) {
+      factor( MatrixKernel.flatten( a, "LUDecomposition" ), a.length );
+   }
+
+
+   /**
+    * Calculates the LU decomposition of a square 2-D <tt>NDArray</tt>.
+    * The input array is not modified.
+    *
+    * @param   a   a square matrix.
+    * @exception InvalidArraySizeException if <tt>a</tt> is not 2-D
+    *          and square.
+    */
+   public LUDecomposition( NDArray a ) {
+      factor( MatrixKernel.flatten( a, "LUDecomposition" ), a.shape(0) );
+   }
+
+   //*************************************************
+   // Instance methods
+   //*************************************************
+
+   /**
+    * Returns the determinant of the matrix.
+    *
+    * @return  the determinant
+    */
+   public double det() {
+      double d = pivsign;
+      for ( int i = 0; i < n; i++ )
+         d *= lu[i*n + i];
+      return d;
+   }
+
+
+   /**
+    * Returns the unit lower triangular factor <tt>L</tt>.
+    *
+    * @return  a new n x n array holding <tt>L</tt>
+    */
+   public double[][] getL() {
+      double l[][] = new double[n][n];
+      for ( int i = 0; i < n; i++ ) {
+         System.arraycopy( lu, i*n, l[i], 0, i );
+         l[i][i] = 1.0;
+      }
+      return l;
+   }
+
+
+   /**
+    * Returns the upper triangular factor <tt>U</tt>.
+    *
+    * @return  a new n x n array holding <tt>U</tt>
+    */
+   public double[][] getU() {
+      double u[][] = new double[n][n];
+      for ( int i = 0; i < n; i++ )
+         System.arraycopy( lu, i*n + i, u[i], i, n - i );
+      return u;
+   }
+
+
+   /**
+    * Returns the row permutation.  Row <tt>i</tt> of <tt>L*U</tt> is
+    * row <tt>p[i]</tt> of the original matrix.
+    *
+    * @return  a new array holding the permutation
+    */
+   public int[] getPivot() {
+      return (int[]) piv.clone();
+   }
+
+
+   /**
+    * Returns the inverse of the matrix.
+    *
+    * @return  a new n x n array holding the inverse
+    * @exception ArithmeticException if the matrix is singular.
+    */
+   public double[][] inverse() {
+      double x[] = new double[n * n];
+      for ( int i = 0; i < n; i++ )
+         x[i*n + piv[i]] = 1.0;
+      solveInPlace( x, n, "inverse" );
+      return MatrixKernel.unflatten( x, 0, n, n, n );
+   }
+
+
+   /**
+    * Returns <tt>true</tt> if the matrix is nonsingular, meaning that
+    * every diagonal element of <tt>U</tt> is nonzero.
+    *
+    * @return  <tt>true</tt> if the matrix is nonsingular
+    */
+   public boolean isNonsingular() {
+      for ( int i = 0; i < n; i++ )
+         if ( lu[i*n + i] == 0 )
+            return false;
+      return true;
+   }
+
+
+   /**
+    * Solves the system <tt>A*x = b</tt>.
+    *
+    * @param   b   the right-hand side, of length n.
+    * @return  a new array holding the solution <tt>x</tt>
+    * @exception InvalidArraySizeException if <tt>b</tt> has the
+    *          wrong length.
+    * @exception ArithmeticException if the matrix is singular.
+    */
+   public double[] solve( double b[] ) {
+      if ( b.length != n ) {
+         String s = "solve: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      double x[] = new double[n];
+      for ( int i = 0; i < n; i++ )
+         x[i] = b[piv[i]];
+      solveInPlace( x, 1, "solve" );
+      return x;
+   }
+
+
+   /**
+    * Solves the systems <tt>A*X = B</tt>, where each column of
+    * <tt>B</tt> is a separate right-hand side.
+    *
+    * @param   b   the right-hand sides, with n rows.
+    * @return  a new array holding the solutions <tt>X</tt>
+    * @exception InvalidArraySizeException if <tt>b</tt> is not
+    *          rectangular or has the wrong number of rows.
+    * @exception ArithmeticException if the matrix is singular.
+    */
+   public double[][] solve( double b[][] ) {
+      if ( b.length != n ) {
+         String s = "solve: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      double bf[] = MatrixKernel.flatten( b, "solve" );
+      int nrhs = ( n > 0 ) ? b[0].length : 0;
+      double x[] = new double[n * nrhs];
+      for ( int i = 0; i < n; i++ )
+         System.arraycopy( bf, piv[i] * nrhs, x, i * nrhs, nrhs );
+      solveInPlace( x, nrhs, "solve" );
+      return MatrixKernel.unflatten( x, 0, nrhs, n, nrhs );
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Factors the row-major <tt>n</tt> by <tt>n</tt> matrix <tt>a</tt> in
+    * place.
+    */
+   private void factor( double a[], int order ) {
+      if ( (long) order * order != a.length ) {
+         String s = "LUDecomposition: Matrix must be square";
+         throw new InvalidArraySizeException(s);
+      }
+      lu      = a;
+      n       = order;
+      piv     = new int[n];
+      pivsign = 1;
+      for ( int i = 0; i < n; i++ )
+         piv[i] = i;
+
+      for ( int k0 = 0; k0 < n; k0 += MatrixKernel.PANEL ) {
+         int kb = Math.min( k0 + MatrixKernel.PANEL, n );
+
+         // Factor the panel of columns k0..kb-1, swapping whole rows
+         for ( int j = k0; j < kb; j++ ) {
+            int p = j;
+            double max = Math.abs( lu[j*n + j] );
+            for ( int i = j + 1; i < n; i++ ) {
+               double v = Math.abs( lu[i*n + j] );
+               if ( v > max ) {
+                  max = v;
+                  p = i;
+               }
+            }
+            if ( p != j ) {
+               swapRows( p, j );
+               int t = piv[p]; piv[p] = piv[j]; piv[j] = t;
+               pivsign = -pivsign;
+            }
+            double d = lu[j*n + j];
+            if ( d != 0 ) {
+               int rj = j*n;
+               for ( int i = j + 1; i < n; i++ ) {
+                  int ri = i*n;
+                  double l = lu[ri + j] / d;
+                  lu[ri + j] = l;
+                  for ( int c = j + 1; c < kb; c++ )
+                     lu[ri + c] -= l * lu[rj + c];
+               }
+            }
+         }
+
+         if ( kb < n ) {
+
+            // Block row of U:  U12 = inv(L11) * A12
+            MatrixKernel.trsmLower( kb - k0, n - kb, true, lu, k0*n + k0, n,
+                                    lu, k0*n + kb, n );
+
+            // Trailing matrix:  A22 = A22 - L21 * U12
+            MatrixKernel.gemm( n - kb, n - kb, kb - k0, -1.0,
+                               lu, kb*n + k0, n, lu, k0*n + kb, n,
+                               lu, kb*n + kb, n );
+         }
+      }
+   }
+
+
+   /**
+    * Swaps two rows of the factor array.
+    */
+   private void swapRows( int p, int q ) {
+      int rp = p*n, rq = q*n;
+      for ( int c = 0; c < n; c++ ) {
+         double t = lu[rp + c];
+         lu[rp + c] = lu[rq + c];
+         lu[rq + c] = t;
+      }
+   }
+
+
+   /**
+    * Solves <tt>L*U*X = X</tt> in place, where <tt>X</tt> holds
+    * <tt>nrhs</tt> columns in row-major order and has already been
+    * permuted.
+    */
+   private void solveInPlace( double x[], int nrhs, String name ) {
+      if ( !isNonsingular() ) {
+         throw new ArithmeticException( name + ": Matrix is singular" );
+      }
+      MatrixKernel.trsmLower( n, nrhs, true, lu, 0, n, x, 0, nrhs );
+      MatrixKernel.trsmUpper( n, nrhs, lu, 0, n, x, 0, nrhs );
+   }
+}
@@ -1,5 +1,4 @@
 package chapman.math;
-import java.util.Random;
 
 /**
  * Class <code>Math1</code> contains methods for performing basic
@@ -7,6 +6,12 @@ import java.util.Random;
  * class.  Examples include the hyperbolic functions, logarithms to the base 10,
  * and trhgonometric functions that work in degrees instead of radians.
  * It consists entirely of static methods and final static variables.
+ * <p>
+ * The methods are pure functions and hold no locks, so any number of
+ * threads may call them at once.  Each function also has bulk versions
+ * that take an array and return a new array, or store the results in an
+ * existing one; large arrays are processed in parallel, as described in
+ * class <code>Parallel</code>.
  *
  * @author  S. J. Chapman
  * @version 1.00, 05/15/98
@@ -35,15 +40,22 @@ public final class Math1 {
     */
    final static private double LOGE_10 = 2.302585092994046;
 
+   // Function codes for the bulk methods
+   private static final int ACOSD = 0;
+   private static final int ACOSH = 1;
+   private static final int ASIND = 2;
+   private static final int ASINH = 3;
+   private static final int ATAND = 4;
+   private static final int ATANH = 5;
+   private static final int COSD  = 6;
+   private static final int COSH  = 7;
+   private static final int LOG10 = 8;
+   private static final int SINC  = 9;
+   private static final int SIND  = 10;
+   private static final int SINH  = 11;
+   private static final int TAND  = 12;
+   private static final int TANH  = 13;
 
-   //*************************************************
-   // Variables
-   //*************************************************
-
-   /**
-    * Reference for random number generator
-    */
-   private static Random randomNumberGenerator;
 
    //*************************************************
    // Constructors
@@ -65,64 +77,242 @@ public final class Math1 {
     * @param   a   input value in the range -1.0 <= a <= 1.0.
     * @return  the angle in <i>degrees</i>.
     */
-   public static synchronized double acosd( double a ) {
+   public static double acosd( double a ) {
       return ( Math.acos( a ) * RAD_2_DEG );
    }
 
 
+   /**
+    * Returns the inverse cosine in <i>degrees</i> of each element of an
+    * array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the inverse cosine in <i>degrees</i>
+    *          of each element
+    */
+   public static double[] acosd( double a[] ) {
+      return acosd( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the inverse cosine in <i>degrees</i> of each element of
+    * an array, storing the results in array <tt>out</tt>.  <tt>out</tt>
+    * may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] acosd( double a[], double out[] ) {
+      map( ACOSD, a, out, "acosd" );
+      return out;
+   }
+
+
    /**
     * Returns the inverse hyperbolic cosine of a value.
     * Valid input range is a >= 1.0.
     * @param   a   input value in the range a >= 1.0.
     * @return  the inverse hyperbolic cosine
     */
-   public static synchronized double acosh( double a ) {
+   public static double acosh( double a ) {
       return ( Math.log( a + Math.sqrt(a*a-1)) );
    }
 
 
+   /**
+    * Returns the inverse hyperbolic cosine of each element of an array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the inverse hyperbolic cosine of each
+    *          element
+    */
+   public static double[] acosh( double a[] ) {
+      return acosh( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the inverse hyperbolic cosine of each element of an
+    * array, storing the results in array <tt>out</tt>.  <tt>out</tt>
+    * may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] acosh( double a[], double out[] ) {
+      map( ACOSH, a, out, "acosh" );
+      return out;
+   }
+
+
    /**
     * Returns the inverse sine of a value, in the range of -90.0 through
     * 90.0 <i>degrees</i>.  Valid input range is -1.0 <= a <= 1.0.
     * @param   a   input value in the range -1.0 <= a <= 1.0.
     * @return  the angle in <i>degrees</i>.
     */
-   public static synchronized double asind( double a ) {
+   public static double asind( double a ) {
       return ( Math.asin( a ) * RAD_2_DEG );
    }
 
 
+   /**
+    * Returns the inverse sine in <i>degrees</i> of each element of an
+    * array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the inverse sine in <i>degrees</i> of
+    *          each element
+    */
+   public static double[] asind( double a[] ) {
+      return asind( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the inverse sine in <i>degrees</i> of each element of
+    * an array, storing the results in array <tt>out</tt>.  <tt>out</tt>
+    * may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] asind( double a[], double out[] ) {
+      map( ASIND, a, out, "asind" );
+      return out;
+   }
+
+
    /**
     * Returns the inverse hyperbolic sine of a value.
     * @param   a   input value
     * @return  the inverse hyperbolic sine
     */
-   public static synchronized double asinh( double a ) {
+   public static double asinh( double a ) {
       return ( Math.log( a + Math.sqrt(1+a*a)) );
    }
 
 
+   /**
+    * Returns the inverse hyperbolic sine of each element of an array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the inverse hyperbolic sine of each
+    *          element
+    */
+   public static double[] asinh( double a[] ) {
+      return asinh( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the inverse hyperbolic sine of each element of an
+    * array, storing the results in array <tt>out</tt>.  <tt>out</tt>
+    * may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] asinh( double a[], double out[] ) {
+      map( ASINH, a, out, "asinh" );
+      return out;
+   }
+
+
    /**
     * Returns the inverse tangent of a value, in the range of -90.0 through
     * 90.0 <i>degrees</i>.  Valid input range is -Inf < a < Inf.
     * @param   a   input value
     * @return  the angle in <i>degrees</i>.
     */
-   public static synchronized double atand( double a ) {
+   public static double atand( double a ) {
       return ( Math.atan( a ) * RAD_2_DEG );
    }
 
 
+   /**
+    * Returns the inverse tangent in <i>degrees</i> of each element of
+    * an array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the inverse tangent in <i>degrees</i>
+    *          of each element
+    */
+   public static double[] atand( double a[] ) {
+      return atand( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the inverse tangent in <i>degrees</i> of each element
+    * of an array, storing the results in array <tt>out</tt>.
+    * <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] atand( double a[], double out[] ) {
+      map( ATAND, a, out, "atand" );
+      return out;
+   }
+
+
    /**
     * Returns the inverse hyperbolic tangent of a value.
     * @param   a   input value
     * @return  the inverse hyperbolic tangent
     */
-   public static synchronized double atanh( double a ) {
+   public static double atanh( double a ) {
       return ( 0.5 * Math.log((1+a)/(1-a)) );
    }
 
 
+   /**
+    * Returns the inverse hyperbolic tangent of each element of an
+    * array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the inverse hyperbolic tangent of
+    *          each element
+    */
+   public static double[] atanh( double a[] ) {
+      return atanh( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the inverse hyperbolic tangent of each element of an
+    * array, storing the results in array <tt>out</tt>.  <tt>out</tt>
+    * may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] atanh( double a[], double out[] ) {
+      map( ATANH, a, out, "atanh" );
+      return out;
+   }
+
+
    /**
     * Calculates the angle from the positive horizontal (x-)axis to a point (a,b),
     * in the range of -180.0 through 180.0 <i>degrees</i>.
@@ -130,50 +320,177 @@ public final class Math1 {
     * @param   a   y-input value
     * @return  the angle in <i>degrees</i>.
     */
-   public static synchronized double atan2d( double a, double b ) {
+   public static double atan2d( double a, double b ) {
       return ( Math.atan2( a, b ) * RAD_2_DEG );
    }
 
+   /**
+    * Calculates the angle from the positive horizontal (x-)axis to each
+    * of the points (b[i],a[i]), in <i>degrees</i>.
+    *
+    * @param   a   y-input values.
+    * @param   b   x-input values.
+    * @return  a new array holding the angles in <i>degrees</i>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] atan2d( double a[], double b[] ) {
+      return atan2d( a, b, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the angle from the positive horizontal (x-)axis to each
+    * of the points (b[i],a[i]), in <i>degrees</i>, storing the results in
+    * array <tt>out</tt>.  <tt>out</tt> may be the same array as
+    * <tt>a</tt> or <tt>b</tt>.
+    *
+    * @param   a   y-input values.
+    * @param   b   x-input values.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] atan2d( final double a[], final double b[],
+                                  final double out[] ) {
+      if ( a.length != b.length || a.length != out.length ) {
+         String s = "atan2d: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int i = from; i < to; i++ )
+               out[i] = atan2d( a[i], b[i] );
+         }
+      } );
+      return out;
+   }
+
 
    /**
     * Returns the cosine of an angle expressed in <i>degrees</i>.
     * @param   a   an angle, in <i>degrees</i>.
     * @return  the cosine of the argument.
     */
-   public static synchronized double cosd( double a ) {
+   public static double cosd( double a ) {
       return Math.cos( a * DEG_2_RAD );
    }
 
 
+   /**
+    * Returns the cosine of each element of an array of angles in
+    * <i>degrees</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the cosine of each element
+    */
+   public static double[] cosd( double a[] ) {
+      return cosd( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the cosine of each element of an array of angles in
+    * <i>degrees</i>, storing the results in array <tt>out</tt>.
+    * <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] cosd( double a[], double out[] ) {
+      map( COSD, a, out, "cosd" );
+      return out;
+   }
+
+
    /**
     * Returns the hyperbolic cosine of an angle.
     * @param   a   an angle, in radians.
     * @return  the hyperbolic cosine of the argument.
     */
-   public static synchronized double cosh( double a ) {
+   public static double cosh( double a ) {
       return ( (Math.exp(a) + Math.exp(-a)) / 2 );
    }
 
 
+   /**
+    * Returns the hyperbolic cosine of each element of an array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the hyperbolic cosine of each element
+    */
+   public static double[] cosh( double a[] ) {
+      return cosh( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the hyperbolic cosine of each element of an array,
+    * storing the results in array <tt>out</tt>.  <tt>out</tt> may be
+    * the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] cosh( double a[], double out[] ) {
+      map( COSH, a, out, "cosh" );
+      return out;
+   }
+
+
    /**
     * Returns the logarithm to the base 10 of a number.
     * @param   a   a <code>double</code> value
     * @return  the logarithm to the base 10 of the argument.
     */
-   public static synchronized double log10( double a ) {
+   public static double log10( double a ) {
       return ( Math.log(a) / LOGE_10 );
    }
 
 
+   /**
+    * Returns the logarithm to the base 10 of each element of an array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the logarithm to the base 10 of each
+    *          element
+    */
+   public static double[] log10( double a[] ) {
+      return log10( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the logarithm to the base 10 of each element of an
+    * array, storing the results in array <tt>out</tt>.  <tt>out</tt>
+    * may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] log10( double a[], double out[] ) {
+      map( LOG10, a, out, "log10" );
+      return out;
+   }
+
+
    /**
     * Returns a normally-distributed Gaussian random number.
     * @return  a normally-distributed pseudorandom
     *          <code>double</code> value.
     */
-   public static synchronized double randomGaussian() {
-       if (randomNumberGenerator == null)
-           randomNumberGenerator = new Random();
-       return randomNumberGenerator.nextGaussian();
+   public static double randomGaussian() {
+       return RandomSource.getDefault().nextGaussian();
    }
 
 
@@ -182,13 +499,8 @@ public final class Math1 {
     * @return  a Rayleigh-distributed pseudorandom
     *          <code>double</code> value.
     */
-   public static synchronized double randomRayleigh() {
-       if (randomNumberGenerator == null) {
-           randomNumberGenerator = new Random();
-       }
-       double x = randomNumberGenerator.nextGaussian();
-       double y = randomNumberGenerator.nextGaussian();
-       return Math.sqrt(x*x + y*y);
+   public static double randomRayleigh() {
+       return RandomSource.getDefault().nextRayleigh();
    }
 
 
@@ -199,7 +511,7 @@ public final class Math1 {
     * @param   a   input value.
     * @return  the sinc of the argument.
     */
-   public static synchronized double sinc( double x ) {
+   public static double sinc( double x ) {
       if ( Math.abs(x) < 1.0e-30 )
          return 1.0;
       else
@@ -207,45 +519,266 @@ public final class Math1 {
    }
 
 
+   /**
+    * Returns the sinc function of each element of an array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the sinc function of each element
+    */
+   public static double[] sinc( double a[] ) {
+      return sinc( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the sinc function of each element of an array, storing
+    * the results in array <tt>out</tt>.  <tt>out</tt> may be the same
+    * array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] sinc( double a[], double out[] ) {
+      map( SINC, a, out, "sinc" );
+      return out;
+   }
+
+
    /**
     * Returns the sine of an angle expressed in <i>degrees</i>.
     *
     * @param   a   an angle, in <i>degrees</i>.
     * @return  the sine of the argument.
     */
-   public static synchronized double sind( double a ) {
+   public static double sind( double a ) {
       return Math.sin( a * DEG_2_RAD );
    }
 
 
+   /**
+    * Returns the sine of each element of an array of angles in
+    * <i>degrees</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the sine of each element
+    */
+   public static double[] sind( double a[] ) {
+      return sind( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the sine of each element of an array of angles in
+    * <i>degrees</i>, storing the results in array <tt>out</tt>.
+    * <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] sind( double a[], double out[] ) {
+      map( SIND, a, out, "sind" );
+      return out;
+   }
+
+
    /**
     * Returns the hyperbolic sine of an angle.
     * @param   a   an angle, in radians.
     * @return  the hyperbolic sine of the argument.
     */
-   public static synchronized double sinh( double a ) {
+   public static double sinh( double a ) {
       return ( (Math.exp(a) - Math.exp(-a)) / 2 );
    }
 
 
+   /**
+    * Returns the hyperbolic sine of each element of an array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the hyperbolic sine of each element
+    */
+   public static double[] sinh( double a[] ) {
+      return sinh( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the hyperbolic sine of each element of an array,
+    * storing the results in array <tt>out</tt>.  <tt>out</tt> may be
+    * the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] sinh( double a[], double out[] ) {
+      map( SINH, a, out, "sinh" );
+      return out;
+   }
+
+
    /**
     * Returns the tangent of an angle expressed in <i>degrees</i>.
     * @param   a   an angle, in <i>degrees</i>.
     * @return  the tangent of the argument.
     */
-   public static synchronized double tand( double a ) {
+   public static double tand( double a ) {
       return Math.tan( a * DEG_2_RAD );
    }
 
 
+   /**
+    * Returns the tangent of each element of an array of angles in
+    * <i>degrees</i>.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the tangent of each element
+    */
+   public static double[] tand( double a[] ) {
+      return tand( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the tangent of each element of an array of angles in
+    * <i>degrees</i>, storing the results in array <tt>out</tt>.
+    * <tt>out</tt> may be the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] tand( double a[], double out[] ) {
+      map( TAND, a, out, "tand" );
+      return out;
+   }
+
+
    /**
     * Returns the hyperbolic tangent of an angle.
     * @param   a   an angle, in radians.
     * @return  the hyperbolic tangent of the argument.
     */
-   public static synchronized double tanh( double a ) {
+   public static double tanh( double a ) {
       double exp = Math.exp(a);
       double exm = Math.exp(-a);
       return ( (exp - exm) / (exp + exm) );
    }
+
+
+   /**
+    * Returns the hyperbolic tangent of each element of an array.
+    *
+    * @param   a   input array.
+    * @return  a new array holding the hyperbolic tangent of each element
+    */
+   public static double[] tanh( double a[] ) {
+      return tanh( a, new double[a.length] );
+   }
+
+
+   /**
+    * Calculates the hyperbolic tangent of each element of an array,
+    * storing the results in array <tt>out</tt>.  <tt>out</tt> may be
+    * the same array as <tt>a</tt>.
+    *
+    * @param   a   input array.
+    * @param   out output array, the same length as <tt>a</tt>.
+    * @return  <tt>out</tt>
+    * @exception InvalidArraySizeException if the arrays have
+    *          different lengths.
+    */
+   public static double[] tanh( double a[], double out[] ) {
+      map( TANH, a, out, "tanh" );
+      return out;
+   }
+
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Applies the function selected by <tt>op</tt> to each element of
+    * <tt>a</tt>, in parallel for large arrays.
+    */
+   private static void map( final int op, final double a[], final double out[],
+                            String name ) {
+      if ( a.length != out.length ) {
+         String s = name + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      Parallel.forRange( a.length, new Parallel.Loop() {
+         void run( int from, int to ) {
+            switch ( op ) {
+               case ACOSD:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = acosd( a[i] );
+                  break;
+               case ACOSH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = acosh( a[i] );
+                  break;
+               case ASIND:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = asind( a[i] );
+                  break;
+               case ASINH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = asinh( a[i] );
+                  break;
+               case ATAND:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = atand( a[i] );
+                  break;
+               case ATANH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = atanh( a[i] );
+                  break;
+               case COSD:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = cosd( a[i] );
+                  break;
+               case COSH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = cosh( a[i] );
+                  break;
+               case LOG10:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = log10( a[i] );
+                  break;
+               case SINC:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = sinc( a[i] );
+                  break;
+               case SIND:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = sind( a[i] );
+                  break;
+               case SINH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = sinh( a[i] );
+                  break;
+               case TAND:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = tand( a[i] );
+                  break;
+               case TANH:
+                  for ( int i = from; i < to; i++ )
+                     out[i] = tanh( a[i] );
+                  break;
+            }
+         }
+      } );
+   }
 }
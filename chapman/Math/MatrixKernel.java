@@ -0,0 +1,366 @@
+package chapman.math;
+
+/**
+ * Class <code>MatrixKernel</code> contains the cache-blocked matrix
+ * multiplication, triangular solve, and transpose loops used by the
+ * matrix methods of class <code>Array</code> and by the decomposition
+ * classes <code>LUDecomposition</code>, <code>CholeskyDecomposition</code>,
+ * and <code>QRDecomposition</code>.  All matrices
+ * are stored in row-major order in flat arrays, described by an offset
+ * to the first element and a <i>leading dimension</i> (the distance
+ * between the starts of adjacent rows), so that the kernels can work on
+ * sub-matrices of a larger array without copying.
+ * <p>
+ * The multiplication loops run in <i>i-k-j</i> order, so that the
+ * innermost loop streams through one row of <code>B</code> and one row of
+ * <code>C</code>; these loops are simple enough for the compiler to
+ * vectorize.  The real kernels combine four rows of <code>B</code> in
+ * each pass, which cuts the loads and stores of <code>C</code> by a
+ * factor of four.  The <i>k</i> and <i>j</i> ranges are divided into blocks of
+ * <code>DEPTH</code> by <code>COLS</code> elements, so that the part of
+ * <code>B</code> in use stays in the level-2 cache while every row of the
+ * current row block of <code>A</code> and <code>C</code> passes over it.
+ * Row blocks of <code>C</code> are computed concurrently for large
+ * products.  This class is not intended for use outside the package.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ */
+
+final class MatrixKernel {
+
+   //*************************************************
+   // Constants
+   //*************************************************
+
+   /**
+    * Number of rows of <tt>C</tt> in each parallel task.
+    */
+   static final int ROWS = 32;
+
+   /**
+    * Number of columns of <tt>A</tt> (rows of <tt>B</tt>) in each block.
+    */
+   static final int DEPTH = 128;
+
+   /**
+    * Number of columns of <tt>B</tt> and <tt>C</tt> in each block.
+    */
+   static final int COLS = 512;
+
+   /**
+    * Size of the square tiles used by the transpose.
+    */
+   static final int TILE = 32;
+
+   /**
+    * Number of columns in each panel of the blocked decompositions and
+    * triangular solves.
+    */
+   static final int PANEL = 64;
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Create an inaccessible constructor, so that this class cannot be
+    * instantiated.
+    */
+   private MatrixKernel() {}
+
+   //*************************************************
+   // Static Methods
+   //*************************************************
+
+   /**
+    * Returns <tt>true</tt> if a product needing <tt>m*n*k</tt>
+    * multiply-adds is large enough to be run in parallel.  The cut-off
+    * scales with the threshold set in class <tt>Parallel</tt>.
+    */
+   static boolean isParallel( int m, int n, int k ) {
+      return (long) m * n * k >= 64L * Parallel.getThreshold();
+   }
+
+
+   /**
+    * Calculates <tt>C += alpha * A * B</tt>, where <tt>A</tt> is
+    * <tt>m</tt> by <tt>k</tt>, <tt>B</tt> is <tt>k</tt> by <tt>n</tt>,
+    * and <tt>C</tt> is <tt>m</tt> by <tt>n</tt>.  <tt>C</tt> must not
+    * overlap <tt>A</tt> or <tt>B</tt>.
+    */
+   static void gemm( int m, int n, final int k, final double alpha,
+                     final double a[], final int aOff, final int lda,
+                     final double b[], final int bOff, final int ldb,
+                     final double c[], final int cOff, final int ldc ) {
+
+      final int nn = n;
+      Parallel.forRange( m, ROWS, isParallel(m, n, k), new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int kk = 0; kk < k; kk += DEPTH ) {
+               int kEnd = Math.min( kk + DEPTH, k );
+               for ( int jj = 0; jj < nn; jj += COLS ) {
+                  int jEnd = Math.min( jj + COLS, nn );
+                  for ( int i = from; i < to; i++ ) {
+                     int ai = aOff + i * lda;
+                     int ci = cOff + i * ldc;
+                     int p = kk;
+                     for ( ; p + 3 < kEnd; p += 4 ) {
+                        double s0 = alpha * a[ai + p];
+                        double s1 = alpha * a[ai + p + 1];
+                        double s2 = alpha * a[ai + p + 2];
+                        double s3 = alpha * a[ai + p + 3];
+                        int    b0 = bOff + p * ldb;
+                        int    b1 = b0 + ldb, b2 = b1 + ldb, b3 = b2 + ldb;
+                        for ( int j = jj; j < jEnd; j++ )
+                           c[ci + j] += s0 * b[b0 + j] + s1 * b[b1 + j]
+                                      + s2 * b[b2 + j] + s3 * b[b3 + j];
+                     }
+                     for ( ; p < kEnd; p++ ) {
+                        double s  = alpha * a[ai + p];
+                        int    bp = bOff + p * ldb;
+                        for ( int j = jj; j < jEnd; j++ )
+                           c[ci + j] += s * b[bp + j];
+                     }
+                  }
+               }
+            }
+         }
+      } );
+   }
+
+
+   /**
+    * Calculates <tt>C += A * B</tt> for <tt>float</tt> matrices.  The
+    * arguments are the same as for the <tt>double</tt> version.
+    */
+   static void gemm( int m, int n, final int k,
+                     final float a[], final int aOff, final int lda,
+                     final float b[], final int bOff, final int ldb,
+                     final float c[], final int cOff, final int ldc ) {
+
+      final int nn = n;
+      Parallel.forRange( m, ROWS, isParallel(m, n, k), new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int kk = 0; kk < k; kk += DEPTH ) {
+               int kEnd = Math.min( kk + DEPTH, k );
+               for ( int jj = 0; jj < nn; jj += COLS ) {
+                  int jEnd = Math.min( jj + COLS, nn );
+                  for ( int i = from; i < to; i++ ) {
+                     int ai = aOff + i * lda;
+                     int ci = cOff + i * ldc;
+                     int p = kk;
+                     for ( ; p + 3 < kEnd; p += 4 ) {
+                        float s0 = a[ai + p];
+                        float s1 = a[ai + p + 1];
+                        float s2 = a[ai + p + 2];
+                        float s3 = a[ai + p + 3];
+                        int   b0 = bOff + p * ldb;
+                        int   b1 = b0 + ldb, b2 = b1 + ldb, b3 = b2 + ldb;
+                        for ( int j = jj; j < jEnd; j++ )
+                           c[ci + j] += s0 * b[b0 + j] + s1 * b[b1 + j]
+                                      + s2 * b[b2 + j] + s3 * b[b3 + j];
+                     }
+                     for ( ; p < kEnd; p++ ) {
+                        float s  = a[ai + p];
+                        int   bp = bOff + p * ldb;
+                        for ( int j = jj; j < jEnd; j++ )
+                           c[ci + j] += s * b[bp + j];
+                     }
+                  }
+               }
+            }
+         }
+      } );
+   }
+
+
+   /**
+    * Calculates <tt>C += A * B</tt> for complex matrices stored as
+    * separate real and imaginary arrays, which all share the same
+    * offsets and leading dimensions as their partners.
+    */
+   static void gemm( int m, int n, final int k,
+                     final double ar[], final double ai[], final int aOff, final int lda,
+                     final double br[], final double bi[], final int bOff, final int ldb,
+                     final double cr[], final double ci[], final int cOff, final int ldc ) {
+
+      final int nn = n;
+      Parallel.forRange( m, ROWS, isParallel(m, n, 4*k), new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int kk = 0; kk < k; kk += DEPTH ) {
+               int kEnd = Math.min( kk + DEPTH, k );
+               for ( int jj = 0; jj < nn; jj += COLS ) {
+                  int jEnd = Math.min( jj + COLS, nn );
+                  for ( int i = from; i < to; i++ ) {
+                     int ap = aOff + i * lda;
+                     int cp = cOff + i * ldc;
+                     for ( int p = kk; p < kEnd; p++ ) {
+                        double sr = ar[ap + p];
+                        double si = ai[ap + p];
+                        int    bp = bOff + p * ldb;
+                        for ( int j = jj; j < jEnd; j++ ) {
+                           double xr = br[bp + j];
+                           double xi = bi[bp + j];
+                           cr[cp + j] += (sr*xr) - (si*xi);
+                           ci[cp + j] += (sr*xi) + (si*xr);
+                        }
+                     }
+                  }
+               }
+            }
+         }
+      } );
+   }
+
+
+   /**
+    * Solves <tt>L * X = B</tt> in place, where <tt>L</tt> is the
+    * <tt>n</tt> by <tt>n</tt> lower triangle of <tt>A</tt> and <tt>X</tt>
+    * is <tt>n</tt> by <tt>nrhs</tt>, starting at <tt>x[xOff]</tt> with
+    * leading dimension <tt>ldx</tt>.  If <tt>unit</tt> is <tt>true</tt>,
+    * the diagonal of <tt>L</tt> is taken to be 1 and is not read.  Each
+    * panel of rows is solved directly and then removed from the rows
+    * below it with one call to <tt>gemm</tt>.
+    */
+   static void trsmLower( int n, int nrhs, boolean unit,
+                          double a[], int aOff, int lda,
+                          double x[], int xOff, int ldx ) {
+      for ( int k0 = 0; k0 < n; k0 += PANEL ) {
+         int kb = Math.min( k0 + PANEL, n );
+         for ( int i = k0; i < kb; i++ ) {
+            int ai = aOff + i * lda;
+            int xi = xOff + i * ldx;
+            for ( int p = k0; p < i; p++ ) {
+               double l  = a[ai + p];
+               int    xp = xOff + p * ldx;
+               for ( int j = 0; j < nrhs; j++ )
+                  x[xi + j] -= l * x[xp + j];
+            }
+            if ( !unit ) {
+               double d = a[ai + i];
+               for ( int j = 0; j < nrhs; j++ )
+                  x[xi + j] /= d;
+            }
+         }
+         if ( kb < n )
+            gemm( n - kb, nrhs, kb - k0, -1.0, a, aOff + kb * lda + k0, lda,
+                  x, xOff + k0 * ldx, ldx, x, xOff + kb * ldx, ldx );
+      }
+   }
+
+
+   /**
+    * Solves <tt>U * X = B</tt> in place, where <tt>U</tt> is the
+    * <tt>n</tt> by <tt>n</tt> upper triangle of <tt>A</tt> and <tt>X</tt>
+    * is <tt>n</tt> by <tt>nrhs</tt>, stored as for <tt>trsmLower</tt>.
+    * The panels are solved from the
+    * bottom up, each one being removed from the rows above it with one
+    * call to <tt>gemm</tt>.
+    */
+   static void trsmUpper( int n, int nrhs,
+                          double a[], int aOff, int lda,
+                          double x[], int xOff, int ldx ) {
+      for ( int k0 = (n - 1) / PANEL * PANEL; k0 >= 0; k0 -= PANEL ) {
+         int kb = Math.min( k0 + PANEL, n );
+         for ( int i = kb - 1; i >= k0; i-- ) {
+            int ai = aOff + i * lda;
+            int xi = xOff + i * ldx;
+            for ( int p = i + 1; p < kb; p++ ) {
+               double u  = a[ai + p];
+               int    xp = xOff + p * ldx;
+               for ( int j = 0; j < nrhs; j++ )
+                  x[xi + j] -= u * x[xp + j];
+            }
+            double d = a[ai + i];
+            for ( int j = 0; j < nrhs; j++ )
+               x[xi + j] /= d;
+         }
+         if ( k0 > 0 )
+            gemm( k0, nrhs, kb - k0, -1.0, a, aOff + k0, lda,
+                  x, xOff + k0 * ldx, ldx, x, xOff, ldx );
+      }
+   }
+
+
+   /**
+    * Copies a rectangular 2-D array into a new row-major array.
+    *
+    * @exception InvalidArraySizeException if the rows of <tt>a</tt>
+    *          do not all have the same length.
+    */
+   static double[] flatten( double a[][], String name ) {
+      int m = a.length;
+      int n = ( m > 0 ) ? a[0].length : 0;
+      if ( (long) m * n > Integer.MAX_VALUE ) {
+         String s = name + ": Array too large";
+         throw new InvalidArraySizeException(s);
+      }
+      double x[] = new double[m * n];
+      for ( int i = 0; i < m; i++ ) {
+         if ( a[i].length != n ) {
+            String s = name + ": Array is not rectangular";
+            throw new InvalidArraySizeException(s);
+         }
+         System.arraycopy( a[i], 0, x, i * n, n );
+      }
+      return x;
+   }
+
+
+   /**
+    * Returns the elements of a 2-D <tt>NDArray</tt> in a new row-major
+    * array.
+    *
+    * @exception InvalidArraySizeException if <tt>a</tt> is not 2-D.
+    */
+   static double[] flatten( NDArray a, String name ) {
+      if ( a.ndim() != 2 ) {
+         String s = name + ": Array must be 2-D";
+         throw new InvalidArraySizeException(s);
+      }
+      return a.toArray();
+   }
+
+
+   /**
+    * Copies <tt>m</tt> rows of <tt>n</tt> elements, starting at
+    * <tt>x[off]</tt> with leading dimension <tt>ld</tt>, into a new
+    * 2-D array.
+    */
+   static double[][] unflatten( double x[], int off, int ld, int m, int n ) {
+      double a[][] = new double[m][n];
+      for ( int i = 0; i < m; i++ )
+         System.arraycopy( x, off + i * ld, a[i], 0, n );
+      return a;
+   }
+
+
+   /**
+    * Stores the transpose of the <tt>m</tt> by <tt>n</tt> matrix <tt>A</tt>
+    * into the <tt>n</tt> by <tt>m</tt> matrix <tt>B</tt>, one square tile
+    * at a time so that both matrices are accessed in cache-sized pieces.
+    * <tt>B</tt> must not overlap <tt>A</tt>.
+    */
+   static void transpose( final int m, int n,
+                          final double a[], final int aOff, final int lda,
+                          final double b[], final int bOff, final int ldb ) {
+
+      // Each task writes a band of rows of B (columns of A)
+      Parallel.forRange( n, TILE, (long) m * n >= Parallel.getThreshold(), new Parallel.Loop() {
+         void run( int from, int to ) {
+            for ( int jj = from; jj < to; jj += TILE ) {
+               int jEnd = Math.min( jj + TILE, to );
+               for ( int ii = 0; ii < m; ii += TILE ) {
+                  int iEnd = Math.min( ii + TILE, m );
+                  for ( int j = jj; j < jEnd; j++ ) {
+                     int bp = bOff + j * ldb;
+                     for ( int i = ii; i < iEnd; i++ )
+                        b[bp + i] = a[aOff + i * lda + j];
+                  }
+               }
+            }
+         }
+      } );
+   }
+}
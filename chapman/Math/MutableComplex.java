@@ -0,0 +1,453 @@
+package chapman.math;
+import java.io.Serializable;
+
+/**
+ * The class <code>MutableComplex</code> is a complex accumulator whose
+ * value can be changed in place.  It is intended for use inside loops
+ * that would otherwise create a new <code>Complex</code> object on every
+ * iteration.  For example, the dot product of two <code>Complex</code>
+ * arrays can be written as
+ * <pre>
+ *   MutableComplex acc = new MutableComplex();
+ *   for ( int i = 0; i < a.length; i++ )
+ *      acc.addProduct( a[i], b[i] );
+ *   Complex result = acc.toComplex();
+ * </pre>
+ * which creates no temporary objects inside the loop.
+ * <p>
+ * The methods of this class whose names end in <code>Assign</code>
+ * modify this object and return a reference to it, so that they can be
+ * strung together in the same fashion as the methods of class
+ * <code>Complex</code>:
+ * <pre>
+ *   acc.mulAssign(z1).addAssign(z2)      // acc = acc * z1 + z2
+ * </pre>
+ * Objects of this class are <i>not</i> thread-safe, and should not be
+ * shared between threads without external synchronization.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Complex
+ */
+
+public final class MutableComplex implements Cloneable, Serializable {
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * Real part of the accumulator.
+    *
+    * @serial
+    */
+   private double re;
+
+   /**
+    * Imaginary part of the accumulator.
+    *
+    * @serial
+    */
+   private double im;
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Constructs a <tt>MutableComplex</tt> object representing the number zero.
+    */
+   public MutableComplex() {
+      this.re = 0;
+      this.im = 0;
+   }
+
+
+   /**
+    * Constructs a <tt>MutableComplex</tt> from a real number.  The imaginary
+    * part is zero.
+    *
+    * @param  re  The real number
+    */
+   public MutableComplex( double re ) {
+      this.re = re;
+      this.im = 0;
+   }
+
+
+   /**
+    * Constructs a <tt>MutableComplex</tt> object from real and imaginary parts.
+    *
+    * @param  re Real part
+    * @param  im Imaginary part
+    */
+   public MutableComplex( double re, double im ) {
+      this.re = re;
+      this.im = im;
+   }
+
+
+   /**
+    * Constructs a <tt>MutableComplex</tt> object from an existing
+    * <tt>Complex</tt> value.
+    *
+    * @param  z  A <tt>Complex</tt> value
+    */
+   public MutableComplex( Complex z ) {
+      this.re = z.re();
+      this.im = z.im();
+   }
+
+   //*************************************************
+   // Access methods
+   //*************************************************
+
+   /**
+    * Returns the real part of this accumulator.
+    *
+    * @return  <tt>double</tt> containing the real part
+    */
+   public double re() {
+      return re;
+   }
+
+
+   /**
+    * Returns the imaginary part of this accumulator.
+    *
+    * @return  <tt>double</tt> containing the imaginary part
+    */
+   public double im() {
+      return im;
+   }
+
+
+   /**
+    * Sets the real and imaginary parts of this accumulator.
+    *
+    * @param  re Real part
+    * @param  im Imaginary part
+    * @return  a reference to this object
+    */
+   public MutableComplex set( double re, double im ) {
+      this.re = re;
+      this.im = im;
+      return this;
+   }
+
+
+   /**
+    * Sets this accumulator to the value of a <tt>Complex</tt> number.
+    *
+    * @param  z  A <tt>Complex</tt> value
+    * @return  a reference to this object
+    */
+   public MutableComplex set( Complex z ) {
+      this.re = z.re();
+      this.im = z.im();
+      return this;
+   }
+
+
+   /**
+    * Sets this accumulator to zero.
+    *
+    * @return  a reference to this object
+    */
+   public MutableComplex setZero() {
+      this.re = 0;
+      this.im = 0;
+      return this;
+   }
+
+
+   /**
+    * Returns a new <tt>Complex</tt> object holding the current value of
+    * this accumulator.
+    *
+    * @return  the <tt>Complex</tt> value of this accumulator
+    */
+   public Complex toComplex() {
+      return Complex.complex(re, im);
+   }
+
+
+   /**
+    * Converts the value of this accumulator into a <tt>String</tt> of the form
+    * <tt>(</tt><i>re</i><tt> + i</tt><i>im</i><tt>)</tt>.
+    *
+    * @return <tt>String</tt> containing the rectangular coordinate representation of the number
+    */
+   public String toString() {
+      return new Complex(re, im).toString();
+   }
+
+   //*************************************************
+   // In-place operations
+   //*************************************************
+
+   /**
+    * Adds a <tt>Complex</tt> value to this accumulator (this += z).
+    *
+    * @param  z  A <tt>Complex</tt> value
+    * @return  a reference to this object
+    */
+   public MutableComplex addAssign( Complex z ) {
+      re += z.re();
+      im += z.im();
+      return this;
+   }
+
+
+   /**
+    * Adds a complex value, expressed as a pair of <tt>double</tt>s, to this
+    * accumulator (this += re + i*im).
+    *
+    * @param  re Real part
+    * @param  im Imaginary part
+    * @return  a reference to this object
+    */
+   public MutableComplex addAssign( double re, double im ) {
+      this.re += re;
+      this.im += im;
+      return this;
+   }
+
+
+   /**
+    * Adds a <tt>double</tt> value to this accumulator (this += d).
+    *
+    * @param  d  A <tt>double</tt> value
+    * @return  a reference to this object
+    */
+   public MutableComplex addAssign( double d ) {
+      re += d;
+      return this;
+   }
+
+
+   /**
+    * Adds the product of two <tt>Complex</tt> values to this accumulator
+    * (this += z1 * z2).  This is the inner operation of a complex
+    * dot product.
+    *
+    * @param  z1  A <tt>Complex</tt> value
+    * @param  z2  A <tt>Complex</tt> value
+    * @return  a reference to this object
+    */
+   public MutableComplex addProduct( Complex z1, Complex z2 ) {
+      double re1 = z1.re(), im1 = z1.im();
+      double re2 = z2.re(), im2 = z2.im();
+      re += (re1*re2) - (im1*im2);
+      im += (re1*im2) + (im1*re2);
+      return this;
+   }
+
+
+   /**
+    * Subtracts a <tt>Complex</tt> value from this accumulator (this -= z).
+    *
+    * @param  z  A <tt>Complex</tt> value
+    * @return  a reference to this object
+    */
+   public MutableComplex subAssign( Complex z ) {
+      re -= z.re();
+      im -= z.im();
+      return this;
+   }
+
+
+   /**
+    * Subtracts a complex value, expressed as a pair of <tt>double</tt>s, from
+    * this accumulator (this -= re + i*im).
+    *
+    * @param  re Real part
+    * @param  im Imaginary part
+    * @return  a reference to this object
+    */
+   public MutableComplex subAssign( double re, double im ) {
+      this.re -= re;
+      this.im -= im;
+      return this;
+   }
+
+
+   /**
+    * Subtracts a <tt>double</tt> value from this accumulator (this -= d).
+    *
+    * @param  d  A <tt>double</tt> value
+    * @return  a reference to this object
+    */
+   public MutableComplex subAssign( double d ) {
+      re -= d;
+      return this;
+   }
+
+
+   /**
+    * Multiplies this accumulator by a <tt>Complex</tt> value (this *= z).
+    *
+    * @param  z  A <tt>Complex</tt> value
+    * @return  a reference to this object
+    */
+   public MutableComplex mulAssign( Complex z ) {
+      return mulAssign( z.re(), z.im() );
+   }
+
+
+   /**
+    * Multiplies this accumulator by a complex value expressed as a pair
+    * of <tt>double</tt>s (this *= re + i*im).
+    *
+    * @param  re Real part
+    * @param  im Imaginary part
+    * @return  a reference to this object
+    */
+   public MutableComplex mulAssign( double re, double im ) {
+      double zRe = (this.re*re) - (this.im*im);
+      double zIm = (this.re*im) + (this.im*re);
+      this.re = zRe;
+      this.im = zIm;
+      return this;
+   }
+
+
+   /**
+    * Multiplies this accumulator by a <tt>double</tt> value (this *= d).
+    *
+    * @param  d  A <tt>double</tt> value
+    * @return  a reference to this object
+    */
+   public MutableComplex mulAssign( double d ) {
+      re *= d;
+      im *= d;
+      return this;
+   }
+
+
+   /**
+    * Divides this accumulator by a <tt>Complex</tt> value (this /= z).
+    *
+    * @param  z  A <tt>Complex</tt> value
+    * @return  a reference to this object
+    */
+   public MutableComplex divAssign( Complex z ) {
+      return divAssign( z.re(), z.im() );
+   }
+
+
+   /**
+    * Divides this accumulator by a complex value expressed as a pair
+    * of <tt>double</tt>s (this /= x + i*y).
+    *
+    * @param  x  Real part of the divisor
+    * @param  y  Imaginary part of the divisor
+    * @return  a reference to this object
+    */
+   public MutableComplex divAssign( double x, double y ) {
+      double scalar, zRe, zIm;
+
+      // Calculate to minimize roundoff errors.  This algorithm is
+      // taken from "Numerical Recipes in Fortran 77: The Art of
+      // Scientific Computing"
+      if (Math.abs(x) >= Math.abs(y)) {
+         scalar =  1.0 / ( x + y*(y/x) );
+         zRe = scalar * (re + im*(y/x));
+         zIm = scalar * (im - re*(y/x));
+      }
+      else {
+         scalar =  1.0 / ( x*(x/y) + y );
+         zRe = scalar * (re*(x/y) + im);
+         zIm = scalar * (im*(x/y) - re);
+      }
+      re = zRe;
+      im = zIm;
+      return this;
+   }
+
+
+   /**
+    * Divides this accumulator by a <tt>double</tt> value (this /= d).
+    *
+    * @param  d  A <tt>double</tt> value
+    * @return  a reference to this object
+    */
+   public MutableComplex divAssign( double d ) {
+      re /= d;
+      im /= d;
+      return this;
+   }
+
+
+   /**
+    * Replaces this accumulator by its complex conjugate.
+    *
+    * @return  a reference to this object
+    */
+   public MutableComplex conjAssign() {
+      im = -im;
+      return this;
+   }
+
+
+   /**
+    * Replaces this accumulator by its negative.
+    *
+    * @return  a reference to this object
+    */
+   public MutableComplex negAssign() {
+      re = -re;
+      im = -im;
+      return this;
+   }
+
+   //*************************************************
+   // Inquiry methods
+   //*************************************************
+
+   /**
+    * Returns the absolute value (magnitude) of this accumulator.
+    *
+    * @return  <tt>double</tt> containing the absolute value
+    */
+   public double abs() {
+      double absRe =  Math.abs(re);
+      double absIm =  Math.abs(im);
+
+      // This algorithm avoids overflows that might otherwise
+      // occur when evaluating Math.sqrt(re*re + im*im);
+      if (absRe == 0.0 && absIm == 0.0) {
+         return 0.;
+      }
+      else if (absRe >= absIm) {
+         double d =  im / re;
+         return absRe * Math.sqrt(1.0 + d*d);
+      }
+      else {
+        double d =  re / im;
+        return absIm * Math.sqrt(1.0 + d*d);
+      }
+   }
+
+
+   /**
+    * Returns the principal angle of this accumulator, in radians,
+    * measured counter-clockwise from the real axis.
+    *
+    * @return  <tt>double</tt> containing the principal angle
+    */
+   public double arg() {
+      return Math.atan2(im, re);
+   }
+
+
+   /**
+    * Returns the sum of the squares of the real and imaginary parts
+    * of this accumulator.
+    *
+    * @return  <tt>double</tt> containing the norm
+    */
+   public double norm() {
+      return ( re*re + im*im );
+   }
+}
@@ -0,0 +1,1053 @@
+package chapman.math;
+import java.io.Serializable;
+
+/**
+ * The class <code>NDArray</code> holds an N-dimensional array of
+ * <code>double</code> values in a single contiguous block of memory,
+ * stored in row-major order.  Unlike a Java <code>double[][]</code>, which
+ * is an array of separately allocated rows, all of the elements of an
+ * <code>NDArray</code> are adjacent, so whole-array operations run through
+ * memory in order and no row lengths need to be checked.
+ * <p>
+ * Each <code>NDArray</code> is described by its <i>shape</i> (the number
+ * of elements along each axis) and its <i>strides</i> (the distance in the
+ * storage between neighbouring elements along each axis).  Methods such as
+ * <code>transpose</code>, <code>slice</code>, <code>row</code>, and
+ * <code>reshape</code> return <i>views</i>:  new <code>NDArray</code>
+ * objects with different shapes and strides that share the storage of the
+ * original array, so that no data is copied and changes made through a
+ * view are visible in the original.  For example,
+ * <pre>
+ *   NDArray a  = new NDArray( x );          // from double[][]
+ *   NDArray at = a.transpose();             // view, no copy
+ *   a.row(0).mulAssign( 2.0 );              // scales the first row of a
+ *   double[][] y = a.add( at ).toArray2D();
+ * </pre>
+ * The arithmetic methods <code>add</code>, <code>sub</code>,
+ * <code>mul</code>, and <code>div</code> return new arrays, while the
+ * methods whose names end in <code>Assign</code> modify the array in place.
+ * The elementary functions of class <code>Array</code> are available
+ * through <code>expr</code>, which returns an <code>ArrayExpr</code> over
+ * the elements of the array, and <code>assign</code>, which stores the
+ * value of such an expression back into the array:
+ * <pre>
+ *   a.assign( a.expr().sin().mul(2.0) );    // a = 2*sin(a), in place
+ * </pre>
+ * Operations on large arrays run in parallel as described in class
+ * <code>Parallel</code>.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Array
+ * @see     ArrayExpr
+ */
+
+public final class NDArray implements Cloneable, Serializable {
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * The storage holding the elements.  It may be shared with other views.
+    *
+    * @serial
+    */
+   private final double data[];
+
+   /**
+    * Index in <tt>data</tt> of the first element.
+    *
+    * @serial
+    */
+   private final int offset;
+
+   /**
+    * Number of elements along each axis.
+    *
+    * @serial
+    */
+   private final int shape[];
+
+   /**
+    * Distance in <tt>data</tt> between neighbouring elements along
+    * each axis.
+    *
+    * @serial
+    */
+   private final int stride[];
+
+   /**
+    * Total number of elements.
+    *
+    * @serial
+    */
+   private final int size;
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Constructs a 2-D <tt>NDArray</tt> with all elements initialized to zero.
+    *
+    * @param  rows  The number of rows
+    * @param  cols  The number of columns
+    */
+   public NDArray( int rows, int cols ) {
+      this( new int[] { rows, cols } );
+   }
+
+
+   /**
+    * Constructs an <tt>NDArray</tt> of the specified shape with all
+    * elements initialized to zero.
+    *
+    * @param  shape  The number of elements along each axis
+    * @exception <code>InvalidArraySizeException</code> if any dimension
+    *            is negative or the total size is too large
+    */
+   public NDArray( int shape[] ) {
+      this( new double[ checkShape(shape, "NDArray") ], shape );
+   }
+
+
+   /**
+    * Constructs an <tt>NDArray</tt> of the specified shape that uses array
+    * <tt>data</tt> as its storage, in row-major order.  The array is
+    * <i>not</i> copied, so later changes to it are visible through this
+    * object and vice versa.
+    *
+    * @param  data   The storage
+    * @param  shape  The number of elements along each axis
+    * @exception <code>InvalidArraySizeException</code> if the length of
+    *            <tt>data</tt> does not match the shape
+    */
+   public NDArray( double data[], int shape[] ) {
+      if ( checkShape(shape, "NDArray") != data.length ) {
+         String s = "NDArray: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      this.data   = data;
+      this.offset = 0;
+      this.shape  = (int[]) shape.clone();
+      this.stride = rowMajor( shape );
+      this.size   = data.length;
+   }
+
+
+   /**
+    * Constructs a 2-D <tt>NDArray</tt> holding the same values as a
+    * rectangular <tt>double[][]</tt> array.  The values are copied.
+    *
+    * @param  a  A rectangular 2-D array
+    * @exception <code>InvalidArraySizeException</code> if the rows of
+    *            <tt>a</tt> have different lengths
+    */
+   public NDArray( double a[][] ) {
+      this( a.length, (a.length > 0) ? a[0].length : 0 );
+      int cols = shape[1];
+      for ( int i = 0; i < a.length; i++ ) {
+         if ( a[i].length != cols ) {
+            String s = "NDArray: Incompatible array lengths";
+            throw new InvalidArraySizeException(s);
+         }
+         System.arraycopy( a[i], 0, data, i * cols, cols );
+      }
+   }
+
+
+   /**
+    * Constructs a view of existing storage.
+    */
+   private NDArray( double data[], int offset, int shape[], int stride[] ) {
+      this.data   = data;
+      this.offset = offset;
+      this.shape  = shape;
+      this.stride = stride;
+      int n = 1;
+      for ( int k = 0; k < shape.length; k++ ) {
+         n *= shape[k];
+      }
+      this.size = n;
+   }
+
+   //*************************************************
+   // Access methods
+   //*************************************************
+
+   /**
+    * Returns the number of dimensions of this array.
+    *
+    * @return  the number of axes
+    */
+   public int ndim() {
+      return shape.length;
+   }
+
+
+   /**
+    * Returns the shape of this array.
+    *
+    * @return  a new array holding the number of elements along each axis
+    */
+   public int[] shape() {
+      return (int[]) shape.clone();
+   }
+
+
+   /**
+    * Returns the number of elements along one axis of this array.
+    *
+    * @param   axis   the axis number, starting from 0
+    * @return  the number of elements along <tt>axis</tt>
+    */
+   public int shape( int axis ) {
+      return shape[axis];
+   }
+
+
+   /**
+    * Returns the distance in the storage between neighbouring elements
+    * along one axis of this array.
+    *
+    * @param   axis   the axis number, starting from 0
+    * @return  the stride along <tt>axis</tt>
+    */
+   public int stride( int axis ) {
+      return stride[axis];
+   }
+
+
+   /**
+    * Returns the total number of elements in this array.
+    *
+    * @return  the number of elements
+    */
+   public int size() {
+      return size;
+   }
+
+
+   /**
+    * Returns the index in the storage of the first element of this array.
+    *
+    * @return  the offset of the first element
+    */
+   public int offset() {
+      return offset;
+   }
+
+
+   /**
+    * Returns the storage of this array.  This is not a copy, and it may be
+    * shared with other views; use <tt>offset</tt> and <tt>stride</tt> to
+    * locate the elements.
+    *
+    * @return  the storage
+    */
+   public double[] getData() {
+      return data;
+   }
+
+
+   /**
+    * Returns <tt>true</tt> if the elements of this array occupy adjacent
+    * locations of the storage in row-major order.
+    *
+    * @return  <tt>true</tt> if the array is contiguous
+    */
+   public boolean isContiguous() {
+      int expect = 1;
+      for ( int k = shape.length - 1; k >= 0; k-- ) {
+         if ( shape[k] != 1 && stride[k] != expect ) {
+            return false;
+         }
+         expect *= shape[k];
+      }
+      return true;
+   }
+
+
+   /**
+    * Returns element <tt>i</tt> of a 1-D array.
+    *
+    * @param   i   the index
+    * @return  the element value
+    */
+   public double get( int i ) {
+      checkIndex( 1, "get" );
+      return data[ offset + checkRange(i, 0) * stride[0] ];
+   }
+
+
+   /**
+    * Returns element <tt>(i,j)</tt> of a 2-D array.
+    *
+    * @param   i   the row index
+    * @param   j   the column index
+    * @return  the element value
+    */
+   public double get( int i, int j ) {
+      checkIndex( 2, "get" );
+      return data[ offset + checkRange(i, 0) * stride[0] + checkRange(j, 1) * stride[1] ];
+   }
+
+
+   /**
+    * Returns the element at the specified position.
+    *
+    * @param   index   one index for each axis
+    * @return  the element value
+    */
+   public double get( int index[] ) {
+      return data[ position(index, "get") ];
+   }
+
+
+   /**
+    * Sets element <tt>i</tt> of a 1-D array.
+    *
+    * @param   i       the index
+    * @param   value   the new value
+    */
+   public void set( int i, double value ) {
+      checkIndex( 1, "set" );
+      data[ offset + checkRange(i, 0) * stride[0] ] = value;
+   }
+
+
+   /**
+    * Sets element <tt>(i,j)</tt> of a 2-D array.
+    *
+    * @param   i       the row index
+    * @param   j       the column index
+    * @param   value   the new value
+    */
+   public void set( int i, int j, double value ) {
+      checkIndex( 2, "set" );
+      data[ offset + checkRange(i, 0) * stride[0] + checkRange(j, 1) * stride[1] ] = value;
+   }
+
+
+   /**
+    * Sets the element at the specified position.
+    *
+    * @param   index   one index for each axis
+    * @param   value   the new value
+    */
+   public void set( int index[], double value ) {
+      data[ position(index, "set") ] = value;
+   }
+
+   //*************************************************
+   // Conversions
+   //*************************************************
+
+   /**
+    * Returns the elements of this array in row-major order.
+    *
+    * @return  a new array holding a copy of the elements
+    */
+   public double[] toArray() {
+      double a[] = new double[size];
+      if ( isContiguous() ) {
+         System.arraycopy( data, offset, a, 0, size );
+      }
+      else if ( size > 0 ) {
+         gather( 0, offset, a, 0 );
+      }
+      return a;
+   }
+
+
+   /**
+    * Converts a 2-D array into a <tt>double[][]</tt> array.
+    *
+    * @return  a new <tt>double[][]</tt> array holding a copy of the elements
+    * @exception <code>InvalidArraySizeException</code> if this array is
+    *            not 2-D
+    */
+   public double[][] toArray2D() {
+      checkIndex( 2, "toArray2D" );
+      double a[][] = new double[shape[0]][shape[1]];
+      for ( int i = 0; i < shape[0]; i++ ) {
+         int p = offset + i * stride[0];
+         for ( int j = 0; j < shape[1]; j++, p += stride[1] ) {
+            a[i][j] = data[p];
+         }
+      }
+      return a;
+   }
+
+
+   /**
+    * Returns a copy of this array.  The copy has its own contiguous storage,
+    * so it is independent of the original.
+    *
+    * @return  a copy of this <tt>NDArray</tt>
+    */
+   public Object clone() {
+      return new NDArray( toArray(), shape );
+   }
+
+
+   /**
+    * Converts this array into a <tt>String</tt>, with the elements along
+    * each axis enclosed in brackets.
+    *
+    * @return <tt>String</tt> containing the values of the array
+    */
+   public String toString() {
+      StringBuffer sb = new StringBuffer();
+      append( sb, 0, offset );
+      return sb.toString();
+   }
+
+   //*************************************************
+   // Views
+   //*************************************************
+
+   /**
+    * Returns a view of this array with the order of the axes reversed.
+    * For a 2-D array, this is the matrix transpose.  No data is copied.
+    *
+    * @return  the transposed view
+    */
+   public NDArray transpose() {
+      int n = shape.length;
+      int s[] = new int[n];
+      int t[] = new int[n];
+      for ( int k = 0; k < n; k++ ) {
+         s[k] = shape[n-1-k];
+         t[k] = stride[n-1-k];
+      }
+      return new NDArray( data, offset, s, t );
+   }
+
+
+   /**
+    * Returns a view of this array with two axes exchanged.  No data is copied.
+    *
+    * @param   axis1   the first axis
+    * @param   axis2   the second axis
+    * @return  the view
+    */
+   public NDArray swapAxes( int axis1, int axis2 ) {
+      int s[] = (int[]) shape.clone();
+      int t[] = (int[]) stride.clone();
+      s[axis1] = shape[axis2];
+      s[axis2] = shape[axis1];
+      t[axis1] = stride[axis2];
+      t[axis2] = stride[axis1];
+      return new NDArray( data, offset, s, t );
+   }
+
+
+   /**
+    * Returns a view of the elements <tt>from</tt> through <tt>to-1</tt>
+    * along one axis.  No data is copied.
+    *
+    * @param   axis   the axis to slice
+    * @param   from   the first index included
+    * @param   to     one more than the last index included
+    * @return  the view
+    * @exception <code>IndexOutOfBoundsException</code> if the range is
+    *            not inside the array
+    */
+   public NDArray slice( int axis, int from, int to ) {
+      if ( from < 0 || to > shape[axis] || from > to ) {
+         throw new IndexOutOfBoundsException("slice: Invalid range " + from + " to " + to);
+      }
+      int s[] = (int[]) shape.clone();
+      s[axis] = to - from;
+      return new NDArray( data, offset + from * stride[axis], s, (int[]) stride.clone() );
+   }
+
+
+   /**
+    * Returns a view of the elements whose index along <tt>axis</tt> is
+    * <tt>index</tt>.  The view has one less dimension than this array.
+    * No data is copied.
+    *
+    * @param   axis    the axis to select on
+    * @param   index   the index along that axis
+    * @return  the view
+    * @exception <code>InvalidArraySizeException</code> if this array is 1-D
+    */
+   public NDArray select( int axis, int index ) {
+      if ( shape.length < 2 ) {
+         String s = "select: Array must have at least 2 dimensions";
+         throw new InvalidArraySizeException(s);
+      }
+      checkRange( index, axis );
+      int n = shape.length - 1;
+      int s[] = new int[n];
+      int t[] = new int[n];
+      for ( int k = 0, m = 0; k < shape.length; k++ ) {
+         if ( k != axis ) {
+            s[m] = shape[k];
+            t[m] = stride[k];
+            m++;
+         }
+      }
+      return new NDArray( data, offset + index * stride[axis], s, t );
+   }
+
+
+   /**
+    * Returns a 1-D view of row <tt>i</tt> of a 2-D array.  No data is copied.
+    *
+    * @param   i   the row index
+    * @return  the view
+    */
+   public NDArray row( int i ) {
+      checkIndex( 2, "row" );
+      return select( 0, i );
+   }
+
+
+   /**
+    * Returns a 1-D view of column <tt>j</tt> of a 2-D array.  No data is copied.
+    *
+    * @param   j   the column index
+    * @return  the view
+    */
+   public NDArray column( int j ) {
+      checkIndex( 2, "column" );
+      return select( 1, j );
+   }
+
+
+   /**
+    * Returns an array with the same elements in row-major order but a
+    * different shape.  If this array is contiguous, the result is a view
+    * sharing its storage; otherwise the elements are copied.
+    *
+    * @param   shape   the new shape
+    * @return  the reshaped array
+    * @exception <code>InvalidArraySizeException</code> if the new shape
+    *            does not have the same number of elements
+    */
+   public NDArray reshape( int shape[] ) {
+      if ( checkShape(shape, "reshape") != size ) {
+         String s = "reshape: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( isContiguous() ) {
+         return new NDArray( data, offset, (int[]) shape.clone(), rowMajor(shape) );
+      }
+      return new NDArray( toArray(), shape );
+   }
+
+   //*************************************************
+   // Arithmetic operations
+   //*************************************************
+
+   /**
+    * Returns the element-by-element sum of this array and <tt>b</tt>.
+    *
+    * @param   b   an array of the same shape
+    * @return  a new array holding <tt>this + b</tt>
+    */
+   public NDArray add( NDArray b ) {
+      checkShape( b, "add" );
+      return new NDArray( Array.addInto( flat(), b.flat(), new double[size] ), shape );
+   }
+
+
+   /**
+    * Returns the sum of this array and a scalar.
+    *
+    * @param   d   scalar value
+    * @return  a new array holding <tt>this + d</tt>
+    */
+   public NDArray add( double d ) {
+      return new NDArray( Array.addInto( flat(), d, new double[size] ), shape );
+   }
+
+
+   /**
+    * Returns the element-by-element difference of this array and <tt>b</tt>.
+    *
+    * @param   b   an array of the same shape
+    * @return  a new array holding <tt>this - b</tt>
+    */
+   public NDArray sub( NDArray b ) {
+      checkShape( b, "sub" );
+      return new NDArray( Array.subInto( flat(), b.flat(), new double[size] ), shape );
+   }
+
+
+   /**
+    * Returns the difference of this array and a scalar.
+    *
+    * @param   d   scalar value
+    * @return  a new array holding <tt>this - d</tt>
+    */
+   public NDArray sub( double d ) {
+      return new NDArray( Array.subInto( flat(), d, new double[size] ), shape );
+   }
+
+
+   /**
+    * Returns the element-by-element product of this array and <tt>b</tt>.
+    *
+    * @param   b   an array of the same shape
+    * @return  a new array holding <tt>this * b</tt>
+    */
+   public NDArray mul( NDArray b ) {
+      checkShape( b, "mul" );
+      return new NDArray( Array.mulInto( flat(), b.flat(), new double[size] ), shape );
+   }
+
+
+   /**
+    * Returns the product of this array and a scalar.
+    *
+    * @param   d   scalar value
+    * @return  a new array holding <tt>this * d</tt>
+    */
+   public NDArray mul( double d ) {
+      return new NDArray( Array.mulInto( flat(), d, new double[size] ), shape );
+   }
+
+
+   /**
+    * Returns the element-by-element quotient of this array and <tt>b</tt>.
+    *
+    * @param   b   an array of the same shape
+    * @return  a new array holding <tt>this / b</tt>
+    */
+   public NDArray div( NDArray b ) {
+      checkShape( b, "div" );
+      return new NDArray( Array.divInto( flat(), b.flat(), new double[size] ), shape );
+   }
+
+
+   /**
+    * Returns the quotient of this array and a scalar.
+    *
+    * @param   d   scalar value
+    * @return  a new array holding <tt>this / d</tt>
+    */
+   public NDArray div( double d ) {
+      return new NDArray( Array.divInto( flat(), d, new double[size] ), shape );
+   }
+
+   //*************************************************
+   // In-place operations
+   //*************************************************
+
+   /**
+    * Adds another array to this one, element by element (this += b).
+    *
+    * @param   b   an array of the same shape
+    * @return  a reference to this object
+    */
+   public NDArray addAssign( NDArray b ) {
+      checkShape( b, "addAssign" );
+      if ( isWhole() )
+         Array.addInto( data, b.flat(), data );
+      else
+         store( add(b).data );
+      return this;
+   }
+
+
+   /**
+    * Adds a scalar to each element of this array.
+    *
+    * @param   d   scalar value
+    * @return  a reference to this object
+    */
+   public NDArray addAssign( double d ) {
+      if ( isWhole() )
+         Array.addInto( data, d, data );
+      else
+         store( add(d).data );
+      return this;
+   }
+
+
+   /**
+    * Subtracts another array from this one, element by element (this -= b).
+    *
+    * @param   b   an array of the same shape
+    * @return  a reference to this object
+    */
+   public NDArray subAssign( NDArray b ) {
+      checkShape( b, "subAssign" );
+      if ( isWhole() )
+         Array.subInto( data, b.flat(), data );
+      else
+         store( sub(b).data );
+      return this;
+   }
+
+
+   /**
+    * Subtracts a scalar from each element of this array.
+    *
+    * @param   d   scalar value
+    * @return  a reference to this object
+    */
+   public NDArray subAssign( double d ) {
+      if ( isWhole() )
+         Array.subInto( data, d, data );
+      else
+         store( sub(d).data );
+      return this;
+   }
+
+
+   /**
+    * Multiplies this array by another one, element by element (this *= b).
+    *
+    * @param   b   an array of the same shape
+    * @return  a reference to this object
+    */
+   public NDArray mulAssign( NDArray b ) {
+      checkShape( b, "mulAssign" );
+      if ( isWhole() )
+         Array.mulInto( data, b.flat(), data );
+      else
+         store( mul(b).data );
+      return this;
+   }
+
+
+   /**
+    * Multiplies each element of this array by a scalar.
+    *
+    * @param   d   scalar value
+    * @return  a reference to this object
+    */
+   public NDArray mulAssign( double d ) {
+      if ( isWhole() )
+         Array.mulInto( data, d, data );
+      else
+         store( mul(d).data );
+      return this;
+   }
+
+
+   /**
+    * Divides this array by another one, element by element (this /= b).
+    *
+    * @param   b   an array of the same shape
+    * @return  a reference to this object
+    */
+   public NDArray divAssign( NDArray b ) {
+      checkShape( b, "divAssign" );
+      if ( isWhole() )
+         Array.divInto( data, b.flat(), data );
+      else
+         store( div(b).data );
+      return this;
+   }
+
+
+   /**
+    * Divides each element of this array by a scalar.
+    *
+    * @param   d   scalar value
+    * @return  a reference to this object
+    */
+   public NDArray divAssign( double d ) {
+      if ( isWhole() )
+         Array.divInto( data, d, data );
+      else
+         store( div(d).data );
+      return this;
+   }
+
+
+   /**
+    * Returns a lazy expression over the elements of this array in row-major
+    * order, which can be combined with the other methods of class
+    * <tt>ArrayExpr</tt>.  If this array is not contiguous, its elements are
+    * copied first, so later changes to the array are not seen by the
+    * expression.
+    *
+    * @return  an expression representing this array
+    */
+   public ArrayExpr expr() {
+      return ArrayExpr.of( flat() );
+   }
+
+
+   /**
+    * Evaluates an expression and stores the result in this array, in
+    * row-major order.  The expression may refer to this array.
+    *
+    * @param   e   an expression with the same number of elements
+    * @return  a reference to this object
+    * @exception <code>InvalidArraySizeException</code> if the expression
+    *            has the wrong length
+    */
+   public NDArray assign( ArrayExpr e ) {
+      if ( e.length() != size ) {
+         String s = "assign: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      if ( isWhole() )
+         e.eval( data );
+      else
+         store( e.eval() );
+      return this;
+   }
+
+   //*************************************************
+   // Reductions
+   //*************************************************
+
+   /**
+    * Returns the sum of the elements in this array.
+    *
+    * @return  the sum of the elements
+    */
+   public double sum() {
+      return Array.sum( flat() );
+   }
+
+
+   /**
+    * Returns the sums of the elements along one axis.  The result has one
+    * less dimension than this array (a 1-D array is returned with a single
+    * element).
+    *
+    * @param   axis   the axis to sum along
+    * @return  a new array holding the sums
+    */
+   public NDArray sum( int axis ) {
+
+      // Move the summed axis to the end, so that each sum covers
+      // a run of adjacent elements in a contiguous copy.
+      int n = shape.length;
+      int s[] = new int[n];
+      int t[] = new int[n];
+      for ( int k = 0, m = 0; k < n; k++ ) {
+         if ( k != axis ) {
+            s[m] = shape[k];
+            t[m] = stride[k];
+            m++;
+         }
+      }
+      s[n-1] = shape[axis];
+      t[n-1] = stride[axis];
+      double a[] = new NDArray( data, offset, s, t ).toArray();
+
+      int len = shape[axis];
+      int out[] = ( n > 1 ) ? new int[n-1] : new int[] { 1 };
+      System.arraycopy( s, 0, out, 0, n-1 );
+      double sum[] = new double[ checkShape(out, "sum") ];
+      for ( int k = 0; k < sum.length; k++ ) {
+         double r = 0;
+         for ( int i = k * len; i < (k+1) * len; i++ )
+            r += a[i];
+         sum[k] = r;
+      }
+      return new NDArray( sum, out );
+   }
+
+
+   /**
+    * Returns the product of the elements in this array.
+    *
+    * @return  the product of the elements
+    */
+   public double product() {
+      return Array.product( flat() );
+   }
+
+
+   /**
+    * Returns the maximum value of any element in this array.
+    *
+    * @return  the maximum value
+    */
+   public double maxVal() {
+      return Array.maxVal( flat() );
+   }
+
+
+   /**
+    * Returns the minimum value of any element in this array.
+    *
+    * @return  the minimum value
+    */
+   public double minVal() {
+      return Array.minVal( flat() );
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Returns <tt>true</tt> if this array is contiguous and covers all of
+    * its storage, so that the storage can be used directly as a flat array.
+    */
+   private boolean isWhole() {
+      return offset == 0 && size == data.length && isContiguous();
+   }
+
+
+   /**
+    * Returns the elements in row-major order, using the storage directly if
+    * possible.  The result must not be modified.
+    */
+   private double[] flat() {
+      return isWhole() ? data : toArray();
+   }
+
+
+   /**
+    * Copies the elements of this array, starting at axis <tt>dim</tt> and
+    * storage position <tt>base</tt>, into <tt>a</tt> starting at
+    * <tt>pos</tt>.  Returns the next free position in <tt>a</tt>.
+    */
+   private int gather( int dim, int base, double a[], int pos ) {
+      int n = shape[dim], s = stride[dim];
+      if ( dim == shape.length - 1 ) {
+         for ( int i = 0; i < n; i++, base += s )
+            a[pos++] = data[base];
+      }
+      else {
+         for ( int i = 0; i < n; i++, base += s )
+            pos = gather( dim + 1, base, a, pos );
+      }
+      return pos;
+   }
+
+
+   /**
+    * The reverse of <tt>gather</tt>:  copies values from <tt>a</tt> into
+    * the elements of this array.
+    */
+   private int scatter( int dim, int base, double a[], int pos ) {
+      int n = shape[dim], s = stride[dim];
+      if ( dim == shape.length - 1 ) {
+         for ( int i = 0; i < n; i++, base += s )
+            data[base] = a[pos++];
+      }
+      else {
+         for ( int i = 0; i < n; i++, base += s )
+            pos = scatter( dim + 1, base, a, pos );
+      }
+      return pos;
+   }
+
+
+   /**
+    * Stores the row-major values in <tt>a</tt> into the elements of this array.
+    */
+   private void store( double a[] ) {
+      if ( isContiguous() )
+         System.arraycopy( a, 0, data, offset, size );
+      else if ( size > 0 )
+         scatter( 0, offset, a, 0 );
+   }
+
+
+   /**
+    * Appends the elements along axis <tt>dim</tt> to a string buffer.
+    */
+   private void append( StringBuffer sb, int dim, int base ) {
+      sb.append("[");
+      for ( int i = 0; i < shape[dim]; i++, base += stride[dim] ) {
+         if ( i > 0 ) sb.append(", ");
+         if ( dim == shape.length - 1 )
+            sb.append( data[base] );
+         else
+            append( sb, dim + 1, base );
+      }
+      sb.append("]");
+   }
+
+
+   /**
+    * Returns the storage position of the element at <tt>index</tt>.
+    */
+   private int position( int index[], String method ) {
+      checkIndex( index.length, method );
+      int p = offset;
+      for ( int k = 0; k < index.length; k++ ) {
+         p += checkRange( index[k], k ) * stride[k];
+      }
+      return p;
+   }
+
+
+   /**
+    * Checks that this array has <tt>n</tt> dimensions.
+    */
+   private void checkIndex( int n, String method ) {
+      if ( shape.length != n ) {
+         String s = method + ": Array has " + shape.length + " dimensions, not " + n;
+         throw new InvalidArraySizeException(s);
+      }
+   }
+
+
+   /**
+    * Checks that index <tt>i</tt> is valid along <tt>axis</tt>, and
+    * returns it.
+    */
+   private int checkRange( int i, int axis ) {
+      if ( i < 0 || i >= shape[axis] ) {
+         throw new ArrayIndexOutOfBoundsException(i);
+      }
+      return i;
+   }
+
+
+   /**
+    * Checks that array <tt>b</tt> has the same shape as this one.
+    */
+   private void checkShape( NDArray b, String method ) {
+      if ( !java.util.Arrays.equals( shape, b.shape ) ) {
+         String s = method + ": Incompatible array shapes";
+         throw new InvalidArraySizeException(s);
+      }
+   }
+
+
+   /**
+    * Checks that a shape is valid, and returns the number of elements.
+    */
+   private static int checkShape( int shape[], String method ) {
+      if ( shape.length < 1 ) {
+         String s = method + ": Array must have at least 1 dimension";
+         throw new InvalidArraySizeException(s);
+      }
+      long n = 1;
+      for ( int k = 0; k < shape.length; k++ ) {
+         if ( shape[k] < 0 ) {
+            String s = method + ": Invalid array shape";
+            throw new InvalidArraySizeException(s);
+         }
+         n *= shape[k];
+         if ( n > Integer.MAX_VALUE ) {
+            String s = method + ": Array too large";
+            throw new InvalidArraySizeException(s);
+         }
+      }
+      return (int) n;
+   }
+
+
+   /**
+    * Returns the strides of a contiguous row-major array of the given shape.
+    */
+   private static int[] rowMajor( int shape[] ) {
+      int s[] = new int[shape.length];
+      int n = 1;
+      for ( int k = shape.length - 1; k >= 0; k-- ) {
+         s[k] = n;
+         n *= shape[k];
+      }
+      return s;
+   }
+}
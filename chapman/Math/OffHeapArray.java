@@ -0,0 +1,807 @@
+package chapman.math;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Class <code>OffHeapArray</code> holds a one-dimensional array of
+ * <code>double</code> values outside of the Java heap, either in directly
+ * allocated native memory or in a memory-mapped file.  Its length is a
+ * <code>long</code>, so it can hold data sets that are larger than the
+ * heap, or larger than the 2<sup>31</sup> elements allowed in a Java
+ * array.  A mapped array reads its data from the file only as it is
+ * used, so a multi-gigabyte capture can be processed without first
+ * copying it into memory:
+ * <pre>
+ *   OffHeapArray x = OffHeapArray.map( "capture.f64", false );
+ *   double mean    = x.sum() / x.length();
+ * </pre>
+ * The storage is divided into segments of at most 2<sup>27</sup>
+ * elements (1 GB), each viewed through a <code>DoubleBuffer</code>.  The
+ * bulk methods of this class move the data through the heap in small
+ * chunks, so the work in each chunk runs through contiguous memory and
+ * uses the same tight loops as class <code>Array</code>.  Chunks are
+ * processed in parallel for large arrays, as described in class
+ * <code>Parallel</code>; reductions combine their per-chunk results in
+ * order, so their values do not depend on the number of threads.
+ * <p>
+ * The methods whose names end in <code>Assign</code> modify the array in
+ * place and return a reference to it.  The in-place FFT of an
+ * <code>OffHeapArray</code> is calculated by <code>SigProc.fft</code>.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Array
+ * @see     SigProc
+ */
+
+public final class OffHeapArray {
+
+   //*************************************************
+   // Constants
+   //*************************************************
+
+   /**
+    * Base-2 logarithm of the number of elements in a segment.
+    */
+   static final int SEGMENT_SHIFT = 27;
+
+   /**
+    * Number of elements in each full segment.
+    */
+   static final int SEGMENT = 1 << SEGMENT_SHIFT;
+
+   /**
+    * Number of elements moved through the heap at a time.  A segment
+    * always holds a whole number of chunks.
+    */
+   static final int CHUNK = 16384;
+
+   // Operation codes for the chunk loops
+   private static final int ADD   = 0;
+   private static final int SUB   = 1;
+   private static final int MUL   = 2;
+   private static final int DIV   = 3;
+   private static final int ABS   = 4;
+   private static final int SQRT  = 5;
+   private static final int EXP   = 6;
+   private static final int LOG   = 7;
+   private static final int SIN   = 8;
+   private static final int COS   = 9;
+   private static final int FILL  = 10;
+   private static final int SUM   = 11;
+   private static final int DOT   = 12;
+   private static final int MAX   = 13;
+   private static final int MIN   = 14;
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * The segments of the storage.  Every segment except the last holds
+    * exactly <tt>SEGMENT</tt> elements.
+    */
+   private final DoubleBuffer seg[];
+
+   /**
+    * The number of elements.
+    */
+   private final long length;
+
+   /**
+    * The mapped buffers underlying the segments, or <tt>null</tt> if the
+    * array is not a writable memory-mapped file.
+    */
+   private final MappedByteBuffer mapped[];
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Creates an array over a set of segments.
+    */
+   private OffHeapArray( DoubleBuffer seg[], long length, MappedByteBuffer mapped[] ) {
+      this.seg    = seg;
+      this.length = length;
+      this.mapped = mapped;
+   }
+
+   //*************************************************
+   // Static methods
+   //*************************************************
+
+   /**
+    * Allocates a new array of <tt>n</tt> elements in native memory,
+    * all initialized to zero.  The memory is released when the array
+    * is garbage collected.
+    *
+    * @param   n   the number of elements
+    * @return  the new array
+    * @exception InvalidArraySizeException if <tt>n</tt> is negative
+    */
+   public static OffHeapArray allocate( long n ) {
+      DoubleBuffer seg[] = new DoubleBuffer[ segments( n, "allocate" ) ];
+      for ( int s = 0; s < seg.length; s++ ) {
+         int len = (int) Math.min( SEGMENT, n - ((long) s << SEGMENT_SHIFT) );
+         seg[s] = ByteBuffer.allocateDirect( 8 * len )
+                            .order( ByteOrder.nativeOrder() ).asDoubleBuffer();
+      }
+      return new OffHeapArray( seg, n, null );
+   }
+
+
+   /**
+    * Maps a whole file of <tt>double</tt> values in the native byte
+    * order into memory.
+    *
+    * @param   fileName   the name of the file
+    * @param   writable   <tt>true</tt> if changes to the array should be
+    *                     written to the file
+    * @return  an array viewing the contents of the file
+    * @exception UncheckedIOException if the file cannot be mapped
+    */
+   public static OffHeapArray map( String fileName, boolean writable ) {
+      long n;
+      try {
+         n = java.nio.file.Files.size( Paths.get( fileName ) ) / 8;
+      } catch ( IOException e ) {
+         throw new UncheckedIOException( e );
+      }
+      return map( fileName, 0L, n, writable, ByteOrder.nativeOrder() );
+   }
+
+
+   /**
+    * Maps <tt>n</tt> <tt>double</tt> values from a file into memory,
+    * starting at byte <tt>offset</tt>.  If the array is writable and
+    * the file is too short, the file is extended.
+    *
+    * @param   fileName   the name of the file
+    * @param   offset     the position in the file of the first value,
+    *                     in bytes
+    * @param   n          the number of values
+    * @param   writable   <tt>true</tt> if changes to the array should be
+    *                     written to the file
+    * @param   order      the byte order of the values in the file
+    * @return  an array viewing the values in the file
+    * @exception UncheckedIOException if the file cannot be mapped
+    */
+   public static OffHeapArray map( String fileName, long offset, long n,
+                                   boolean writable, ByteOrder order ) {
+      DoubleBuffer seg[] = new DoubleBuffer[ segments( n, "map" ) ];
+      MappedByteBuffer buf[] = new MappedByteBuffer[ seg.length ];
+      FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE
+                                          : FileChannel.MapMode.READ_ONLY;
+      try ( FileChannel ch = writable
+               ? FileChannel.open( Paths.get(fileName), StandardOpenOption.READ,
+                                   StandardOpenOption.WRITE, StandardOpenOption.CREATE )
+               : FileChannel.open( Paths.get(fileName), StandardOpenOption.READ ) ) {
+         for ( int s = 0; s < seg.length; s++ ) {
+            long first = (long) s << SEGMENT_SHIFT;
+            int  len   = (int) Math.min( SEGMENT, n - first );
+            buf[s] = ch.map( mode, offset + 8 * first, 8L * len );
+            seg[s] = buf[s].order( order ).asDoubleBuffer();
+         }
+      } catch ( IOException e ) {
+         throw new UncheckedIOException( e );
+      }
+      return new OffHeapArray( seg, n, writable ? buf : null );
+   }
+
+
+   /**
+    * Creates an array that views the remaining elements of a
+    * <tt>DoubleBuffer</tt>.  The data is not copied, so changes made
+    * through either object are visible in the other.  A buffer longer
+    * than one segment is viewed through several segment-sized slices.
+    *
+    * @param   b   the buffer to view
+    * @return  an array viewing the buffer
+    */
+   public static OffHeapArray wrap( DoubleBuffer b ) {
+      long n = b.remaining();
+      DoubleBuffer seg[] = new DoubleBuffer[ segments( n, "wrap" ) ];
+      for ( int s = 0; s < seg.length; s++ ) {
+         int first = s << SEGMENT_SHIFT;
+         int len   = (int) Math.min( SEGMENT, n - first );
+         DoubleBuffer d = b.slice();
+         d.position( first );
+         d.limit( first + len );
+         seg[s] = d.slice();
+      }
+      return new OffHeapArray( seg, n, null );
+   }
+
+   //*************************************************
+   // Instance methods
+   //*************************************************
+
+   /**
+    * Adds the corresponding elements of <tt>b</tt> to this array.
+    *
+    * @param   b   an array of the same length
+    * @return  this array
+    */
+   public OffHeapArray addAssign( OffHeapArray b ) {
+      check( b, "addAssign" );
+      binary( ADD, b, 0.0 );
+      return this;
+   }
+
+
+   /**
+    * Adds a scalar to every element of this array.
+    *
+    * @param   d   the value to add
+    * @return  this array
+    */
+   public OffHeapArray addAssign( double d ) {
+      binary( ADD, null, d );
+      return this;
+   }
+
+
+   /**
+    * Replaces every element of this array with its absolute value.
+    *
+    * @return  this array
+    */
+   public OffHeapArray absAssign() {
+      binary( ABS, null, 0.0 );
+      return this;
+   }
+
+
+   /**
+    * Replaces every element of this array with its cosine.
+    *
+    * @return  this array
+    */
+   public OffHeapArray cosAssign() {
+      binary( COS, null, 0.0 );
+      return this;
+   }
+
+
+   /**
+    * Divides the elements of this array by the corresponding elements
+    * of <tt>b</tt>.
+    *
+    * @param   b   an array of the same length
+    * @return  this array
+    */
+   public OffHeapArray divAssign( OffHeapArray b ) {
+      check( b, "divAssign" );
+      binary( DIV, b, 0.0 );
+      return this;
+   }
+
+
+   /**
+    * Divides every element of this array by a scalar.
+    *
+    * @param   d   the divisor
+    * @return  this array
+    */
+   public OffHeapArray divAssign( double d ) {
+      binary( DIV, null, d );
+      return this;
+   }
+
+
+   /**
+    * Returns the dot product of this array and <tt>b</tt>.
+    *
+    * @param   b   an array of the same length
+    * @return  the sum of <tt>this[i] * b[i]</tt>
+    */
+   public double dotProduct( OffHeapArray b ) {
+      check( b, "dotProduct" );
+      return reduce( DOT, b );
+   }
+
+
+   /**
+    * Replaces every element of this array with its exponential.
+    *
+    * @return  this array
+    */
+   public OffHeapArray expAssign() {
+      binary( EXP, null, 0.0 );
+      return this;
+   }
+
+
+   /**
+    * Sets every element of this array to <tt>d</tt>.
+    *
+    * @param   d   the value to store
+    * @return  this array
+    */
+   public OffHeapArray fill( double d ) {
+      binary( FILL, null, d );
+      return this;
+   }
+
+
+   /**
+    * Writes any changes to a memory-mapped array back to its file.  For
+    * arrays that are not mapped, this method does nothing.
+    */
+   public void force() {
+      if ( mapped != null ) {
+         for ( int s = 0; s < mapped.length; s++ )
+            mapped[s].force();
+      }
+   }
+
+
+   /**
+    * Returns element <tt>i</tt> of the array.
+    *
+    * @param   i   the index of the element
+    * @return  the value of the element
+    */
+   public double get( long i ) {
+      checkIndex( i, 1 );
+      return seg[ (int) (i >>> SEGMENT_SHIFT) ].get( (int) (i & (SEGMENT - 1)) );
+   }
+
+
+   /**
+    * Copies <tt>len</tt> elements, starting at element <tt>from</tt>,
+    * into array <tt>dst</tt> starting at <tt>dst[off]</tt>.
+    *
+    * @param   from   the index of the first element to copy
+    * @param   dst    the destination array
+    * @param   off    the first position in <tt>dst</tt>
+    * @param   len    the number of elements to copy
+    */
+   public void get( long from, double dst[], int off, int len ) {
+      checkIndex( from, len );
+      while ( len > 0 ) {
+         int s = (int) (from >>> SEGMENT_SHIFT);
+         int p = (int) (from & (SEGMENT - 1));
+         int k = Math.min( len, seg[s].limit() - p );
+         seg[s].get( p, dst, off, k );
+         from += k;
+         off  += k;
+         len  -= k;
+      }
+   }
+
+
+   /**
+    * Returns the number of elements in the array.
+    *
+    * @return  the length of the array
+    */
+   public long length() {
+      return length;
+   }
+
+
+   /**
+    * Replaces every element of this array with its natural logarithm.
+    *
+    * @return  this array
+    */
+   public OffHeapArray logAssign() {
+      binary( LOG, null, 0.0 );
+      return this;
+   }
+
+
+   /**
+    * Returns the index of the first element having the maximum value,
+    * ignoring NaN elements, or -1 if there is none.
+    *
+    * @return  the location of the maximum value
+    */
+   public long maxLoc() {
+      return (long) reduce( MAX, null );
+   }
+
+
+   /**
+    * Returns the maximum value of the elements that are not NaN, or
+    * NaN if there is none.
+    *
+    * @return  the maximum value
+    */
+   public double maxVal() {
+      long i = maxLoc();
+      return ( i < 0 ) ? Double.NaN : get( i );
+   }
+
+
+   /**
+    * Returns the index of the first element having the minimum value,
+    * ignoring NaN elements, or -1 if there is none.
+    *
+    * @return  the location of the minimum value
+    */
+   public long minLoc() {
+      return (long) reduce( MIN, null );
+   }
+
+
+   /**
+    * Returns the minimum value of the elements that are not NaN, or
+    * NaN if there is none.
+    *
+    * @return  the minimum value
+    */
+   public double minVal() {
+      long i = minLoc();
+      return ( i < 0 ) ? Double.NaN : get( i );
+   }
+
+
+   /**
+    * Multiplies the elements of this array by the corresponding
+    * elements of <tt>b</tt>.
+    *
+    * @param   b   an array of the same length
+    * @return  this array
+    */
+   public OffHeapArray mulAssign( OffHeapArray b ) {
+      check( b, "mulAssign" );
+      binary( MUL, b, 0.0 );
+      return this;
+   }
+
+
+   /**
+    * Multiplies every element of this array by a scalar.
+    *
+    * @param   d   the multiplier
+    * @return  this array
+    */
+   public OffHeapArray mulAssign( double d ) {
+      binary( MUL, null, d );
+      return this;
+   }
+
+
+   /**
+    * Sets element <tt>i</tt> of the array.
+    *
+    * @param   i   the index of the element
+    * @param   d   the new value
+    */
+   public void set( long i, double d ) {
+      checkIndex( i, 1 );
+      seg[ (int) (i >>> SEGMENT_SHIFT) ].put( (int) (i & (SEGMENT - 1)), d );
+   }
+
+
+   /**
+    * Copies <tt>len</tt> elements of array <tt>src</tt>, starting at
+    * <tt>src[off]</tt>, into this array starting at element
+    * <tt>from</tt>.
+    *
+    * @param   from   the index of the first element to store
+    * @param   src    the source array
+    * @param   off    the first position in <tt>src</tt>
+    * @param   len    the number of elements to copy
+    */
+   public void set( long from, double src[], int off, int len ) {
+      checkIndex( from, len );
+      while ( len > 0 ) {
+         int s = (int) (from >>> SEGMENT_SHIFT);
+         int p = (int) (from & (SEGMENT - 1));
+         int k = Math.min( len, seg[s].limit() - p );
+         seg[s].put( p, src, off, k );
+         from += k;
+         off  += k;
+         len  -= k;
+      }
+   }
+
+
+   /**
+    * Replaces every element of this array with its sine.
+    *
+    * @return  this array
+    */
+   public OffHeapArray sinAssign() {
+      binary( SIN, null, 0.0 );
+      return this;
+   }
+
+
+   /**
+    * Replaces every element of this array with its square root.
+    *
+    * @return  this array
+    */
+   public OffHeapArray sqrtAssign() {
+      binary( SQRT, null, 0.0 );
+      return this;
+   }
+
+
+   /**
+    * Subtracts the corresponding elements of <tt>b</tt> from this
+    * array.
+    *
+    * @param   b   an array of the same length
+    * @return  this array
+    */
+   public OffHeapArray subAssign( OffHeapArray b ) {
+      check( b, "subAssign" );
+      binary( SUB, b, 0.0 );
+      return this;
+   }
+
+
+   /**
+    * Subtracts a scalar from every element of this array.
+    *
+    * @param   d   the value to subtract
+    * @return  this array
+    */
+   public OffHeapArray subAssign( double d ) {
+      binary( SUB, null, d );
+      return this;
+   }
+
+
+   /**
+    * Returns the sum of the elements of this array.  Each chunk is
+    * summed in order, and the chunk sums are added in order.
+    *
+    * @return  the sum of the elements
+    */
+   public double sum() {
+      return reduce( SUM, null );
+   }
+
+
+   /**
+    * Returns the sum of the elements of this array, calculated with
+    * one of the summation modes of class <tt>Array</tt>.  The chunk
+    * sums are combined with the same mode.
+    *
+    * @param   mode   <tt>Array.SUM_NAIVE</tt>, <tt>Array.SUM_PAIRWISE</tt>,
+    *                 or <tt>Array.SUM_KAHAN</tt>
+    * @return  the sum of the elements
+    */
+   public double sum( final int mode ) {
+      final double part[] = new double[ chunks() ];
+      forChunks( new Parallel.Loop() {
+         void run( int from, int to ) {
+            double buf[] = new double[CHUNK];
+            for ( int c = from; c < to; c++ ) {
+               int len = load( c, buf );
+               double x[] = ( len == CHUNK ) ? buf : java.util.Arrays.copyOf( buf, len );
+               part[c] = Array.sum( x, mode );
+            }
+         }
+      } );
+      return Array.sum( part, mode );
+   }
+
+
+   /**
+    * Copies the elements of this array into a new <tt>double</tt>
+    * array.
+    *
+    * @return  a new array holding the elements
+    * @exception InvalidArraySizeException if the array is too long to
+    *          be held in a Java array
+    */
+   public double[] toArray() {
+      if ( length > Integer.MAX_VALUE - 8 ) {
+         String s = "toArray: Array too large";
+         throw new InvalidArraySizeException(s);
+      }
+      double a[] = new double[ (int) length ];
+      get( 0L, a, 0, a.length );
+      return a;
+   }
+
+
+   /**
+    * Converts this array into a <tt>String</tt> describing its length.
+    *
+    * @return  <tt>String</tt> describing the array
+    */
+   public String toString() {
+      return "OffHeapArray[" + length + "]";
+   }
+
+   //*************************************************
+   // Package methods
+   //*************************************************
+
+   /**
+    * Returns the number of chunks in the array.
+    */
+   int chunks() {
+      return (int) ( (length + CHUNK - 1) / CHUNK );
+   }
+
+
+   /**
+    * Runs <tt>body</tt> over the chunk index range <tt>[0,chunks())</tt>,
+    * in parallel if the array is large.
+    */
+   void forChunks( Parallel.Loop body ) {
+      Parallel.forRange( chunks(), 1, length >= Parallel.getThreshold(), body );
+   }
+
+
+   /**
+    * Copies chunk <tt>c</tt> into <tt>buf</tt>, and returns its length.
+    */
+   int load( int c, double buf[] ) {
+      long from = (long) c * CHUNK;
+      int len = (int) Math.min( CHUNK, length - from );
+      get( from, buf, 0, len );
+      return len;
+   }
+
+
+   /**
+    * Copies the first <tt>len</tt> elements of <tt>buf</tt> into chunk
+    * <tt>c</tt>.
+    */
+   void store( int c, double buf[], int len ) {
+      set( (long) c * CHUNK, buf, 0, len );
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Applies operation <tt>op</tt> to every element of this array in
+    * place, with array operand <tt>b</tt> or scalar operand <tt>d</tt>.
+    */
+   private void binary( final int op, final OffHeapArray b, final double d ) {
+      forChunks( new Parallel.Loop() {
+         void run( int from, int to ) {
+            double x[] = new double[CHUNK];
+            double y[] = ( b == null ) ? null : new double[CHUNK];
+            for ( int c = from; c < to; c++ ) {
+               int len = ( op == FILL ) ? (int) Math.min( CHUNK, length - (long) c * CHUNK )
+                                        : load( c, x );
+               if ( b != null )
+                  b.load( c, y );
+               switch ( op ) {
+                  case ADD:
+                     if ( b == null ) for ( int i = 0; i < len; i++ ) x[i] += d;
+                     else             for ( int i = 0; i < len; i++ ) x[i] += y[i];
+                     break;
+                  case SUB:
+                     if ( b == null ) for ( int i = 0; i < len; i++ ) x[i] -= d;
+                     else             for ( int i = 0; i < len; i++ ) x[i] -= y[i];
+                     break;
+                  case MUL:
+                     if ( b == null ) for ( int i = 0; i < len; i++ ) x[i] *= d;
+                     else             for ( int i = 0; i < len; i++ ) x[i] *= y[i];
+                     break;
+                  case DIV:
+                     if ( b == null ) for ( int i = 0; i < len; i++ ) x[i] /= d;
+                     else             for ( int i = 0; i < len; i++ ) x[i] /= y[i];
+                     break;
+                  case ABS:  for ( int i = 0; i < len; i++ ) x[i] = Math.abs( x[i] );  break;
+                  case SQRT: for ( int i = 0; i < len; i++ ) x[i] = Math.sqrt( x[i] ); break;
+                  case EXP:  for ( int i = 0; i < len; i++ ) x[i] = Math.exp( x[i] );  break;
+                  case LOG:  for ( int i = 0; i < len; i++ ) x[i] = Math.log( x[i] );  break;
+                  case SIN:  for ( int i = 0; i < len; i++ ) x[i] = Math.sin( x[i] );  break;
+                  case COS:  for ( int i = 0; i < len; i++ ) x[i] = Math.cos( x[i] );  break;
+                  case FILL: java.util.Arrays.fill( x, 0, len, d );                     break;
+                  default:
+                     throw new IllegalArgumentException("binary: Unknown operation " + op);
+               }
+               store( c, x, len );
+            }
+         }
+      } );
+   }
+
+
+   /**
+    * Calculates reduction <tt>op</tt> chunk by chunk, combining the
+    * chunk results in order.  For <tt>MAX</tt> and <tt>MIN</tt>, the
+    * result is the location of the extreme value, or -1.
+    */
+   private double reduce( final int op, final OffHeapArray b ) {
+      final int nc = chunks();
+      final double part[] = new double[nc];
+      final long loc[] = ( op == MAX || op == MIN ) ? new long[nc] : null;
+      forChunks( new Parallel.Loop() {
+         void run( int from, int to ) {
+            double x[] = new double[CHUNK];
+            double y[] = ( b == null ) ? null : new double[CHUNK];
+            for ( int c = from; c < to; c++ ) {
+               int len = load( c, x );
+               if ( b != null )
+                  b.load( c, y );
+               double s = 0.0;
+               if ( op == SUM ) {
+                  for ( int i = 0; i < len; i++ ) s += x[i];
+               }
+               else if ( op == DOT ) {
+                  for ( int i = 0; i < len; i++ ) s += x[i] * y[i];
+               }
+               else {
+                  int i = 0, iloc = -1;
+                  while ( i < len && x[i] != x[i] )
+                     i++;
+                  if ( i < len ) {
+                     iloc = i;
+                     if ( op == MAX ) {
+                        for ( i++; i < len; i++ ) if ( x[i] > x[iloc] ) iloc = i;
+                     }
+                     else {
+                        for ( i++; i < len; i++ ) if ( x[i] < x[iloc] ) iloc = i;
+                     }
+                     s = x[iloc];
+                  }
+                  loc[c] = ( iloc < 0 ) ? -1L : (long) c * CHUNK + iloc;
+               }
+               part[c] = s;
+            }
+         }
+      } );
+      if ( loc == null ) {
+         double s = 0.0;
+         for ( int c = 0; c < nc; c++ )
+            s += part[c];
+         return s;
+      }
+      long best = -1L;
+      double v = 0.0;
+      for ( int c = 0; c < nc; c++ ) {
+         if ( loc[c] >= 0 && ( best < 0 || ( op == MAX ? part[c] > v : part[c] < v ) ) ) {
+            best = loc[c];
+            v = part[c];
+         }
+      }
+      return best;
+   }
+
+
+   /**
+    * Checks that array <tt>b</tt> has the same length as this array.
+    */
+   private void check( OffHeapArray b, String name ) {
+      if ( b.length != length ) {
+         String s = name + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+   }
+
+
+   /**
+    * Checks that elements <tt>from</tt> to <tt>from+len-1</tt> exist.
+    */
+   private void checkIndex( long from, int len ) {
+      if ( from < 0 || len < 0 || from + len > length )
+         throw new IndexOutOfBoundsException( "Index " + from + ", length " + len );
+   }
+
+
+   /**
+    * Returns the number of segments needed for <tt>n</tt> elements.
+    */
+   private static int segments( long n, String name ) {
+      if ( n < 0 ) {
+         String s = name + ": Invalid length " + n;
+         throw new InvalidArraySizeException(s);
+      }
+      return (int) ( (n + SEGMENT - 1) >>> SEGMENT_SHIFT );
+   }
+}
@@ -0,0 +1,249 @@
+package chapman.math;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class <code>Parallel</code> controls the multithreaded execution of the
+ * bulk array methods in this package.  When one of these methods is
+ * called on an array containing at least <code>getThreshold()</code>
+ * elements, the array is divided into blocks of a fixed size, and the
+ * blocks are processed concurrently on the common fork-join pool.  Smaller
+ * arrays are processed in the calling thread, since the cost of starting
+ * the parallel tasks would outweigh any gain.
+ * <p>
+ * The reductions in class <code>Array</code> (sums, products, dot
+ * products, and maximum and minimum searches) divide arrays at or above
+ * the threshold into the same fixed blocks whether or not more than one
+ * thread is available, and combine the partial results of the blocks in
+ * order.  Their results therefore depend only on the data and the
+ * threshold, never on the number of threads or on the timing of the
+ * tasks.
+ * <p>
+ * Setting the threshold to <code>Integer.MAX_VALUE</code> turns the
+ * parallel mode off entirely.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ */
+
+public final class Parallel {
+
+   //*************************************************
+   // Constants
+   //*************************************************
+
+   /**
+    * The default value of the parallel threshold.
+    */
+   public static final int DEFAULT_THRESHOLD = 65536;
+
+   /**
+    * The number of elements in each block of work.  Blocks always
+    * start at a multiple of this size, independent of the number of
+    * threads in use.
+    */
+   static final int BLOCK = 4096;
+
+   //*************************************************
+   // Variables
+   //*************************************************
+
+   /**
+    * The minimum array length processed in parallel.
+    */
+   private static volatile int threshold = DEFAULT_THRESHOLD;
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Create an inaccessible constructor, so that this class cannot be
+    * instantiated.
+    */
+   private Parallel() {}
+
+   //*************************************************
+   // Static Methods
+   //*************************************************
+
+   /**
+    * Returns the minimum array length that is processed in parallel.
+    *
+    * @return  the parallel threshold
+    */
+   public static int getThreshold() {
+      return threshold;
+   }
+
+
+   /**
+    * Sets the minimum array length that is processed in parallel.
+    * A value of <code>Integer.MAX_VALUE</code> disables parallel
+    * execution.
+    *
+    * @param   n   the new threshold, which must be positive.
+    * @exception <code>IllegalArgumentException</code> if <code>n</code>
+    *            is less than 1
+    */
+   public static void setThreshold( int n ) {
+      if ( n < 1 ) {
+         throw new IllegalArgumentException("setThreshold: Invalid threshold " + n);
+      }
+      threshold = n;
+   }
+
+
+   /**
+    * Returns <tt>true</tt> if an operation on <tt>n</tt> elements should
+    * be run in parallel.
+    */
+   static boolean isParallel( int n ) {
+      return n >= threshold && ForkJoinPool.getCommonPoolParallelism() > 1;
+   }
+
+
+   /**
+    * Returns <tt>true</tt> if a reduction over <tt>n</tt> elements should
+    * be evaluated block by block with <tt>forBlocks</tt>.  Unlike
+    * <tt>isParallel</tt>, this does not depend on the number of threads,
+    * so that the result of the reduction does not either.
+    */
+   static boolean isLarge( int n ) {
+      return n >= threshold;
+   }
+
+
+   /**
+    * Returns the number of blocks needed to cover <tt>n</tt> elements.
+    */
+   static int blocks( int n ) {
+      return (int) ( ((long) n + BLOCK - 1) / BLOCK );
+   }
+
+
+   /**
+    * Runs <tt>body</tt> once for each block of the index range
+    * <tt>[0,n)</tt>.  Block <tt>k</tt> covers the indices
+    * <tt>k*BLOCK</tt> through <tt>min((k+1)*BLOCK,n)-1</tt>.  The blocks
+    * are run concurrently if more than one thread is available, but each
+    * block is always processed by a single call to <tt>body</tt>, so a
+    * reduction that stores one partial result per block is deterministic.
+    */
+   static void forBlocks( int n, Loop body ) {
+      int blocks = blocks( n );
+      int parallelism = ForkJoinPool.getCommonPoolParallelism();
+      if ( parallelism <= 1 || blocks <= 1 ) {
+         for ( int k = 0; k < blocks; k++ ) {
+            body.run( k * BLOCK, (int) Math.min( (long) (k+1) * BLOCK, n ) );
+         }
+      }
+      else {
+         int grain = Math.max( 1, blocks / (4 * parallelism) );
+         ForkJoinPool.commonPool().invoke( new LoopTask( body, n, BLOCK, 0, blocks, grain, true ) );
+      }
+   }
+
+
+   /**
+    * Runs <tt>body</tt> over the index range <tt>[0,n)</tt>.  If the range
+    * is large enough, it is split into blocks that are run concurrently;
+    * otherwise <tt>body</tt> is called once for the whole range in the
+    * calling thread.  The body must only write to elements inside the
+    * range it is given.
+    */
+   static void forRange( int n, Loop body ) {
+      if ( !isParallel(n) ) {
+         body.run( 0, n );
+      }
+      else {
+         int blocks = blocks( n );
+         int grain  = Math.max( 1, blocks / (4 * ForkJoinPool.getCommonPoolParallelism()) );
+         ForkJoinPool.commonPool().invoke( new LoopTask( body, n, BLOCK, 0, blocks, grain, false ) );
+      }
+   }
+
+
+   /**
+    * Runs <tt>body</tt> over the index range <tt>[0,n)</tt>, split into
+    * pieces that start at multiples of <tt>block</tt>.  This is used by
+    * methods such as matrix multiplication, where each index stands for a
+    * large amount of work, so the caller decides whether the operation is
+    * big enough to be run in parallel.  If <tt>parallel</tt> is
+    * <tt>false</tt>, or only one thread is available, <tt>body</tt> is
+    * called once for the whole range.
+    */
+   static void forRange( int n, int block, boolean parallel, Loop body ) {
+      int blocks = (int) ( ((long) n + block - 1) / block );
+      int parallelism = ForkJoinPool.getCommonPoolParallelism();
+      if ( !parallel || parallelism <= 1 || blocks <= 1 ) {
+         body.run( 0, n );
+      }
+      else {
+         ForkJoinPool.commonPool().invoke( new LoopTask( body, n, block, 0, blocks, 1, false ) );
+      }
+   }
+
+   //*************************************************
+   // Nested classes
+   //*************************************************
+
+   /**
+    * The body of a loop over an index range.
+    */
+   abstract static class Loop {
+
+      /**
+       * Processes the elements with indices <tt>from</tt> through
+       * <tt>to-1</tt>.
+       */
+      abstract void run( int from, int to );
+   }
+
+
+   /**
+    * A fork-join task that runs a <tt>Loop</tt> over a range of blocks,
+    * splitting the range in half until it is no longer than <tt>grain</tt>
+    * blocks.  If <tt>perBlock</tt> is <tt>true</tt>, the leaf task calls
+    * the body once for each of its blocks instead of once for the whole
+    * range.
+    */
+   private static final class LoopTask extends RecursiveAction {
+
+      private final Loop body;   // Loop to run
+      private final int n;       // Total number of elements
+      private final int block;   // Elements per block
+      private final int lo, hi;  // Range of blocks
+      private final int grain;   // Blocks per leaf task
+      private final boolean perBlock; // Call body once per block
+
+      LoopTask( Loop body, int n, int block, int lo, int hi, int grain,
+                boolean perBlock ) {
+         this.body     = body;
+         this.n        = n;
+         this.block    = block;
+         this.lo       = lo;
+         this.hi       = hi;
+         this.grain    = grain;
+         this.perBlock = perBlock;
+      }
+
+      protected void compute() {
+         if ( hi - lo <= grain ) {
+            if ( perBlock ) {
+               for ( int k = lo; k < hi; k++ ) {
+                  body.run( k * block, (int) Math.min( (long) (k+1) * block, n ) );
+               }
+            }
+            else {
+               body.run( lo * block, (int) Math.min( (long) hi * block, n ) );
+            }
+         }
+         else {
+            int mid = (lo + hi) >>> 1;
+            invokeAll( new LoopTask( body, n, block, lo, mid, grain, perBlock ),
+                       new LoopTask( body, n, block, mid, hi, grain, perBlock ) );
+         }
+      }
+   }
+}
@@ -0,0 +1,366 @@
+package chapman.math;
+
+/**
+ * Class <code>QRDecomposition</code> calculates the QR decomposition of an
+ * m x n matrix with m &gt;= n, <code>A = Q*R</code>, where <code>Q</code>
+ * has orthonormal columns and <code>R</code> is upper triangular.  It is
+ * used to find the least-squares solution of an overdetermined system
+ * <code>A*x = b</code> without forming the normal equations
+ * <code>A'*A*x = A'*b</code>, whose condition number is the square of that
+ * of <code>A</code>.
+ * <p>
+ * <code>Q</code> is represented as a product of Householder reflections,
+ * which are stored below the diagonal of <code>R</code> in a single
+ * contiguous row-major array.  The reflections are calculated in panels
+ * of <code>64</code> columns.  The reflections of each panel are combined
+ * into a single block transformation <code>I - V*T*V'</code>, which is
+ * applied to the rest of the matrix with cache-blocked matrix
+ * multiplications that run in parallel for large matrices as described in
+ * class <code>Parallel</code>.  For example,
+ * <pre>
+ *   QRDecomposition qr = new QRDecomposition( a );
+ *   double coef[] = qr.solve( y );        // least-squares fit
+ * </pre>
+ * If <code>A</code> does not have full column rank, <code>isFullRank</code>
+ * returns <code>false</code> and the <code>solve</code> methods throw an
+ * <code>ArithmeticException</code>.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     CholeskyDecomposition
+ * @see     LUDecomposition
+ */
+
+public class QRDecomposition {
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * <tt>R</tt> (on and above the diagonal) and the Householder vectors
+    * (below the diagonal), stored in row-major order.  Each vector has
+    * an implicit leading 1 on the diagonal.
+    */
+   private double qr[];
+
+   /**
+    * The number of rows.
+    */
+   private int m;
+
+   /**
+    * The number of columns.
+    */
+   private int n;
+
+   /**
+    * The scale factors of the Householder reflections
+    * <tt>H = I - tau*v*v'</tt>.
+    */
+   private double tau[];
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Calculates the QR decomposition of a matrix.  The input array is
+    * not modified.
+    *
+    * @param   a   a rectangular matrix with at least as many rows
+    *              as columns.
+    * @exception InvalidArraySizeException if <tt>a</tt> is not
+    *          rectangular or has fewer rows than columns.
+    */
+   public QRDecomposition( double a[][] ) {
+      factor( MatrixKernel.flatten( a, "QRDecomposition" ), a.length,
+              ( a.length > 0 ) ? a[0].length : 0 );
+   }
+
+
+   /**
+    * Calculates the QR decomposition of a 2-D <tt>NDArray</tt>.  The
+    * input array is not modified.
+    *
+    * @param   a   a matrix with at least as many rows as columns.
+    * @exception InvalidArraySizeException if <tt>a</tt> is not 2-D
+    *          or has fewer rows than columns.
+    */
+   public QRDecomposition( NDArray a ) {
+      factor( MatrixKernel.flatten( a, "QRDecomposition" ), a.shape(0), a.shape(1) );
+   }
+
+   //*************************************************
+   // Instance methods
+   //*************************************************
+
+   /**
+    * Returns the m x n matrix <tt>Q</tt>, whose columns are
+    * orthonormal.
+    *
+    * @return  a new m x n array holding <tt>Q</tt>
+    */
+   public double[][] getQ() {
+      double q[] = new double[m * n];
+      double w[] = new double[n];
+      for ( int i = 0; i < n; i++ )
+         q[i*n + i] = 1.0;
+      for ( int j = n - 1; j >= 0; j-- )
+         reflect( j, q, j, n, n, w );
+      return MatrixKernel.unflatten( q, 0, n, m, n );
+   }
+
+
+   /**
+    * Returns the n x n upper triangular factor <tt>R</tt>.
+    *
+    * @return  a new n x n array holding <tt>R</tt>
+    */
+   public double[][] getR() {
+      double r[][] = new double[n][n];
+      for ( int i = 0; i < n; i++ )
+         System.arraycopy( qr, i*n + i, r[i], i, n - i );
+      return r;
+   }
+
+
+   /**
+    * Returns <tt>true</tt> if the matrix has full column rank, meaning
+    * that every diagonal element of <tt>R</tt> is nonzero.
+    *
+    * @return  <tt>true</tt> if the matrix has full rank
+    */
+   public boolean isFullRank() {
+      for ( int j = 0; j < n; j++ )
+         if ( qr[j*n + j] == 0 )
+            return false;
+      return true;
+   }
+
+
+   /**
+    * Returns the least-squares solution of <tt>A*x = b</tt>, which is
+    * the <tt>x</tt> that minimizes the 2-norm of <tt>A*x - b</tt>.
+    *
+    * @param   b   the right-hand side, of length m.
+    * @return  a new array of length n holding the solution
+    * @exception InvalidArraySizeException if <tt>b</tt> has the
+    *          wrong length.
+    * @exception ArithmeticException if the matrix does not have
+    *          full rank.
+    */
+   public double[] solve( double b[] ) {
+      if ( b.length != m ) {
+         String s = "solve: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      double x[] = (double[]) b.clone();
+      solveInPlace( x, 1 );
+      double r[] = new double[n];
+      System.arraycopy( x, 0, r, 0, n );
+      return r;
+   }
+
+
+   /**
+    * Returns the least-squares solutions of <tt>A*X = B</tt>, where
+    * each column of <tt>B</tt> is a separate right-hand side.
+    *
+    * @param   b   the right-hand sides, with m rows.
+    * @return  a new array with n rows holding the solutions
+    * @exception InvalidArraySizeException if <tt>b</tt> is not
+    *          rectangular or has the wrong number of rows.
+    * @exception ArithmeticException if the matrix does not have
+    *          full rank.
+    */
+   public double[][] solve( double b[][] ) {
+      if ( b.length != m ) {
+         String s = "solve: Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+      double x[] = MatrixKernel.flatten( b, "solve" );
+      int nrhs = ( m > 0 ) ? b[0].length : 0;
+      solveInPlace( x, nrhs );
+      return MatrixKernel.unflatten( x, 0, nrhs, n, nrhs );
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Factors the row-major <tt>rows</tt> by <tt>cols</tt> matrix
+    * <tt>a</tt> in place.
+    */
+   private void factor( double a[], int rows, int cols ) {
+      if ( (long) rows * cols != a.length || rows < cols ) {
+         String s = "QRDecomposition: Matrix must have at least as many rows as columns";
+         throw new InvalidArraySizeException(s);
+      }
+      qr  = a;
+      m   = rows;
+      n   = cols;
+      tau = new double[n];
+      double w[] = new double[n];
+
+      for ( int k0 = 0; k0 < n; k0 += MatrixKernel.PANEL ) {
+         int kb = Math.min( k0 + MatrixKernel.PANEL, n );
+
+         // Calculate the reflections of the panel, applying each one
+         // to the remaining columns of the panel only
+         for ( int j = k0; j < kb; j++ ) {
+            householder( j );
+            if ( j + 1 < kb )
+               reflect( j, qr, j + 1, kb, n, w );
+         }
+
+         // Apply the whole panel to the trailing columns
+         if ( kb < n )
+            applyPanel( k0, kb );
+      }
+   }
+
+
+   /**
+    * Calculates the Householder reflection that zeros column <tt>j</tt>
+    * below the diagonal, storing <tt>beta</tt> on the diagonal, the
+    * vector below it, and the scale factor in <tt>tau[j]</tt>.
+    */
+   private void householder( int j ) {
+
+      // Norm of the part below the diagonal, scaled to avoid overflow
+      double scale = 0.0;
+      for ( int i = j + 1; i < m; i++ )
+         scale = Math.max( scale, Math.abs( qr[i*n + j] ) );
+      double alpha = qr[j*n + j];
+      if ( scale == 0.0 ) {
+         tau[j] = 0.0;
+         return;
+      }
+      double ssq = 0.0;
+      for ( int i = j + 1; i < m; i++ ) {
+         double t = qr[i*n + j] / scale;
+         ssq += t * t;
+      }
+      double xnorm = scale * Math.sqrt( ssq );
+      double beta  = -Math.copySign( Math.hypot( alpha, xnorm ), alpha );
+      tau[j] = (beta - alpha) / beta;
+      double f = 1.0 / (alpha - beta);
+      for ( int i = j + 1; i < m; i++ )
+         qr[i*n + j] *= f;
+      qr[j*n + j] = beta;
+   }
+
+
+   /**
+    * Applies reflection <tt>j</tt> to columns <tt>c0</tt> to
+    * <tt>c1-1</tt> of rows <tt>j</tt> to <tt>m-1</tt> of the row-major
+    * matrix <tt>x</tt> with leading dimension <tt>ld</tt>.  <tt>w</tt>
+    * is scratch space of at least <tt>c1</tt> elements.
+    */
+   private void reflect( int j, double x[], int c0, int c1, int ld, double w[] ) {
+      double t = tau[j];
+      if ( t == 0.0 )
+         return;
+
+      // w = v' * X, streaming along the rows of X
+      int rj = j*ld;
+      for ( int c = c0; c < c1; c++ )
+         w[c] = x[rj + c];
+      for ( int i = j + 1; i < m; i++ ) {
+         double v = qr[i*n + j];
+         int ri = i*ld;
+         for ( int c = c0; c < c1; c++ )
+            w[c] += v * x[ri + c];
+      }
+
+      // X = X - tau * v * w
+      for ( int c = c0; c < c1; c++ )
+         x[rj + c] -= t * w[c];
+      for ( int i = j + 1; i < m; i++ ) {
+         double v = t * qr[i*n + j];
+         int ri = i*ld;
+         for ( int c = c0; c < c1; c++ )
+            x[ri + c] -= v * w[c];
+      }
+   }
+
+
+   /**
+    * Applies the reflections of the panel <tt>k0</tt> to <tt>kb-1</tt>
+    * to the columns to the right of the panel, as the block
+    * transformation <tt>A2 = (I - V*T'*V') * A2</tt>.
+    */
+   private void applyPanel( int k0, int kb ) {
+      int nb = kb - k0;
+      int mk = m - k0;
+      int nc = n - kb;
+
+      // V:  the reflection vectors, with their implicit ones and zeros
+      double v[] = new double[mk * nb];
+      for ( int j = 0; j < nb; j++ ) {
+         v[j*nb + j] = 1.0;
+         for ( int r = j + 1; r < mk; r++ )
+            v[r*nb + j] = qr[(k0 + r)*n + k0 + j];
+      }
+
+      // T:  upper triangular, with I - V*T*V' = H(k0) * ... * H(kb-1)
+      double t[] = new double[nb * nb];
+      double z[] = new double[nb];
+      for ( int j = 0; j < nb; j++ ) {
+         double tj = tau[k0 + j];
+         for ( int i = 0; i < j; i++ ) {
+            double s = 0.0;
+            for ( int r = j; r < mk; r++ )
+               s += v[r*nb + i] * v[r*nb + j];
+            z[i] = s;
+         }
+         for ( int i = 0; i < j; i++ ) {
+            double s = 0.0;
+            for ( int p = i; p < j; p++ )
+               s += t[i*nb + p] * z[p];
+            t[i*nb + j] = -tj * s;
+         }
+         t[j*nb + j] = tj;
+      }
+
+      // W = V' * A2
+      double vt[] = new double[nb * mk];
+      MatrixKernel.transpose( mk, nb, v, 0, nb, vt, 0, mk );
+      double w[] = new double[nb * nc];
+      MatrixKernel.gemm( nb, nc, mk, 1.0, vt, 0, mk, qr, k0*n + kb, n, w, 0, nc );
+
+      // W = T' * W, from the bottom row up so that W can be overwritten
+      for ( int i = nb - 1; i >= 0; i-- ) {
+         int wi = i*nc;
+         double d = t[i*nb + i];
+         for ( int c = 0; c < nc; c++ )
+            w[wi + c] *= d;
+         for ( int p = 0; p < i; p++ ) {
+            double s  = t[p*nb + i];
+            int    wp = p*nc;
+            for ( int c = 0; c < nc; c++ )
+               w[wi + c] += s * w[wp + c];
+         }
+      }
+
+      // A2 = A2 - V * W
+      MatrixKernel.gemm( mk, nc, nb, -1.0, v, 0, nb, w, 0, nc, qr, k0*n + kb, n );
+   }
+
+
+   /**
+    * Replaces the first n rows of the row-major m x <tt>nrhs</tt>
+    * matrix <tt>x</tt> with the solution of <tt>R*X = Q'*x</tt>.
+    */
+   private void solveInPlace( double x[], int nrhs ) {
+      if ( !isFullRank() ) {
+         throw new ArithmeticException( "solve: Matrix is rank deficient" );
+      }
+      double w[] = new double[nrhs];
+      for ( int j = 0; j < n; j++ )
+         reflect( j, x, 0, nrhs, nrhs, w );
+      MatrixKernel.trsmUpper( n, nrhs, qr, 0, n, x, 0, nrhs );
+   }
+}
@@ -0,0 +1,209 @@
+package chapman.math;
+
+/**
+ * Class <code>Quadrature</code> integrates sampled data.  The samples may
+ * be equally spaced, given by a spacing <code>dx</code>, or at arbitrary
+ * increasing points <code>x</code>.  Three rules are provided:
+ * <p>
+ *    1.  <code>trapezoid</code>, which is exact for linear data and
+ *        needs at least two samples.
+ * <p>
+ *    2.  <code>simpson</code>, which fits a parabola to each pair of
+ *        intervals, and so is exact for quadratic data (and for cubic
+ *        data on an even number of equal intervals).  If the number of
+ *        intervals is odd, the last interval is integrated with the
+ *        parabola through the last three samples.
+ * <p>
+ *    3.  <code>romberg</code>, which applies Richardson extrapolation to
+ *        the trapezoid rule at strides 1, 2, 4, ... of equally spaced
+ *        data, and needs <tt>2^k + 1</tt> samples.
+ * <p>
+ * None of the methods modify their input arrays.  Arrays with fewer
+ * samples than a rule needs integrate to zero (no samples or one sample)
+ * or fall back to the trapezoid rule (two samples for Simpson's rule).
+ * For example,
+ * <pre>
+ *   double area = Quadrature.simpson( signal, dt );
+ * </pre>
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     DormandPrince
+ */
+
+public class Quadrature {
+
+   //*************************************************
+   // Static methods
+   //*************************************************
+
+   /**
+    * Integrates equally spaced samples by the trapezoid rule.
+    *
+    * @param   y   the samples.
+    * @param   dx  the spacing of the samples.
+    * @return  the integral from the first to the last sample
+    */
+   public static double trapezoid( double y[], double dx ) {
+      int n = y.length;
+      if ( n < 2 ) {
+         return 0;
+      }
+      return dx * ( Array.sum( y ) - 0.5 * (y[0] + y[n-1]) );
+   }
+
+
+   /**
+    * Integrates samples at increasing points <tt>x</tt> by the
+    * trapezoid rule.
+    *
+    * @param   x   the sample points, in increasing order.
+    * @param   y   the samples.
+    * @return  the integral from the first to the last sample
+    * @exception InvalidArraySizeException if <tt>x</tt> and <tt>y</tt>
+    *          have different lengths.
+    */
+   public static double trapezoid( double x[], double y[] ) {
+      checkLengths( x, y, "trapezoid" );
+      double sum = 0;
+      for ( int i = 0; i < x.length - 1; i++ ) {
+         sum += (x[i+1] - x[i]) * (y[i] + y[i+1]);
+      }
+      return 0.5 * sum;
+   }
+
+
+   /**
+    * Integrates equally spaced samples by Simpson's rule.
+    *
+    * @param   y   the samples.
+    * @param   dx  the spacing of the samples.
+    * @return  the integral from the first to the last sample
+    */
+   public static double simpson( double y[], double dx ) {
+      int n = y.length;
+      if ( n < 3 ) {
+         return trapezoid( y, dx );
+      }
+
+      // Simpson's rule over an even number of intervals
+      int m = (n % 2 == 1) ? n : n - 1;
+      double odd = 0, even = 0;
+      for ( int i = 1; i < m - 1; i += 2 ) {
+         odd  += y[i];
+         even += y[i+1];
+      }
+      double sum = y[0] + 4 * odd + 2 * even - y[m-1];
+
+      // The parabola through the last three samples over the last
+      // interval, if the number of intervals is odd
+      if ( m < n ) {
+         sum += 0.25 * (5 * y[n-1] + 8 * y[n-2] - y[n-3]);
+      }
+      return sum * dx / 3;
+   }
+
+
+   /**
+    * Integrates samples at increasing points <tt>x</tt> by Simpson's
+    * rule, fitting a parabola to each pair of intervals.
+    *
+    * @param   x   the sample points, in increasing order.
+    * @param   y   the samples.
+    * @return  the integral from the first to the last sample
+    * @exception InvalidArraySizeException if <tt>x</tt> and <tt>y</tt>
+    *          have different lengths.
+    */
+   public static double simpson( double x[], double y[] ) {
+      checkLengths( x, y, "simpson" );
+      int n = x.length;
+      if ( n < 3 ) {
+         return trapezoid( x, y );
+      }
+      int m = (n % 2 == 1) ? n : n - 1;
+      double sum = 0;
+      for ( int i = 0; i < m - 2; i += 2 ) {
+         double h0 = x[i+1] - x[i];
+         double h1 = x[i+2] - x[i+1];
+         double hs = h0 + h1;
+         sum += hs / 6 * ( (2 - h1 / h0) * y[i]
+                         + hs * hs / (h0 * h1) * y[i+1]
+                         + (2 - h0 / h1) * y[i+2] );
+      }
+      if ( m < n ) {
+         double h0 = x[n-2] - x[n-3];
+         double h1 = x[n-1] - x[n-2];
+         sum += (2 * h1 * h1 + 3 * h0 * h1) / (6 * (h0 + h1)) * y[n-1]
+              + (h1 * h1 + 3 * h0 * h1) / (6 * h0) * y[n-2]
+              - h1 * h1 * h1 / (6 * h0 * (h0 + h1)) * y[n-3];
+      }
+      return sum;
+   }
+
+
+   /**
+    * Integrates <tt>2^k + 1</tt> equally spaced samples by Romberg
+    * integration.  The trapezoid rule is evaluated with strides
+    * <tt>2^k</tt>, <tt>2^(k-1)</tt>, ..., 1, each from the last by adding
+    * the new samples, and the results are extrapolated to zero spacing.
+    *
+    * @param   y   the samples, <tt>2^k + 1</tt> of them.
+    * @param   dx  the spacing of the samples.
+    * @return  the integral from the first to the last sample
+    * @exception IllegalArgumentException if there are two or more
+    *          samples, and their number is not one more than a power of
+    *          two.
+    */
+   public static double romberg( double y[], double dx ) {
+      int n = y.length;
+      int intervals = n - 1;
+      if ( n < 2 ) {
+         return 0;
+      }
+      if ( (intervals & (intervals - 1)) != 0 ) {
+         String s = "romberg: Invalid array length " + n;
+         throw new IllegalArgumentException(s);
+      }
+      int levels = Integer.numberOfTrailingZeros( intervals );
+
+      // r[j] holds the j-th extrapolation at the current level
+      double r[] = new double[levels + 1];
+      double h = dx * intervals;
+      r[0] = 0.5 * h * (y[0] + y[n-1]);
+      for ( int k = 1; k <= levels; k++ ) {
+         int stride = intervals >> k;
+         double sum = 0;
+         for ( int i = stride; i < intervals; i += 2 * stride ) {
+            sum += y[i];
+         }
+         h *= 0.5;
+
+         // Extrapolate along the new row, keeping the previous row's
+         // values only as long as they are needed
+         double prev = r[0];
+         r[0] = 0.5 * prev + h * sum;
+         double scale = 1;
+         for ( int j = 1; j <= k; j++ ) {
+            scale *= 4;
+            double next = r[j];
+            r[j] = r[j-1] + (r[j-1] - prev) / (scale - 1);
+            prev = next;
+         }
+      }
+      return r[levels];
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Checks that the sample points and samples have the same length.
+    */
+   private static void checkLengths( double x[], double y[], String name ) {
+      if ( x.length != y.length ) {
+         String s = name + ": Incompatible array lengths";
+         throw new InvalidArraySizeException(s);
+      }
+   }
+}
@@ -0,0 +1,580 @@
+package chapman.math;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Class <code>RandomSource</code> supplies the pseudorandom numbers used
+ * by the random number methods of classes <code>Array</code> and
+ * <code>Math1</code>.  It is built on a splittable generator from
+ * package <code>java.util.random</code>, by default the
+ * <code>L64X128MixRandom</code> algorithm, which is fast, has a period of
+ * 2<sup>128</sup>(2<sup>64</sup>-1), and can be split into independent
+ * streams.
+ * <p>
+ * Gaussian and exponential values are generated with the Ziggurat method
+ * of Marsaglia and Tsang, which needs one 64-bit random number and a
+ * table lookup for about 99 percent of the values, and only calls
+ * <code>exp</code> or <code>log</code> for the rest.  Rayleigh values are
+ * calculated directly by inverting their cumulative distribution
+ * function, <code>1 - exp(-r*r/2)</code>:  since <code>-ln(1-u)</code> is
+ * exponentially distributed, <code>r = sqrt(2*e)</code>, where
+ * <code>e</code> is a single exponential value, instead of the magnitude
+ * of two Gaussian values.
+ * <p>
+ * Each thread that uses a source draws from its own stream, which is
+ * split from the source the first time the thread uses it.  Threads
+ * therefore never wait for each other or contend for a shared seed, as
+ * they would with a single <code>java.util.Random</code>.  The bulk
+ * methods fill a whole array at once.  Arrays of at least
+ * <code>Parallel.getThreshold()</code> elements are filled in parallel:
+ * the calling thread's stream is split once for each block of the array,
+ * in order, and each block is then filled from its own stream.  The
+ * values placed in an array therefore depend only on the state of the
+ * calling thread's stream, never on the number of threads.
+ * <p>
+ * A source created with a seed produces the same numbers every time the
+ * program is run, as long as it is used from a single thread, or each
+ * thread is given its own stream with <code>split</code>.  For example,
+ * <pre>
+ *   RandomSource.setDefault( new RandomSource( 12345L ) );
+ *   double noise[] = Array.randomGaussian( 1000000 );
+ * </pre>
+ * makes every later call to <code>Array.randomGaussian</code>
+ * reproducible.
+ *
+ * @author  S. J. Chapman
+ * @version 1.00, 10/18/26
+ * @see     Array
+ * @see     Parallel
+ */
+
+public final class RandomSource {
+
+   //*************************************************
+   // Constants
+   //*************************************************
+
+   /**
+    * The name of the default generator algorithm.
+    */
+   public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+   // Distribution codes for the fill loops
+   private static final int UNIFORM  = 0;
+   private static final int GAUSSIAN = 1;
+   private static final int RAYLEIGH = 2;
+   private static final int EXPONENTIAL = 3;
+
+   /**
+    * Number of layers in the Gaussian Ziggurat.
+    */
+   private static final int NORM_LAYERS = 128;
+
+   /**
+    * Start of the tail of the Gaussian Ziggurat.
+    */
+   private static final double NORM_R = 3.442619855899;
+
+   /**
+    * Area of each layer of the Gaussian Ziggurat, for the unnormalized
+    * density <tt>exp(-x*x/2)</tt>.
+    */
+   private static final double NORM_V = 9.91256303526217e-3;
+
+   /**
+    * Number of layers in the exponential Ziggurat.
+    */
+   private static final int EXP_LAYERS = 256;
+
+   /**
+    * Start of the tail of the exponential Ziggurat.
+    */
+   private static final double EXP_R = 7.69711747013104972;
+
+   /**
+    * Area of each layer of the exponential Ziggurat.
+    */
+   private static final double EXP_V = 3.949659822581572e-3;
+
+   /**
+    * Right edges of the layers of the Gaussian Ziggurat, the density at
+    * each edge, and the ratio of each edge to the one below it, within
+    * which a value is accepted without evaluating the density.
+    */
+   private static final double normX[] = new double[NORM_LAYERS + 1];
+   private static final double normF[] = new double[NORM_LAYERS + 1];
+   private static final double normR[] = new double[NORM_LAYERS];
+
+   /**
+    * The same tables for the exponential Ziggurat.
+    */
+   private static final double expX[] = new double[EXP_LAYERS + 1];
+   private static final double expF[] = new double[EXP_LAYERS + 1];
+   private static final double expR[] = new double[EXP_LAYERS];
+
+   static {
+      double f = Math.exp( -0.5 * NORM_R * NORM_R );
+      normX[0] = NORM_V / f;
+      normX[1] = NORM_R;
+      for ( int i = 2; i < NORM_LAYERS; i++ ) {
+         normX[i] = Math.sqrt( -2.0 * Math.log( NORM_V / normX[i-1] + f ) );
+         f = Math.exp( -0.5 * normX[i] * normX[i] );
+      }
+      normX[NORM_LAYERS] = 0.0;
+      for ( int i = 0; i <= NORM_LAYERS; i++ )
+         normF[i] = Math.exp( -0.5 * normX[i] * normX[i] );
+      for ( int i = 0; i < NORM_LAYERS; i++ )
+         normR[i] = normX[i+1] / normX[i];
+
+      f = Math.exp( -EXP_R );
+      expX[0] = EXP_V / f;
+      expX[1] = EXP_R;
+      for ( int i = 2; i < EXP_LAYERS; i++ ) {
+         expX[i] = -Math.log( EXP_V / expX[i-1] + f );
+         f = Math.exp( -expX[i] );
+      }
+      expX[EXP_LAYERS] = 0.0;
+      for ( int i = 0; i <= EXP_LAYERS; i++ )
+         expF[i] = Math.exp( -expX[i] );
+      for ( int i = 0; i < EXP_LAYERS; i++ )
+         expR[i] = expX[i+1] / expX[i];
+   }
+
+   //*************************************************
+   // Variables
+   //*************************************************
+
+   /**
+    * The source used by the random number methods of classes
+    * <tt>Array</tt> and <tt>Math1</tt>.
+    */
+   private static volatile RandomSource defaultSource = new RandomSource();
+
+   //*************************************************
+   // Instance variables
+   //*************************************************
+
+   /**
+    * The generator from which the per-thread streams are split.  It is
+    * only used while holding the lock on this object.
+    */
+   private final SplittableGenerator root;
+
+   /**
+    * The stream of each thread that has used this source.
+    */
+   private final ThreadLocal<SplittableGenerator> local =
+      new ThreadLocal<SplittableGenerator>() {
+         protected SplittableGenerator initialValue() {
+            return split();
+         }
+      };
+
+   //*************************************************
+   // Constructors
+   //*************************************************
+
+   /**
+    * Creates a source using the default algorithm and an unpredictable
+    * seed.
+    */
+   public RandomSource() {
+      this( (SplittableGenerator) factory( DEFAULT_ALGORITHM ).create() );
+   }
+
+
+   /**
+    * Creates a source using the default algorithm and the given seed.
+    *
+    * @param   seed   the initial seed.
+    */
+   public RandomSource( long seed ) {
+      this( DEFAULT_ALGORITHM, seed );
+   }
+
+
+   /**
+    * Creates a source using the named algorithm and the given seed.
+    *
+    * @param   algorithm   the name of a splittable algorithm in package
+    *          <tt>java.util.random</tt>, such as
+    *          <tt>"L64X128MixRandom"</tt> or <tt>"SplittableRandom"</tt>.
+    * @param   seed   the initial seed.
+    * @exception <code>IllegalArgumentException</code> if the algorithm
+    *            is unknown or is not splittable.
+    */
+   public RandomSource( String algorithm, long seed ) {
+      this( (SplittableGenerator) factory( algorithm ).create( seed ) );
+   }
+
+
+   /**
+    * Creates a source that splits its streams from an existing
+    * generator.  The generator should not be used elsewhere afterwards.
+    *
+    * @param   g   the generator.
+    */
+   public RandomSource( SplittableGenerator g ) {
+      if ( g == null ) {
+         throw new NullPointerException( "RandomSource: Null generator" );
+      }
+      root = g;
+   }
+
+   //*************************************************
+   // Static methods
+   //*************************************************
+
+   /**
+    * Returns the source used by the random number methods of classes
+    * <tt>Array</tt> and <tt>Math1</tt>.
+    *
+    * @return  the default source
+    */
+   public static RandomSource getDefault() {
+      return defaultSource;
+   }
+
+
+   /**
+    * Sets the source used by the random number methods of classes
+    * <tt>Array</tt> and <tt>Math1</tt>.
+    *
+    * @param   source   the new default source.
+    */
+   public static void setDefault( RandomSource source ) {
+      if ( source == null ) {
+         throw new NullPointerException( "setDefault: Null source" );
+      }
+      defaultSource = source;
+   }
+
+   //*************************************************
+   // Instance methods
+   //*************************************************
+
+   /**
+    * Fills an array with pseudorandom values uniformly distributed in
+    * the range 0.0 <= value < 1.0.
+    *
+    * @param   a   the array to fill.
+    * @return  the array <tt>a</tt>
+    */
+   public double[] fill( double a[] ) {
+      fill( UNIFORM, a, null );
+      return a;
+   }
+
+
+   /**
+    * Fills an array with pseudorandom values uniformly distributed in
+    * the range 0.0 <= value < 1.0.
+    *
+    * @param   a   the array to fill.
+    * @return  the array <tt>a</tt>
+    */
+   public float[] fill( float a[] ) {
+      fill( UNIFORM, null, a );
+      return a;
+   }
+
+
+   /**
+    * Fills an array with pseudorandom values having an exponential
+    * distribution with mean 1.
+    *
+    * @param   a   the array to fill.
+    * @return  the array <tt>a</tt>
+    */
+   public double[] fillExponential( double a[] ) {
+      fill( EXPONENTIAL, a, null );
+      return a;
+   }
+
+
+   /**
+    * Fills an array with pseudorandom values having an exponential
+    * distribution with mean 1.
+    *
+    * @param   a   the array to fill.
+    * @return  the array <tt>a</tt>
+    */
+   public float[] fillExponential( float a[] ) {
+      fill( EXPONENTIAL, null, a );
+      return a;
+   }
+
+
+   /**
+    * Fills an array with pseudorandom values having a Gaussian normal
+    * distribution with mean 0 and standard deviation 1.
+    *
+    * @param   a   the array to fill.
+    * @return  the array <tt>a</tt>
+    */
+   public double[] fillGaussian( double a[] ) {
+      fill( GAUSSIAN, a, null );
+      return a;
+   }
+
+
+   /**
+    * Fills an array with pseudorandom values having a Gaussian normal
+    * distribution with mean 0 and standard deviation 1.
+    *
+    * @param   a   the array to fill.
+    * @return  the array <tt>a</tt>
+    */
+   public float[] fillGaussian( float a[] ) {
+      fill( GAUSSIAN, null, a );
+      return a;
+   }
+
+
+   /**
+    * Fills an array with pseudorandom values having a Rayleigh
+    * distribution, which is the distribution of the magnitude of a
+    * vector whose two components are independent Gaussian values.
+    *
+    * @param   a   the array to fill.
+    * @return  the array <tt>a</tt>
+    */
+   public double[] fillRayleigh( double a[] ) {
+      fill( RAYLEIGH, a, null );
+      return a;
+   }
+
+
+   /**
+    * Fills an array with pseudorandom values having a Rayleigh
+    * distribution, which is the distribution of the magnitude of a
+    * vector whose two components are independent Gaussian values.
+    *
+    * @param   a   the array to fill.
+    * @return  the array <tt>a</tt>
+    */
+   public float[] fillRayleigh( float a[] ) {
+      fill( RAYLEIGH, null, a );
+      return a;
+   }
+
+
+   /**
+    * Returns the calling thread's stream from this source.  The stream
+    * must not be passed to other threads.
+    *
+    * @return  the generator of the calling thread
+    */
+   public RandomGenerator generator() {
+      return local.get();
+   }
+
+
+   /**
+    * Returns the next pseudorandom value from the calling thread's
+    * stream, uniformly distributed in the range 0.0 <= value < 1.0.
+    *
+    * @return  a pseudorandom <code>double</code> value
+    */
+   public double nextDouble() {
+      return local.get().nextDouble();
+   }
+
+
+   /**
+    * Returns the next pseudorandom value from the calling thread's
+    * stream, with an exponential distribution with mean 1.
+    *
+    * @return  a pseudorandom <code>double</code> value
+    */
+   public double nextExponential() {
+      return exponential( local.get() );
+   }
+
+
+   /**
+    * Returns the next pseudorandom value from the calling thread's
+    * stream, with a Gaussian normal distribution.
+    *
+    * @return  a pseudorandom <code>double</code> value
+    */
+   public double nextGaussian() {
+      return gaussian( local.get() );
+   }
+
+
+   /**
+    * Returns the next pseudorandom value from the calling thread's
+    * stream, with a Rayleigh distribution.
+    *
+    * @return  a pseudorandom <code>double</code> value
+    */
+   public double nextRayleigh() {
+      return rayleigh( local.get() );
+   }
+
+
+   /**
+    * Splits a new, independent stream from this source.  Streams split
+    * from a seeded source in the same order are the same every time the
+    * program is run, so a program that hands one stream to each of its
+    * threads gets reproducible results.
+    *
+    * @return  a new generator
+    */
+   public synchronized SplittableGenerator split() {
+      return root.split();
+   }
+
+   //*************************************************
+   // Private methods
+   //*************************************************
+
+   /**
+    * Returns the factory for a splittable algorithm.
+    */
+   private static RandomGeneratorFactory<RandomGenerator> factory( String algorithm ) {
+      RandomGeneratorFactory<RandomGenerator> f = RandomGeneratorFactory.of( algorithm );
+      if ( !f.isSplittable() ) {
+         throw new IllegalArgumentException( "RandomSource: Algorithm "
+                                             + algorithm + " is not splittable" );
+      }
+      return f;
+   }
+
+
+   /**
+    * Fills <tt>d</tt> or <tt>f</tt>, whichever is not <tt>null</tt>, with
+    * values of the given distribution.  Large arrays are filled block by
+    * block, each block from its own stream split from the calling
+    * thread's stream.
+    */
+   private void fill( final int dist, final double d[], final float f[] ) {
+      SplittableGenerator g = local.get();
+      int n = ( d != null ) ? d.length : f.length;
+      if ( !Parallel.isLarge(n) ) {
+         fill( g, dist, d, f, 0, n );
+         return;
+      }
+      final SplittableGenerator block[] = new SplittableGenerator[Parallel.blocks(n)];
+      for ( int k = 0; k < block.length; k++ )
+         block[k] = g.split();
+      Parallel.forBlocks( n, new Parallel.Loop() {
+         void run( int from, int to ) {
+            fill( block[from / Parallel.BLOCK], dist, d, f, from, to );
+         }
+      } );
+   }
+
+
+   /**
+    * Fills elements <tt>from</tt> through <tt>to-1</tt> of <tt>d</tt> or
+    * <tt>f</tt> from generator <tt>g</tt>.
+    */
+   private static void fill( RandomGenerator g, int dist, double d[], float f[],
+                             int from, int to ) {
+      if ( d != null ) {
+         switch ( dist ) {
+            case UNIFORM:
+               for ( int i = from; i < to; i++ )
+                  d[i] = g.nextDouble();
+               break;
+            case GAUSSIAN:
+               for ( int i = from; i < to; i++ )
+                  d[i] = gaussian( g );
+               break;
+            case EXPONENTIAL:
+               for ( int i = from; i < to; i++ )
+                  d[i] = exponential( g );
+               break;
+            default:
+               for ( int i = from; i < to; i++ )
+                  d[i] = rayleigh( g );
+               break;
+         }
+      }
+      else {
+         switch ( dist ) {
+            case UNIFORM:
+               for ( int i = from; i < to; i++ )
+                  f[i] = g.nextFloat();
+               break;
+            case GAUSSIAN:
+               for ( int i = from; i < to; i++ )
+                  f[i] = (float) gaussian( g );
+               break;
+            case EXPONENTIAL:
+               for ( int i = from; i < to; i++ )
+                  f[i] = (float) exponential( g );
+               break;
+            default:
+               for ( int i = from; i < to; i++ )
+                  f[i] = (float) rayleigh( g );
+               break;
+         }
+      }
+   }
+
+
+   /**
+    * Returns an exponentially distributed value from generator
+    * <tt>g</tt>.  The low 8 bits of a random <tt>long</tt> choose a layer
+    * of the Ziggurat and the high 53 bits a point within it.
+    */
+   private static double exponential( RandomGenerator g ) {
+      while ( true ) {
+         long bits = g.nextLong();
+         int i = (int) bits & (EXP_LAYERS - 1);
+         double u = (bits >>> 11) * 0x1.0p-53;
+         double x = u * expX[i];
+         if ( u < expR[i] )
+            return x;
+         if ( i == 0 )
+            return EXP_R - Math.log( 1.0 - g.nextDouble() );
+         double y = expF[i] + g.nextDouble() * (expF[i+1] - expF[i]);
+         if ( y < Math.exp( -x ) )
+            return x;
+      }
+   }
+
+
+   /**
+    * Returns a Gaussian value from generator <tt>g</tt>.  The low 7 bits
+    * of a random <tt>long</tt> choose a layer of the Ziggurat and the
+    * high 54 bits a signed point within it.
+    */
+   private static double gaussian( RandomGenerator g ) {
+      while ( true ) {
+         long bits = g.nextLong();
+         int i = (int) bits & (NORM_LAYERS - 1);
+         double u = (bits >> 10) * 0x1.0p-53;
+         double x = u * normX[i];
+         if ( Math.abs( u ) < normR[i] )
+            return x;
+         if ( i == 0 ) {
+
+            // Tail beyond NORM_R, by Marsaglia's method
+            double t, y;
+            do {
+               t = Math.log( 1.0 - g.nextDouble() ) / NORM_R;
+               y = Math.log( 1.0 - g.nextDouble() );
+            } while ( -2.0 * y < t * t );
+            return ( u < 0 ) ? t - NORM_R : NORM_R - t;
+         }
+         double y = normF[i] + g.nextDouble() * (normF[i+1] - normF[i]);
+         if ( y < Math.exp( -0.5 * x * x ) )
+            return x;
+      }
+   }
+
+
+   /**
+    * Returns a Rayleigh-distributed value from generator <tt>g</tt>, by
+    * inverting its cumulative distribution function.  The exponential
+    * value stands for <tt>-ln(1-u)</tt>, and avoids the logarithm.
+    */
+   private static double rayleigh( RandomGenerator g ) {
+      return Math.sqrt( 2.0 * exponential( g ) );
+   }
+}
@@ -20,6 +20,12 @@ public final class SigProc {
    */
    private static final double TWO_PI  = 2.0 * Math.PI;
 
+   /**
+    * The base 2 log of the width of the tiles used by the bit-reversal
+    * permutation of <code>fftOffHeap</code>.
+    */
+   private static final int TILE_BITS = 8;
+
    /**
     * Constant to specify no cross-correlation normalization.
     */
@@ -96,7 +102,7 @@ public final class SigProc {
     public static Complex[] correl( Complex[] za, Complex[] zb ) {
 
       // Call the core code with the no-normalization option.
-      return correlCore ( za, zb, NO_NORM );
+      return correlCore ( new ComplexArray(za), new ComplexArray(zb), NO_NORM ).toArray();
    }
 
 
@@ -176,7 +182,7 @@ public final class SigProc {
     public static Complex[] correl( Complex[] za, Complex[] zb , int norm ) {
 
       // Call the core code with the normalization option.
-      return correlCore ( za, zb, norm );
+      return correlCore ( new ComplexArray(za), new ComplexArray(zb), norm ).toArray();
    }
 
 
@@ -226,6 +232,44 @@ public final class SigProc {
    }
 
 
+   /**
+    * This method calculates the cross-correlation between two
+    * <code>ComplexArray</code> arrays.  It behaves exactly like
+    * <code>correl(Complex[],Complex[])</code>, but works directly on
+    * the split real and imaginary storage.
+    *
+    * @see  SigProc#correl(Complex[],Complex[])
+    * @param   za Input array 1.
+    * @param   zb Input array 2.
+    * @return  the cross-correlation of <code>za</code> and <code>zb</code>.
+    */
+    public static ComplexArray correl( ComplexArray za, ComplexArray zb ) {
+
+      // Call the core code with the no-normalization option.
+      return correlCore ( za, zb, NO_NORM );
+   }
+
+
+   /**
+    * This method calculates the cross-correlation between two
+    * <code>ComplexArray</code> arrays, with the normalization specified
+    * by <code>norm</code>.  It behaves exactly like
+    * <code>correl(Complex[],Complex[],int)</code>, but works directly on
+    * the split real and imaginary storage.
+    *
+    * @see  SigProc#correl(Complex[],Complex[],int)
+    * @param   za Input array 1.
+    * @param   zb Input array 2.
+    * @param   norm Normalization option (<code>NO_NORM</code> or <code>NORM</code>).
+    * @return  the cross-correlation of <code>za</code> and <code>zb</code>.
+    */
+    public static ComplexArray correl( ComplexArray za, ComplexArray zb, int norm ) {
+
+      // Call the core code with the normalization option.
+      return correlCore ( za, zb, norm );
+   }
+
+
    /**
     * This method calculates the convolution of two arrays of arbitrary length,
     * returning the result in an array of length  <code>za.length + zb.length - 1</code>.
@@ -236,6 +280,22 @@ public final class SigProc {
     */
     public static Complex[] conv( Complex[] za, Complex[] zb ) {
 
+      // Call the core code.
+      return convCore( new ComplexArray(za), new ComplexArray(zb) ).toArray();
+   }
+
+
+   /**
+    * This method calculates the convolution of two <code>ComplexArray</code>
+    * arrays of arbitrary length, returning the result in an array of length
+    * <code>za.length() + zb.length() - 1</code>.
+    *
+    * @param   za Input array 1.
+    * @param   zb Input array 2.
+    * @return  the convolution of <code>za</code> and <code>zb</code>.
+    */
+    public static ComplexArray conv( ComplexArray za, ComplexArray zb ) {
+
       // Call the core code.
       return convCore( za, zb );
    }
@@ -290,7 +350,7 @@ public final class SigProc {
       // Restore the x and y components
       Complex z1[] = new Complex[z.length];
       for ( i = 0; i < n; i++ ) {
-         z1[i] = new Complex( x[i], y[i] );
+         z1[i] = Complex.complex( x[i], y[i] );
       }
 
       return z1;
@@ -346,13 +406,125 @@ public final class SigProc {
       // Restore the x and y components
       Complex z1[] = new Complex[size];
       for ( i = 0; i < n; i++ ) {
-         z1[i] = new Complex( x[i], y[i] );
+         z1[i] = Complex.complex( x[i], y[i] );
       }
 
       return z1;
    }
 
 
+   /**
+    * This method calculates the Fast Fourier Transform of a <code>ComplexArray</code>,
+    * provided that the length of the array is a power of 2.  If the array
+    * length is <i>not</i> a power of two, the method throws an
+    * <code>InvalidArraySizeException</code>.  This method does not destroy its
+    * input data.
+    *
+    * @param   z The input array.
+    * @return  the FFT of <code>z</code>.
+    * @exception <code>InvalidArraySizeException</code> if the array length is not a
+    *            power of 2
+    */
+   public static ComplexArray fft( ComplexArray z ) {
+
+      // Check for a valid size
+      if ( nextMul(z.length()) != z.length() ) {
+         String s = "Invalid FFT array size: " + z.length();
+         throw new InvalidArraySizeException(s);
+      }
+
+      // Copy the x and y components
+      double x[] = (double[]) z.getRe().clone();
+      double y[] = (double[]) z.getIm().clone();
+
+      // Calculate FFT
+      fftCore( x, y, false );
+      return new ComplexArray( x, y );
+   }
+
+
+   /**
+    * This method calculates the inverse Fast Fourier Transform of a
+    * <code>ComplexArray</code>, provided that the length of the array is a
+    * power of 2.  If the array length is <i>not</i> a power of two, the method
+    * throws an <code>InvalidArraySizeException</code>.  This method does not
+    * destroy its input data.
+    *
+    * @param   z The input array.
+    * @return  the inverse FFT of <code>z</code>.
+    * @exception <code>InvalidArraySizeException</code> if the array length is not a
+    *            power of 2
+    */
+   public static ComplexArray ifft( ComplexArray z ) {
+
+      // Check for a valid size
+      if ( nextMul(z.length()) != z.length() ) {
+         String s = "Invalid FFT array size: " + z.length();
+         throw new InvalidArraySizeException(s);
+      }
+
+      // Copy the x and y components
+      double x[] = (double[]) z.getRe().clone();
+      double y[] = (double[]) z.getIm().clone();
+
+      // Calculate inverse FFT
+      fftCore( x, y, true );
+      return new ComplexArray( x, y );
+   }
+
+
+   /**
+    * This method calculates the Fast Fourier Transform of complex data
+    * held in two <code>OffHeapArray</code>s, one for the real parts and
+    * one for the imaginary parts, <i>in place</i>.  The data may be larger
+    * than the Java heap.  The early passes, whose butterflies span more
+    * than one chunk of the arrays, stream pairs of chunks through the
+    * heap; once a butterfly fits inside one chunk, each chunk is loaded
+    * once and all of the remaining passes are done on it in memory.  The
+    * chunks of each pass are processed in parallel for large arrays.  The
+    * results are identical to those of the other <code>fft</code>
+    * methods.
+    *
+    * @param   x The real parts, replaced by the real parts of the FFT.
+    * @param   y The imaginary parts, replaced by the imaginary parts of
+    *            the FFT.
+    * @exception <code>InvalidArraySizeException</code> if the arrays have
+    *            different lengths, or the length is not a power of 2
+    */
+   public static void fft( OffHeapArray x, OffHeapArray y ) {
+      fftOffHeap( x, y, false );
+   }
+
+
+   /**
+    * This method calculates the inverse Fast Fourier Transform of complex
+    * data held in two <code>OffHeapArray</code>s <i>in place</i>, in the
+    * same way as the off-heap <code>fft</code> method.
+    *
+    * @param   x The real parts, replaced by the real parts of the
+    *            inverse FFT.
+    * @param   y The imaginary parts, replaced by the imaginary parts of
+    *            the inverse FFT.
+    * @exception <code>InvalidArraySizeException</code> if the arrays have
+    *            different lengths, or the length is not a power of 2
+    */
+   public static void ifft( OffHeapArray x, OffHeapArray y ) {
+      fftOffHeap( x, y, true );
+   }
+
+
+   /**
+    * This method shifts the output of an FFT so that the dc component appears
+    * in the middle of the spectrum.
+    *
+    * @param   z The input array.
+    * @return  The array with the upper and lower halves of <code>z</code> swapped.
+    */
+   public static ComplexArray fftswap( ComplexArray z ) {
+      return new ComplexArray( fftswap(z.getRe()), fftswap(z.getIm()) );
+   }
+
+
    /**
     * This method shifts the output of an FFT so that the dc component appears
     * in the middle of the spectrum.
@@ -462,7 +634,7 @@ public final class SigProc {
       // Restore the x and y components
       Complex z1[] = new Complex[z.length];
       for ( i = 0; i < n; i++ ) {
-         z1[i] = new Complex( x[i], y[i] );
+         z1[i] = Complex.complex( x[i], y[i] );
       }
 
       return z1;
@@ -518,7 +690,7 @@ public final class SigProc {
       // Restore the x and y components
       Complex z1[] = new Complex[size];
       for ( i = 0; i < n; i++ ) {
-         z1[i] = new Complex( x[i], y[i] );
+         z1[i] = Complex.complex( x[i], y[i] );
       }
 
       return z1;
@@ -604,6 +776,34 @@ public final class SigProc {
    }
 
 
+   /**
+    * This method calculates the lags associated with each position
+    * in the output of a cross correlation.
+    *
+    * @param   za  The input values for array 1
+    * @param   zb  The input values for array 2
+    * @return  an array containing the lags associated with each array
+                  index in the output of the cross correlation of 
+                  <code>za</code> and <code>zb</code>
+    */
+    public static double[] calcLags( ComplexArray za, ComplexArray zb ) {
+
+      // Local variables
+      int i, k;                   // Index variables
+
+      // Create output array
+      double lags[] = new double[za.length()+zb.length()-1];
+
+      // Restore the x and y components with the zero lag in the middle
+      k = -za.length()+1;
+      for ( i = 0; i < za.length()+zb.length()-1; i++ ) {
+        lags[i] = k++;
+      }
+
+      return lags;
+   }
+
+
    /**
     * This method is the computational core of the convolution algorithm.
     * This method destroys its input data, and returns the resulting
@@ -613,10 +813,10 @@ public final class SigProc {
     * @param   zb  The input values for array 2
     * @return  the convolution of <code>za</code> and <code>zb</code>
     */
-    private static Complex[] convCore ( Complex za[], Complex zb[] ) {
+    private static ComplexArray convCore ( ComplexArray za, ComplexArray zb ) {
 
       // Calculate the size of FFT required
-      int fftSize = nextMul( za.length + zb.length );
+      int fftSize = nextMul( za.length() + zb.length() );
 
       // Declare additional variables and arrays
       int i, k;                          // Loop index
@@ -628,29 +828,12 @@ public final class SigProc {
       double yb[] = new double[fftSize]; // y values from array zb
       double yt;                         // Temp variable
 
-      // Separate the x and y components of za.
-      for ( i = 0; i < za.length; i++ ) {
-         xa[i] = za[i].re();
-         ya[i] = za[i].im();
-      }
-
-      // Separate the x and y components of zb.
-      for ( i = 0; i < zb.length; i++ ) {
-         xb[i] = zb[i].re();
-         yb[i] = zb[i].im();
-      }
-
-      // Zero-pad za
-      for ( i = za.length; i < fftSize; i++ ) {
-         xa[i] = 0;
-         ya[i] = 0;
-      }
-
-      // Zero-pad zb
-      for ( i = zb.length; i < fftSize; i++ ) {
-         xb[i] = 0;
-         yb[i] = 0;
-      }
+      // Copy the x and y components of za and zb.  The
+      // remainder of each array is already zero-padded.
+      System.arraycopy( za.getRe(), 0, xa, 0, za.length() );
+      System.arraycopy( za.getIm(), 0, ya, 0, za.length() );
+      System.arraycopy( zb.getRe(), 0, xb, 0, zb.length() );
+      System.arraycopy( zb.getIm(), 0, yb, 0, zb.length() );
 
       // Calculate the FFTs
       fftCore( xa, ya, false );
@@ -669,12 +852,11 @@ public final class SigProc {
       fftCore( xa, ya, true );
 
       // Create output array
-      Complex zout[] = new Complex[za.length + zb.length - 1];
+      ComplexArray zout = new ComplexArray( za.length() + zb.length() - 1 );
 
       // Restore the x and y components
-      for ( i = 0; i < za.length + zb.length - 1; i++ ) {
-         zout[i] = new Complex( xa[i], ya[i] );
-      }
+      System.arraycopy( xa, 0, zout.getRe(), 0, zout.length() );
+      System.arraycopy( ya, 0, zout.getIm(), 0, zout.length() );
       return zout;
    }
 
@@ -797,10 +979,10 @@ public final class SigProc {
     * @param   norm  Normalization flag
     * @return  the cross correlation of <code>za</code> and <code>zb</code>
     */
-    private static Complex[] correlCore ( Complex za[], Complex zb[], int norm ) {
+    private static ComplexArray correlCore ( ComplexArray za, ComplexArray zb, int norm ) {
 
       // Calculate the size of FFT required
-      int fftSize = nextMul( za.length + zb.length );
+      int fftSize = nextMul( za.length() + zb.length() );
 
       // Declare additional variables and arrays
       double dena;                       // Sum of squares of za
@@ -818,9 +1000,9 @@ public final class SigProc {
       // the sum of the squares of the coefficients while
       // separating the components.
       dena = 0;
-      for ( i = 0; i < za.length; i++ ) {
-         xa[i] = za[i].re();
-         ya[i] = za[i].im();
+      for ( i = 0; i < za.length(); i++ ) {
+         xa[i] = za.re(i);
+         ya[i] = za.im(i);
          dena += xa[i]*xa[i] + ya[i]*ya[i];
       }
 
@@ -828,9 +1010,9 @@ public final class SigProc {
       // the sum of the squares of the coefficients while
       // separating the components.
       denb = 0;
-      for ( i = 0; i < zb.length; i++ ) {
-         xb[i] = zb[i].re();
-         yb[i] = zb[i].im();
+      for ( i = 0; i < zb.length(); i++ ) {
+         xb[i] = zb.re(i);
+         yb[i] = zb.im(i);
          denb += xb[i]*xb[i] + yb[i]*yb[i];
       }
 
@@ -841,13 +1023,13 @@ public final class SigProc {
          scale = 1;
 
       // Zero-pad za
-      for ( i = za.length; i < fftSize; i++ ) {
+      for ( i = za.length(); i < fftSize; i++ ) {
          xa[i] = 0;
          ya[i] = 0;
       }
 
       // Zero-pad zb
-      for ( i = zb.length; i < fftSize; i++ ) {
+      for ( i = zb.length(); i < fftSize; i++ ) {
          xb[i] = 0;
          yb[i] = 0;
       }
@@ -869,24 +1051,24 @@ public final class SigProc {
       fftCore( xa, ya, true );
 
       // Create output array
-      Complex zout[] = new Complex[za.length+zb.length-1];
+      ComplexArray zout = new ComplexArray( za.length()+zb.length()-1 );
 
       // Restore the x and y components with the zero lag in the middle
       k = 0;
       if ( norm == NORM ) {
-         for ( i = xa.length-za.length+1; i < xa.length; i++ ) {
-           zout[k++] = new Complex( xa[i]*scale, ya[i]*scale );
+         for ( i = xa.length-za.length()+1; i < xa.length; i++ ) {
+           zout.set( k++, xa[i]*scale, ya[i]*scale );
          }
-         for ( i = 0; i < zb.length; i++ ) {
-           zout[k++] = new Complex( xa[i]*scale, ya[i]*scale );
+         for ( i = 0; i < zb.length(); i++ ) {
+           zout.set( k++, xa[i]*scale, ya[i]*scale );
          }
       }
       else {
-         for ( i = xa.length-za.length+1; i < xa.length; i++ ) {
-           zout[k++] = new Complex( xa[i], ya[i] );
+         for ( i = xa.length-za.length()+1; i < xa.length; i++ ) {
+           zout.set( k++, xa[i], ya[i] );
          }
-         for ( i = 0; i < zb.length; i++ ) {
-           zout[k++] = new Complex( xa[i], ya[i] );
+         for ( i = 0; i < zb.length(); i++ ) {
+           zout.set( k++, xa[i], ya[i] );
          }
       }  
 
@@ -986,6 +1168,225 @@ public final class SigProc {
    }
 
 
+   /**
+    * This method calculates the forward or inverse FFT of the data in
+    * two <code>OffHeapArray</code>s in place.  It performs the same
+    * passes as <code>fftCore</code>, with the same twiddle factors, but
+    * reads and writes the data one chunk at a time.
+    *
+    * @param   x   The real values.
+    * @param   y   The imaginary values.
+    * @param   inv Forward/inverse flag: true = inverse
+    */
+   private static void fftOffHeap( final OffHeapArray x, final OffHeapArray y,
+                                   final boolean inv ) {
+
+      // Check for a valid size
+      final long n = x.length();
+      if ( y.length() != n || n < 2 || (n & (n - 1)) != 0 ) {
+         String s = "Invalid FFT array size: " + n;
+         throw new InvalidArraySizeException(s);
+      }
+      final int chunk = OffHeapArray.CHUNK;
+      boolean parallel = n >= Parallel.getThreshold();
+
+      // Passes whose butterflies join elements in different chunks.
+      // Each work item is one chunk of the first half of a block of
+      // n1 elements, together with the matching chunk of the second half.
+      long n1 = n;
+      for ( ; n1 > chunk; n1 /= 2 ) {
+         final long n2 = n1 / 2;
+         final long block = n1;
+         final double e = TWO_PI / n1;
+         Parallel.forRange( (int) (n / (2L * chunk)), 1, parallel, new Parallel.Loop() {
+            void run( int from, int to ) {
+               double xa[] = new double[chunk], ya[] = new double[chunk];
+               double xb[] = new double[chunk], yb[] = new double[chunk];
+               long perBlock = n2 / chunk;
+               for ( int item = from; item < to; item++ ) {
+                  long j0 = (item % perBlock) * chunk;
+                  long p  = (item / perBlock) * block + j0;
+                  long q  = p + n2;
+                  x.get( p, xa, 0, chunk );  y.get( p, ya, 0, chunk );
+                  x.get( q, xb, 0, chunk );  y.get( q, yb, 0, chunk );
+                  for ( int t = 0; t < chunk; t++ ) {
+                     double a    = (j0 + t) * e;
+                     double cosa = Math.cos( a );
+                     double sina = inv ? Math.sin( a ) : -Math.sin( a );
+                     double xt   = xa[t] - xb[t];
+                     xa[t]       = xa[t] + xb[t];
+                     double yt   = ya[t] - yb[t];
+                     ya[t]       = ya[t] + yb[t];
+                     xb[t]       = xt*cosa - yt*sina;
+                     yb[t]       = xt*sina + yt*cosa;
+                  }
+                  x.set( p, xa, 0, chunk );  y.set( p, ya, 0, chunk );
+                  x.set( q, xb, 0, chunk );  y.set( q, yb, 0, chunk );
+               }
+            }
+         } );
+      }
+
+      // Remaining passes, each confined to one piece of n1 elements
+      final int len = (int) n1;
+      Parallel.forRange( (int) (n / len), 1, parallel, new Parallel.Loop() {
+         void run( int from, int to ) {
+            double xa[] = new double[len], ya[] = new double[len];
+            for ( int piece = from; piece < to; piece++ ) {
+               long p = (long) piece * len;
+               x.get( p, xa, 0, len );  y.get( p, ya, 0, len );
+               fftPasses( xa, ya, len, inv );
+               x.set( p, xa, 0, len );  y.set( p, ya, 0, len );
+            }
+         }
+      } );
+
+      // Bit-reversal permutation
+      bitReverseOffHeap( x, y, parallel );
+
+      // Divide by array size for inverse FFT
+      if ( inv ) {
+         x.divAssign( n );
+         y.divAssign( n );
+      }
+   }
+
+
+   /**
+    * This method applies the bit-reversal permutation of an FFT to two
+    * <code>OffHeapArray</code>s of the same power of 2 length, reading
+    * and writing contiguous rows rather than single elements.
+    * <p>
+    * An index is split into high, middle and low fields, the high and
+    * low ones of <code>b</code> bits each.  Reversing the index reverses
+    * each field and exchanges the high and low ones, so the tile of
+    * elements sharing a middle field <code>m</code> (<code>2^b</code>
+    * rows of <code>2^b</code> contiguous elements) is transposed, with
+    * reversed row and column numbers, into the tile of the reversed
+    * middle field.  Each pair of tiles is exchanged in memory, and the
+    * pairs are processed in parallel.
+    *
+    * @param   x        The real values.
+    * @param   y        The imaginary values.
+    * @param   parallel Whether to process the tiles in parallel.
+    */
+   private static void bitReverseOffHeap( final OffHeapArray x, final OffHeapArray y,
+                                          boolean parallel ) {
+
+      final int bits = Long.numberOfTrailingZeros( x.length() );
+      final int b    = Math.min( TILE_BITS, bits / 2 );
+      final int mb   = bits - 2 * b;
+      final int w    = 1 << b;
+
+      // Reversed row and column numbers within a tile
+      final int rev[] = new int[w];
+      for ( int k = 1; k < w; k++ ) {
+         rev[k] = Integer.reverse( k ) >>> (32 - b);
+      }
+
+      Parallel.forRange( 1 << mb, 1, parallel, new Parallel.Loop() {
+         void run( int from, int to ) {
+            double xa[] = new double[w * w], ya[] = new double[w * w];
+            double xb[] = new double[w * w], yb[] = new double[w * w];
+            double xt[] = new double[w * w], yt[] = new double[w * w];
+            for ( int m = from; m < to; m++ ) {
+               int mr = ( mb == 0 ) ? 0 : Integer.reverse( m ) >>> (32 - mb);
+               if ( mr < m ) {
+                  continue;
+               }
+               tile( x, y, m, bits, b, xa, ya, false );
+               if ( mr != m ) {
+                  tile( x, y, mr, bits, b, xb, yb, false );
+               }
+
+               // Tile m goes to tile mr, and tile mr to tile m
+               transposeReversed( xa, ya, xt, yt, rev );
+               tile( x, y, mr, bits, b, xt, yt, true );
+               if ( mr != m ) {
+                  transposeReversed( xb, yb, xt, yt, rev );
+                  tile( x, y, m, bits, b, xt, yt, true );
+               }
+            }
+         }
+      } );
+   }
+
+
+   /**
+    * This method reads (or, if <code>store</code> is true, writes) the
+    * tile of <code>bitReverseOffHeap</code> with middle field
+    * <code>m</code>: row <code>h</code> holds the <code>2^b</code>
+    * contiguous elements starting at
+    * <code>h*2^(bits-b) + m*2^b</code>.
+    */
+   private static void tile( OffHeapArray x, OffHeapArray y, int m, int bits, int b,
+                             double xs[], double ys[], boolean store ) {
+      int w = 1 << b;
+      for ( int h = 0; h < w; h++ ) {
+         long p = ((long) h << (bits - b)) + ((long) m << b);
+         if ( store ) {
+            x.set( p, xs, h * w, w );
+            y.set( p, ys, h * w, w );
+         }
+         else {
+            x.get( p, xs, h * w, w );
+            y.get( p, ys, h * w, w );
+         }
+      }
+   }
+
+
+   /**
+    * This method transposes a square tile, moving the element in row
+    * <code>h</code> and column <code>l</code> to row
+    * <code>rev[l]</code> and column <code>rev[h]</code>.
+    */
+   private static void transposeReversed( double xs[], double ys[],
+                                          double xd[], double yd[], int rev[] ) {
+      int w = rev.length;
+      for ( int h = 0; h < w; h++ ) {
+         int c = rev[h];
+         for ( int l = 0; l < w; l++ ) {
+            xd[rev[l] * w + c] = xs[h * w + l];
+            yd[rev[l] * w + c] = ys[h * w + l];
+         }
+      }
+   }
+
+
+   /**
+    * This method performs the FFT passes of <code>fftCore</code> for
+    * block sizes from <code>len</code> down to 2 on the first
+    * <code>len</code> elements of <code>x</code> and <code>y</code>,
+    * without the final bit-reversal permutation or scaling.
+    *
+    * @param   x   The real values.
+    * @param   y   The imaginary values.
+    * @param   len The number of elements, a power of 2.
+    * @param   inv Forward/inverse flag: true = inverse
+    */
+   private static void fftPasses( double x[], double y[], int len, boolean inv ) {
+      for ( int n1 = len; n1 >= 2; n1 /= 2 ) {
+         int n2 = n1 / 2;
+         double e = TWO_PI / n1;
+         for ( int j = 0; j < n2; j++ ) {
+            double a    = j * e;
+            double cosa = Math.cos( a );
+            double sina = inv ? Math.sin( a ) : -Math.sin( a );
+            for ( int i = j; i < len; i += n1 ) {
+               int l     = i + n2;
+               double xt = x[i] - x[l];
+               x[i]      = x[i] + x[l];
+               double yt = y[i] - y[l];
+               y[i]      = y[i] + y[l];
+               x[l]      = xt*cosa - yt*sina;
+               y[l]      = xt*sina + yt*cosa;
+            }
+         }
+      }
+   }
+
+
 
 
 
@@ -142,7 +142,10 @@ public class Statistics implements Cloneable {
       
    
    /**
-    * This method calculates the median of a data set.
+    * This method calculates the median of a data set.  The
+    * middle value is found by selection rather than by
+    * sorting the data, so the time taken is proportional
+    * to the length of the data set.
     * 
     * @param  data  The input data set
     *
@@ -162,14 +165,19 @@ public class Statistics implements Cloneable {
          for ( int i=0; i < data.length; i++) 
             out[i] = data[i];
 
-         // Sort data            
-         java.util.Arrays.sort( out );
+         // Select the upper middle value.  This leaves the
+         // smaller values below it, in no particular order.
+         int k = out.length / 2;
+         median = Array.nthElement( out, k );
 
-         // Get median
-         if (out.length%2 == 0)
-            median = (out[out.length/2-1] + out[out.length/2]) / 2.;
-         else
-            median = out[out.length/2];
+         // For an even length, average with the largest of 
+         // the smaller values
+         if (out.length%2 == 0) {
+            double lower = out[0];
+            for ( int i = 1; i < k; i++ )
+               if ( out[i] > lower ) lower = out[i];
+            median = (lower + median) / 2.;
+         }
 
          return median;
       }
@@ -436,12 +444,7 @@ public class Statistics implements Cloneable {
       else {
       
          // Find the proper interval
-         int i = 0;
-         for ( i = 0; i < x.length-1; i++ ) {
-            if ( x0 >= x[i] && x0 <= x[i+1] ) {
-               break;
-            }
-         }
+         int i = Interpolator.search( x, x0 );
          
          // Now interpolate the value
          if ( i < x.length ) {
@@ -482,12 +485,7 @@ public class Statistics implements Cloneable {
       else {
       
          // Find the proper interval
-         int i = 0;
-         for ( i = 0; i < x.length-1; i++ ) {
-            if ( x0 >= x[i] && x0 <= x[i+1] ) {
-               break;
-            }
-         }
+         int i = Interpolator.search( x, x0 );
          
          // Now interpolate the value
          if ( i < x.length ) {
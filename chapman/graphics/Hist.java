@@ -2,6 +2,7 @@ package chapman.graphics;
 import java.io.Serializable;
 import chapman.graphics.Plot2D;
 import chapman.math.Array;
+import chapman.math.ArraySummary;
 
 /**
  * Class <code>Hist</code> calculates and (optionally) displays the histogram
@@ -183,8 +184,9 @@ public class Hist extends Plot2D implements Cloneable, Serializable {
       bins = new double[nBins];
       
       // Find the maximum and minimum values in the data set
-      yMaxVal = Array.maxVal(data);   
-      yMinVal = Array.minVal(data);
+      ArraySummary range = Array.summary(data);
+      yMaxVal = range.max();
+      yMinVal = range.min();
       
       // Calculate the binwidth
       binWidth = ( yMaxVal - yMinVal ) / nBins;
@@ -221,8 +223,9 @@ public class Hist extends Plot2D implements Cloneable, Serializable {
       bins = new double[nBins];
       
       // Find the maximum and minimum values in the data set
-      yMaxVal = Array.maxVal(data);   
-      yMinVal = Array.minVal(data);
+      ArraySummary range = Array.summary(data);
+      yMaxVal = range.max();
+      yMinVal = range.min();
       
       // Calculate the bin boundaries
       double binBounds[] = new double[nBins-1];
@@ -2350,11 +2350,13 @@ public class JPlot2D extends JComponent
 
          // Set the display limits if in autoscale mode
          if ( autoXScale ) {
-            xMax = Array.maxVal ( xVal[0] );
-            xMin = Array.minVal ( xVal[0] );
+            ArraySummary xRange = Array.summary ( xVal[0] );
+            xMax = xRange.max();
+            xMin = xRange.min();
             for ( int i = 1; i < totalCurves; i++ ) {
-               xMax = Math.max ( xMax, Array.maxVal(xVal[i]) );
-               xMin = Math.min ( xMin, Array.minVal(xVal[i]) );
+               xRange = Array.summary ( xVal[i] );
+               xMax = Math.max ( xMax, xRange.max() );
+               xMin = Math.min ( xMin, xRange.min() );
             }
             if ( logXAxis ) {
                xMax = Math.pow(10, Math.ceil( Math1.log10(xMax)) );
@@ -2396,11 +2398,13 @@ public class JPlot2D extends JComponent
       if ( yMin == 0 && yMax == 0 ) {
 
          if ( autoYScale ) {
-            yMax = Array.maxVal ( yVal[0] );
-            yMin = Array.minVal ( yVal[0] );
+            ArraySummary yRange = Array.summary ( yVal[0] );
+            yMax = yRange.max();
+            yMin = yRange.min();
             for ( int i = 1; i < totalCurves; i++ ) {
-               yMax = Math.max ( yMax, Array.maxVal(yVal[i]) );
-               yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+               yRange = Array.summary ( yVal[i] );
+               yMax = Math.max ( yMax, yRange.max() );
+               yMin = Math.min ( yMin, yRange.min() );
             }
             if ( logYAxis ) {
                yMax = Math.pow(10, Math.ceil( Math1.log10(yMax)) );
@@ -3005,19 +3009,23 @@ public class JPlot2D extends JComponent
 
       // Set the display limits if in autoscale mode
       if ( autoXScale ) {
-         xMax = Array.maxVal ( xVal[0] );
-         xMin = Array.minVal ( xVal[0] );
+         ArraySummary xRange = Array.summary ( xVal[0] );
+         xMax = xRange.max();
+         xMin = xRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            xMax = Math.max ( xMax, Array.maxVal(xVal[i]) );
-            xMin = Math.min ( xMin, Array.minVal(xVal[i]) );
+            xRange = Array.summary ( xVal[i] );
+            xMax = Math.max ( xMax, xRange.max() );
+            xMin = Math.min ( xMin, xRange.min() );
          }
       }
       if ( autoYScale ) {
-         yMax = Array.maxVal ( yVal[0] );
-         yMin = Array.minVal ( yVal[0] );
+         ArraySummary yRange = Array.summary ( yVal[0] );
+         yMax = yRange.max();
+         yMin = yRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            yMax = Math.max ( yMax, Array.maxVal(yVal[i]) );
-            yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+            yRange = Array.summary ( yVal[i] );
+            yMax = Math.max ( yMax, yRange.max() );
+            yMin = Math.min ( yMin, yRange.min() );
          }
       }
 
@@ -3411,11 +3419,13 @@ public class JPlot2D extends JComponent
 
       // Set the display limits if in autoscale mode
       if ( autoXScale ) {
-         xMax = Array.maxVal ( xVal[0] );
-         xMin = Array.minVal ( xVal[0] );
+         ArraySummary xRange = Array.summary ( xVal[0] );
+         xMax = xRange.max();
+         xMin = xRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            xMax = Math.max ( xMax, Array.maxVal(xVal[i]) );
-            xMin = Math.min ( xMin, Array.minVal(xVal[i]) );
+            xRange = Array.summary ( xVal[i] );
+            xMax = Math.max ( xMax, xRange.max() );
+            xMin = Math.min ( xMin, xRange.min() );
          }
 
          // If any points are <= 0 with a logarithmic x axis,
@@ -3457,11 +3467,13 @@ public class JPlot2D extends JComponent
       }
       
       if ( autoYScale ) {
-         yMax = Array.maxVal ( yVal[0] );
-         yMin = Array.minVal ( yVal[0] );
+         ArraySummary yRange = Array.summary ( yVal[0] );
+         yMax = yRange.max();
+         yMin = yRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            yMax = Math.max ( yMax, Array.maxVal(yVal[i]) );
-            yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+            yRange = Array.summary ( yVal[i] );
+            yMax = Math.max ( yMax, yRange.max() );
+            yMin = Math.min ( yMin, yRange.min() );
          }
          
          // If any points are <= 0 with a logarithmic y axis,
@@ -3899,11 +3911,13 @@ public class JPlot2D extends JComponent
 
       // Set the display limits if in autoscale mode
       if ( autoXScale ) {
-         xMax = Array.maxVal ( xVal[0] );
-         xMin = Array.minVal ( xVal[0] );
+         ArraySummary xRange = Array.summary ( xVal[0] );
+         xMax = xRange.max();
+         xMin = xRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            xMax = Math.max ( xMax, Array.maxVal(xVal[i]) );
-            xMin = Math.min ( xMin, Array.minVal(xVal[i]) );
+            xRange = Array.summary ( xVal[i] );
+            xMax = Math.max ( xMax, xRange.max() );
+            xMin = Math.min ( xMin, xRange.min() );
          }
 
          // If any points are <= 0 with a logarithmic x axis,
@@ -3945,11 +3959,13 @@ public class JPlot2D extends JComponent
       }
       
       if ( autoYScale ) {
-         yMax = Array.maxVal ( yVal[0] );
-         yMin = Array.minVal ( yVal[0] );
+         ArraySummary yRange = Array.summary ( yVal[0] );
+         yMax = yRange.max();
+         yMin = yRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            yMax = Math.max ( yMax, Array.maxVal(yVal[i]) );
-            yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+            yRange = Array.summary ( yVal[i] );
+            yMax = Math.max ( yMax, yRange.max() );
+            yMin = Math.min ( yMin, yRange.min() );
          }
       }
 
@@ -4349,20 +4365,24 @@ public class JPlot2D extends JComponent
 
       // Set the display limits if in autoscale mode
       if ( autoXScale ) {
-         xMax = Array.maxVal ( xVal[0] );
-         xMin = Array.minVal ( xVal[0] );
+         ArraySummary xRange = Array.summary ( xVal[0] );
+         xMax = xRange.max();
+         xMin = xRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            xMax = Math.max ( xMax, Array.maxVal(xVal[i]) );
-            xMin = Math.min ( xMin, Array.minVal(xVal[i]) );
+            xRange = Array.summary ( xVal[i] );
+            xMax = Math.max ( xMax, xRange.max() );
+            xMin = Math.min ( xMin, xRange.min() );
          }
       }
 
       if ( autoYScale ) {
-         yMax = Array.maxVal ( yVal[0] );
-         yMin = Array.minVal ( yVal[0] );
+         ArraySummary yRange = Array.summary ( yVal[0] );
+         yMax = yRange.max();
+         yMin = yRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            yMax = Math.max ( yMax, Array.maxVal(yVal[i]) );
-            yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+            yRange = Array.summary ( yVal[i] );
+            yMax = Math.max ( yMax, yRange.max() );
+            yMin = Math.min ( yMin, yRange.min() );
          }
          
          // If any points are <= 0 with a logarithmic y axis,
@@ -5143,8 +5163,9 @@ public class JPlot2D extends JComponent
             dx1 = 0.5;
             dx2 = 0.5;
          }
-         xMin = Array.minVal ( xVal[0] ) - dx1/2; 
-         xMax = Array.maxVal ( xVal[0] ) + dx2/2; 
+         ArraySummary xRange = Array.summary ( xVal[0] );
+         xMin = xRange.min() - dx1/2;
+         xMax = xRange.max() + dx2/2;
           
          for ( i = 1; i < totalCurves; i++ ) {
             if ( xVal[i].length > 1 ) {
@@ -5155,16 +5176,19 @@ public class JPlot2D extends JComponent
                dx1 = 0.5;
                dx2 = 0.5;
             }
-            xMin = Math.min ( xMin, Array.minVal(xVal[i]) - dx1/2 ); 
-            xMax = Math.max ( xMax, Array.maxVal(xVal[i]) + dx2/2 ); 
+            xRange = Array.summary ( xVal[i] );
+            xMin = Math.min ( xMin, xRange.min() - dx1/2 );
+            xMax = Math.max ( xMax, xRange.max() + dx2/2 );
          }
       }
       if ( autoYScale ) {
-         yMax = Array.maxVal ( yVal[0] ); 
-         yMin = Array.minVal ( yVal[0] ); 
+         ArraySummary yRange = Array.summary ( yVal[0] );
+         yMax = yRange.max();
+         yMin = yRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            yMax = Math.max ( yMax, Array.maxVal(yVal[i]) ); 
-            yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+            yRange = Array.summary ( yVal[i] );
+            yMax = Math.max ( yMax, yRange.max() );
+            yMin = Math.min ( yMin, yRange.min() );
          }
       }
       
@@ -2340,11 +2340,13 @@ public class Plot2D extends Canvas
 
          // Set the display limits if in autoscale mode
          if ( autoXScale ) {
-            xMax = Array.maxVal ( xVal[0] );
-            xMin = Array.minVal ( xVal[0] );
+            ArraySummary xRange = Array.summary ( xVal[0] );
+            xMax = xRange.max();
+            xMin = xRange.min();
             for ( int i = 1; i < totalCurves; i++ ) {
-               xMax = Math.max ( xMax, Array.maxVal(xVal[i]) );
-               xMin = Math.min ( xMin, Array.minVal(xVal[i]) );
+               xRange = Array.summary ( xVal[i] );
+               xMax = Math.max ( xMax, xRange.max() );
+               xMin = Math.min ( xMin, xRange.min() );
             }
             if ( logXAxis ) {
                xMax = Math.pow(10, Math.ceil( Math1.log10(xMax)) );
@@ -2386,11 +2388,13 @@ public class Plot2D extends Canvas
       if ( yMin == 0 && yMax == 0 ) {
 
          if ( autoYScale ) {
-            yMax = Array.maxVal ( yVal[0] );
-            yMin = Array.minVal ( yVal[0] );
+            ArraySummary yRange = Array.summary ( yVal[0] );
+            yMax = yRange.max();
+            yMin = yRange.min();
             for ( int i = 1; i < totalCurves; i++ ) {
-               yMax = Math.max ( yMax, Array.maxVal(yVal[i]) );
-               yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+               yRange = Array.summary ( yVal[i] );
+               yMax = Math.max ( yMax, yRange.max() );
+               yMin = Math.min ( yMin, yRange.min() );
             }
             if ( logYAxis ) {
                yMax = Math.pow(10, Math.ceil( Math1.log10(yMax)) );
@@ -2995,19 +2999,23 @@ public class Plot2D extends Canvas
 
       // Set the display limits if in autoscale mode
       if ( autoXScale ) {
-         xMax = Array.maxVal ( xVal[0] );
-         xMin = Array.minVal ( xVal[0] );
+         ArraySummary xRange = Array.summary ( xVal[0] );
+         xMax = xRange.max();
+         xMin = xRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            xMax = Math.max ( xMax, Array.maxVal(xVal[i]) );
-            xMin = Math.min ( xMin, Array.minVal(xVal[i]) );
+            xRange = Array.summary ( xVal[i] );
+            xMax = Math.max ( xMax, xRange.max() );
+            xMin = Math.min ( xMin, xRange.min() );
          }
       }
       if ( autoYScale ) {
-         yMax = Array.maxVal ( yVal[0] );
-         yMin = Array.minVal ( yVal[0] );
+         ArraySummary yRange = Array.summary ( yVal[0] );
+         yMax = yRange.max();
+         yMin = yRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            yMax = Math.max ( yMax, Array.maxVal(yVal[i]) );
-            yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+            yRange = Array.summary ( yVal[i] );
+            yMax = Math.max ( yMax, yRange.max() );
+            yMin = Math.min ( yMin, yRange.min() );
          }
       }
 
@@ -3401,11 +3409,13 @@ public class Plot2D extends Canvas
 
       // Set the display limits if in autoscale mode
       if ( autoXScale ) {
-         xMax = Array.maxVal ( xVal[0] );
-         xMin = Array.minVal ( xVal[0] );
+         ArraySummary xRange = Array.summary ( xVal[0] );
+         xMax = xRange.max();
+         xMin = xRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            xMax = Math.max ( xMax, Array.maxVal(xVal[i]) );
-            xMin = Math.min ( xMin, Array.minVal(xVal[i]) );
+            xRange = Array.summary ( xVal[i] );
+            xMax = Math.max ( xMax, xRange.max() );
+            xMin = Math.min ( xMin, xRange.min() );
          }
 
          // If any points are <= 0 with a logarithmic x axis,
@@ -3447,11 +3457,13 @@ public class Plot2D extends Canvas
       }
       
       if ( autoYScale ) {
-         yMax = Array.maxVal ( yVal[0] );
-         yMin = Array.minVal ( yVal[0] );
+         ArraySummary yRange = Array.summary ( yVal[0] );
+         yMax = yRange.max();
+         yMin = yRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            yMax = Math.max ( yMax, Array.maxVal(yVal[i]) );
-            yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+            yRange = Array.summary ( yVal[i] );
+            yMax = Math.max ( yMax, yRange.max() );
+            yMin = Math.min ( yMin, yRange.min() );
          }
          
          // If any points are <= 0 with a logarithmic y axis,
@@ -3889,11 +3901,13 @@ public class Plot2D extends Canvas
 
       // Set the display limits if in autoscale mode
       if ( autoXScale ) {
-         xMax = Array.maxVal ( xVal[0] );
-         xMin = Array.minVal ( xVal[0] );
+         ArraySummary xRange = Array.summary ( xVal[0] );
+         xMax = xRange.max();
+         xMin = xRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            xMax = Math.max ( xMax, Array.maxVal(xVal[i]) );
-            xMin = Math.min ( xMin, Array.minVal(xVal[i]) );
+            xRange = Array.summary ( xVal[i] );
+            xMax = Math.max ( xMax, xRange.max() );
+            xMin = Math.min ( xMin, xRange.min() );
          }
 
          // If any points are <= 0 with a logarithmic x axis,
@@ -3935,11 +3949,13 @@ public class Plot2D extends Canvas
       }
       
       if ( autoYScale ) {
-         yMax = Array.maxVal ( yVal[0] );
-         yMin = Array.minVal ( yVal[0] );
+         ArraySummary yRange = Array.summary ( yVal[0] );
+         yMax = yRange.max();
+         yMin = yRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            yMax = Math.max ( yMax, Array.maxVal(yVal[i]) );
-            yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+            yRange = Array.summary ( yVal[i] );
+            yMax = Math.max ( yMax, yRange.max() );
+            yMin = Math.min ( yMin, yRange.min() );
          }
       }
 
@@ -4339,20 +4355,24 @@ public class Plot2D extends Canvas
 
       // Set the display limits if in autoscale mode
       if ( autoXScale ) {
-         xMax = Array.maxVal ( xVal[0] );
-         xMin = Array.minVal ( xVal[0] );
+         ArraySummary xRange = Array.summary ( xVal[0] );
+         xMax = xRange.max();
+         xMin = xRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            xMax = Math.max ( xMax, Array.maxVal(xVal[i]) );
-            xMin = Math.min ( xMin, Array.minVal(xVal[i]) );
+            xRange = Array.summary ( xVal[i] );
+            xMax = Math.max ( xMax, xRange.max() );
+            xMin = Math.min ( xMin, xRange.min() );
          }
       }
 
       if ( autoYScale ) {
-         yMax = Array.maxVal ( yVal[0] );
-         yMin = Array.minVal ( yVal[0] );
+         ArraySummary yRange = Array.summary ( yVal[0] );
+         yMax = yRange.max();
+         yMin = yRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            yMax = Math.max ( yMax, Array.maxVal(yVal[i]) );
-            yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+            yRange = Array.summary ( yVal[i] );
+            yMax = Math.max ( yMax, yRange.max() );
+            yMin = Math.min ( yMin, yRange.min() );
          }
          
          // If any points are <= 0 with a logarithmic y axis,
@@ -5133,8 +5153,9 @@ public class Plot2D extends Canvas
             dx1 = 0.5;
             dx2 = 0.5;
          }
-         xMin = Array.minVal ( xVal[0] ) - dx1/2; 
-         xMax = Array.maxVal ( xVal[0] ) + dx2/2; 
+         ArraySummary xRange = Array.summary ( xVal[0] );
+         xMin = xRange.min() - dx1/2;
+         xMax = xRange.max() + dx2/2;
           
          for ( i = 1; i < totalCurves; i++ ) {
             if ( xVal[i].length > 1 ) {
@@ -5145,16 +5166,19 @@ public class Plot2D extends Canvas
                dx1 = 0.5;
                dx2 = 0.5;
             }
-            xMin = Math.min ( xMin, Array.minVal(xVal[i]) - dx1/2 ); 
-            xMax = Math.max ( xMax, Array.maxVal(xVal[i]) + dx2/2 ); 
+            xRange = Array.summary ( xVal[i] );
+            xMin = Math.min ( xMin, xRange.min() - dx1/2 );
+            xMax = Math.max ( xMax, xRange.max() + dx2/2 );
          }
       }
       if ( autoYScale ) {
-         yMax = Array.maxVal ( yVal[0] ); 
-         yMin = Array.minVal ( yVal[0] ); 
+         ArraySummary yRange = Array.summary ( yVal[0] );
+         yMax = yRange.max();
+         yMin = yRange.min();
          for ( i = 1; i < totalCurves; i++ ) {
-            yMax = Math.max ( yMax, Array.maxVal(yVal[i]) ); 
-            yMin = Math.min ( yMin, Array.minVal(yVal[i]) );
+            yRange = Array.summary ( yVal[i] );
+            yMax = Math.max ( yMax, yRange.max() );
+            yMin = Math.min ( yMin, yRange.min() );
          }
       }
       